@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 
 import com.tencent.cloud.common.constant.MetadataConstant;
+import com.tencent.cloud.common.metadata.MetadataStringInterner;
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.lang.StringUtils;
 
@@ -53,14 +54,14 @@ public final class CustomTransitiveMetadataResolver {
 			if (StringUtils.startsWithIgnoreCase(key, MetadataConstant.SCT_TRANSITIVE_HEADER_PREFIX)
 					&& !CollectionUtils.isEmpty(entry.getValue())) {
 				String sourceKey = StringUtils.substring(key, MetadataConstant.SCT_TRANSITIVE_HEADER_PREFIX_LENGTH);
-				result.put(sourceKey, entry.getValue().get(0));
+				result.put(MetadataStringInterner.intern(sourceKey), MetadataStringInterner.intern(entry.getValue().get(0)));
 			}
 
 			//resolve polaris transitive header
 			if (StringUtils.startsWithIgnoreCase(key, MetadataConstant.POLARIS_TRANSITIVE_HEADER_PREFIX)
 					&& !CollectionUtils.isEmpty(entry.getValue())) {
 				String sourceKey = StringUtils.substring(key, MetadataConstant.POLARIS_TRANSITIVE_HEADER_PREFIX_LENGTH);
-				result.put(sourceKey, entry.getValue().get(0));
+				result.put(MetadataStringInterner.intern(sourceKey), MetadataStringInterner.intern(entry.getValue().get(0)));
 			}
 		}
 
@@ -81,14 +82,14 @@ public final class CustomTransitiveMetadataResolver {
 			if (StringUtils.startsWithIgnoreCase(key, MetadataConstant.SCT_TRANSITIVE_HEADER_PREFIX)
 					&& StringUtils.isNotBlank(request.getHeader(key))) {
 				String sourceKey = StringUtils.substring(key, MetadataConstant.SCT_TRANSITIVE_HEADER_PREFIX_LENGTH);
-				result.put(sourceKey, request.getHeader(key));
+				result.put(MetadataStringInterner.intern(sourceKey), MetadataStringInterner.intern(request.getHeader(key)));
 			}
 
 			// resolve polaris transitive header
 			if (StringUtils.startsWithIgnoreCase(key, MetadataConstant.POLARIS_TRANSITIVE_HEADER_PREFIX)
 					&& StringUtils.isNotBlank(request.getHeader(key))) {
 				String sourceKey = StringUtils.substring(key, MetadataConstant.POLARIS_TRANSITIVE_HEADER_PREFIX_LENGTH);
-				result.put(sourceKey, request.getHeader(key));
+				result.put(MetadataStringInterner.intern(sourceKey), MetadataStringInterner.intern(request.getHeader(key)));
 			}
 		}
 
@@ -22,9 +22,9 @@ import java.util.Map;
 
 import com.tencent.cloud.common.constant.MetadataConstant;
 import com.tencent.cloud.common.constant.OrderConstant;
+import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.metadata.MetadataContextHolder;
-import com.tencent.cloud.common.util.JacksonUtils;
-import com.tencent.cloud.common.util.UrlUtils;
+import com.tencent.cloud.common.metadata.ReactorMetadataContextPropagation;
 import com.tencent.cloud.metadata.provider.ReactiveMetadataProvider;
 import com.tencent.polaris.api.utils.StringUtils;
 import org.slf4j.Logger;
@@ -91,20 +91,40 @@ public class DecodeTransferMetadataReactiveFilter implements WebFilter, Ordered
 		MetadataContextHolder.init(mergedTransitiveMetadata, mergedDisposableMetadata, mergedApplicationMetadata, callerMessageMetadataProvider);
 
 		// Save to ServerWebExchange.
-		serverWebExchange.getAttributes().put(
-				MetadataConstant.HeaderName.METADATA_CONTEXT,
-				MetadataContextHolder.get());
+		MetadataContext metadataContext = MetadataContextHolder.get();
+		serverWebExchange.getAttributes().put(MetadataConstant.HeaderName.METADATA_CONTEXT, metadataContext);
 
 		TransHeadersTransfer.transfer(serverHttpRequest);
-		return webFilterChain.filter(serverWebExchange)
-				.doFinally((type) -> MetadataContextHolder.remove());
+		if (!ReactorMetadataContextPropagation.isEnabled()) {
+			return webFilterChain.filter(serverWebExchange)
+					.doFinally((type) -> MetadataContextHolder.remove());
+		}
+		// Carried by the Reactor Context and set on every thread running the chain, so it does not stay on the
+		// request thread. The next filters run their synchronous part when the chain is subscribed, on the thread
+		// subscribing, so it is set there meanwhile.
+		MetadataContextHolder.remove();
+		return Mono.<Void>fromDirect(subscriber -> {
+			MetadataContext previous = MetadataContextHolder.getIfPresent();
+			MetadataContextHolder.set(metadataContext);
+			try {
+				webFilterChain.filter(serverWebExchange).subscribe(subscriber);
+			}
+			finally {
+				if (previous != null) {
+					MetadataContextHolder.set(previous);
+				}
+				else {
+					MetadataContextHolder.remove();
+				}
+			}
+		}).contextWrite(ReactorMetadataContextPropagation.context(metadataContext));
 	}
 
 	private Map<String, String> getInternalMetadata(ServerHttpRequest serverHttpRequest, String headerName) {
 		HttpHeaders httpHeaders = serverHttpRequest.getHeaders();
-		String customMetadataStr = UrlUtils.decode(httpHeaders.getFirst(headerName));
-		LOG.debug("Get upstream metadata string: {}", customMetadataStr);
+		String customMetadataHeader = httpHeaders.getFirst(headerName);
+		LOG.debug("Get upstream metadata header: {}", customMetadataHeader);
 
-		return JacksonUtils.deserialize2Map(customMetadataStr);
+		return MetadataHeaderDecoder.decode(customMetadataHeader);
 	}
 }
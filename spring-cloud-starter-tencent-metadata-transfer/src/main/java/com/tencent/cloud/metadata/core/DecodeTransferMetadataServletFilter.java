@@ -23,8 +23,6 @@ import java.util.Map;
 
 import com.tencent.cloud.common.constant.OrderConstant;
 import com.tencent.cloud.common.metadata.MetadataContextHolder;
-import com.tencent.cloud.common.util.JacksonUtils;
-import com.tencent.cloud.common.util.UrlUtils;
 import com.tencent.cloud.metadata.provider.ServletMetadataProvider;
 import com.tencent.polaris.api.utils.StringUtils;
 import jakarta.servlet.FilterChain;
@@ -97,10 +95,10 @@ public class DecodeTransferMetadataServletFilter extends OncePerRequestFilter {
 
 	private Map<String, String> getInternalMetadata(HttpServletRequest httpServletRequest, String headerName) {
 		// Get custom metadata string from http header.
-		String customMetadataStr = UrlUtils.decode(httpServletRequest.getHeader(headerName));
-		LOG.debug("Get upstream metadata string: {}", customMetadataStr);
+		String customMetadataHeader = httpServletRequest.getHeader(headerName);
+		LOG.debug("Get upstream metadata header: {}", customMetadataHeader);
 
 		// create custom metadata.
-		return JacksonUtils.deserialize2Map(customMetadataStr);
+		return MetadataHeaderDecoder.decode(customMetadataHeader);
 	}
 }
@@ -19,10 +19,9 @@ package com.tencent.cloud.metadata.core;
 
 import java.util.Map;
 
-import com.google.common.collect.ImmutableMap;
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.metadata.MetadataContextHolder;
-import com.tencent.cloud.common.util.JacksonUtils;
+import com.tencent.cloud.common.metadata.MetadataFragmentView;
 import com.tencent.cloud.common.util.UrlUtils;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPlugin;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
@@ -58,10 +57,10 @@ public class EncodeTransferMedataRestTemplateEnhancedPlugin implements EnhancedP
 
 		// get metadata of current thread
 		MetadataContext metadataContext = MetadataContextHolder.get();
-		Map<String, String> customMetadata = metadataContext.getCustomMetadata();
-		Map<String, String> disposableMetadata = metadataContext.getDisposableMetadata();
-		Map<String, String> applicationMetadata = metadataContext.getApplicationMetadata();
-		Map<String, String> transHeaders = metadataContext.getTransHeadersKV();
+		MetadataFragmentView customMetadata = metadataContext.getCustomMetadataView();
+		MetadataFragmentView disposableMetadata = metadataContext.getFragmentView(MetadataContext.FRAGMENT_DISPOSABLE);
+		MetadataFragmentView applicationMetadata = metadataContext.getFragmentView(MetadataContext.FRAGMENT_APPLICATION);
+		Map<String, String> transHeaders = metadataContext.getFragmentView(MetadataContext.FRAGMENT_RAW_TRANSHEADERS_KV).getValues();
 		MessageMetadataContainer calleeMessageMetadataContainer = metadataContext.getMetadataContainer(MetadataType.MESSAGE, false);
 		Map<String, String> calleeTransitiveHeaders = calleeMessageMetadataContainer.getTransitiveHeaders();
 		// currently only support transitive header from calleeMessageMetadataContainer
@@ -98,12 +97,14 @@ public class EncodeTransferMedataRestTemplateEnhancedPlugin implements EnhancedP
 	 * Set metadata into the request header for {@link HttpRequest} .
 	 *
 	 * @param request    instance of {@link HttpRequest}
-	 * @param metadata   metadata map .
+	 * @param metadata   metadata fragment view .
 	 * @param headerName target metadata http header name .
 	 */
-	private void buildMetadataHeader(HttpRequest request, Map<String, String> metadata, String headerName) {
-		if (!CollectionUtils.isEmpty(metadata)) {
-			buildHeaderMap(request, ImmutableMap.of(headerName, JacksonUtils.serialize2Json(metadata)));
+	private void buildMetadataHeader(HttpRequest request, MetadataFragmentView metadata, String headerName) {
+		// serialization and encoding only happen when the fragment changed.
+		String encoded = MetadataHeaderEncoder.encode(metadata);
+		if (encoded != null) {
+			request.getHeaders().set(headerName, encoded);
 		}
 	}
 
@@ -19,11 +19,10 @@ package com.tencent.cloud.metadata.core;
 
 import java.util.Map;
 
-import com.google.common.collect.ImmutableMap;
 import com.tencent.cloud.common.constant.MetadataConstant;
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.metadata.MetadataContextHolder;
-import com.tencent.cloud.common.util.JacksonUtils;
+import com.tencent.cloud.common.metadata.MetadataFragmentView;
 import com.tencent.cloud.common.util.UrlUtils;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPlugin;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
@@ -67,9 +66,9 @@ public class EncodeTransferMedataScgEnhancedPlugin implements EnhancedPlugin {
 			metadataContext = MetadataContextHolder.get();
 		}
 
-		Map<String, String> customMetadata = metadataContext.getCustomMetadata();
-		Map<String, String> disposableMetadata = metadataContext.getDisposableMetadata();
-		Map<String, String> applicationMetadata = metadataContext.getApplicationMetadata();
+		MetadataFragmentView customMetadata = metadataContext.getCustomMetadataView();
+		MetadataFragmentView disposableMetadata = metadataContext.getFragmentView(MetadataContext.FRAGMENT_DISPOSABLE);
+		MetadataFragmentView applicationMetadata = metadataContext.getFragmentView(MetadataContext.FRAGMENT_APPLICATION);
 
 		MessageMetadataContainer calleeMessageMetadataContainer = metadataContext.getMetadataContainer(MetadataType.MESSAGE, false);
 		Map<String, String> calleeTransitiveHeaders = calleeMessageMetadataContainer.getTransitiveHeaders();
@@ -93,12 +92,14 @@ public class EncodeTransferMedataScgEnhancedPlugin implements EnhancedPlugin {
 	/**
 	 * Set metadata into the request header for {@link ServerHttpRequest.Builder} .
 	 * @param builder instance of {@link ServerHttpRequest.Builder}
-	 * @param metadata metadata map .
+	 * @param metadata metadata fragment view .
 	 * @param headerName target metadata http header name .
 	 */
-	private void buildMetadataHeader(ServerHttpRequest.Builder builder, Map<String, String> metadata, String headerName) {
-		if (!CollectionUtils.isEmpty(metadata)) {
-			buildHeaderMap(builder, ImmutableMap.of(headerName, JacksonUtils.serialize2Json(metadata)));
+	private void buildMetadataHeader(ServerHttpRequest.Builder builder, MetadataFragmentView metadata, String headerName) {
+		// serialization and encoding only happen when the fragment changed.
+		String encoded = MetadataHeaderEncoder.encode(metadata);
+		if (encoded != null) {
+			builder.header(headerName, encoded);
 		}
 	}
 
@@ -0,0 +1,301 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.metadata.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.tencent.cloud.common.metadata.MetadataStringInterner;
+import com.tencent.cloud.common.util.JacksonUtils;
+import com.tencent.cloud.common.util.UrlUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Decoder of the metadata transfer headers, the counterpart of {@link MetadataHeaderEncoder}.
+ * <p>
+ * Headers written by the encode plugins are url-encoded flat json objects of string values. They are parsed
+ * in one pass directly from the url-encoded form, without decoding the whole header or building a json tree.
+ * Anything else falls back to {@code JacksonUtils.deserialize2Map(UrlUtils.decode(header))}, so the result
+ * (or the exception) is always the same as the one of the generic path. Keys and values decoded by the streaming
+ * parser are interned with {@link MetadataStringInterner}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public final class MetadataHeaderDecoder {
+
+	private static final Logger LOG = LoggerFactory.getLogger(MetadataHeaderDecoder.class);
+
+	private MetadataHeaderDecoder() {
+	}
+
+	/**
+	 * Decode metadata from the header value.
+	 *
+	 * @param header url-encoded json header value, may be null
+	 * @return modifiable metadata map, empty if the header has no text
+	 */
+	public static Map<String, String> decode(String header) {
+		if (!StringUtils.hasText(header)) {
+			return new HashMap<>();
+		}
+		Map<String, String> metadata = tryDecode(header);
+		if (metadata == null) {
+			LOG.debug("Fall back to generic decoding of metadata header: {}", header);
+			metadata = JacksonUtils.deserialize2Map(UrlUtils.decode(header));
+		}
+		return metadata;
+	}
+
+	/**
+	 * Decode the header with the streaming parser.
+	 *
+	 * @param header url-encoded json header value
+	 * @return metadata map, or null if the header is not a url-encoded flat json object of strings
+	 */
+	static Map<String, String> tryDecode(String header) {
+		return new Parser(header).parse();
+	}
+
+	/**
+	 * Json parser reading characters as {@link java.net.URLDecoder} decodes them with UTF-8.
+	 */
+	private static final class Parser {
+
+		private static final int EOF = -1;
+
+		private static final int INVALID = -2;
+
+		private final String header;
+
+		private final int length;
+
+		private final StringBuilder buffer = new StringBuilder();
+
+		private int position;
+
+		/**
+		 * Low surrogate of the last decoded supplementary character, -1 if none.
+		 */
+		private int pendingLowSurrogate = -1;
+
+		Parser(String header) {
+			this.header = header;
+			this.length = header.length();
+		}
+
+		Map<String, String> parse() {
+			if (nextNonWhitespace() != '{') {
+				return null;
+			}
+			Map<String, String> metadata = new HashMap<>();
+			int c = nextNonWhitespace();
+			if (c == '}') {
+				return isEnd() ? metadata : null;
+			}
+			while (true) {
+				if (c != '"') {
+					return null;
+				}
+				String key = readString();
+				if (key == null || nextNonWhitespace() != ':' || nextNonWhitespace() != '"') {
+					return null;
+				}
+				String value = readString();
+				if (value == null) {
+					return null;
+				}
+				metadata.put(MetadataStringInterner.intern(key), MetadataStringInterner.intern(value));
+				c = nextNonWhitespace();
+				if (c == '}') {
+					return isEnd() ? metadata : null;
+				}
+				if (c != ',') {
+					return null;
+				}
+				c = nextNonWhitespace();
+			}
+		}
+
+		private boolean isEnd() {
+			return nextNonWhitespace() == EOF;
+		}
+
+		/**
+		 * Read the rest of a json string whose opening quote is consumed.
+		 * @return the string, or null if it is not valid json
+		 */
+		private String readString() {
+			buffer.setLength(0);
+			while (true) {
+				int c = next();
+				if (c == '"') {
+					return buffer.toString();
+				}
+				if (c == '\\') {
+					c = readEscaped();
+					if (c < 0) {
+						return null;
+					}
+				}
+				else if (c < 0x20) {
+					// unescaped control characters are rejected by json.
+					return null;
+				}
+				buffer.append((char) c);
+			}
+		}
+
+		private int readEscaped() {
+			int c = next();
+			switch (c) {
+			case '"':
+			case '\\':
+			case '/':
+				return c;
+			case 'b':
+				return '\b';
+			case 'f':
+				return '\f';
+			case 'n':
+				return '\n';
+			case 'r':
+				return '\r';
+			case 't':
+				return '\t';
+			case 'u':
+				int value = 0;
+				for (int i = 0; i < 4; i++) {
+					int digit = hexDigit(next());
+					if (digit < 0) {
+						return INVALID;
+					}
+					value = (value << 4) | digit;
+				}
+				return value;
+			default:
+				return INVALID;
+			}
+		}
+
+		private int nextNonWhitespace() {
+			int c = next();
+			while (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+				c = next();
+			}
+			return c;
+		}
+
+		/**
+		 * Get the next url-decoded character.
+		 * @return the character, {@link #EOF} or {@link #INVALID}
+		 */
+		private int next() {
+			if (pendingLowSurrogate >= 0) {
+				int c = pendingLowSurrogate;
+				pendingLowSurrogate = -1;
+				return c;
+			}
+			if (position >= length) {
+				return EOF;
+			}
+			char c = header.charAt(position++);
+			if (c == '+') {
+				return ' ';
+			}
+			if (c != '%') {
+				return c;
+			}
+			int b = nextEscapedByte();
+			if (b < 0x80) {
+				return b;
+			}
+			int count;
+			int codePoint;
+			if ((b & 0xE0) == 0xC0) {
+				count = 1;
+				codePoint = b & 0x1F;
+			}
+			else if ((b & 0xF0) == 0xE0) {
+				count = 2;
+				codePoint = b & 0x0F;
+			}
+			else if ((b & 0xF8) == 0xF0) {
+				count = 3;
+				codePoint = b & 0x07;
+			}
+			else {
+				return INVALID;
+			}
+			for (int i = 0; i < count; i++) {
+				if (position >= length || header.charAt(position) != '%') {
+					return INVALID;
+				}
+				position++;
+				int continuation = nextEscapedByte();
+				if ((continuation & 0xC0) != 0x80) {
+					return INVALID;
+				}
+				codePoint = (codePoint << 6) | (continuation & 0x3F);
+			}
+			// overlong forms, surrogates and out of range code points are replaced by URLDecoder.
+			if (count == 1 && codePoint < 0x80
+					|| count == 2 && (codePoint < 0x800 || Character.isSurrogate((char) codePoint))
+					|| count == 3 && (codePoint < 0x10000 || codePoint > Character.MAX_CODE_POINT)) {
+				return INVALID;
+			}
+			if (count == 3) {
+				pendingLowSurrogate = Character.lowSurrogate(codePoint);
+				return Character.highSurrogate(codePoint);
+			}
+			return codePoint;
+		}
+
+		/**
+		 * Read the two hex digits after '%'.
+		 * @return the byte, or {@link #INVALID}
+		 */
+		private int nextEscapedByte() {
+			if (position + 2 > length) {
+				return INVALID;
+			}
+			int high = hexDigit(header.charAt(position));
+			int low = hexDigit(header.charAt(position + 1));
+			if (high < 0 || low < 0) {
+				return INVALID;
+			}
+			position += 2;
+			return (high << 4) | low;
+		}
+
+		private static int hexDigit(int c) {
+			if (c >= '0' && c <= '9') {
+				return c - '0';
+			}
+			if (c >= 'a' && c <= 'f') {
+				return c - 'a' + 10;
+			}
+			if (c >= 'A' && c <= 'F') {
+				return c - 'A' + 10;
+			}
+			return INVALID;
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.metadata.core;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.tencent.cloud.common.metadata.MetadataFragmentView;
+import com.tencent.cloud.common.util.JacksonUtils;
+import com.tencent.cloud.common.util.UrlUtils;
+
+/**
+ * Encoder of the metadata transfer headers.
+ * <p>
+ * {@link MetadataFragmentView} is reused until the fragment is modified, so the encoded header value is cached
+ * by view identity. Views of static metadata are shared by all requests, and views modified during a request are
+ * shared by all the outbound calls of that request.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public final class MetadataHeaderEncoder {
+
+	private static final long MAXIMUM_SIZE = 4096;
+
+	/**
+	 * Weak keys are compared by identity, and entries go away together with the metadata context.
+	 */
+	private static final Cache<MetadataFragmentView, String> ENCODED_HEADERS = CacheBuilder.newBuilder()
+			.weakKeys()
+			.maximumSize(MAXIMUM_SIZE)
+			.build();
+
+	private MetadataHeaderEncoder() {
+	}
+
+	/**
+	 * Get the url-encoded json of the view, the same value as
+	 * {@code UrlUtils.encode(JacksonUtils.serialize2Json(view.getValues()))}. The entries of the json may be in another
+	 * order than the ones encoded from a copy of the metadata, which decode to the same metadata.
+	 *
+	 * @param view metadata fragment view
+	 * @return encoded header value, null if the view is empty
+	 */
+	public static String encode(MetadataFragmentView view) {
+		if (view == null || view.isEmpty()) {
+			return null;
+		}
+		String encoded = ENCODED_HEADERS.getIfPresent(view);
+		if (encoded == null) {
+			encoded = UrlUtils.encode(JacksonUtils.serialize2Json(view.getValues()));
+			ENCODED_HEADERS.put(view, encoded);
+		}
+		return encoded;
+	}
+}
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Set;
 
 
+import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.metadata.MetadataContextHolder;
 import com.tencent.cloud.common.util.JacksonUtils;
 import jakarta.servlet.http.HttpServletRequest;
@@ -51,7 +52,8 @@ public final class TransHeadersTransfer {
 	 */
 	public static void transfer(HttpServletRequest httpServletRequest) {
 		// transHeaderMetadata: for example, {"trans-headers" : {"header1,header2,header3":""}}
-		Map<String, String> transHeaderMetadata = MetadataContextHolder.get().getTransHeaders();
+		Map<String, String> transHeaderMetadata = MetadataContextHolder.get()
+				.getFragmentView(MetadataContext.FRAGMENT_RAW_TRANSHEADERS).getValues();
 		if (!CollectionUtils.isEmpty(transHeaderMetadata)) {
 			String transHeaders = transHeaderMetadata.keySet().stream().findFirst().orElse("");
 			String[] transHeaderArray = transHeaders.split(",");
@@ -77,7 +79,8 @@ public final class TransHeadersTransfer {
 	 */
 	public static void transfer(ServerHttpRequest serverHttpRequest) {
 		// transHeaderMetadata: for example, {"trans-headers" : {"header1,header2,header3":""}}
-		Map<String, String> transHeaderMetadata = MetadataContextHolder.get().getTransHeaders();
+		Map<String, String> transHeaderMetadata = MetadataContextHolder.get()
+				.getFragmentView(MetadataContext.FRAGMENT_RAW_TRANSHEADERS).getValues();
 		if (!CollectionUtils.isEmpty(transHeaderMetadata)) {
 			String transHeaders = transHeaderMetadata.keySet().stream().findFirst().orElse("");
 			String[] transHeaderArray = transHeaders.split(",");
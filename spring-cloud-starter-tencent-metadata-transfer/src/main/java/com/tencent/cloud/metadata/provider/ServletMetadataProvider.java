@@ -18,7 +18,6 @@
 package com.tencent.cloud.metadata.provider;
 
 import com.tencent.cloud.common.util.UrlUtils;
-import com.tencent.cloud.common.util.expresstion.ExpressionLabelUtils;
 import com.tencent.cloud.common.util.expresstion.ServletExpressionLabelUtils;
 import com.tencent.polaris.metadata.core.MessageMetadataContainer;
 import com.tencent.polaris.metadata.core.MetadataProvider;
@@ -60,9 +59,9 @@ public class ServletMetadataProvider implements MetadataProvider {
 			case MessageMetadataContainer.LABEL_MAP_KEY_HEADER:
 				return UrlUtils.decode(httpServletRequest.getHeader(mapKey));
 			case MessageMetadataContainer.LABEL_MAP_KEY_COOKIE:
-				return UrlUtils.decode(ServletExpressionLabelUtils.getCookieValue(httpServletRequest.getCookies(), mapKey, null));
+				return UrlUtils.decode(ServletExpressionLabelUtils.getLabelRequest(httpServletRequest).getCookie(mapKey));
 			case MessageMetadataContainer.LABEL_MAP_KEY_QUERY:
-				return UrlUtils.decode(ExpressionLabelUtils.getQueryValue(httpServletRequest.getQueryString(), mapKey, null));
+				return UrlUtils.decode(ServletExpressionLabelUtils.getLabelRequest(httpServletRequest).getQuery(mapKey));
 			default:
 				return null;
 		}
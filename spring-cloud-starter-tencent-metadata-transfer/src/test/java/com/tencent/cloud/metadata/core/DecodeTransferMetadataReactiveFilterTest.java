@@ -17,21 +17,40 @@
 
 package com.tencent.cloud.metadata.core;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 import com.tencent.cloud.common.constant.MetadataConstant;
 import com.tencent.cloud.common.constant.OrderConstant;
+import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.common.metadata.MetadataContextHolder;
+import com.tencent.cloud.common.metadata.ReactorMetadataContextPropagation;
 import com.tencent.cloud.common.metadata.config.MetadataLocalProperties;
+import com.tencent.cloud.rpc.enhancement.instrument.filter.EnhancedReactiveFilter;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginRunner;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.server.WebHandler;
+import org.springframework.web.server.handler.DefaultWebFilterChain;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.MOCK;
@@ -57,6 +76,12 @@ public class DecodeTransferMetadataReactiveFilterTest {
 		this.metadataReactiveFilter = new DecodeTransferMetadataReactiveFilter();
 	}
 
+	@AfterEach
+	public void tearDown() {
+		ReactorMetadataContextPropagation.disable();
+		MetadataContextHolder.remove();
+	}
+
 	@Test
 	public void test1() {
 		assertThat(this.metadataReactiveFilter.getOrder())
@@ -79,4 +104,77 @@ public class DecodeTransferMetadataReactiveFilterTest {
 		assertThat(metadataLocalProperties.getContent().get("b")).isEqualTo("2");
 		assertThat(metadataLocalProperties.getContent().get("c")).isNull();
 	}
+
+	@Test
+	public void testConcurrentRequestsAcrossSchedulers() {
+		ReactorMetadataContextPropagation.enable();
+		int requestCount = 32;
+		List<ServerWebExchange> exchanges = new ArrayList<>();
+		List<List<MetadataContext>> observedContexts = new ArrayList<>();
+		for (int i = 0; i < requestCount; i++) {
+			exchanges.add(MockServerWebExchange.from(MockServerHttpRequest.get("test")
+					.header(MetadataConstant.HeaderName.CUSTOM_METADATA, "{\"c\": \"" + i + "\"}")
+					.build()));
+			observedContexts.add(new CopyOnWriteArrayList<>());
+		}
+
+		Flux.range(0, requestCount)
+				.flatMap(i -> {
+					List<MetadataContext> observed = observedContexts.get(i);
+					// the rest of the chain hops across schedulers.
+					WebFilterChain webFilterChain = serverWebExchange -> Mono.fromCallable(MetadataContextHolder::get)
+							.doOnNext(observed::add)
+							.subscribeOn(Schedulers.boundedElastic())
+							.publishOn(Schedulers.parallel())
+							.delayElement(Duration.ofMillis(i % 5))
+							.doOnNext(ignored -> observed.add(MetadataContextHolder.get()))
+							.publishOn(Schedulers.boundedElastic())
+							.doOnSuccess(ignored -> observed.add(MetadataContextHolder.get()))
+							.then();
+					return Mono.defer(() -> metadataReactiveFilter.filter(exchanges.get(i), webFilterChain))
+							.subscribeOn(Schedulers.parallel());
+				})
+				.blockLast(Duration.ofSeconds(30));
+
+		for (int i = 0; i < requestCount; i++) {
+			MetadataContext metadataContext = exchanges.get(i).getAttribute(MetadataConstant.HeaderName.METADATA_CONTEXT);
+			assertThat(metadataContext.getTransitiveMetadata()).containsEntry("c", String.valueOf(i));
+			assertThat(observedContexts.get(i)).hasSize(3).allSatisfy(observed -> assertThat(observed).isSameAs(metadataContext));
+		}
+	}
+
+	@Test
+	public void testNextFiltersOnSubscribingThread() {
+		ReactorMetadataContextPropagation.enable();
+		List<MetadataContext> observed = new CopyOnWriteArrayList<>();
+		EnhancedPluginRunner pluginRunner = new EnhancedPluginRunner() {
+			@Override
+			public void run(EnhancedPluginType pluginType, EnhancedPluginContext context) {
+				if (pluginType == EnhancedPluginType.Server.PRE || pluginType == EnhancedPluginType.Server.POST) {
+					observed.add(MetadataContextHolder.get());
+				}
+			}
+
+			@Override
+			public ServiceInstance getLocalServiceInstance() {
+				return null;
+			}
+		};
+		WebHandler handler = serverWebExchange -> Mono.fromRunnable(() -> observed.add(MetadataContextHolder.get()))
+				.subscribeOn(Schedulers.boundedElastic())
+				.then();
+		WebFilterChain webFilterChain = new DefaultWebFilterChain(handler,
+				Arrays.asList(metadataReactiveFilter, new EnhancedReactiveFilter(pluginRunner)));
+		ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("test")
+				.header(MetadataConstant.HeaderName.CUSTOM_METADATA, "{\"c\": \"3\"}")
+				.build());
+
+		// subscribed on this thread, the handler runs on another one.
+		webFilterChain.filter(exchange).block(Duration.ofSeconds(10));
+
+		MetadataContext metadataContext = exchange.getAttribute(MetadataConstant.HeaderName.METADATA_CONTEXT);
+		assertThat(metadataContext.getTransitiveMetadata()).containsEntry("c", "3");
+		assertThat(observed).hasSize(3).allSatisfy(context -> assertThat(context).isSameAs(metadataContext));
+		assertThat(MetadataContextHolder.getIfPresent()).isNull();
+	}
 }
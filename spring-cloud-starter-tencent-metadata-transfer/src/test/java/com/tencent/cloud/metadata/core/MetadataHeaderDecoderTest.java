@@ -0,0 +1,175 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.metadata.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import com.tencent.cloud.common.util.JacksonUtils;
+import com.tencent.cloud.common.util.UrlUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link MetadataHeaderDecoder}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class MetadataHeaderDecoderTest {
+
+	private static final String[] FRAGMENTS = {
+			"a", "b", "Z", "0", "9", " ", "\"", "\\", "/", "{", "}", ":", ",", "+", "%", "&", "=", "?",
+			"\n", "\t", "\u0001", "\u007f", "\u00e9", "\u4e2d", "\ud83d\ude00", "\ud800", "%2", "%zz", "%C3", "\\u00"
+	};
+
+	private static final String[] MUTATIONS = {
+			"{", "}", "\"", ":", ",", "\\", "+", "%", "%22", "%5C", "%7B", "%7D", "%3A", "%2C", "%C3%A9",
+			"%E4%B8%AD", "%F0%9F%98%80", "%C0%80", "%ED%A0%80", "%FF", "%0A", "%u0041", "1", "true", "null", "[", " "
+	};
+
+	@Test
+	public void testDecodeEncodedHeader() {
+		Map<String, String> metadata = new HashMap<>();
+		metadata.put("a", "1");
+		metadata.put("b c", "a b&=,/\"c\"\\");
+		metadata.put("unicode-\u4e2d", "\ud83d\ude00\u00e9");
+		metadata.put("control", "\n\t\u0001");
+		metadata.put("", "");
+		String header = UrlUtils.encode(JacksonUtils.serialize2Json(metadata));
+
+		assertThat(MetadataHeaderDecoder.tryDecode(header)).isEqualTo(metadata);
+		assertThat(MetadataHeaderDecoder.decode(header)).isEqualTo(metadata);
+	}
+
+	@Test
+	public void testDecodeEmptyHeader() {
+		assertThat(MetadataHeaderDecoder.decode(null)).isEmpty();
+		assertThat(MetadataHeaderDecoder.decode("")).isEmpty();
+		assertThat(MetadataHeaderDecoder.decode("+")).isEmpty();
+		assertThat(MetadataHeaderDecoder.decode(UrlUtils.encode("{}"))).isEmpty();
+		assertThat(MetadataHeaderDecoder.decode(UrlUtils.encode(" { } "))).isEmpty();
+	}
+
+	@Test
+	public void testFallbackForNonStringValues() {
+		String header = UrlUtils.encode("{\"a\":1,\"b\":true,\"c\":null,\"d\":\"x\"}");
+
+		assertThat(MetadataHeaderDecoder.tryDecode(header)).isNull();
+		assertThat(MetadataHeaderDecoder.decode(header)).isEqualTo(genericDecode(header))
+				.containsEntry("a", "1").containsEntry("b", "true").containsEntry("c", "null");
+	}
+
+	@Test
+	public void testFallbackForHandWrittenJson() {
+		String header = "{\"a\":\"1\",\"b\":\"\\u00e9\\/\"}";
+
+		assertThat(MetadataHeaderDecoder.tryDecode(header)).isEqualTo(genericDecode(header));
+		assertThat(outcome(() -> MetadataHeaderDecoder.decode("{'a':'1'}")))
+				.isEqualTo(outcome(() -> genericDecode("{'a':'1'}")));
+	}
+
+	@Test
+	public void testRandomMetadataSameAsGenericDecoder() {
+		Random random = new Random(20261018L);
+		for (int i = 0; i < 2000; i++) {
+			Map<String, String> metadata = new HashMap<>();
+			int size = random.nextInt(8);
+			for (int j = 0; j < size; j++) {
+				metadata.put(randomString(random), randomString(random));
+			}
+			String header = UrlUtils.encode(JacksonUtils.serialize2Json(metadata));
+
+			Map<String, String> decoded = MetadataHeaderDecoder.decode(header);
+			assertThat(decoded).as(header).isEqualTo(genericDecode(header));
+			if (!metadata.toString().contains("\ud800")) {
+				// lone surrogates are not encodable, everything else goes through the streaming parser.
+				assertThat(MetadataHeaderDecoder.tryDecode(header)).as(header).isEqualTo(metadata);
+			}
+		}
+	}
+
+	@Test
+	public void testMutatedHeaderSameAsGenericDecoder() {
+		Random random = new Random(20261018L);
+		for (int i = 0; i < 1000; i++) {
+			Map<String, String> metadata = new HashMap<>();
+			int size = 1 + random.nextInt(3);
+			for (int j = 0; j < size; j++) {
+				metadata.put(randomString(random), randomString(random));
+			}
+			StringBuilder header = new StringBuilder(UrlUtils.encode(JacksonUtils.serialize2Json(metadata)));
+			int mutations = 1 + random.nextInt(3);
+			for (int j = 0; j < mutations; j++) {
+				int position = random.nextInt(header.length() + 1);
+				switch (random.nextInt(3)) {
+				case 0:
+					header.insert(position, MUTATIONS[random.nextInt(MUTATIONS.length)]);
+					break;
+				case 1:
+					if (position < header.length()) {
+						header.deleteCharAt(position);
+					}
+					break;
+				default:
+					header.replace(position, Math.min(header.length(), position + 3),
+							MUTATIONS[random.nextInt(MUTATIONS.length)]);
+					break;
+				}
+			}
+			String mutated = header.toString();
+
+			assertThat(outcome(() -> MetadataHeaderDecoder.decode(mutated))).as(mutated)
+					.isEqualTo(outcome(() -> genericDecode(mutated)));
+			Map<String, String> streamed = MetadataHeaderDecoder.tryDecode(mutated);
+			if (streamed != null) {
+				assertThat(streamed).as(mutated).isEqualTo(genericDecode(mutated));
+			}
+		}
+	}
+
+	private static String randomString(Random random) {
+		StringBuilder builder = new StringBuilder();
+		int length = random.nextInt(6);
+		for (int i = 0; i < length; i++) {
+			builder.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * The decoding used by the decode filters before {@link MetadataHeaderDecoder}.
+	 */
+	private static Map<String, String> genericDecode(String header) {
+		return JacksonUtils.deserialize2Map(UrlUtils.decode(header));
+	}
+
+	/**
+	 * Result of the decoding, or the class of the exception it throws.
+	 */
+	private static Object outcome(Supplier<Map<String, String>> decoding) {
+		try {
+			return decoding.get();
+		}
+		catch (RuntimeException e) {
+			return e.getClass();
+		}
+	}
+}
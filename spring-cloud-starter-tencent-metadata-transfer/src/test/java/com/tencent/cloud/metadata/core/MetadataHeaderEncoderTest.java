@@ -0,0 +1,89 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.metadata.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.common.metadata.MetadataFragmentView;
+import com.tencent.cloud.common.util.JacksonUtils;
+import com.tencent.cloud.common.util.UrlUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link MetadataHeaderEncoder}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class MetadataHeaderEncoderTest {
+
+	@Test
+	public void testEncodeSameAsSerializeAndEncode() {
+		MetadataContext metadataContext = new MetadataContext();
+		metadataContext.putContext(MetadataContext.FRAGMENT_TRANSITIVE, "a", "1");
+		metadataContext.putContext(MetadataContext.FRAGMENT_TRANSITIVE, "b", "a b&=,/\"c\"");
+
+		MetadataFragmentView view = metadataContext.getFragmentView(MetadataContext.FRAGMENT_TRANSITIVE);
+		assertThat(MetadataHeaderEncoder.encode(view))
+				.isEqualTo(UrlUtils.encode(JacksonUtils.serialize2Json(view.getValues())));
+	}
+
+	@Test
+	public void testEncodedValueReusedUntilModified() {
+		MetadataContext metadataContext = new MetadataContext();
+		metadataContext.putContext(MetadataContext.FRAGMENT_TRANSITIVE, "a", "1");
+
+		String encoded = MetadataHeaderEncoder.encode(metadataContext.getCustomMetadataView());
+		assertThat(MetadataHeaderEncoder.encode(metadataContext.getCustomMetadataView())).isSameAs(encoded);
+
+		metadataContext.putContext(MetadataContext.FRAGMENT_TRANSITIVE, "a", "2");
+		String newEncoded = MetadataHeaderEncoder.encode(metadataContext.getCustomMetadataView());
+		assertThat(newEncoded).isNotEqualTo(encoded);
+		// equivalent to the header encoded from the metadata map, the order of the entries may differ.
+		assertThat(decode(newEncoded))
+				.isEqualTo(decode(UrlUtils.encode(JacksonUtils.serialize2Json(metadataContext.getCustomMetadata()))));
+	}
+
+	@Test
+	public void testEncodeEquivalentToEncodedCopy() {
+		MetadataContext metadataContext = new MetadataContext();
+		for (int i = 0; i < 32; i++) {
+			metadataContext.putContext(MetadataContext.FRAGMENT_TRANSITIVE, "key-" + i, "value-" + i);
+		}
+
+		Map<String, String> copy = new LinkedHashMap<>();
+		metadataContext.getTransitiveMetadata().entrySet().stream().sorted(Map.Entry.comparingByKey())
+				.forEach(entry -> copy.put(entry.getKey(), entry.getValue()));
+		String encoded = MetadataHeaderEncoder.encode(metadataContext.getFragmentView(MetadataContext.FRAGMENT_TRANSITIVE));
+		assertThat(decode(encoded)).isEqualTo(copy);
+	}
+
+	@Test
+	public void testEmptyView() {
+		MetadataContext metadataContext = new MetadataContext();
+		assertThat(MetadataHeaderEncoder.encode(metadataContext.getFragmentView(MetadataContext.FRAGMENT_DISPOSABLE))).isNull();
+		assertThat(MetadataHeaderEncoder.encode(null)).isNull();
+	}
+
+	private static Map<String, String> decode(String encoded) {
+		return JacksonUtils.deserialize2Map(UrlUtils.decode(encoded));
+	}
+}
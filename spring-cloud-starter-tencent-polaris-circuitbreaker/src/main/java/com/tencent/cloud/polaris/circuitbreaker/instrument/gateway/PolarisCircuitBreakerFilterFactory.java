@@ -29,6 +29,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.rpc.enhancement.config.FailureStatusTable;
 import com.tencent.polaris.api.pojo.CircuitBreakerStatus;
 import com.tencent.polaris.circuitbreak.client.exception.CallAbortedException;
 import reactor.core.publisher.Flux;
@@ -178,6 +179,12 @@ public class PolarisCircuitBreakerFilterFactory extends SpringCloudCircuitBreake
 		if (CollectionUtils.isEmpty(statuses)) {
 			statuses.addAll(getDefaultStatus());
 		}
+		// throw CircuitBreakerStatusCodeException by default for all need checking status
+		// so polaris can report right error status
+		Set<HttpStatus> statusNeedToCheck = new HashSet<>(statuses);
+		statusNeedToCheck.addAll(getDefaultStatus());
+		FailureStatusTable fallbackStatusTable = FailureStatusTable.of(statuses);
+		FailureStatusTable checkedStatusTable = FailureStatusTable.of(statusNeedToCheck);
 		String circuitBreakerId = getCircuitBreakerId(config);
 		return new GatewayFilter() {
 			@Override
@@ -193,16 +200,11 @@ public class PolarisCircuitBreakerFilterFactory extends SpringCloudCircuitBreake
 				return cb.run(
 								chain.filter(exchange)
 										.doOnSuccess(v -> {
-											// throw CircuitBreakerStatusCodeException by default for all need checking status
-											// so polaris can report right error status
-											Set<HttpStatus> statusNeedToCheck = new HashSet<>();
-											statusNeedToCheck.addAll(statuses);
-											statusNeedToCheck.addAll(getDefaultStatus());
 											HttpStatusCode status = exchange.getResponse().getStatusCode();
 											if (status == null) {
 												throw new CircuitBreakerStatusCodeException(HttpStatus.INTERNAL_SERVER_ERROR);
 											}
-											if (statusNeedToCheck.contains(HttpStatus.resolve(status.value()))) {
+											if (checkedStatusTable.isFailure(status)) {
 												throw new CircuitBreakerStatusCodeException(status);
 											}
 										}),
@@ -211,7 +213,7 @@ public class PolarisCircuitBreakerFilterFactory extends SpringCloudCircuitBreake
 									if (t instanceof CircuitBreakerStatusCodeException) {
 										HttpStatusCode status = ((CircuitBreakerStatusCodeException) t).getStatusCode();
 										// no need to fallback
-										if (!statuses.contains(HttpStatus.resolve(status.value()))) {
+										if (!fallbackStatusTable.isFailure(status)) {
 											return Mono.error(t);
 										}
 									}
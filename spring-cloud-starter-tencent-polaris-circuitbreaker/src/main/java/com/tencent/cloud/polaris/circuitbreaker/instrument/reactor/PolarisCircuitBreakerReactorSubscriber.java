@@ -39,7 +39,7 @@ public class PolarisCircuitBreakerReactorSubscriber<T> extends BaseSubscriber<T>
 
 	private final CoreSubscriber<? super T> downstreamSubscriber;
 
-	private final long startTimeMilli;
+	private final long startNanos;
 	private final boolean singleProducer;
 
 	private final AtomicBoolean successSignaled = new AtomicBoolean(false);
@@ -49,7 +49,7 @@ public class PolarisCircuitBreakerReactorSubscriber<T> extends BaseSubscriber<T>
 		this.invokeHandler = invokeHandler;
 		this.downstreamSubscriber = downstreamSubscriber;
 		this.singleProducer = singleProducer;
-		this.startTimeMilli = System.currentTimeMillis();
+		this.startNanos = System.nanoTime();
 	}
 
 	@Override
@@ -66,10 +66,10 @@ public class PolarisCircuitBreakerReactorSubscriber<T> extends BaseSubscriber<T>
 	protected void hookOnNext(T value) {
 		if (!isDisposed()) {
 			if (singleProducer && successSignaled.compareAndSet(false, true)) {
-				long delay = System.currentTimeMillis() - startTimeMilli;
+				long delay = getDelayMicros();
 				InvokeContext.ResponseContext responseContext = new InvokeContext.ResponseContext();
 				responseContext.setDuration(delay);
-				responseContext.setDurationUnit(TimeUnit.MILLISECONDS);
+				responseContext.setDurationUnit(TimeUnit.MICROSECONDS);
 				responseContext.setResult(value);
 				invokeHandler.onSuccess(responseContext);
 			}
@@ -82,10 +82,10 @@ public class PolarisCircuitBreakerReactorSubscriber<T> extends BaseSubscriber<T>
 	@Override
 	protected void hookOnComplete() {
 		if (successSignaled.compareAndSet(false, true)) {
-			long delay = System.currentTimeMillis() - startTimeMilli;
+			long delay = getDelayMicros();
 			InvokeContext.ResponseContext responseContext = new InvokeContext.ResponseContext();
 			responseContext.setDuration(delay);
-			responseContext.setDurationUnit(TimeUnit.MILLISECONDS);
+			responseContext.setDurationUnit(TimeUnit.MICROSECONDS);
 			invokeHandler.onSuccess(responseContext);
 		}
 
@@ -96,10 +96,10 @@ public class PolarisCircuitBreakerReactorSubscriber<T> extends BaseSubscriber<T>
 	public void hookOnCancel() {
 		if (!successSignaled.get()) {
 			if (eventWasEmitted.get()) {
-				long delay = System.currentTimeMillis() - startTimeMilli;
+				long delay = getDelayMicros();
 				InvokeContext.ResponseContext responseContext = new InvokeContext.ResponseContext();
 				responseContext.setDuration(delay);
-				responseContext.setDurationUnit(TimeUnit.MILLISECONDS);
+				responseContext.setDurationUnit(TimeUnit.MICROSECONDS);
 				invokeHandler.onSuccess(responseContext);
 			}
 		}
@@ -107,13 +107,17 @@ public class PolarisCircuitBreakerReactorSubscriber<T> extends BaseSubscriber<T>
 
 	@Override
 	protected void hookOnError(Throwable e) {
-		long delay = System.currentTimeMillis() - startTimeMilli;
+		long delay = getDelayMicros();
 		InvokeContext.ResponseContext responseContext = new InvokeContext.ResponseContext();
 		responseContext.setDuration(delay);
-		responseContext.setDurationUnit(TimeUnit.MILLISECONDS);
+		responseContext.setDurationUnit(TimeUnit.MICROSECONDS);
 		responseContext.setError(e);
 		invokeHandler.onError(responseContext);
 		downstreamSubscriber.onError(e);
 	}
 
+	private long getDelayMicros() {
+		return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+	}
+
 }
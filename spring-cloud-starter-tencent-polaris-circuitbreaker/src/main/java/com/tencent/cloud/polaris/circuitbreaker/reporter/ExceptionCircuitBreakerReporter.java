@@ -64,6 +64,11 @@ public class ExceptionCircuitBreakerReporter implements EnhancedPlugin {
 		return EnhancedPluginType.Client.EXCEPTION;
 	}
 
+	@Override
+	public boolean isEnabled() {
+		return this.reportProperties.isEnabled();
+	}
+
 	@Override
 	public void run(EnhancedPluginContext context) throws Throwable {
 		if (!this.reportProperties.isEnabled()) {
@@ -81,7 +86,8 @@ public class ExceptionCircuitBreakerReporter implements EnhancedPlugin {
 				request.getUrl(),
 				null,
 				context.getDelay(),
-				context.getThrowable()
+				context.getThrowable(),
+				reportProperties.getFailureStatusTable()
 		);
 
 		LOG.debug("Will report CircuitBreaker ResourceStat of {}. Request=[{} {}]. Response=[{}]. Delay=[{}]ms.",
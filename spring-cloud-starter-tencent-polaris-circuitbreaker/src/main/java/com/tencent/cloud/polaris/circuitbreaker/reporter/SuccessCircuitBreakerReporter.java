@@ -66,6 +66,11 @@ public class SuccessCircuitBreakerReporter implements EnhancedPlugin {
 		return EnhancedPluginType.Client.POST;
 	}
 
+	@Override
+	public boolean isEnabled() {
+		return this.reportProperties.isEnabled();
+	}
+
 	@Override
 	public void run(EnhancedPluginContext context) throws Throwable {
 		if (!this.reportProperties.isEnabled()) {
@@ -83,7 +88,8 @@ public class SuccessCircuitBreakerReporter implements EnhancedPlugin {
 				request.getUrl(),
 				response.getHttpStatus(),
 				context.getDelay(),
-				null
+				null,
+				reportProperties.getFailureStatusTable()
 		);
 
 		LOG.debug("Will report CircuitBreaker ResourceStat of {}. Request=[{} {}]. Response=[{}]. Delay=[{}]ms.",
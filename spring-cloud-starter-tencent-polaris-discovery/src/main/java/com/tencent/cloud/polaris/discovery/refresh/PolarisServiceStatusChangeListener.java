@@ -24,6 +24,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import com.google.common.collect.Sets;
+import com.tencent.cloud.rpc.enhancement.transformer.TransformedInstancesCache;
 import com.tencent.polaris.api.plugin.registry.AbstractResourceEventListener;
 import com.tencent.polaris.api.pojo.Instance;
 import com.tencent.polaris.api.pojo.RegistryCacheValue;
@@ -85,6 +86,7 @@ public class PolarisServiceStatusChangeListener extends AbstractResourceEventLis
 		else if (newValue.getEventType() == ServiceEventKey.EventType.INSTANCE) {
 			if (oldValue instanceof ServiceInstancesByProto && newValue instanceof ServiceInstancesByProto) {
 				LOG.debug("receive service instances={} change event", svcEventKey);
+				TransformedInstancesCache.invalidate(svcEventKey.getNamespace(), svcEventKey.getService());
 				ServiceInstancesByProto oldIns = (ServiceInstancesByProto) oldValue;
 				ServiceInstancesByProto newIns = (ServiceInstancesByProto) newValue;
 				if ((CollectionUtils.isEmpty(oldIns.getInstances()) && !CollectionUtils.isEmpty(newIns.getInstances())) ||
@@ -17,11 +17,12 @@
 
 package com.tencent.cloud.polaris.loadbalancer;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.pojo.PolarisServiceInstance;
+import com.tencent.cloud.common.pojo.PolarisServiceInstanceList;
 import com.tencent.polaris.api.pojo.DefaultServiceInstances;
 import com.tencent.polaris.api.pojo.Instance;
 import com.tencent.polaris.api.pojo.ServiceInstances;
@@ -64,14 +65,6 @@ public abstract class AbstractPolarisLoadBalancer implements ReactorServiceInsta
 		this.routerAPI = routerAPI;
 	}
 
-	private static ServiceInstances convertToPolarisServiceInstances(List<ServiceInstance> serviceInstances) {
-		ServiceKey serviceKey = new ServiceKey(MetadataContext.LOCAL_NAMESPACE, serviceInstances.get(0).getServiceId());
-		List<Instance> polarisInstances = serviceInstances.stream()
-				.map(serviceInstance -> ((PolarisServiceInstance) serviceInstance).getPolarisInstance())
-				.collect(Collectors.toList());
-		return new DefaultServiceInstances(serviceKey, polarisInstances);
-	}
-
 	@Override
 	public Mono<Response<ServiceInstance>> choose(Request request) {
 		ServiceInstanceListSupplier supplier = supplierObjectProvider
@@ -83,7 +76,7 @@ public abstract class AbstractPolarisLoadBalancer implements ReactorServiceInsta
 			}
 
 			ProcessLoadBalanceRequest req = new ProcessLoadBalanceRequest();
-			req.setDstInstances(convertToPolarisServiceInstances(serviceInstances));
+			req.setDstInstances(getPolarisInstances(serviceInstances));
 			req = setProcessLoadBalanceRequest(req);
 
 			try {
@@ -97,5 +90,21 @@ public abstract class AbstractPolarisLoadBalancer implements ReactorServiceInsta
 		});
 	}
 
+	private ServiceInstances getPolarisInstances(List<ServiceInstance> serviceInstances) {
+		// the routed servers keep their polaris instances.
+		if (serviceInstances instanceof PolarisServiceInstanceList) {
+			ServiceInstances polarisInstances = ((PolarisServiceInstanceList) serviceInstances).getServiceInstances();
+			if (polarisInstances != null) {
+				return polarisInstances;
+			}
+		}
+		ServiceKey serviceKey = new ServiceKey(MetadataContext.LOCAL_NAMESPACE, serviceInstances.get(0).getServiceId());
+		List<Instance> polarisInstances = new ArrayList<>(serviceInstances.size());
+		for (ServiceInstance serviceInstance : serviceInstances) {
+			polarisInstances.add(((PolarisServiceInstance) serviceInstance).getPolarisInstance());
+		}
+		return new DefaultServiceInstances(serviceKey, polarisInstances);
+	}
+
 	protected abstract ProcessLoadBalanceRequest setProcessLoadBalanceRequest(ProcessLoadBalanceRequest req);
 }
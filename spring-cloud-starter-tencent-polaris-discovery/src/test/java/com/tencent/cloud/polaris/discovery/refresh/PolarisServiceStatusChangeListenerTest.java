@@ -19,10 +19,15 @@ package com.tencent.cloud.polaris.discovery.refresh;
 
 import java.lang.reflect.Field;
 import java.util.Collections;
+import java.util.List;
 
+import com.tencent.cloud.common.pojo.PolarisServiceInstance;
+import com.tencent.cloud.rpc.enhancement.transformer.TransformedInstancesCache;
 import com.tencent.polaris.api.pojo.DefaultInstance;
+import com.tencent.polaris.api.pojo.DefaultServiceInstances;
 import com.tencent.polaris.api.pojo.ServiceEventKey;
 import com.tencent.polaris.api.pojo.ServiceInfo;
+import com.tencent.polaris.api.pojo.ServiceInstances;
 import com.tencent.polaris.api.pojo.ServiceKey;
 import com.tencent.polaris.client.pojo.ServiceInstancesByProto;
 import com.tencent.polaris.client.pojo.ServicesByProto;
@@ -30,6 +35,7 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 
@@ -90,6 +96,10 @@ public class PolarisServiceStatusChangeListenerTest {
 		instance.setService(SERVICE_PROVIDER);
 		instance.setHost(HOST);
 		instance.setPort(PORT);
+		TransformedInstancesCache transformedInstancesCache = new TransformedInstancesCache(server -> instance,
+				polarisInstances -> new DefaultServiceInstances(new ServiceKey(NAMESPACE_TEST, SERVICE_PROVIDER), polarisInstances));
+		List<ServiceInstance> servers = Collections.singletonList(new PolarisServiceInstance(instance));
+		ServiceInstances transformedInstances = transformedInstancesCache.get(servers);
 		try {
 			Field instances = ServiceInstancesByProto.class.getDeclaredField("instances");
 			instances.setAccessible(true);
@@ -101,6 +111,8 @@ public class PolarisServiceStatusChangeListenerTest {
 			instances.set(newInstances, Collections.singletonList(instance));
 			polarisServiceStatusChangeListener.onResourceUpdated(instanceUpdateEventKey, oldInstances, newInstances);
 			verify(publisher, times(2)).publishEvent(any(ApplicationEvent.class));
+			// transformed instances of the service are invalidated
+			Assertions.assertThat(transformedInstancesCache.get(servers)).isNotSameAs(transformedInstances);
 
 			// No need update
 			oldInstances = new ServiceInstancesByProto();
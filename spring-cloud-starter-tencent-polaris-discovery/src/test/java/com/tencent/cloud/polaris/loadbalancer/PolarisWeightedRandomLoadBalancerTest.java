@@ -18,20 +18,27 @@
 package com.tencent.cloud.polaris.loadbalancer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import com.tencent.cloud.common.pojo.PolarisServiceInstance;
+import com.tencent.cloud.common.pojo.PolarisServiceInstanceList;
 import com.tencent.cloud.common.util.ApplicationContextAwareUtils;
 import com.tencent.polaris.api.exception.ErrorCode;
 import com.tencent.polaris.api.exception.PolarisException;
+import com.tencent.polaris.api.pojo.DefaultServiceInstances;
 import com.tencent.polaris.api.pojo.Instance;
+import com.tencent.polaris.api.pojo.ServiceInstances;
+import com.tencent.polaris.api.pojo.ServiceKey;
 import com.tencent.polaris.router.api.core.RouterAPI;
+import com.tencent.polaris.router.api.rpc.ProcessLoadBalanceRequest;
 import com.tencent.polaris.router.api.rpc.ProcessLoadBalanceResponse;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -119,6 +126,56 @@ public class PolarisWeightedRandomLoadBalancerTest {
 		Assertions.assertThat(polarisServiceInstance.getPolarisInstance().getPort()).isEqualTo(8090);
 	}
 
+	@Test
+	public void chooseRoutedServersTest_thenUsePolarisInstancesOfServers() {
+
+		Request request = Mockito.mock(Request.class);
+		ServiceInstances routedInstances = new DefaultServiceInstances(new ServiceKey(LOCAL_NAMESPACE, LOCAL_SERVICE),
+				Collections.singletonList(testInstance));
+		List<ServiceInstance> routedServers = new PolarisServiceInstanceList(routedInstances, PolarisServiceInstance::new);
+
+		ServiceInstanceListSupplier serviceInstanceListSupplier = Mockito.mock(ServiceInstanceListSupplier.class);
+		when(serviceInstanceListSupplier.get(request)).thenReturn(Flux.just(routedServers));
+
+		when(supplierObjectProvider.getIfAvailable(any())).thenReturn(serviceInstanceListSupplier);
+
+		when(routerAPI.processLoadBalance(any())).thenReturn(new ProcessLoadBalanceResponse(testInstance));
+
+		PolarisWeightedRandomLoadBalancer polarisWeightedRandomLoadBalancer = new PolarisWeightedRandomLoadBalancer(LOCAL_SERVICE, supplierObjectProvider, routerAPI);
+		Assertions.assertThat(polarisWeightedRandomLoadBalancer.choose(request).block().getServer()).isNotNull();
+
+		// the polaris instances of the routed servers are load balanced as is.
+		ArgumentCaptor<ProcessLoadBalanceRequest> captor = ArgumentCaptor.forClass(ProcessLoadBalanceRequest.class);
+		verify(routerAPI).processLoadBalance(captor.capture());
+		Assertions.assertThat(captor.getValue().getDstInstances()).isSameAs(routedInstances);
+	}
+
+	@Test
+	public void chooseModifiedRoutedServersTest_thenConvertServers() {
+
+		Request request = Mockito.mock(Request.class);
+		ServiceInstances routedInstances = new DefaultServiceInstances(new ServiceKey(LOCAL_NAMESPACE, LOCAL_SERVICE),
+				Collections.singletonList(testInstance));
+		List<ServiceInstance> routedServers = new PolarisServiceInstanceList(routedInstances, PolarisServiceInstance::new);
+		// a supplier after the router replaces the servers in place.
+		routedServers.set(0, new PolarisServiceInstance(testInstance));
+
+		ServiceInstanceListSupplier serviceInstanceListSupplier = Mockito.mock(ServiceInstanceListSupplier.class);
+		when(serviceInstanceListSupplier.get(request)).thenReturn(Flux.just(routedServers));
+
+		when(supplierObjectProvider.getIfAvailable(any())).thenReturn(serviceInstanceListSupplier);
+
+		when(routerAPI.processLoadBalance(any())).thenReturn(new ProcessLoadBalanceResponse(testInstance));
+
+		PolarisWeightedRandomLoadBalancer polarisWeightedRandomLoadBalancer = new PolarisWeightedRandomLoadBalancer(LOCAL_SERVICE, supplierObjectProvider, routerAPI);
+		Assertions.assertThat(polarisWeightedRandomLoadBalancer.choose(request).block().getServer()).isNotNull();
+
+		ArgumentCaptor<ProcessLoadBalanceRequest> captor = ArgumentCaptor.forClass(ProcessLoadBalanceRequest.class);
+		verify(routerAPI).processLoadBalance(captor.capture());
+		Assertions.assertThat(captor.getValue().getDstInstances()).isNotSameAs(routedInstances);
+		Assertions.assertThat(captor.getValue().getDstInstances().getInstances()).containsExactly(testInstance);
+	}
+
 	@Test
 	public void chooseExceptionTest_thenReturnEmptyInstance() {
 
@@ -17,24 +17,21 @@
 
 package com.tencent.cloud.polaris.router;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import com.tencent.cloud.common.constant.RouterConstant;
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.metadata.MetadataContextHolder;
 import com.tencent.cloud.common.pojo.PolarisServiceInstance;
-import com.tencent.cloud.common.util.JacksonUtils;
+import com.tencent.cloud.common.pojo.PolarisServiceInstanceList;
+import com.tencent.cloud.common.util.RouterLabelHeaders;
 import com.tencent.cloud.polaris.router.spi.RouterRequestInterceptor;
 import com.tencent.cloud.polaris.router.spi.RouterResponseInterceptor;
 import com.tencent.cloud.rpc.enhancement.transformer.InstanceTransformer;
+import com.tencent.cloud.rpc.enhancement.transformer.TransformedInstancesCache;
 import com.tencent.polaris.api.exception.ErrorCode;
 import com.tencent.polaris.api.exception.PolarisException;
 import com.tencent.polaris.api.pojo.Instance;
@@ -54,8 +51,6 @@ import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.util.CollectionUtils;
 
-import static com.tencent.cloud.common.constant.ContextConstant.UTF_8;
-
 /**
  * Service routing entrance.
  * <p>
@@ -74,15 +69,59 @@ public class PolarisRouterServiceInstanceListSupplier extends DelegatingServiceI
 	private final List<RouterRequestInterceptor> requestInterceptors;
 	private final List<RouterResponseInterceptor> responseInterceptors;
 	private final InstanceTransformer instanceTransformer;
+	private final TransformedInstancesCache transformedInstancesCache;
+	private final RouterResultCache routerResultCache;
+	private final RouterDiagnostics routerDiagnostics;
+	private final RouterDiagnostics.Stage buildRouterContextStage;
+	private final RouterDiagnostics.Stage processRoutersStage;
+	private final RouterDiagnostics.Stage routeStage;
+	private final RouterDiagnostics.Stage[] requestInterceptorStages;
+	private final RouterDiagnostics.Stage[] responseInterceptorStages;
+	private volatile InstanceWrappers instanceWrappers;
 
 	public PolarisRouterServiceInstanceListSupplier(ServiceInstanceListSupplier delegate,
 			RouterAPI routerAPI, List<RouterRequestInterceptor> requestInterceptors,
 			List<RouterResponseInterceptor> responseInterceptors, InstanceTransformer instanceTransformer) {
+		this(delegate, routerAPI, requestInterceptors, responseInterceptors, instanceTransformer, null);
+	}
+
+	public PolarisRouterServiceInstanceListSupplier(ServiceInstanceListSupplier delegate,
+			RouterAPI routerAPI, List<RouterRequestInterceptor> requestInterceptors,
+			List<RouterResponseInterceptor> responseInterceptors, InstanceTransformer instanceTransformer,
+			RouterResultCache routerResultCache) {
+		this(delegate, routerAPI, requestInterceptors, responseInterceptors, instanceTransformer, routerResultCache, null);
+	}
+
+	public PolarisRouterServiceInstanceListSupplier(ServiceInstanceListSupplier delegate,
+			RouterAPI routerAPI, List<RouterRequestInterceptor> requestInterceptors,
+			List<RouterResponseInterceptor> responseInterceptors, InstanceTransformer instanceTransformer,
+			RouterResultCache routerResultCache, RouterDiagnostics routerDiagnostics) {
 		super(delegate);
 		this.routerAPI = routerAPI;
 		this.requestInterceptors = requestInterceptors;
 		this.responseInterceptors = responseInterceptors;
 		this.instanceTransformer = instanceTransformer;
+		this.transformedInstancesCache = new TransformedInstancesCache(instanceTransformer::transform,
+				RouterUtils::buildServiceInstances);
+		this.routerResultCache = routerResultCache;
+		this.routerDiagnostics = routerDiagnostics;
+		if (routerDiagnostics != null) {
+			this.buildRouterContextStage = routerDiagnostics.getStage(RouterDiagnostics.BUILD_ROUTER_CONTEXT);
+			this.processRoutersStage = routerDiagnostics.getStage(RouterDiagnostics.PROCESS_ROUTERS);
+			this.routeStage = routerDiagnostics.getStage(RouterDiagnostics.ROUTE);
+			this.requestInterceptorStages = requestInterceptors.stream()
+					.map(routerDiagnostics::getRequestInterceptorStage).toArray(RouterDiagnostics.Stage[]::new);
+			this.responseInterceptorStages = CollectionUtils.isEmpty(responseInterceptors) ? new RouterDiagnostics.Stage[0]
+					: responseInterceptors.stream().map(routerDiagnostics::getResponseInterceptorStage)
+					.toArray(RouterDiagnostics.Stage[]::new);
+		}
+		else {
+			this.buildRouterContextStage = null;
+			this.processRoutersStage = null;
+			this.routeStage = null;
+			this.requestInterceptorStages = null;
+			this.responseInterceptorStages = null;
+		}
 	}
 
 	@Override
@@ -100,8 +139,12 @@ public class PolarisRouterServiceInstanceListSupplier extends DelegatingServiceI
 
 		DefaultRequestContext requestContext = (DefaultRequestContext) request.getContext();
 		if (requestContext instanceof RequestDataContext) {
+			long start = routerDiagnostics != null ? System.nanoTime() : 0L;
 			routerContext = buildRouterContext(((RequestDataContext) requestContext).getClientRequest()
 					.getHeaders());
+			if (routerDiagnostics != null) {
+				buildRouterContextStage.record(System.nanoTime() - start);
+			}
 		}
 
 		if (routerContext == null) {
@@ -113,52 +156,88 @@ public class PolarisRouterServiceInstanceListSupplier extends DelegatingServiceI
 	}
 
 	PolarisRouterContext buildRouterContext(HttpHeaders headers) {
-		Collection<String> labelHeaderValues = headers.get(RouterConstant.ROUTER_LABEL_HEADER);
-		if (CollectionUtils.isEmpty(labelHeaderValues)) {
-			labelHeaderValues = new ArrayList<>();
+		RouterLabelHeaders.Labels labels = RouterLabelHeaders.get(headers);
+		if (!labels.isValid()) {
+			throw new RuntimeException("Json to map failed.");
 		}
 		PolarisRouterContext routerContext = new PolarisRouterContext();
+		routerContext.putLabels(RouterConstant.ROUTER_LABELS, labels.getLabelMap());
+		return routerContext;
+	}
+
+	Flux<List<ServiceInstance>> doRouter(Flux<List<ServiceInstance>> allServers, PolarisRouterContext routerContext) {
+		// the upstream may emit on another thread, so route in the metadata context of the request.
+		MetadataContext metadataContext = MetadataContextHolder.get();
+		return allServers.defaultIfEmpty(Collections.emptyList())
+				.map(servers -> routeInContext(servers, routerContext, metadataContext));
+	}
 
-		Map<String, String> labelHeaderValuesMap = new HashMap<>();
+	private List<ServiceInstance> routeInContext(List<ServiceInstance> servers, PolarisRouterContext routerContext,
+			MetadataContext metadataContext) {
+		MetadataContext current = MetadataContextHolder.get();
+		if (current == metadataContext) {
+			return route(servers, routerContext);
+		}
+		MetadataContextHolder.set(metadataContext);
 		try {
-			Optional<String> labelHeaderValuesOptional = labelHeaderValues.stream().findFirst();
-			if (labelHeaderValuesOptional.isPresent()) {
-				String labelHeaderValuesContent = labelHeaderValuesOptional.get();
-				labelHeaderValuesMap.putAll(
-						JacksonUtils.deserialize2Map(URLDecoder.decode(labelHeaderValuesContent, UTF_8)));
-			}
+			return route(servers, routerContext);
 		}
-		catch (UnsupportedEncodingException e) {
-			throw new RuntimeException("unsupported charset exception " + UTF_8);
+		finally {
+			MetadataContextHolder.set(current);
 		}
-		routerContext.putLabels(RouterConstant.ROUTER_LABELS, labelHeaderValuesMap);
-		return routerContext;
 	}
 
-	Flux<List<ServiceInstance>> doRouter(Flux<List<ServiceInstance>> allServers, PolarisRouterContext routerContext) {
-		ServiceInstances serviceInstances = RouterUtils.transferServersToServiceInstances(allServers, instanceTransformer);
+	List<ServiceInstance> route(List<ServiceInstance> servers, PolarisRouterContext routerContext) {
+		if (CollectionUtils.isEmpty(servers)) {
+			return Collections.emptyList();
+		}
+		long start = routerDiagnostics != null ? System.nanoTime() : 0L;
+		ServiceInstances serviceInstances = transformedInstancesCache.get(servers);
+
+		// filter instance by routers
+		ProcessRoutersRequest processRoutersRequest = buildProcessRoutersRequest(serviceInstances, routerContext);
 
-		List<ServiceInstance> filteredInstances = new ArrayList<>();
-		if (serviceInstances.getInstances().size() > 0) {
-			// filter instance by routers
-			ProcessRoutersRequest processRoutersRequest = buildProcessRoutersRequest(serviceInstances, routerContext);
+		// process request interceptors
+		processRouterRequestInterceptors(processRoutersRequest, routerContext);
+
+		// process router chain, or reuse the result of the same routing
+		long processStart = routerDiagnostics != null ? System.nanoTime() : 0L;
+		ProcessRoutersResponse processRoutersResponse;
+		if (routerResultCache != null) {
+			processRoutersResponse = routerResultCache.processRouters(servers.get(0).getServiceId(),
+					transformedInstancesCache.getInstancesRevision(serviceInstances), processRoutersRequest,
+					routerAPI::processRouters);
+		}
+		else {
+			processRoutersResponse = routerAPI.processRouters(processRoutersRequest);
+		}
+		if (routerDiagnostics != null) {
+			processRoutersStage.record(System.nanoTime() - processStart);
+		}
 
-			// process request interceptors
-			processRouterRequestInterceptors(processRoutersRequest, routerContext);
+		// process response interceptors
+		processRouterResponseInterceptors(routerContext, processRoutersResponse);
 
-			// process router chain
-			ProcessRoutersResponse processRoutersResponse = routerAPI.processRouters(processRoutersRequest);
+		// transfer polaris server to ServiceInstance, the load balancer reads the polaris servers from the list
+		InstanceWrappers wrappers = getInstanceWrappers(serviceInstances);
+		List<ServiceInstance> routedServers = new PolarisServiceInstanceList(processRoutersResponse.getServiceInstances(),
+				wrappers::wrap);
 
-			// process response interceptors
-			processRouterResponseInterceptors(routerContext, processRoutersResponse);
+		if (routerDiagnostics != null) {
+			long elapsed = System.nanoTime() - start;
+			routeStage.record(elapsed);
+			routerDiagnostics.recordDecision(servers.get(0).getServiceId(), servers.size(), routedServers.size(), elapsed);
+		}
+		return routedServers;
+	}
 
-			// transfer polaris server to ServiceInstance
-			ServiceInstances filteredServiceInstances = processRoutersResponse.getServiceInstances();
-			for (Instance instance : filteredServiceInstances.getInstances()) {
-				filteredInstances.add(new PolarisServiceInstance(instance));
-			}
+	private InstanceWrappers getInstanceWrappers(ServiceInstances serviceInstances) {
+		InstanceWrappers wrappers = instanceWrappers;
+		if (wrappers == null || wrappers.serviceInstances != serviceInstances) {
+			wrappers = new InstanceWrappers(serviceInstances);
+			instanceWrappers = wrappers;
 		}
-		return Flux.fromIterable(Collections.singletonList(filteredInstances));
+		return wrappers;
 	}
 
 	ProcessRoutersRequest buildProcessRoutersRequest(ServiceInstances serviceInstances, PolarisRouterContext key) {
@@ -173,16 +252,53 @@ public class PolarisRouterServiceInstanceListSupplier extends DelegatingServiceI
 	}
 
 	void processRouterRequestInterceptors(ProcessRoutersRequest processRoutersRequest, PolarisRouterContext routerContext) {
+		int i = 0;
 		for (RouterRequestInterceptor requestInterceptor : requestInterceptors) {
+			if (requestInterceptorStages == null) {
+				requestInterceptor.apply(processRoutersRequest, routerContext);
+				continue;
+			}
+			long start = System.nanoTime();
 			requestInterceptor.apply(processRoutersRequest, routerContext);
+			requestInterceptorStages[i++].record(System.nanoTime() - start);
 		}
 	}
 
 	private void processRouterResponseInterceptors(PolarisRouterContext routerContext, ProcessRoutersResponse processRoutersResponse) {
 		if (!CollectionUtils.isEmpty(responseInterceptors)) {
+			int i = 0;
 			for (RouterResponseInterceptor responseInterceptor : responseInterceptors) {
+				if (responseInterceptorStages == null) {
+					responseInterceptor.apply(processRoutersResponse, routerContext);
+					continue;
+				}
+				long start = System.nanoTime();
 				responseInterceptor.apply(processRoutersResponse, routerContext);
+				responseInterceptorStages[i++].record(System.nanoTime() - start);
+			}
+		}
+	}
+
+	/**
+	 * Servers wrapping the transformed polaris instances, created once per transformed instances.
+	 */
+	private static final class InstanceWrappers {
+
+		private final ServiceInstances serviceInstances;
+
+		private final Map<Instance, ServiceInstance> wrappers;
+
+		private InstanceWrappers(ServiceInstances serviceInstances) {
+			this.serviceInstances = serviceInstances;
+			this.wrappers = new IdentityHashMap<>(serviceInstances.getInstances().size());
+			for (Instance instance : serviceInstances.getInstances()) {
+				wrappers.put(instance, new PolarisServiceInstance(instance));
 			}
 		}
+
+		private ServiceInstance wrap(Instance instance) {
+			ServiceInstance wrapper = wrappers.get(instance);
+			return wrapper != null ? wrapper : new PolarisServiceInstance(instance);
+		}
 	}
 }
@@ -0,0 +1,240 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.router;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Timing of the stages of routing, and a sample of the last routing decisions.
+ * <p>
+ * Every stage, that is building the router context, each request interceptor, the router chain of the SDK, each
+ * response interceptor and the whole routing, has a histogram of its time in nanoseconds. A sampled routing decision
+ * keeps the numbers of instances before and after routing, the last decisions are kept in a ring buffer.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class RouterDiagnostics {
+
+	/**
+	 * Stage of building the router context from the request.
+	 */
+	public static final String BUILD_ROUTER_CONTEXT = "buildRouterContext";
+
+	/**
+	 * Stage of the router chain of the SDK.
+	 */
+	public static final String PROCESS_ROUTERS = "processRouters";
+
+	/**
+	 * Stage of the whole routing of a server list.
+	 */
+	public static final String ROUTE = "route";
+
+	private static final int SIGNIFICANT_DIGITS = 2;
+
+	private final int maxDecisions;
+
+	private final double decisionSampleRate;
+
+	private final Map<String, Stage> stages = new ConcurrentHashMap<>();
+
+	private final AtomicReferenceArray<RoutingDecision> decisions;
+
+	private final AtomicLong decisionCount = new AtomicLong();
+
+	public RouterDiagnostics(int maxDecisions, double decisionSampleRate) {
+		this.maxDecisions = Math.max(0, maxDecisions);
+		this.decisionSampleRate = decisionSampleRate;
+		this.decisions = new AtomicReferenceArray<>(this.maxDecisions);
+	}
+
+	/**
+	 * Get the stage of the name, created on first use.
+	 * @param name name of the stage
+	 * @return stage
+	 */
+	public Stage getStage(String name) {
+		Stage stage = stages.get(name);
+		if (stage == null) {
+			stage = stages.computeIfAbsent(name, Stage::new);
+		}
+		return stage;
+	}
+
+	/**
+	 * Get the stage of a request interceptor.
+	 * @param requestInterceptor request interceptor
+	 * @return stage named after the class of the interceptor
+	 */
+	public Stage getRequestInterceptorStage(Object requestInterceptor) {
+		return getStage("requestInterceptor:" + requestInterceptor.getClass().getSimpleName());
+	}
+
+	/**
+	 * Get the stage of a response interceptor.
+	 * @param responseInterceptor response interceptor
+	 * @return stage named after the class of the interceptor
+	 */
+	public Stage getResponseInterceptorStage(Object responseInterceptor) {
+		return getStage("responseInterceptor:" + responseInterceptor.getClass().getSimpleName());
+	}
+
+	/**
+	 * Record a routing decision if it is sampled.
+	 * @param service callee service
+	 * @param inputCount number of instances before routing
+	 * @param outputCount number of instances after routing
+	 * @param elapsedNanos time of the routing in nanoseconds
+	 */
+	public void recordDecision(String service, int inputCount, int outputCount, long elapsedNanos) {
+		if (maxDecisions == 0 || !sample()) {
+			return;
+		}
+		RoutingDecision decision = new RoutingDecision(System.currentTimeMillis(), service, inputCount, outputCount,
+				elapsedNanos);
+		long index = decisionCount.getAndIncrement();
+		decisions.set((int) (index % maxDecisions), decision);
+	}
+
+	private boolean sample() {
+		return decisionSampleRate >= 1.0
+				|| decisionSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < decisionSampleRate;
+	}
+
+	/**
+	 * Get the percentiles of every stage.
+	 * @return percentiles in nanoseconds of every stage, ordered by name
+	 */
+	public List<Map<String, Object>> getStages() {
+		List<Map<String, Object>> result = new ArrayList<>();
+		stages.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+			Histogram histogram = entry.getValue().histogram.copy();
+			Map<String, Object> stage = new LinkedHashMap<>();
+			stage.put("stage", entry.getKey());
+			stage.put("count", histogram.getTotalCount());
+			stage.put("p50", histogram.getValueAtPercentile(50.0));
+			stage.put("p90", histogram.getValueAtPercentile(90.0));
+			stage.put("p99", histogram.getValueAtPercentile(99.0));
+			stage.put("max", histogram.getMaxValue());
+			result.add(stage);
+		});
+		return result;
+	}
+
+	/**
+	 * Get the last sampled routing decisions.
+	 * @return routing decisions, the newest first
+	 */
+	public List<Map<String, Object>> getDecisions() {
+		List<Map<String, Object>> result = new ArrayList<>();
+		long count = decisionCount.get();
+		for (long index = count - 1; index >= 0 && index >= count - maxDecisions; index--) {
+			RoutingDecision decision = decisions.get((int) (index % maxDecisions));
+			if (decision != null) {
+				result.add(decision.toMap());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Clear the histograms and the routing decisions.
+	 */
+	public void reset() {
+		stages.values().forEach(stage -> stage.histogram.reset());
+		for (int i = 0; i < maxDecisions; i++) {
+			decisions.set(i, null);
+		}
+		decisionCount.set(0);
+	}
+
+	public int getMaxDecisions() {
+		return maxDecisions;
+	}
+
+	public double getDecisionSampleRate() {
+		return decisionSampleRate;
+	}
+
+	/**
+	 * Histogram of the time of a stage.
+	 */
+	public static final class Stage {
+
+		private final String name;
+
+		private final Histogram histogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+
+		private Stage(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Record the time of the stage.
+		 * @param elapsedNanos time in nanoseconds
+		 */
+		public void record(long elapsedNanos) {
+			histogram.recordValue(Math.max(0L, elapsedNanos));
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	private static final class RoutingDecision {
+
+		private final long timestamp;
+
+		private final String service;
+
+		private final int inputCount;
+
+		private final int outputCount;
+
+		private final long elapsedNanos;
+
+		private RoutingDecision(long timestamp, String service, int inputCount, int outputCount, long elapsedNanos) {
+			this.timestamp = timestamp;
+			this.service = service;
+			this.inputCount = inputCount;
+			this.outputCount = outputCount;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		private Map<String, Object> toMap() {
+			Map<String, Object> decision = new LinkedHashMap<>();
+			decision.put("timestamp", timestamp);
+			decision.put("service", service);
+			decision.put("inputCount", inputCount);
+			decision.put("outputCount", outputCount);
+			decision.put("elapsedNanos", elapsedNanos);
+			return decision;
+		}
+	}
+}
@@ -0,0 +1,573 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.router;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.common.metadata.MetadataContextHolder;
+import com.tencent.cloud.common.util.BoundedCache;
+import com.tencent.cloud.common.util.expresstion.ExpressionLabelUtils;
+import com.tencent.cloud.polaris.context.ServiceRuleManager;
+import com.tencent.cloud.rpc.enhancement.transformer.TransformedInstancesCache;
+import com.tencent.polaris.api.plugin.circuitbreaker.entity.InstanceResource;
+import com.tencent.polaris.api.pojo.CircuitBreakerStatus;
+import com.tencent.polaris.api.pojo.Instance;
+import com.tencent.polaris.api.pojo.ServiceInstances;
+import com.tencent.polaris.api.pojo.ServiceKey;
+import com.tencent.polaris.circuitbreak.api.CircuitBreakAPI;
+import com.tencent.polaris.metadata.core.MessageMetadataContainer;
+import com.tencent.polaris.metadata.core.MetadataContainer;
+import com.tencent.polaris.metadata.core.MetadataType;
+import com.tencent.polaris.plugins.router.metadata.MetadataRouter;
+import com.tencent.polaris.plugins.router.namespace.NamespaceRouter;
+import com.tencent.polaris.plugins.router.nearby.NearbyRouter;
+import com.tencent.polaris.plugins.router.rule.RuleBasedRouter;
+import com.tencent.polaris.router.api.rpc.ProcessRoutersRequest;
+import com.tencent.polaris.router.api.rpc.ProcessRoutersResponse;
+import com.tencent.polaris.specification.api.v1.traffic.manage.RoutingProto;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Bounded cache of the router results, keyed by the callee service, the revision of its instances, the revision of the
+ * router rules, the values of the labels referenced by the rules and the switches and arguments of the routers.
+ * <p>
+ * The instances revision is the one of {@link TransformedInstancesCache}, which changes when the instances of the
+ * callee are transformed again. The rule revision is read once per callee and dropped by
+ * {@link RouterRuleChangeListener} when the rules change, so a result is never hit after the instances or the rules it
+ * was routed with have changed. A result is also routed again when an instance it holds has been circuit broken, or
+ * an instance it left out for being circuit broken has recovered. Routing that references a label this cache can't
+ * resolve is not cached.
+ * <p>
+ * The cache is a concurrent map, which is swept by one caller at a time when it has grown over the maximum size, or
+ * when the results may have expired. The sweep removes the expired results and then the least recently hit ones, so
+ * the size may go over the maximum size by the results put while sweeping.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class RouterResultCache {
+
+	/**
+	 * Maximum number of callee services whose rule revision and referenced labels are kept.
+	 */
+	static final int MAX_SERVICES = 1000;
+
+	private final ServiceRuleManager serviceRuleManager;
+
+	private final CircuitBreakAPI circuitBreakAPI;
+
+	private final int maxSize;
+
+	private final long expireAfterWriteNanos;
+
+	private final Map<Key, Result> results = new ConcurrentHashMap<>();
+
+	private final ReentrantLock sweepLock = new ReentrantLock();
+
+	private volatile long lastSweepTime = System.nanoTime();
+
+	private final BoundedCache<String, String> ruleRevisions = new BoundedCache<>(MAX_SERVICES);
+
+	private final AtomicLong ruleChanges = new AtomicLong();
+
+	private final BoundedCache<String, ReferencedLabels> referencedLabels = new BoundedCache<>(MAX_SERVICES);
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder bypasses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	public RouterResultCache(ServiceRuleManager serviceRuleManager, int maxSize, Duration expireAfterWrite) {
+		this(serviceRuleManager, null, maxSize, expireAfterWrite);
+	}
+
+	public RouterResultCache(ServiceRuleManager serviceRuleManager, CircuitBreakAPI circuitBreakAPI, int maxSize,
+			Duration expireAfterWrite) {
+		this.serviceRuleManager = serviceRuleManager;
+		this.circuitBreakAPI = circuitBreakAPI;
+		this.maxSize = maxSize;
+		this.expireAfterWriteNanos = expireAfterWrite == null ? 0 : expireAfterWrite.toNanos();
+	}
+
+	/**
+	 * Route the request by the cached result of the same routing, or by the router and cache its result.
+	 * @param callee callee service
+	 * @param instancesRevision revision of the instances of the request in {@link TransformedInstancesCache}
+	 * @param request request processed by the router request interceptors
+	 * @param router router of the request
+	 * @return router result
+	 */
+	public ProcessRoutersResponse processRouters(String callee, long instancesRevision, ProcessRoutersRequest request,
+			Function<ProcessRoutersRequest, ProcessRoutersResponse> router) {
+		Key key = buildKey(callee, instancesRevision, request);
+		if (key == null) {
+			bypasses.increment();
+			return router.apply(request);
+		}
+		ServiceKey sourceService = getSourceService(request);
+		Result cached = get(key);
+		if (cached != null) {
+			if (isCircuitBreakerUnchanged(cached, sourceService)) {
+				hits.increment();
+				return new ProcessRoutersResponse(cached.serviceInstances);
+			}
+			results.remove(key, cached);
+		}
+		misses.increment();
+		ProcessRoutersResponse response = router.apply(request);
+		// the rules may change while routing, the result is only cached if it was routed with the rules of the key.
+		if (response != null && response.getServiceInstances() != null
+				&& key.ruleRevision.equals(getRuleRevision(callee))) {
+			List<Instance> circuitBroken = getCircuitBrokenInstances(request.getDstInstances(),
+					response.getServiceInstances(), sourceService);
+			if (circuitBroken != null) {
+				put(key, response.getServiceInstances(), circuitBroken);
+			}
+		}
+		return response;
+	}
+
+	/**
+	 * Drop the rule revisions read for the service, called when its router rules change.
+	 * @param namespace namespace of the service
+	 * @param service name of the service
+	 */
+	public void invalidateRules(String namespace, String service) {
+		if (!Objects.equals(namespace, MetadataContext.LOCAL_NAMESPACE)) {
+			return;
+		}
+		ruleChanges.incrementAndGet();
+		if (Objects.equals(service, MetadataContext.LOCAL_SERVICE)) {
+			// the outbound rules of the caller are routed with for every callee.
+			ruleRevisions.clear();
+		}
+		else {
+			ruleRevisions.remove(service);
+		}
+	}
+
+	/**
+	 * Get the statistics of the cache.
+	 * @return hits, misses, bypasses, hit rate, size, max size and evictions including the expired results
+	 */
+	public Map<String, Object> getStats() {
+		long hits = this.hits.sum();
+		long misses = this.misses.sum();
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("hits", hits);
+		stats.put("misses", misses);
+		stats.put("bypasses", bypasses.sum());
+		stats.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+		stats.put("size", size());
+		stats.put("maxSize", maxSize);
+		stats.put("evictions", evictions.sum());
+		return stats;
+	}
+
+	int size() {
+		return results.size();
+	}
+
+	Key buildKey(String callee, long instancesRevision, ProcessRoutersRequest request) {
+		if (callee == null || instancesRevision == TransformedInstancesCache.NO_REVISION
+				|| request.getDstInstances() == null) {
+			return null;
+		}
+		String ruleRevision = getRuleRevision(callee);
+		LabelReference[] labels = getReferencedLabels(callee, ruleRevision);
+		if (labels == null) {
+			return null;
+		}
+
+		MetadataContext metadataContext = MetadataContextHolder.get();
+		MessageMetadataContainer messageContainer = metadataContext.getMetadataContainer(MetadataType.MESSAGE, false);
+		MetadataContainer customContainer = metadataContext.getMetadataContainer(MetadataType.CUSTOM, false);
+		List<Object> parts = new ArrayList<>(labels.length + 8);
+		for (LabelReference label : labels) {
+			parts.add(label.resolve(messageContainer, customContainer));
+		}
+
+		// switches of the routers set by the router request interceptors.
+		parts.add(customContainer.getRawMetadataMapValue(RuleBasedRouter.ROUTER_TYPE_RULE_BASED, RuleBasedRouter.ROUTER_ENABLED));
+		parts.add(customContainer.getRawMetadataMapValue(NearbyRouter.ROUTER_TYPE_NEAR_BY, NearbyRouter.ROUTER_ENABLED));
+		parts.add(customContainer.getRawMetadataMapValue(NamespaceRouter.ROUTER_TYPE_NAMESPACE, NamespaceRouter.ROUTER_ENABLED));
+		String metadataRouterKeys = customContainer.getRawMetadataMapValue(MetadataRouter.ROUTER_TYPE_METADATA, MetadataRouter.KEY_METADATA_KEYS);
+		parts.add(metadataRouterKeys);
+		if (StringUtils.hasText(metadataRouterKeys)) {
+			for (String metadataRouterKey : metadataRouterKeys.split(",")) {
+				LabelReference label = LabelReference.of(metadataRouterKey.trim());
+				if (label == null) {
+					return null;
+				}
+				parts.add(label.resolve(messageContainer, customContainer));
+			}
+		}
+
+		// arguments of the routers, the request is built for each routing and not changed after it.
+		parts.add(request.getRuleBasedRouterFailoverType());
+		parts.add(request.getNamespaceRouterFailoverType());
+		parts.add(request.getMetadataFailoverType());
+		parts.add(request.getRouterArguments());
+
+		return new Key(callee, instancesRevision, ruleRevision, parts.toArray());
+	}
+
+	private String getRuleRevision(String callee) {
+		String ruleRevision = ruleRevisions.get(callee);
+		if (ruleRevision != null) {
+			return ruleRevision;
+		}
+		long changes = ruleChanges.get();
+		ruleRevision = serviceRuleManager.getServiceRouterRuleRevision(MetadataContext.LOCAL_NAMESPACE,
+				MetadataContext.LOCAL_SERVICE, callee);
+		ruleRevisions.put(callee, ruleRevision);
+		// the rules may have changed after the revision was read, which is read again next time.
+		if (ruleChanges.get() != changes) {
+			ruleRevisions.remove(callee, ruleRevision);
+		}
+		return ruleRevision;
+	}
+
+	private LabelReference[] getReferencedLabels(String callee, String ruleRevision) {
+		ReferencedLabels referenced = referencedLabels.get(callee);
+		if (referenced != null && referenced.ruleRevision.equals(ruleRevision)) {
+			return referenced.labels;
+		}
+
+		List<RoutingProto.Route> rules = serviceRuleManager.getServiceRouterRule(MetadataContext.LOCAL_NAMESPACE,
+				MetadataContext.LOCAL_SERVICE, callee);
+		LabelReference[] labels = parseReferencedLabels(rules);
+		// the rules may have changed after the revision was read.
+		if (!ruleRevision.equals(getRuleRevision(callee))) {
+			return null;
+		}
+		referencedLabels.put(callee, new ReferencedLabels(ruleRevision, labels));
+		return labels;
+	}
+
+	private static LabelReference[] parseReferencedLabels(List<RoutingProto.Route> rules) {
+		Set<String> keys = new TreeSet<>();
+		if (rules != null) {
+			for (RoutingProto.Route rule : rules) {
+				for (RoutingProto.Source source : rule.getSourcesList()) {
+					keys.addAll(source.getMetadataMap().keySet());
+				}
+			}
+		}
+		LabelReference[] labels = new LabelReference[keys.size()];
+		int i = 0;
+		for (String key : keys) {
+			labels[i] = LabelReference.of(key);
+			if (labels[i] == null) {
+				return null;
+			}
+			i++;
+		}
+		return labels;
+	}
+
+	private static ServiceKey getSourceService(ProcessRoutersRequest request) {
+		return request.getSourceService() != null ? request.getSourceService().getServiceKey() : null;
+	}
+
+	/**
+	 * Get the instances left out of the result for being circuit broken.
+	 * @return circuit broken instances, or null if the result holds a circuit broken instance and is not cached
+	 */
+	private List<Instance> getCircuitBrokenInstances(ServiceInstances dstInstances, ServiceInstances routed,
+			ServiceKey sourceService) {
+		if (circuitBreakAPI == null) {
+			return Collections.emptyList();
+		}
+		Set<Instance> routedInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Instance instance : routed.getInstances()) {
+			if (!isPassing(instance, sourceService)) {
+				return null;
+			}
+			routedInstances.add(instance);
+		}
+		List<Instance> circuitBroken = new ArrayList<>();
+		for (Instance instance : dstInstances.getInstances()) {
+			if (!routedInstances.contains(instance) && !isPassing(instance, sourceService)) {
+				circuitBroken.add(instance);
+			}
+		}
+		return circuitBroken;
+	}
+
+	private boolean isCircuitBreakerUnchanged(Result result, ServiceKey sourceService) {
+		if (circuitBreakAPI == null) {
+			return true;
+		}
+		for (Instance instance : result.serviceInstances.getInstances()) {
+			if (!isPassing(instance, sourceService)) {
+				return false;
+			}
+		}
+		for (Instance instance : result.circuitBroken) {
+			if (isPassing(instance, sourceService)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Check the circuit breaker of the instance, as the recover router of Polaris does.
+	 */
+	private boolean isPassing(Instance instance, ServiceKey sourceService) {
+		CircuitBreakerStatus circuitBreakerStatus = instance.getCircuitBreakerStatus();
+		if (circuitBreakerStatus != null) {
+			return circuitBreakerStatus.getStatus() != CircuitBreakerStatus.Status.OPEN;
+		}
+		return circuitBreakAPI.check(new InstanceResource(new ServiceKey(instance.getNamespace(),
+				instance.getService()), instance.getHost(), instance.getPort(), sourceService)).isPass();
+	}
+
+	private Result get(Key key) {
+		Result result = results.get(key);
+		if (result == null) {
+			return null;
+		}
+		long now = System.nanoTime();
+		if (isExpired(result, now)) {
+			if (results.remove(key, result)) {
+				evictions.increment();
+			}
+			return null;
+		}
+		result.accessTime = now;
+		return result;
+	}
+
+	private void put(Key key, ServiceInstances serviceInstances, List<Instance> circuitBroken) {
+		long now = System.nanoTime();
+		results.put(key, new Result(serviceInstances, circuitBroken, now));
+		if (results.size() > maxSize || (expireAfterWriteNanos > 0 && now - lastSweepTime > expireAfterWriteNanos)) {
+			sweep(now);
+		}
+	}
+
+	private boolean isExpired(Result result, long now) {
+		return expireAfterWriteNanos > 0 && now - result.createTime > expireAfterWriteNanos;
+	}
+
+	/**
+	 * Remove the expired results, and then the least recently hit results over the maximum size.
+	 */
+	private void sweep(long now) {
+		if (!sweepLock.tryLock()) {
+			return;
+		}
+		try {
+			lastSweepTime = now;
+			List<Map.Entry<Key, Result>> entries = new ArrayList<>(results.size());
+			for (Map.Entry<Key, Result> entry : results.entrySet()) {
+				if (isExpired(entry.getValue(), now)) {
+					if (results.remove(entry.getKey(), entry.getValue())) {
+						evictions.increment();
+					}
+				}
+				else {
+					entries.add(entry);
+				}
+			}
+			int excess = entries.size() - maxSize;
+			if (excess <= 0) {
+				return;
+			}
+			// evict some more so that the next sweep is not on the next put.
+			int toEvict = Math.min(entries.size(), excess + maxSize / 10);
+			long[] accessTimes = new long[entries.size()];
+			for (int i = 0; i < accessTimes.length; i++) {
+				accessTimes[i] = entries.get(i).getValue().accessTime;
+			}
+			long[] sortedAccessTimes = accessTimes.clone();
+			Arrays.sort(sortedAccessTimes);
+			long threshold = sortedAccessTimes[toEvict - 1];
+			for (int i = 0; i < accessTimes.length && toEvict > 0; i++) {
+				Map.Entry<Key, Result> entry = entries.get(i);
+				if (accessTimes[i] <= threshold && results.remove(entry.getKey(), entry.getValue())) {
+					evictions.increment();
+					toEvict--;
+				}
+			}
+		}
+		finally {
+			sweepLock.unlock();
+		}
+	}
+
+	private enum LabelType {
+		HEADER, QUERY, COOKIE, METHOD, PATH, CALLER_IP, CUSTOM
+	}
+
+	/**
+	 * Label referenced by the rules, resolved from the metadata containers the routers read.
+	 */
+	private static final class LabelReference {
+
+		private final LabelType type;
+
+		private final String name;
+
+		private LabelReference(LabelType type, String name) {
+			this.type = type;
+			this.name = name;
+		}
+
+		/**
+		 * Parse the label.
+		 * @param label label key of the rules
+		 * @return referenced label, or null if the label can't be resolved
+		 */
+		static LabelReference of(String label) {
+			if (ExpressionLabelUtils.isHeaderLabel(label)) {
+				return new LabelReference(LabelType.HEADER, ExpressionLabelUtils.parseHeaderKey(label));
+			}
+			if (ExpressionLabelUtils.isQueryLabel(label)) {
+				return new LabelReference(LabelType.QUERY, ExpressionLabelUtils.parseQueryKey(label));
+			}
+			if (ExpressionLabelUtils.isCookieLabel(label)) {
+				return new LabelReference(LabelType.COOKIE, ExpressionLabelUtils.parseCookieKey(label));
+			}
+			if (ExpressionLabelUtils.isMethodLabel(label)) {
+				return new LabelReference(LabelType.METHOD, null);
+			}
+			if (ExpressionLabelUtils.isUriLabel(label)) {
+				return new LabelReference(LabelType.PATH, null);
+			}
+			if (ExpressionLabelUtils.isCallerIPLabel(label)) {
+				return new LabelReference(LabelType.CALLER_IP, null);
+			}
+			if (label.startsWith("$") || ExpressionLabelUtils.isExpressionLabel(label)) {
+				return null;
+			}
+			return new LabelReference(LabelType.CUSTOM, label);
+		}
+
+		Object resolve(MessageMetadataContainer messageContainer, MetadataContainer customContainer) {
+			switch (type) {
+			case HEADER:
+				return messageContainer.getRawMetadataMapValue(MessageMetadataContainer.LABEL_MAP_KEY_HEADER, name);
+			case QUERY:
+				return messageContainer.getRawMetadataMapValue(MessageMetadataContainer.LABEL_MAP_KEY_QUERY, name);
+			case COOKIE:
+				return messageContainer.getRawMetadataMapValue(MessageMetadataContainer.LABEL_MAP_KEY_COOKIE, name);
+			case METHOD:
+				return messageContainer.getRawMetadataStringValue(MessageMetadataContainer.LABEL_KEY_METHOD);
+			case PATH:
+				return messageContainer.getRawMetadataStringValue(MessageMetadataContainer.LABEL_KEY_PATH);
+			case CALLER_IP:
+				return messageContainer.getRawMetadataStringValue(MessageMetadataContainer.LABEL_KEY_CALLER_IP);
+			default:
+				// plain labels are custom metadata, or the headers of the same name.
+				return Arrays.asList(customContainer.getRawMetadataStringValue(name),
+						messageContainer.getRawMetadataMapValue(MessageMetadataContainer.LABEL_MAP_KEY_HEADER, name));
+			}
+		}
+	}
+
+	private static final class ReferencedLabels {
+
+		private final String ruleRevision;
+
+		private final LabelReference[] labels;
+
+		private ReferencedLabels(String ruleRevision, LabelReference[] labels) {
+			this.ruleRevision = ruleRevision;
+			this.labels = labels;
+		}
+	}
+
+	static final class Key {
+
+		private final String callee;
+
+		private final long instancesRevision;
+
+		private final String ruleRevision;
+
+		private final Object[] parts;
+
+		private final int hash;
+
+		private Key(String callee, long instancesRevision, String ruleRevision, Object[] parts) {
+			this.callee = callee;
+			this.instancesRevision = instancesRevision;
+			this.ruleRevision = ruleRevision;
+			this.parts = parts;
+			this.hash = 31 * Objects.hash(callee, instancesRevision, ruleRevision) + Arrays.hashCode(parts);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) o;
+			return instancesRevision == key.instancesRevision && callee.equals(key.callee)
+					&& ruleRevision.equals(key.ruleRevision) && Arrays.equals(parts, key.parts);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	private static final class Result {
+
+		private final ServiceInstances serviceInstances;
+
+		private final List<Instance> circuitBroken;
+
+		private final long createTime;
+
+		private volatile long accessTime;
+
+		private Result(ServiceInstances serviceInstances, List<Instance> circuitBroken, long createTime) {
+			this.serviceInstances = serviceInstances;
+			this.circuitBroken = circuitBroken;
+			this.createTime = createTime;
+			this.accessTime = createTime;
+		}
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.router;
+
+import com.tencent.polaris.api.plugin.registry.AbstractResourceEventListener;
+import com.tencent.polaris.api.pojo.RegistryCacheValue;
+import com.tencent.polaris.api.pojo.ServiceEventKey;
+
+/**
+ * Change listener of Polaris router rules, which drops the rule revisions read by {@link RouterResultCache}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class RouterRuleChangeListener extends AbstractResourceEventListener {
+
+	private final RouterResultCache routerResultCache;
+
+	public RouterRuleChangeListener(RouterResultCache routerResultCache) {
+		this.routerResultCache = routerResultCache;
+	}
+
+	@Override
+	public void onResourceAdd(ServiceEventKey svcEventKey, RegistryCacheValue newValue) {
+		onRulesChanged(svcEventKey);
+	}
+
+	@Override
+	public void onResourceUpdated(ServiceEventKey svcEventKey, RegistryCacheValue oldValue,
+			RegistryCacheValue newValue) {
+		onRulesChanged(svcEventKey);
+	}
+
+	@Override
+	public void onResourceDeleted(ServiceEventKey svcEventKey, RegistryCacheValue oldValue) {
+		onRulesChanged(svcEventKey);
+	}
+
+	private void onRulesChanged(ServiceEventKey svcEventKey) {
+		if (svcEventKey.getEventType() == ServiceEventKey.EventType.ROUTING) {
+			routerResultCache.invalidateRules(svcEventKey.getNamespace(), svcEventKey.getService());
+		}
+	}
+}
@@ -18,12 +18,9 @@
 package com.tencent.cloud.polaris.router;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.rpc.enhancement.transformer.InstanceTransformer;
@@ -31,10 +28,8 @@ import com.tencent.polaris.api.pojo.DefaultServiceInstances;
 import com.tencent.polaris.api.pojo.Instance;
 import com.tencent.polaris.api.pojo.ServiceInstances;
 import com.tencent.polaris.api.pojo.ServiceKey;
-import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import reactor.core.publisher.Flux;
 
 import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.util.CollectionUtils;
@@ -56,15 +51,24 @@ public final class RouterUtils {
 	 * transfer servers to ServiceInstances.
 	 *
 	 * @param servers servers
+	 * @param instanceTransformer instance transformer
 	 * @return ServiceInstances
 	 */
-	public static ServiceInstances transferServersToServiceInstances(Flux<List<ServiceInstance>> servers, InstanceTransformer instanceTransformer) {
-		List<Instance> instanceList = Collections.synchronizedList(new ArrayList<>());
-		servers.flatMap((Function<List<ServiceInstance>, Publisher<?>>) serviceInstances ->
-				Flux.fromIterable(serviceInstances.stream()
-						.map(instanceTransformer::transform)
-						.collect(Collectors.toList()))).subscribe(instance -> instanceList.add((Instance) instance));
+	public static ServiceInstances transferServersToServiceInstances(List<ServiceInstance> servers, InstanceTransformer instanceTransformer) {
+		List<Instance> instanceList = new ArrayList<>(servers.size());
+		for (ServiceInstance server : servers) {
+			instanceList.add(instanceTransformer.transform(server));
+		}
+		return buildServiceInstances(instanceList);
+	}
 
+	/**
+	 * build ServiceInstances of transformed instances.
+	 *
+	 * @param instanceList transformed instances
+	 * @return ServiceInstances
+	 */
+	public static ServiceInstances buildServiceInstances(List<Instance> instanceList) {
 		String serviceName = "";
 		Map<String, String> serviceMetadata = new HashMap<>();
 		if (!CollectionUtils.isEmpty(instanceList)) {
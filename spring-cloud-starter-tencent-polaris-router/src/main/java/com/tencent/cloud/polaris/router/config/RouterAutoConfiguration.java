@@ -21,9 +21,16 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import com.tencent.cloud.polaris.context.PolarisSDKContextManager;
+import com.tencent.cloud.polaris.context.ServiceRuleManager;
+import com.tencent.cloud.polaris.router.RouterDiagnostics;
+import com.tencent.cloud.polaris.router.RouterResultCache;
+import com.tencent.cloud.polaris.router.RouterRuleChangeListener;
 import com.tencent.cloud.polaris.router.config.properties.PolarisMetadataRouterProperties;
 import com.tencent.cloud.polaris.router.config.properties.PolarisNamespaceRouterProperties;
 import com.tencent.cloud.polaris.router.config.properties.PolarisNearByRouterProperties;
+import com.tencent.cloud.polaris.router.config.properties.PolarisRouterDiagnosticsProperties;
+import com.tencent.cloud.polaris.router.config.properties.PolarisRouterResultCacheProperties;
 import com.tencent.cloud.polaris.router.config.properties.PolarisRuleBasedRouterProperties;
 import com.tencent.cloud.polaris.router.instrument.resttemplate.RouterLabelRestTemplateInterceptor;
 import com.tencent.cloud.polaris.router.instrument.scg.RouterLabelGlobalFilter;
@@ -36,6 +43,7 @@ import com.tencent.cloud.rpc.enhancement.instrument.resttemplate.EnhancedRestTem
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.context.annotation.Bean;
@@ -77,6 +85,29 @@ public class RouterAutoConfiguration {
 		return new NamespaceRouterRequestInterceptor(polarisNamespaceRouterProperties);
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(value = "spring.cloud.polaris.router.result-cache.enabled")
+	public RouterResultCache routerResultCache(PolarisSDKContextManager polarisSDKContextManager,
+			ServiceRuleManager serviceRuleManager,
+			PolarisRouterResultCacheProperties polarisRouterResultCacheProperties) {
+		RouterResultCache routerResultCache = new RouterResultCache(serviceRuleManager,
+				polarisSDKContextManager.getCircuitBreakAPI(), polarisRouterResultCacheProperties.getMaxSize(),
+				polarisRouterResultCacheProperties.getExpireAfterWrite());
+		// drop the rule revisions read by the cache when the router rules change.
+		polarisSDKContextManager.getSDKContext().getExtensions().getLocalRegistry()
+				.registerResourceListener(new RouterRuleChangeListener(routerResultCache));
+		return routerResultCache;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(value = "spring.cloud.polaris.router.diagnostics.enabled")
+	public RouterDiagnostics routerDiagnostics(PolarisRouterDiagnosticsProperties polarisRouterDiagnosticsProperties) {
+		return new RouterDiagnostics(polarisRouterDiagnosticsProperties.getMaxDecisions(),
+				polarisRouterDiagnosticsProperties.getDecisionSampleRate());
+	}
+
 	/**
 	 * Create when gateway application is SCG.
 	 */
@@ -21,6 +21,8 @@ import com.tencent.cloud.polaris.router.RouterConfigModifier;
 import com.tencent.cloud.polaris.router.config.properties.PolarisMetadataRouterProperties;
 import com.tencent.cloud.polaris.router.config.properties.PolarisNamespaceRouterProperties;
 import com.tencent.cloud.polaris.router.config.properties.PolarisNearByRouterProperties;
+import com.tencent.cloud.polaris.router.config.properties.PolarisRouterDiagnosticsProperties;
+import com.tencent.cloud.polaris.router.config.properties.PolarisRouterResultCacheProperties;
 import com.tencent.cloud.polaris.router.config.properties.PolarisRuleBasedRouterProperties;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -36,7 +38,8 @@ import org.springframework.context.annotation.Import;
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnPolarisRouterEnabled
 @Import({PolarisNearByRouterProperties.class, PolarisMetadataRouterProperties.class, PolarisRuleBasedRouterProperties.class,
-		PolarisNamespaceRouterProperties.class})
+		PolarisNamespaceRouterProperties.class, PolarisRouterResultCacheProperties.class,
+		PolarisRouterDiagnosticsProperties.class})
 public class RouterConfigModifierAutoConfiguration {
 
 	@Bean
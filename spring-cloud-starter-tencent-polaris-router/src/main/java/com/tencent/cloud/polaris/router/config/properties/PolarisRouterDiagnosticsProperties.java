@@ -0,0 +1,68 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.router.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * the configuration for the diagnostics of routing.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@ConfigurationProperties(prefix = "spring.cloud.polaris.router.diagnostics")
+public class PolarisRouterDiagnosticsProperties {
+
+	private boolean enabled = false;
+
+	private int maxDecisions = 100;
+
+	private double decisionSampleRate = 0.01;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public int getMaxDecisions() {
+		return maxDecisions;
+	}
+
+	public void setMaxDecisions(int maxDecisions) {
+		this.maxDecisions = maxDecisions;
+	}
+
+	public double getDecisionSampleRate() {
+		return decisionSampleRate;
+	}
+
+	public void setDecisionSampleRate(double decisionSampleRate) {
+		this.decisionSampleRate = decisionSampleRate;
+	}
+
+	@Override
+	public String toString() {
+		return "PolarisRouterDiagnosticsProperties{" +
+				"enabled=" + enabled +
+				", maxDecisions=" + maxDecisions +
+				", decisionSampleRate=" + decisionSampleRate +
+				'}';
+	}
+}
@@ -28,10 +28,13 @@ import com.google.protobuf.util.JsonFormat;
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.util.JacksonUtils;
 import com.tencent.cloud.polaris.context.ServiceRuleManager;
+import com.tencent.cloud.polaris.router.RouterDiagnostics;
+import com.tencent.cloud.polaris.router.RouterResultCache;
 import com.tencent.polaris.specification.api.v1.traffic.manage.RoutingProto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
@@ -49,8 +52,54 @@ public class PolarisRouterEndpoint {
 
 	private final ServiceRuleManager serviceRuleManager;
 
+	private final RouterResultCache routerResultCache;
+
+	private final RouterDiagnostics routerDiagnostics;
+
 	public PolarisRouterEndpoint(ServiceRuleManager serviceRuleManager) {
+		this(serviceRuleManager, null);
+	}
+
+	public PolarisRouterEndpoint(ServiceRuleManager serviceRuleManager, RouterResultCache routerResultCache) {
+		this(serviceRuleManager, routerResultCache, null);
+	}
+
+	public PolarisRouterEndpoint(ServiceRuleManager serviceRuleManager, RouterResultCache routerResultCache,
+			RouterDiagnostics routerDiagnostics) {
 		this.serviceRuleManager = serviceRuleManager;
+		this.routerResultCache = routerResultCache;
+		this.routerDiagnostics = routerDiagnostics;
+	}
+
+	@ReadOperation
+	public Map<String, Object> stats() {
+		Map<String, Object> result = new HashMap<>();
+
+		Map<String, Object> resultCache = new HashMap<>();
+		resultCache.put("enabled", routerResultCache != null);
+		if (routerResultCache != null) {
+			resultCache.putAll(routerResultCache.getStats());
+		}
+		result.put("resultCache", resultCache);
+
+		Map<String, Object> diagnostics = new HashMap<>();
+		diagnostics.put("enabled", routerDiagnostics != null);
+		if (routerDiagnostics != null) {
+			diagnostics.put("maxDecisions", routerDiagnostics.getMaxDecisions());
+			diagnostics.put("decisionSampleRate", routerDiagnostics.getDecisionSampleRate());
+			diagnostics.put("stages", routerDiagnostics.getStages());
+			diagnostics.put("decisions", routerDiagnostics.getDecisions());
+		}
+		result.put("diagnostics", diagnostics);
+
+		return result;
+	}
+
+	@DeleteOperation
+	public void reset() {
+		if (routerDiagnostics != null) {
+			routerDiagnostics.reset();
+		}
 	}
 
 	@ReadOperation
@@ -17,19 +17,23 @@
 
 package com.tencent.cloud.polaris.router;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.tencent.cloud.common.constant.RouterConstant;
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.metadata.MetadataContextHolder;
 import com.tencent.cloud.common.pojo.PolarisServiceInstance;
+import com.tencent.cloud.common.pojo.PolarisServiceInstanceList;
 import com.tencent.cloud.common.util.ApplicationContextAwareUtils;
+import com.tencent.cloud.polaris.context.ServiceRuleManager;
 import com.tencent.cloud.polaris.router.config.properties.PolarisMetadataRouterProperties;
 import com.tencent.cloud.polaris.router.config.properties.PolarisNearByRouterProperties;
 import com.tencent.cloud.polaris.router.config.properties.PolarisRuleBasedRouterProperties;
@@ -62,6 +66,7 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.client.loadbalancer.DefaultRequest;
@@ -71,10 +76,13 @@ import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -211,6 +219,150 @@ public class PolarisRouterServiceInstanceListSupplierTest {
 		}
 	}
 
+	@Test
+	public void testRouterDelayedUpstream() {
+		when(delegate.get()).thenReturn(assembleServers().delayElements(Duration.ofMillis(50))
+				.subscribeOn(Schedulers.boundedElastic()));
+		when(routerAPI.processRouters(any())).thenReturn(assembleProcessRoutersResponse());
+		MetadataContext metadataContext = new MetadataContext();
+		MetadataContextHolder.set(metadataContext);
+		List<MetadataContext> appliedContexts = new CopyOnWriteArrayList<>();
+		PolarisRouterServiceInstanceListSupplier polarisSupplier = new PolarisRouterServiceInstanceListSupplier(
+				delegate, routerAPI, Collections.singletonList((request, routerContext) ->
+				appliedContexts.add(MetadataContextHolder.get())), null, new PolarisInstanceTransformer());
+		try {
+			MockServerHttpRequest httpRequest = MockServerHttpRequest.get("/" + testCalleeService + "/users")
+					.header(RouterConstant.ROUTER_LABEL_HEADER, "{\"k1\":\"v1\"}")
+					.build();
+			DefaultRequest<RequestDataContext> request = new DefaultRequest<>(
+					new RequestDataContext(new RequestData(httpRequest), "blue"));
+
+			// blocks like the blocking load balancer client, the servers are emitted on another thread.
+			List<ServiceInstance> servers = polarisSupplier.get(request).next().block(Duration.ofSeconds(5));
+
+			assertThat(servers).hasSize(assembleServiceInstances().getInstances().size());
+			assertThat(appliedContexts).containsExactly(metadataContext);
+		}
+		finally {
+			MetadataContextHolder.remove();
+		}
+	}
+
+	@Test
+	public void testRouterMultipleEmissions() {
+		when(routerAPI.processRouters(any())).thenReturn(assembleProcessRoutersResponse());
+		PolarisRouterServiceInstanceListSupplier polarisSupplier = new PolarisRouterServiceInstanceListSupplier(
+				delegate, routerAPI, requestInterceptors, null, new PolarisInstanceTransformer());
+
+		Flux<List<ServiceInstance>> servers = polarisSupplier.doRouter(
+				Flux.concat(assembleServers(), assembleServers().delayElements(Duration.ofMillis(10))),
+				assembleRouterContext());
+
+		// every emitted server list is routed on its own.
+		List<List<ServiceInstance>> routed = servers.collectList().block(Duration.ofSeconds(5));
+		assertThat(routed).hasSize(2);
+		assertThat(routed.get(1)).hasSize(assembleServiceInstances().getInstances().size());
+		verify(routerAPI, times(2)).processRouters(any());
+	}
+
+	@Test
+	public void testRouterResultCache() {
+		when(routerAPI.processRouters(any())).thenReturn(assembleProcessRoutersResponse());
+		ServiceRuleManager serviceRuleManager = Mockito.mock(ServiceRuleManager.class);
+		when(serviceRuleManager.getServiceRouterRuleRevision(anyString(), anyString(), anyString())).thenReturn("1");
+		RouterResultCache routerResultCache = new RouterResultCache(serviceRuleManager, 100, Duration.ofMinutes(1));
+		PolarisRouterServiceInstanceListSupplier polarisSupplier = new PolarisRouterServiceInstanceListSupplier(
+				delegate, routerAPI, requestInterceptors, Collections.singletonList(new TestRouterResponseInterceptor()),
+				new PolarisInstanceTransformer(), routerResultCache);
+		List<ServiceInstance> servers = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			DefaultInstance instance = new DefaultInstance();
+			instance.setService(testCalleeService);
+			servers.add(new PolarisServiceInstance(instance));
+		}
+		MetadataContextHolder.set(new MetadataContext());
+		try {
+			List<ServiceInstance> first = polarisSupplier.route(servers, assembleRouterContext());
+			List<ServiceInstance> second = polarisSupplier.route(servers, assembleRouterContext());
+
+			// the same servers are routed once for the same labels.
+			assertThat(second).hasSameSizeAs(first);
+			verify(routerAPI, times(1)).processRouters(any());
+			assertThat(routerResultCache.getStats()).containsEntry("hits", 1L);
+		}
+		finally {
+			MetadataContextHolder.remove();
+		}
+	}
+
+	@Test
+	public void testRoutedServersReused() {
+		when(routerAPI.processRouters(any())).thenAnswer(invocation -> new ProcessRoutersResponse(
+				invocation.<ProcessRoutersRequest>getArgument(0).getDstInstances()));
+		PolarisRouterServiceInstanceListSupplier polarisSupplier = new PolarisRouterServiceInstanceListSupplier(
+				delegate, routerAPI, requestInterceptors, null, new PolarisInstanceTransformer());
+		List<ServiceInstance> servers = assembleServers().blockFirst();
+
+		List<ServiceInstance> first = polarisSupplier.route(servers, assembleRouterContext());
+		List<ServiceInstance> second = polarisSupplier.route(servers, assembleRouterContext());
+
+		// the routed servers wrap the same transformed instances, which the load balancer reads from the list.
+		assertThat(second).hasSize(servers.size());
+		for (int i = 0; i < first.size(); i++) {
+			assertThat(second.get(i)).isSameAs(first.get(i));
+		}
+		ServiceInstances routedInstances = ((PolarisServiceInstanceList) second).getServiceInstances();
+		assertThat(routedInstances.getInstances()).hasSize(servers.size());
+		assertThat(((PolarisServiceInstance) second.get(0)).getPolarisInstance())
+				.isSameAs(routedInstances.getInstances().get(0));
+	}
+
+	@Test
+	public void testRouterDiagnostics() {
+		when(delegate.get()).thenReturn(assembleServers());
+		when(routerAPI.processRouters(any())).thenAnswer(invocation -> new ProcessRoutersResponse(new DefaultServiceInstances(
+				null, invocation.<ProcessRoutersRequest>getArgument(0).getDstInstances().getInstances().subList(0, 2))));
+		RouterDiagnostics routerDiagnostics = new RouterDiagnostics(10, 1.0);
+		PolarisRouterServiceInstanceListSupplier polarisSupplier = new PolarisRouterServiceInstanceListSupplier(
+				delegate, routerAPI, requestInterceptors, Collections.singletonList(new TestRouterResponseInterceptor()),
+				new PolarisInstanceTransformer(), null, routerDiagnostics);
+		MockServerHttpRequest httpRequest = MockServerHttpRequest.get("/" + testCalleeService + "/users")
+				.header(RouterConstant.ROUTER_LABEL_HEADER, "{\"k1\":\"v1\"}")
+				.build();
+		DefaultRequest<RequestDataContext> request = new DefaultRequest<>(
+				new RequestDataContext(new RequestData(httpRequest), "blue"));
+		MetadataContextHolder.set(new MetadataContext());
+		try {
+			assertThat(polarisSupplier.get(request).blockFirst()).hasSize(2);
+
+			// every stage of the routing is timed once.
+			assertThat(routerDiagnostics.getStages()).extracting(stage -> stage.get("stage")).containsExactly(
+					RouterDiagnostics.BUILD_ROUTER_CONTEXT, RouterDiagnostics.PROCESS_ROUTERS,
+					"requestInterceptor:MetadataRouterRequestInterceptor", "requestInterceptor:NearbyRouterRequestInterceptor",
+					"requestInterceptor:RuleBasedRouterRequestInterceptor", "responseInterceptor:TestRouterResponseInterceptor",
+					RouterDiagnostics.ROUTE);
+			assertThat(routerDiagnostics.getStages()).allSatisfy(stage -> assertThat(stage).containsEntry("count", 1L));
+			assertThat(routerDiagnostics.getDecisions()).hasSize(1);
+			assertThat(routerDiagnostics.getDecisions().get(0)).containsEntry("inputCount", 5)
+					.containsEntry("outputCount", 2);
+		}
+		finally {
+			MetadataContextHolder.remove();
+		}
+	}
+
+	@Test
+	public void testRouterEmptyUpstream() {
+		PolarisRouterServiceInstanceListSupplier polarisSupplier = new PolarisRouterServiceInstanceListSupplier(
+				delegate, routerAPI, requestInterceptors, null, new PolarisInstanceTransformer());
+
+		assertThat(polarisSupplier.doRouter(Flux.empty(), assembleRouterContext()).collectList().block())
+				.isEqualTo(Collections.singletonList(Collections.emptyList()));
+		assertThat(polarisSupplier.doRouter(Flux.just(Collections.emptyList()), assembleRouterContext())
+				.collectList().block()).isEqualTo(Collections.singletonList(Collections.emptyList()));
+		verify(routerAPI, never()).processRouters(any());
+	}
+
 	@Test
 	public void buildRouterContext() {
 		PolarisRouterServiceInstanceListSupplier polarisSupplier = new PolarisRouterServiceInstanceListSupplier(
@@ -0,0 +1,88 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.router;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link RouterDiagnostics}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class RouterDiagnosticsTest {
+
+	@Test
+	public void testStages() {
+		RouterDiagnostics routerDiagnostics = new RouterDiagnostics(10, 1.0);
+		RouterDiagnostics.Stage route = routerDiagnostics.getStage(RouterDiagnostics.ROUTE);
+		for (int i = 1; i <= 100; i++) {
+			route.record(i * 1000L);
+		}
+		routerDiagnostics.getRequestInterceptorStage(new TestInterceptor()).record(-1L);
+
+		assertThat(routerDiagnostics.getStage(RouterDiagnostics.ROUTE)).isSameAs(route);
+		List<Map<String, Object>> stages = routerDiagnostics.getStages();
+		assertThat(stages).extracting(stage -> stage.get("stage"))
+				.containsExactly("requestInterceptor:TestInterceptor", RouterDiagnostics.ROUTE);
+		assertThat(stages.get(0)).containsEntry("count", 1L).containsEntry("max", 0L);
+		assertThat(stages.get(1)).containsEntry("count", 100L);
+		assertThat((Long) stages.get(1).get("p50")).isBetween(49000L, 51000L);
+		assertThat((Long) stages.get(1).get("max")).isBetween(99000L, 101000L);
+
+		routerDiagnostics.reset();
+		assertThat(routerDiagnostics.getStages().get(1)).containsEntry("count", 0L);
+	}
+
+	@Test
+	public void testLastDecisions() {
+		RouterDiagnostics routerDiagnostics = new RouterDiagnostics(3, 1.0);
+		for (int i = 0; i < 5; i++) {
+			routerDiagnostics.recordDecision("callee", 10, i, 100L);
+		}
+
+		// the last decisions are kept, the newest first.
+		List<Map<String, Object>> decisions = routerDiagnostics.getDecisions();
+		assertThat(decisions).extracting(decision -> decision.get("outputCount")).containsExactly(4, 3, 2);
+		assertThat(decisions.get(0)).containsEntry("service", "callee").containsEntry("inputCount", 10)
+				.containsEntry("elapsedNanos", 100L);
+
+		routerDiagnostics.reset();
+		assertThat(routerDiagnostics.getDecisions()).isEmpty();
+	}
+
+	@Test
+	public void testDecisionsNotSampled() {
+		RouterDiagnostics notSampled = new RouterDiagnostics(3, 0.0);
+		RouterDiagnostics notKept = new RouterDiagnostics(0, 1.0);
+		for (int i = 0; i < 5; i++) {
+			notSampled.recordDecision("callee", 10, i, 100L);
+			notKept.recordDecision("callee", 10, i, 100L);
+		}
+
+		assertThat(notSampled.getDecisions()).isEmpty();
+		assertThat(notKept.getDecisions()).isEmpty();
+	}
+
+	private static class TestInterceptor {
+	}
+}
@@ -0,0 +1,381 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.polaris.router;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.common.metadata.MetadataContextHolder;
+import com.tencent.cloud.polaris.context.ServiceRuleManager;
+import com.tencent.polaris.api.plugin.circuitbreaker.entity.InstanceResource;
+import com.tencent.polaris.api.pojo.DefaultInstance;
+import com.tencent.polaris.api.pojo.DefaultServiceInstances;
+import com.tencent.polaris.api.pojo.Instance;
+import com.tencent.polaris.api.pojo.ServiceEventKey;
+import com.tencent.polaris.api.pojo.ServiceInstances;
+import com.tencent.polaris.api.pojo.ServiceKey;
+import com.tencent.polaris.circuitbreak.api.CircuitBreakAPI;
+import com.tencent.polaris.circuitbreak.api.pojo.CheckResult;
+import com.tencent.polaris.metadata.core.MetadataType;
+import com.tencent.polaris.metadata.core.TransitiveType;
+import com.tencent.polaris.router.api.rpc.ProcessRoutersRequest;
+import com.tencent.polaris.router.api.rpc.ProcessRoutersResponse;
+import com.tencent.polaris.specification.api.v1.model.ModelProto;
+import com.tencent.polaris.specification.api.v1.traffic.manage.RoutingProto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link RouterResultCache}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class RouterResultCacheTest {
+
+	private static final String CALLEE = "testCalleeService";
+
+	private static final long INSTANCES_REVISION = 1L;
+
+	private final AtomicInteger ruleVersion = new AtomicInteger(1);
+
+	private final AtomicInteger notifiedRuleVersion = new AtomicInteger(1);
+
+	private final AtomicInteger routedCount = new AtomicInteger();
+
+	private volatile Runnable whileRouting;
+
+	private ServiceRuleManager serviceRuleManager;
+
+	private ServiceInstances dstInstances;
+
+	@BeforeEach
+	void setUp() {
+		serviceRuleManager = mock(ServiceRuleManager.class);
+		when(serviceRuleManager.getServiceRouterRuleRevision(any(), any(), anyString()))
+				.thenAnswer(invocation -> "revision-" + ruleVersion.get());
+		when(serviceRuleManager.getServiceRouterRule(any(), any(), anyString()))
+				.thenAnswer(invocation -> ruleVersion.get() == 1 ? rules("uid") : rules("uid", "env"));
+		dstInstances = assembleServiceInstances();
+		MetadataContextHolder.set(new MetadataContext());
+	}
+
+	@AfterEach
+	void tearDown() {
+		MetadataContextHolder.remove();
+	}
+
+	@Test
+	public void testHitForSameReferencedLabels() {
+		RouterResultCache cache = new RouterResultCache(serviceRuleManager, 100, Duration.ofMinutes(1));
+
+		ProcessRoutersResponse first = route(cache, INSTANCES_REVISION, "1000", "other-1");
+		ProcessRoutersResponse second = route(cache, INSTANCES_REVISION, "1000", "other-2");
+		route(cache, INSTANCES_REVISION, "1001", "other-1");
+
+		// labels not referenced by the rules don't matter.
+		assertThat(second.getServiceInstances()).isSameAs(first.getServiceInstances());
+		assertThat(routedCount.get()).isEqualTo(2);
+		assertThat(cache.getStats()).containsEntry("hits", 1L).containsEntry("misses", 2L)
+				.containsEntry("size", 2).containsEntry("maxSize", 100).containsEntry("evictions", 0L);
+		assertThat((double) cache.getStats().get("hitRate")).isEqualTo(1.0 / 3);
+	}
+
+	@Test
+	public void testMissAfterInstancesOrRulesChange() {
+		RouterResultCache cache = new RouterResultCache(serviceRuleManager, 100, Duration.ofMinutes(1));
+
+		route(cache, INSTANCES_REVISION, "1000", "env-1");
+		// transformed again after the instances changed.
+		route(cache, INSTANCES_REVISION + 1, "1000", "env-1");
+		assertThat(routedCount.get()).isEqualTo(2);
+
+		// the new rules also reference the env label.
+		changeRules(cache);
+		route(cache, INSTANCES_REVISION, "1000", "env-1");
+		route(cache, INSTANCES_REVISION, "1000", "env-2");
+		route(cache, INSTANCES_REVISION, "1000", "env-2");
+		assertThat(routedCount.get()).isEqualTo(4);
+	}
+
+	@Test
+	public void testBounded() {
+		RouterResultCache cache = new RouterResultCache(serviceRuleManager, 2, Duration.ofMinutes(1));
+
+		for (int i = 0; i < 5; i++) {
+			route(cache, INSTANCES_REVISION, "uid-" + i, null);
+		}
+		// the least recently used results are evicted.
+		route(cache, INSTANCES_REVISION, "uid-4", null);
+		route(cache, INSTANCES_REVISION, "uid-0", null);
+
+		assertThat(routedCount.get()).isEqualTo(6);
+		assertThat(cache.getStats()).containsEntry("size", 2).containsEntry("evictions", 4L)
+				.containsEntry("hits", 1L);
+	}
+
+	@Test
+	public void testExpired() throws InterruptedException {
+		RouterResultCache cache = new RouterResultCache(serviceRuleManager, 100, Duration.ofMillis(1));
+
+		route(cache, INSTANCES_REVISION, "1000", null);
+		TimeUnit.MILLISECONDS.sleep(10);
+		route(cache, INSTANCES_REVISION, "1000", null);
+
+		assertThat(routedCount.get()).isEqualTo(2);
+		assertThat(cache.getStats()).containsEntry("evictions", 1L);
+	}
+
+	@Test
+	public void testUnresolvedLabelNotCached() {
+		when(serviceRuleManager.getServiceRouterRule(any(), any(), anyString()))
+				.thenReturn(rules("${http.body.uid}"));
+		RouterResultCache cache = new RouterResultCache(serviceRuleManager, 100, Duration.ofMinutes(1));
+
+		route(cache, INSTANCES_REVISION, "1000", null);
+		route(cache, INSTANCES_REVISION, "1000", null);
+
+		assertThat(routedCount.get()).isEqualTo(2);
+		assertThat(cache.getStats()).containsEntry("bypasses", 2L).containsEntry("size", 0);
+	}
+
+	@Test
+	public void testRulesChangedWhileRouting() {
+		RouterResultCache cache = new RouterResultCache(serviceRuleManager, 100, Duration.ofMinutes(1));
+		whileRouting = () -> changeRules(cache);
+
+		// routed with the old rules, which changed before the result is cached.
+		assertThat(route(cache, INSTANCES_REVISION, "1000", "env").getServiceInstances().getInstances()).hasSize(1);
+		assertThat(route(cache, INSTANCES_REVISION, "1000", "env").getServiceInstances().getInstances()).hasSize(2);
+		assertThat(route(cache, INSTANCES_REVISION, "1000", "env").getServiceInstances().getInstances()).hasSize(2);
+		assertThat(routedCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void testRuleChangeRace() throws Exception {
+		RouterResultCache cache = new RouterResultCache(serviceRuleManager, 100, Duration.ofMinutes(1));
+		int threads = 4;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch started = new CountDownLatch(threads);
+		try {
+			List<Future<Boolean>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				futures.add(executor.submit(() -> {
+					MetadataContextHolder.set(new MetadataContext());
+					try {
+						started.countDown();
+						for (int i = 0; i < 2000; i++) {
+							int versionBefore = notifiedRuleVersion.get();
+							ProcessRoutersResponse response = route(cache, INSTANCES_REVISION, "uid-" + (i % 3), "env");
+							// once the rules have changed, the results routed with the old rules are never hit.
+							int routedVersion = response.getServiceInstances().getInstances().size();
+							if (routedVersion < versionBefore) {
+								return false;
+							}
+						}
+						return true;
+					}
+					finally {
+						MetadataContextHolder.remove();
+					}
+				}));
+			}
+			started.await(5, TimeUnit.SECONDS);
+			for (int i = 0; i < 50; i++) {
+				changeRules(cache);
+				TimeUnit.MILLISECONDS.sleep(1);
+			}
+			for (Future<Boolean> future : futures) {
+				assertThat(future.get(30, TimeUnit.SECONDS)).isTrue();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertThat(route(cache, INSTANCES_REVISION, "uid-0", "env").getServiceInstances().getInstances())
+				.hasSize(ruleVersion.get());
+	}
+
+	@Test
+	public void testRulesChangeNotified() {
+		RouterResultCache cache = new RouterResultCache(serviceRuleManager, 100, Duration.ofMinutes(1));
+		RouterRuleChangeListener listener = new RouterRuleChangeListener(cache);
+
+		route(cache, INSTANCES_REVISION, "1000", "env-1");
+		// the rule revision is not read again until the rules change.
+		ruleVersion.incrementAndGet();
+		route(cache, INSTANCES_REVISION, "1000", "env-1");
+		assertThat(routedCount.get()).isEqualTo(1);
+
+		listener.onResourceUpdated(new ServiceEventKey(new ServiceKey(MetadataContext.LOCAL_NAMESPACE, "otherService"),
+				ServiceEventKey.EventType.ROUTING), null, null);
+		listener.onResourceUpdated(new ServiceEventKey(new ServiceKey(MetadataContext.LOCAL_NAMESPACE, CALLEE),
+				ServiceEventKey.EventType.INSTANCE), null, null);
+		route(cache, INSTANCES_REVISION, "1000", "env-1");
+		assertThat(routedCount.get()).isEqualTo(1);
+
+		listener.onResourceUpdated(new ServiceEventKey(new ServiceKey(MetadataContext.LOCAL_NAMESPACE, CALLEE),
+				ServiceEventKey.EventType.ROUTING), null, null);
+		assertThat(route(cache, INSTANCES_REVISION, "1000", "env-1").getServiceInstances().getInstances()).hasSize(2);
+		assertThat(routedCount.get()).isEqualTo(2);
+
+		// the outbound rules of the caller apply to every callee.
+		ruleVersion.incrementAndGet();
+		listener.onResourceUpdated(new ServiceEventKey(new ServiceKey(MetadataContext.LOCAL_NAMESPACE,
+				MetadataContext.LOCAL_SERVICE), ServiceEventKey.EventType.ROUTING), null, null);
+		assertThat(route(cache, INSTANCES_REVISION, "1000", "env-1").getServiceInstances().getInstances()).hasSize(3);
+	}
+
+	@Test
+	public void testExpiredSwept() throws InterruptedException {
+		RouterResultCache cache = new RouterResultCache(serviceRuleManager, 100, Duration.ofMillis(50));
+
+		for (int i = 0; i < 3; i++) {
+			route(cache, INSTANCES_REVISION, "uid-" + i, null);
+		}
+		TimeUnit.MILLISECONDS.sleep(100);
+		route(cache, INSTANCES_REVISION, "uid-3", null);
+
+		// the expired results are removed without being hit again.
+		assertThat(cache.getStats()).containsEntry("size", 1).containsEntry("evictions", 3L);
+	}
+
+	@Test
+	public void testCircuitBreakerChanged() {
+		CircuitBreakAPI circuitBreakAPI = mock(CircuitBreakAPI.class);
+		Set<String> openHosts = ConcurrentHashMap.newKeySet();
+		when(circuitBreakAPI.check(any())).thenAnswer(invocation -> new CheckResult(
+				!openHosts.contains(((InstanceResource) invocation.getArgument(0)).getHost()), null, null));
+		RouterResultCache cache = new RouterResultCache(serviceRuleManager, circuitBreakAPI, 100,
+				Duration.ofMinutes(1));
+		List<Instance> instances = new ArrayList<>();
+		for (String host : Arrays.asList("host-1", "host-2")) {
+			DefaultInstance instance = new DefaultInstance();
+			instance.setNamespace("ns");
+			instance.setService(CALLEE);
+			instance.setHost(host);
+			instance.setPort(8080);
+			instances.add(instance);
+		}
+		dstInstances = new DefaultServiceInstances(new ServiceKey("ns", CALLEE), instances);
+		Function<ProcessRoutersRequest, ProcessRoutersResponse> router = request -> {
+			routedCount.incrementAndGet();
+			List<Instance> passing = new ArrayList<>();
+			for (Instance instance : request.getDstInstances().getInstances()) {
+				if (!openHosts.contains(instance.getHost())) {
+					passing.add(instance);
+				}
+			}
+			return new ProcessRoutersResponse(new DefaultServiceInstances(new ServiceKey("ns", CALLEE), passing));
+		};
+
+		assertThat(route(cache, router).getServiceInstances().getInstances()).hasSize(2);
+		assertThat(route(cache, router).getServiceInstances().getInstances()).hasSize(2);
+		assertThat(routedCount.get()).isEqualTo(1);
+
+		// routed again after a routed instance is circuit broken.
+		openHosts.add("host-1");
+		assertThat(route(cache, router).getServiceInstances().getInstances()).hasSize(1);
+		assertThat(route(cache, router).getServiceInstances().getInstances()).hasSize(1);
+		assertThat(routedCount.get()).isEqualTo(2);
+
+		// and after the circuit broken instance recovers.
+		openHosts.clear();
+		assertThat(route(cache, router).getServiceInstances().getInstances()).hasSize(2);
+		assertThat(routedCount.get()).isEqualTo(3);
+	}
+
+	private ProcessRoutersResponse route(RouterResultCache cache,
+			Function<ProcessRoutersRequest, ProcessRoutersResponse> router) {
+		ProcessRoutersRequest request = new ProcessRoutersRequest();
+		request.setDstInstances(dstInstances);
+		return cache.processRouters(CALLEE, INSTANCES_REVISION, request, router);
+	}
+
+	/**
+	 * Change the rules and notify the cache, as the Polaris SDK does.
+	 */
+	private void changeRules(RouterResultCache cache) {
+		int version = ruleVersion.incrementAndGet();
+		cache.invalidateRules(MetadataContext.LOCAL_NAMESPACE, CALLEE);
+		notifiedRuleVersion.accumulateAndGet(version, Math::max);
+	}
+
+	/**
+	 * Route with the labels, the number of the routed instances is the version of the rules routed with.
+	 */
+	private ProcessRoutersResponse route(RouterResultCache cache, long instancesRevision, String uid, String env) {
+		MetadataContextHolder.get().getMetadataContainer(MetadataType.CUSTOM, false)
+				.putMetadataStringValue("uid", uid, TransitiveType.NONE);
+		if (env != null) {
+			MetadataContextHolder.get().getMetadataContainer(MetadataType.CUSTOM, false)
+					.putMetadataStringValue("env", env, TransitiveType.NONE);
+		}
+		ProcessRoutersRequest request = new ProcessRoutersRequest();
+		request.setDstInstances(dstInstances);
+		Function<ProcessRoutersRequest, ProcessRoutersResponse> router = processRoutersRequest -> {
+			routedCount.incrementAndGet();
+			int version = ruleVersion.get();
+			Runnable hook = whileRouting;
+			if (hook != null) {
+				whileRouting = null;
+				hook.run();
+			}
+			Thread.yield();
+			List<Instance> routed = new ArrayList<>();
+			for (int i = 0; i < version; i++) {
+				routed.add(new DefaultInstance());
+			}
+			return new ProcessRoutersResponse(new DefaultServiceInstances(new ServiceKey("ns", CALLEE), routed));
+		};
+		return cache.processRouters(CALLEE, instancesRevision, request, router);
+	}
+
+	private static List<RoutingProto.Route> rules(String... labels) {
+		RoutingProto.Source.Builder source = RoutingProto.Source.newBuilder();
+		for (String label : labels) {
+			source.putMetadata(label, ModelProto.MatchString.getDefaultInstance());
+		}
+		return Collections.singletonList(RoutingProto.Route.newBuilder().addSources(source).build());
+	}
+
+	private static ServiceInstances assembleServiceInstances() {
+		DefaultInstance instance = new DefaultInstance();
+		instance.setService(CALLEE);
+		return new DefaultServiceInstances(new ServiceKey("ns", CALLEE), Collections.singletonList(instance));
+	}
+}
@@ -18,6 +18,7 @@
 package com.tencent.cloud.polaris.router;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import com.tencent.cloud.common.metadata.MetadataContext;
@@ -34,7 +35,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import reactor.core.publisher.Flux;
 
 import org.springframework.cloud.client.ServiceInstance;
 
@@ -59,7 +59,7 @@ public class RouterUtilsTest {
 
 	@Test
 	public void testTransferEmptyInstances() {
-		ServiceInstances serviceInstances = RouterUtils.transferServersToServiceInstances(Flux.empty(), new PolarisInstanceTransformer());
+		ServiceInstances serviceInstances = RouterUtils.transferServersToServiceInstances(Collections.emptyList(), new PolarisInstanceTransformer());
 		assertThat(serviceInstances.getInstances()).isNotNull();
 		assertThat(serviceInstances.getInstances()).isEmpty();
 	}
@@ -89,7 +89,7 @@ public class RouterUtilsTest {
 				instances.add(new PolarisServiceInstance(instance));
 			}
 
-			ServiceInstances serviceInstances = RouterUtils.transferServersToServiceInstances(Flux.just(instances), new PolarisInstanceTransformer());
+			ServiceInstances serviceInstances = RouterUtils.transferServersToServiceInstances(instances, new PolarisInstanceTransformer());
 
 			assertThat(serviceInstances.getInstances()).isNotNull();
 			assertThat(serviceInstances.getInstances().size()).isEqualTo(instanceSize);
@@ -20,6 +20,8 @@ package com.tencent.cloud.polaris.router.config;
 import com.tencent.cloud.common.metadata.config.MetadataAutoConfiguration;
 import com.tencent.cloud.common.util.ApplicationContextAwareUtils;
 import com.tencent.cloud.polaris.context.config.PolarisContextAutoConfiguration;
+import com.tencent.cloud.polaris.router.RouterDiagnostics;
+import com.tencent.cloud.polaris.router.RouterResultCache;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.autoconfigure.AutoConfigurations;
@@ -55,6 +57,20 @@ public class RouterAutoConfigurationTests {
 		});
 	}
 
+	@Test
+	public void testRouterResultCache() {
+		contextRunner.run(context -> assertThat(context).doesNotHaveBean(RouterResultCache.class));
+		contextRunner.withPropertyValues("spring.cloud.polaris.router.result-cache.enabled=true")
+				.run(context -> assertThat(context).hasSingleBean(RouterResultCache.class));
+	}
+
+	@Test
+	public void testRouterDiagnostics() {
+		contextRunner.run(context -> assertThat(context).doesNotHaveBean(RouterDiagnostics.class));
+		contextRunner.withPropertyValues("spring.cloud.polaris.router.diagnostics.enabled=true")
+				.run(context -> assertThat(context).hasSingleBean(RouterDiagnostics.class));
+	}
+
 	@Configuration
 	static class TestRestTemplatesConfiguration {
 		@Bean
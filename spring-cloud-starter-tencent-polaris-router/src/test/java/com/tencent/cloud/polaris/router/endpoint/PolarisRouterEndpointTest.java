@@ -17,6 +17,8 @@
 
 package com.tencent.cloud.polaris.router.endpoint;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -24,6 +26,8 @@ import java.util.Map;
 
 import com.tencent.cloud.common.util.ApplicationContextAwareUtils;
 import com.tencent.cloud.polaris.context.ServiceRuleManager;
+import com.tencent.cloud.polaris.router.RouterDiagnostics;
+import com.tencent.cloud.polaris.router.RouterResultCache;
 import com.tencent.polaris.specification.api.v1.model.ModelProto;
 import com.tencent.polaris.specification.api.v1.traffic.manage.RoutingProto;
 import org.assertj.core.util.Lists;
@@ -115,4 +119,39 @@ public class PolarisRouterEndpointTest {
 		assertThat(actuator.get("routerRules")).isNotNull();
 		assertThat(((List<?>) actuator.get("routerRules")).size()).isEqualTo(0);
 	}
+
+	@Test
+	public void testResultCache() {
+		assertThat(polarisRouterEndpoint.stats().get("resultCache")).isEqualTo(
+				Collections.singletonMap("enabled", false));
+
+		PolarisRouterEndpoint endpoint = new PolarisRouterEndpoint(serviceRuleManager,
+				new RouterResultCache(serviceRuleManager, 10, Duration.ofSeconds(10)));
+		Map<?, ?> resultCache = (Map<?, ?>) endpoint.stats().get("resultCache");
+		assertThat(resultCache.get("enabled")).isEqualTo(true);
+		assertThat(resultCache.get("size")).isEqualTo(0);
+		assertThat(resultCache.get("maxSize")).isEqualTo(10);
+		assertThat(resultCache.get("hitRate")).isEqualTo(0.0);
+	}
+
+	@Test
+	public void testDiagnostics() {
+		assertThat(polarisRouterEndpoint.stats().get("diagnostics")).isEqualTo(
+				Collections.singletonMap("enabled", false));
+
+		RouterDiagnostics routerDiagnostics = new RouterDiagnostics(10, 1.0);
+		routerDiagnostics.getStage(RouterDiagnostics.ROUTE).record(1000L);
+		routerDiagnostics.recordDecision(testDestService, 3, 1, 1000L);
+		PolarisRouterEndpoint endpoint = new PolarisRouterEndpoint(serviceRuleManager, null, routerDiagnostics);
+		Map<?, ?> diagnostics = (Map<?, ?>) endpoint.stats().get("diagnostics");
+		assertThat(diagnostics.get("enabled")).isEqualTo(true);
+		assertThat(diagnostics.get("maxDecisions")).isEqualTo(10);
+		assertThat((List<?>) diagnostics.get("stages")).hasSize(1);
+		assertThat((List<?>) diagnostics.get("decisions")).hasSize(1);
+
+		endpoint.reset();
+		diagnostics = (Map<?, ?>) endpoint.stats().get("diagnostics");
+		assertThat((List<?>) diagnostics.get("decisions")).isEmpty();
+		assertThat(routerDiagnostics.getStages().get(0)).containsEntry("count", 0L);
+	}
 }
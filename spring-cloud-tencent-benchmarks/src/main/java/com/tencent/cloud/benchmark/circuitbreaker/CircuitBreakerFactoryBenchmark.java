@@ -0,0 +1,98 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark.circuitbreaker;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.benchmark.support.BenchmarkInstances;
+import com.tencent.cloud.benchmark.support.MockPolarisServer;
+import com.tencent.cloud.polaris.circuitbreaker.PolarisCircuitBreakerFactory;
+import com.tencent.cloud.polaris.circuitbreaker.config.PolarisCircuitBreakerProperties;
+import com.tencent.polaris.circuitbreak.factory.CircuitBreakAPIFactory;
+import com.tencent.polaris.factory.api.DiscoveryAPIFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.cloud.client.circuitbreaker.CircuitBreaker;
+
+/**
+ * Cost of {@link PolarisCircuitBreakerFactory#create(String)}, which runs for every call decorated by a circuit breaker.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dspring.cloud.polaris.namespace=" + BenchmarkInstances.NAMESPACE,
+		"-Dspring.cloud.polaris.service=" + BenchmarkInstances.CALLER})
+public class CircuitBreakerFactoryBenchmark {
+
+	/**
+	 * Count of distinct circuit breaker ids, the calls of one id reuse its configuration.
+	 */
+	@Param({"1", "100"})
+	private int idCount;
+
+	private MockPolarisServer server;
+
+	private PolarisCircuitBreakerFactory factory;
+
+	private String[] ids;
+
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		server = MockPolarisServer.start();
+		factory = new PolarisCircuitBreakerFactory(
+				CircuitBreakAPIFactory.createCircuitBreakAPIByContext(server.getSdkContext()),
+				DiscoveryAPIFactory.createConsumerAPIByContext(server.getSdkContext()),
+				new PolarisCircuitBreakerProperties());
+		ids = new String[idCount];
+		for (int i = 0; i < idCount; i++) {
+			ids[i] = BenchmarkInstances.NAMESPACE + "#" + BenchmarkInstances.SERVICE + "#/echo/" + i + "#http#GET";
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		factory.destroy();
+		server.close();
+	}
+
+	@Benchmark
+	public CircuitBreaker create() {
+		String id = ids[next];
+		next = (next + 1) % ids.length;
+		return factory.create(id);
+	}
+}
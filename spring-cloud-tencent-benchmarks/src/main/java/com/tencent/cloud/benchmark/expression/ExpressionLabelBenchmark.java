@@ -0,0 +1,169 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark.expression;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.common.util.expresstion.ExpressionLabelUtils;
+import com.tencent.cloud.common.util.expresstion.ServletExpressionLabelUtils;
+import com.tencent.cloud.common.util.expresstion.SpringWebExpressionLabelUtils;
+import org.apache.commons.lang.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.http.HttpCookie;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.MockCookie;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+/**
+ * Per-request cost of resolving N expression labels.
+ * <p>
+ * {@code legacyServlet} parses every label expression and the query string or cookies once per label as
+ * {@link ServletExpressionLabelUtils} used to, the other benchmarks use compiled extractors on a new request.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpressionLabelBenchmark {
+
+	@Param({"5", "10", "20"})
+	private int labelCount;
+
+	private Set<String> labelKeys;
+
+	private MockHttpServletRequest servletRequest;
+
+	private MockServerHttpRequest serverHttpRequest;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		labelKeys = new HashSet<>();
+		StringBuilder queryString = new StringBuilder("page=1&size=20");
+		List<MockCookie> cookies = new ArrayList<>();
+		MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest.get("http://callee/users?page=1&size=20");
+		servletRequest = new MockHttpServletRequest("GET", "/users");
+		for (int i = 0; i < labelCount; i++) {
+			switch (i % 4) {
+			case 0:
+				labelKeys.add("$query.q" + i);
+				queryString.append("&q").append(i).append("=v").append(i);
+				builder.queryParam("q" + i, "v" + i);
+				break;
+			case 1:
+				labelKeys.add("${http.cookie.c" + i + "}");
+				cookies.add(new MockCookie("c" + i, "v" + i));
+				builder.cookie(new HttpCookie("c" + i, "v" + i));
+				break;
+			case 2:
+				labelKeys.add("$header.h" + i);
+				servletRequest.addHeader("h" + i, "v" + i);
+				builder.header("h" + i, "v" + i);
+				break;
+			default:
+				// labels absent in the request.
+				labelKeys.add("${http.query.missing" + i + "}");
+				break;
+			}
+		}
+		labelKeys.add("$method");
+		labelKeys.add("${http.uri}");
+		servletRequest.setQueryString(queryString.toString());
+		servletRequest.setCookies(cookies.toArray(new MockCookie[0]));
+		serverHttpRequest = builder.build();
+	}
+
+	@Benchmark
+	public Map<String, String> legacyServlet() {
+		return legacyResolve(servletRequest, labelKeys);
+	}
+
+	@Benchmark
+	public Map<String, String> compiledServlet() {
+		// a new request every time, the view of the previous one is not reused.
+		servletRequest.clearAttributes();
+		return ServletExpressionLabelUtils.resolve(servletRequest, labelKeys);
+	}
+
+	@Benchmark
+	public Map<String, String> compiledServerWebExchange() {
+		return SpringWebExpressionLabelUtils.resolve(MockServerWebExchange.from(serverHttpRequest), labelKeys);
+	}
+
+	/**
+	 * Label resolution before compiled extractors.
+	 */
+	private static Map<String, String> legacyResolve(MockHttpServletRequest request, Set<String> labelKeys) {
+		Map<String, String> labels = new HashMap<>();
+		for (String labelKey : labelKeys) {
+			if (!ExpressionLabelUtils.isExpressionLabel(labelKey)) {
+				continue;
+			}
+			if (ExpressionLabelUtils.isHeaderLabel(labelKey)) {
+				String headerKey = ExpressionLabelUtils.parseHeaderKey(labelKey);
+				if (StringUtils.isBlank(headerKey)) {
+					continue;
+				}
+				labels.put(labelKey, request.getHeader(headerKey));
+			}
+			else if (ExpressionLabelUtils.isQueryLabel(labelKey)) {
+				String queryKey = ExpressionLabelUtils.parseQueryKey(labelKey);
+				if (StringUtils.isBlank(queryKey)) {
+					continue;
+				}
+				labels.put(labelKey, ExpressionLabelUtils.getQueryValue(request.getQueryString(), queryKey));
+			}
+			else if (ExpressionLabelUtils.isCookieLabel(labelKey)) {
+				String cookieKey = ExpressionLabelUtils.parseCookieKey(labelKey);
+				if (StringUtils.isBlank(cookieKey)) {
+					continue;
+				}
+				labels.put(labelKey, ServletExpressionLabelUtils.getCookieValue(request.getCookies(), cookieKey));
+			}
+			else if (ExpressionLabelUtils.isMethodLabel(labelKey)) {
+				labels.put(labelKey, request.getMethod());
+			}
+			else if (ExpressionLabelUtils.isUriLabel(labelKey)) {
+				labels.put(labelKey, request.getRequestURI());
+			}
+		}
+		return labels;
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark.loadbalancer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.benchmark.support.BenchmarkInstances;
+import com.tencent.cloud.benchmark.support.MockPolarisServer;
+import com.tencent.cloud.polaris.loadbalancer.AbstractPolarisLoadBalancer;
+import com.tencent.cloud.polaris.loadbalancer.PolarisRingHashLoadBalancer;
+import com.tencent.cloud.polaris.loadbalancer.PolarisWeightedRandomLoadBalancer;
+import com.tencent.cloud.polaris.loadbalancer.PolarisWeightedRoundRobinLoadBalancer;
+import com.tencent.polaris.factory.api.RouterAPIFactory;
+import com.tencent.polaris.router.api.core.RouterAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+/**
+ * Cost of {@link AbstractPolarisLoadBalancer#choose(Request)} of the Polaris load balancers.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dspring.cloud.polaris.namespace=" + BenchmarkInstances.NAMESPACE,
+		"-Dspring.cloud.polaris.service=" + BenchmarkInstances.CALLER})
+public class LoadBalancerBenchmark {
+
+	@Param({"10", "100", "1000"})
+	private int instanceCount;
+
+	@Param({"weightedRandom", "weightedRoundRobin", "ringHash"})
+	private String strategy;
+
+	private final Request<?> request = new DefaultRequest<>();
+
+	private MockPolarisServer server;
+
+	private AbstractPolarisLoadBalancer loadBalancer;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		server = MockPolarisServer.start();
+		RouterAPI routerAPI = RouterAPIFactory.createRouterAPIByContext(server.getSdkContext());
+		List<ServiceInstance> instances = BenchmarkInstances.create(instanceCount);
+		ObjectProvider<ServiceInstanceListSupplier> supplierProvider = ServiceInstanceListSuppliers
+				.toProvider(BenchmarkInstances.SERVICE, instances.toArray(new ServiceInstance[0]));
+		switch (strategy) {
+		case "weightedRoundRobin":
+			loadBalancer = new PolarisWeightedRoundRobinLoadBalancer(BenchmarkInstances.SERVICE, supplierProvider, routerAPI);
+			break;
+		case "ringHash":
+			loadBalancer = new PolarisRingHashLoadBalancer(BenchmarkInstances.SERVICE, supplierProvider, routerAPI);
+			break;
+		default:
+			loadBalancer = new PolarisWeightedRandomLoadBalancer(BenchmarkInstances.SERVICE, supplierProvider, routerAPI);
+			break;
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		server.close();
+	}
+
+	@Benchmark
+	public Response<ServiceInstance> choose() {
+		return loadBalancer.choose(request).block();
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark.metadata;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.common.util.JacksonUtils;
+import com.tencent.cloud.common.util.UrlUtils;
+import com.tencent.cloud.metadata.core.DecodeTransferMetadataReactiveFilter;
+import com.tencent.cloud.metadata.core.DecodeTransferMetadataServletFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+
+import static com.tencent.cloud.common.constant.MetadataConstant.HeaderName.APPLICATION_METADATA;
+import static com.tencent.cloud.common.constant.MetadataConstant.HeaderName.CUSTOM_DISPOSABLE_METADATA;
+import static com.tencent.cloud.common.constant.MetadataConstant.HeaderName.CUSTOM_METADATA;
+
+/**
+ * Cost of decoding the metadata transfer headers of one inbound request by the decode filters.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecodeTransferMetadataBenchmark {
+
+	private static final FilterChain SERVLET_CHAIN = (request, response) -> {
+	};
+
+	private static final WebFilterChain REACTIVE_CHAIN = exchange -> Mono.empty();
+
+	@Param({"5", "20", "60"})
+	private int metadataSize;
+
+	private final DecodeTransferMetadataServletFilter servletFilter = new DecodeTransferMetadataServletFilter();
+
+	private final DecodeTransferMetadataReactiveFilter reactiveFilter = new DecodeTransferMetadataReactiveFilter();
+
+	private MockHttpServletRequest servletRequest;
+
+	private final MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+	private MockServerHttpRequest serverHttpRequest;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Map<String, String> transitive = new HashMap<>();
+		Map<String, String> disposable = new HashMap<>();
+		Map<String, String> application = new HashMap<>();
+		for (int i = 0; i < metadataSize; i++) {
+			transitive.put("transitive-key-" + i, "transitive-value-" + i);
+			application.put("application-key-" + i, "application-value-" + i);
+			if (i % 4 == 0) {
+				disposable.put("disposable-key-" + i, "disposable-value-" + i);
+			}
+		}
+		String transitiveHeader = UrlUtils.encode(JacksonUtils.serialize2Json(transitive));
+		String disposableHeader = UrlUtils.encode(JacksonUtils.serialize2Json(disposable));
+		String applicationHeader = UrlUtils.encode(JacksonUtils.serialize2Json(application));
+
+		servletRequest = new MockHttpServletRequest("GET", "/echo");
+		servletRequest.addHeader(CUSTOM_METADATA, transitiveHeader);
+		servletRequest.addHeader(CUSTOM_DISPOSABLE_METADATA, disposableHeader);
+		servletRequest.addHeader(APPLICATION_METADATA, applicationHeader);
+
+		serverHttpRequest = MockServerHttpRequest.get("http://callee/echo")
+				.header(CUSTOM_METADATA, transitiveHeader)
+				.header(CUSTOM_DISPOSABLE_METADATA, disposableHeader)
+				.header(APPLICATION_METADATA, applicationHeader)
+				.build();
+	}
+
+	@Benchmark
+	public void servletFilter() throws ServletException, IOException {
+		// a new request every time, otherwise the filter is skipped as already applied.
+		servletRequest.clearAttributes();
+		servletFilter.doFilter(servletRequest, servletResponse, SERVLET_CHAIN);
+	}
+
+	@Benchmark
+	public void reactiveFilter() {
+		reactiveFilter.filter(MockServerWebExchange.from(serverHttpRequest), REACTIVE_CHAIN).block();
+	}
+}
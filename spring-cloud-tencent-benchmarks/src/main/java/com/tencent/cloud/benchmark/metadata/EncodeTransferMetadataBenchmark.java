@@ -0,0 +1,124 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark.metadata;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.common.metadata.MetadataContextHolder;
+import com.tencent.cloud.common.util.JacksonUtils;
+import com.tencent.cloud.common.util.UrlUtils;
+import com.tencent.cloud.metadata.core.EncodeTransferMedataRestTemplateEnhancedPlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+import static com.tencent.cloud.common.constant.MetadataConstant.HeaderName.APPLICATION_METADATA;
+import static com.tencent.cloud.common.constant.MetadataConstant.HeaderName.CUSTOM_DISPOSABLE_METADATA;
+import static com.tencent.cloud.common.constant.MetadataConstant.HeaderName.CUSTOM_METADATA;
+
+/**
+ * Cost of encoding the metadata transfer headers of one outbound call.
+ * <p>
+ * {@code legacy} serializes and url-encodes the metadata on every call as the encode plugins used to,
+ * {@code plugin} runs {@link EncodeTransferMedataRestTemplateEnhancedPlugin} with the cached encoded headers.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncodeTransferMetadataBenchmark {
+
+	@Param({"5", "20", "60"})
+	private int metadataSize;
+
+	private final EncodeTransferMedataRestTemplateEnhancedPlugin plugin = new EncodeTransferMedataRestTemplateEnhancedPlugin();
+
+	private MetadataContext metadataContext;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		metadataContext = new MetadataContext();
+		Map<String, String> transitive = new HashMap<>();
+		Map<String, String> disposable = new HashMap<>();
+		Map<String, String> application = new HashMap<>();
+		for (int i = 0; i < metadataSize; i++) {
+			transitive.put("transitive-key-" + i, "transitive-value-" + i);
+			application.put("application-key-" + i, "application-value-" + i);
+			if (i % 4 == 0) {
+				disposable.put("disposable-key-" + i, "disposable-value-" + i);
+			}
+		}
+		metadataContext.setTransitiveMetadata(transitive);
+		metadataContext.setDisposableMetadata(disposable);
+		metadataContext.putFragmentContext(MetadataContext.FRAGMENT_APPLICATION, application);
+		MetadataContextHolder.set(metadataContext);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		MetadataContextHolder.remove();
+	}
+
+	@Benchmark
+	public HttpHeaders legacy() {
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://callee/echo"));
+		MetadataContext context = MetadataContextHolder.get();
+		setLegacyHeader(request.getHeaders(), context.getDisposableMetadata(), CUSTOM_DISPOSABLE_METADATA);
+		setLegacyHeader(request.getHeaders(), context.getCustomMetadata(), CUSTOM_METADATA);
+		setLegacyHeader(request.getHeaders(), context.getApplicationMetadata(), APPLICATION_METADATA);
+		return request.getHeaders();
+	}
+
+	@Benchmark
+	public HttpHeaders plugin() throws Throwable {
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://callee/echo"));
+		EnhancedPluginContext context = new EnhancedPluginContext();
+		context.setOriginRequest(request);
+		plugin.run(context);
+		return request.getHeaders();
+	}
+
+	private static void setLegacyHeader(HttpHeaders headers, Map<String, String> metadata, String headerName) {
+		if (!metadata.isEmpty()) {
+			headers.set(headerName, UrlUtils.encode(JacksonUtils.serialize2Json(metadata)));
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark.metadata;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.common.metadata.MetadataContextHolder;
+import com.tencent.cloud.common.metadata.StaticMetadataManager;
+import com.tencent.cloud.common.metadata.config.MetadataLocalProperties;
+import com.tencent.cloud.common.util.ApplicationContextAwareUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.context.support.StaticApplicationContext;
+
+/**
+ * Cost of creating the metadata context of one inbound request.
+ * <p>
+ * {@code create} creates the context with the static metadata of the application,
+ * {@code init} also puts the upstream metadata into it as the decode filters do.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetadataContextBenchmark {
+
+	@Param({"5", "20", "60"})
+	private int metadataSize;
+
+	private Map<String, String> transitive;
+
+	private Map<String, String> disposable;
+
+	private Map<String, String> application;
+
+	private StaticApplicationContext applicationContext;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		transitive = new HashMap<>();
+		disposable = new HashMap<>();
+		application = new HashMap<>();
+		Map<String, String> content = new HashMap<>();
+		for (int i = 0; i < metadataSize; i++) {
+			transitive.put("transitive-key-" + i, "transitive-value-" + i);
+			application.put("application-key-" + i, "application-value-" + i);
+			content.put("static-key-" + i, "static-value-" + i);
+			if (i % 4 == 0) {
+				disposable.put("disposable-key-" + i, "disposable-value-" + i);
+			}
+		}
+
+		MetadataLocalProperties metadataLocalProperties = new MetadataLocalProperties();
+		metadataLocalProperties.setContent(content);
+		metadataLocalProperties.setTransitive(Collections.singletonList("static-key-0"));
+		applicationContext = new StaticApplicationContext();
+		applicationContext.getBeanFactory().registerSingleton("staticMetadataManager",
+				new StaticMetadataManager(metadataLocalProperties, null));
+		applicationContext.refresh();
+		new ApplicationContextAwareUtils().setApplicationContext(applicationContext);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		MetadataContextHolder.remove();
+		applicationContext.close();
+	}
+
+	@Benchmark
+	public MetadataContext create() {
+		MetadataContextHolder.remove();
+		return MetadataContextHolder.get();
+	}
+
+	@Benchmark
+	public MetadataContext init() {
+		MetadataContextHolder.remove();
+		MetadataContextHolder.init(transitive, disposable, application, null);
+		return MetadataContextHolder.get();
+	}
+}
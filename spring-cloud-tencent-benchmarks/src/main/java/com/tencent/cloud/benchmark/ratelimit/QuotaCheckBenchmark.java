@@ -0,0 +1,80 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark.ratelimit;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.benchmark.support.BenchmarkInstances;
+import com.tencent.cloud.benchmark.support.MockPolarisServer;
+import com.tencent.cloud.common.metadata.MetadataContextHolder;
+import com.tencent.cloud.polaris.ratelimit.utils.QuotaCheckUtils;
+import com.tencent.polaris.api.pojo.ServiceKey;
+import com.tencent.polaris.ratelimit.api.core.LimitAPI;
+import com.tencent.polaris.ratelimit.api.rpc.QuotaResponse;
+import com.tencent.polaris.ratelimit.factory.LimitAPIFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@link QuotaCheckUtils#getQuota} of one inbound request, for a service without rate limit rules.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dspring.cloud.polaris.namespace=" + BenchmarkInstances.NAMESPACE,
+		"-Dspring.cloud.polaris.service=" + BenchmarkInstances.CALLER})
+public class QuotaCheckBenchmark {
+
+	private MockPolarisServer server;
+
+	private LimitAPI limitAPI;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		server = MockPolarisServer.start();
+		server.getNamingServer().getNamingService()
+				.addService(new ServiceKey(BenchmarkInstances.NAMESPACE, BenchmarkInstances.SERVICE));
+		limitAPI = LimitAPIFactory.createLimitAPIByContext(server.getSdkContext());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		MetadataContextHolder.remove();
+		server.close();
+	}
+
+	@Benchmark
+	public QuotaResponse getQuota() {
+		return QuotaCheckUtils.getQuota(limitAPI, BenchmarkInstances.NAMESPACE, BenchmarkInstances.SERVICE, 1, "/echo");
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark.router;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.benchmark.support.BenchmarkInstances;
+import com.tencent.cloud.common.pojo.PolarisServiceInstance;
+import com.tencent.cloud.common.pojo.PolarisServiceInstanceList;
+import com.tencent.cloud.polaris.router.RouterUtils;
+import com.tencent.polaris.api.pojo.Instance;
+import com.tencent.polaris.api.pojo.ServiceInstances;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+/**
+ * Cost of handing the routed instances of one call to the load balancer, by wrapping them again and converting them
+ * back, or through a {@link PolarisServiceInstanceList} of the cached wrappers.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutedInstancesBenchmark {
+
+	@Param({"200"})
+	private int instanceCount;
+
+	private final Map<Instance, ServiceInstance> wrappers = new IdentityHashMap<>();
+
+	private List<Instance> instances;
+
+	@Setup
+	public void setUp() {
+		instances = new ArrayList<>(instanceCount);
+		for (ServiceInstance server : BenchmarkInstances.create(instanceCount)) {
+			Instance instance = ((PolarisServiceInstance) server).getPolarisInstance();
+			instances.add(instance);
+			wrappers.put(instance, new PolarisServiceInstance(instance));
+		}
+	}
+
+	@Benchmark
+	public ServiceInstances rewrap() {
+		ServiceInstances routed = route();
+		List<ServiceInstance> servers = new ArrayList<>(routed.getInstances().size());
+		routed.getInstances().forEach(instance -> servers.add(new PolarisServiceInstance(instance)));
+		List<Instance> polarisInstances = new ArrayList<>(servers.size());
+		servers.forEach(server -> polarisInstances.add(((PolarisServiceInstance) server).getPolarisInstance()));
+		return RouterUtils.buildServiceInstances(polarisInstances);
+	}
+
+	@Benchmark
+	public ServiceInstances reuse() {
+		List<ServiceInstance> servers = new PolarisServiceInstanceList(route(), wrappers::get);
+		return ((PolarisServiceInstanceList) servers).getServiceInstances();
+	}
+
+	/**
+	 * Routed instances, as the router returns them for half of the instances.
+	 */
+	private ServiceInstances route() {
+		return RouterUtils.buildServiceInstances(instances.subList(0, instances.size() / 2));
+	}
+}
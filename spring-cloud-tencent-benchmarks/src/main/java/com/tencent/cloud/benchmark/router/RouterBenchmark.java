@@ -0,0 +1,134 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark.router;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.benchmark.support.BenchmarkInstances;
+import com.tencent.cloud.benchmark.support.MockPolarisServer;
+import com.tencent.cloud.common.constant.RouterConstant;
+import com.tencent.cloud.common.util.JacksonUtils;
+import com.tencent.cloud.common.util.UrlUtils;
+import com.tencent.cloud.polaris.router.PolarisRouterServiceInstanceListSupplier;
+import com.tencent.cloud.polaris.router.RouterDiagnostics;
+import com.tencent.cloud.polaris.router.config.properties.PolarisMetadataRouterProperties;
+import com.tencent.cloud.polaris.router.config.properties.PolarisNearByRouterProperties;
+import com.tencent.cloud.polaris.router.config.properties.PolarisRuleBasedRouterProperties;
+import com.tencent.cloud.polaris.router.interceptor.MetadataRouterRequestInterceptor;
+import com.tencent.cloud.polaris.router.interceptor.NearbyRouterRequestInterceptor;
+import com.tencent.cloud.polaris.router.interceptor.RuleBasedRouterRequestInterceptor;
+import com.tencent.cloud.polaris.router.spi.RouterRequestInterceptor;
+import com.tencent.cloud.rpc.enhancement.transformer.PolarisInstanceTransformer;
+import com.tencent.polaris.api.pojo.ServiceKey;
+import com.tencent.polaris.factory.api.RouterAPIFactory;
+import com.tencent.polaris.router.api.core.RouterAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.LinkedMultiValueMap;
+
+/**
+ * Cost of routing one call by {@link PolarisRouterServiceInstanceListSupplier}, that is building the router context
+ * from the label header and running the router chain in {@code doRouter}, with and without {@link RouterDiagnostics}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dspring.cloud.polaris.namespace=" + BenchmarkInstances.NAMESPACE,
+		"-Dspring.cloud.polaris.service=" + BenchmarkInstances.CALLER})
+public class RouterBenchmark {
+
+	@Param({"10", "100", "1000"})
+	private int instanceCount;
+
+	@Param({"false", "true"})
+	private boolean diagnostics;
+
+	private MockPolarisServer server;
+
+	private PolarisRouterServiceInstanceListSupplier supplier;
+
+	private Request<RequestDataContext> request;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		server = MockPolarisServer.start();
+		server.getNamingServer().getNamingService()
+				.addService(new ServiceKey(BenchmarkInstances.NAMESPACE, BenchmarkInstances.SERVICE));
+		RouterAPI routerAPI = RouterAPIFactory.createRouterAPIByContext(server.getSdkContext());
+
+		List<RouterRequestInterceptor> requestInterceptors = Arrays.asList(
+				new MetadataRouterRequestInterceptor(new PolarisMetadataRouterProperties()),
+				new NearbyRouterRequestInterceptor(new PolarisNearByRouterProperties()),
+				new RuleBasedRouterRequestInterceptor(new PolarisRuleBasedRouterProperties()));
+		List<ServiceInstance> instances = BenchmarkInstances.create(instanceCount);
+		supplier = new PolarisRouterServiceInstanceListSupplier(
+				ServiceInstanceListSuppliers.from(BenchmarkInstances.SERVICE, instances.toArray(new ServiceInstance[0])),
+				routerAPI, requestInterceptors, Collections.emptyList(), new PolarisInstanceTransformer(), null,
+				diagnostics ? new RouterDiagnostics(100, 0.01) : null);
+
+		Map<String, String> labels = new HashMap<>();
+		labels.put("${http.header.uid}", "10086");
+		labels.put("${http.query.region}", "south-china");
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(RouterConstant.ROUTER_LABEL_HEADER, UrlUtils.encode(JacksonUtils.serialize2Json(labels)));
+		RequestData requestData = new RequestData(HttpMethod.GET, URI.create("http://" + BenchmarkInstances.SERVICE + "/echo"),
+				headers, new LinkedMultiValueMap<>(), new HashMap<>());
+		request = new DefaultRequest<>(new RequestDataContext(requestData));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		server.close();
+	}
+
+	@Benchmark
+	public List<ServiceInstance> route() {
+		return supplier.get(request).blockFirst();
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark.router;
+
+import java.net.URLDecoder;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tencent.cloud.common.constant.RouterConstant;
+import com.tencent.cloud.common.util.JacksonUtils;
+import com.tencent.cloud.common.util.RequestLabelUtils;
+import com.tencent.cloud.common.util.RouterLabelHeaders;
+import com.tencent.cloud.common.util.UrlUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.http.HttpHeaders;
+
+import static com.tencent.cloud.common.constant.ContextConstant.UTF_8;
+
+/**
+ * Per-request handling of the router label header by the router, the call result reporter and the label map reader.
+ * <p>
+ * {@code legacy} decodes and deserializes the header once per reader as they used to, with a new
+ * {@link ObjectMapper} for the label map. Run with {@code -prof gc} to compare the allocations per request.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouterLabelHeaderBenchmark {
+
+	@Param({"2", "10"})
+	private int labelCount;
+
+	private HttpHeaders headers;
+
+	@Setup
+	public void setup() {
+		Map<String, String> labels = new LinkedHashMap<>();
+		for (int i = 0; i < labelCount; i++) {
+			labels.put("${http.header.label-" + i + "}", "value-" + i);
+		}
+		headers = new HttpHeaders();
+		headers.set(RouterConstant.ROUTER_LABEL_HEADER, UrlUtils.encode(JacksonUtils.serialize2Json(labels)));
+	}
+
+	@Benchmark
+	public void legacy(Blackhole blackhole) throws Exception {
+		String header = headers.getFirst(RouterConstant.ROUTER_LABEL_HEADER);
+		// router.
+		blackhole.consume(new HashMap<>(JacksonUtils.deserialize2Map(URLDecoder.decode(header, UTF_8))));
+		// call result reporter.
+		blackhole.consume(RequestLabelUtils.convertLabel(URLDecoder.decode(header, UTF_8)));
+		// label map reader.
+		blackhole.consume(new ObjectMapper().readValue(URLDecoder.decode(header, UTF_8),
+				new TypeReference<HashMap<String, String>>() { }));
+	}
+
+	@Benchmark
+	public void shared(Blackhole blackhole) {
+		blackhole.consume(RouterLabelHeaders.get(headers).getLabelMap());
+		blackhole.consume(RouterLabelHeaders.get(headers).getLabelString());
+		blackhole.consume(RouterLabelHeaders.get(headers).getLabelMap());
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark.router;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.benchmark.support.BenchmarkInstances;
+import com.tencent.cloud.common.pojo.PolarisServiceInstance;
+import com.tencent.cloud.polaris.router.RouterUtils;
+import com.tencent.cloud.rpc.enhancement.transformer.InstanceTransformer;
+import com.tencent.cloud.rpc.enhancement.transformer.PolarisInstanceTransformer;
+import com.tencent.cloud.rpc.enhancement.transformer.TransformedInstancesCache;
+import com.tencent.polaris.api.pojo.Instance;
+import com.tencent.polaris.api.pojo.ServiceInstances;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+/**
+ * Cost of transforming the server list of one call into Polaris instances, for routing then load balancing, with and
+ * without {@link TransformedInstancesCache} in the router. The servers are wrapped again on every call, as the
+ * discovery client does.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransformedInstancesBenchmark {
+
+	@Param({"10", "100", "1000"})
+	private int instanceCount;
+
+	private final InstanceTransformer instanceTransformer = new PolarisInstanceTransformer();
+
+	private final TransformedInstancesCache routerCache = new TransformedInstancesCache(instanceTransformer::transform,
+			RouterUtils::buildServiceInstances);
+
+	private List<ServiceInstance> instances;
+
+	@Setup
+	public void setUp() {
+		instances = BenchmarkInstances.create(instanceCount);
+	}
+
+	@Benchmark
+	public ServiceInstances transform() {
+		ServiceInstances serviceInstances = RouterUtils.transferServersToServiceInstances(discover(), instanceTransformer);
+		List<ServiceInstance> routed = wrap(serviceInstances);
+		return RouterUtils.buildServiceInstances(unwrap(routed));
+	}
+
+	@Benchmark
+	public ServiceInstances cached() {
+		ServiceInstances serviceInstances = routerCache.get(discover());
+		List<ServiceInstance> routed = wrap(serviceInstances);
+		return RouterUtils.buildServiceInstances(unwrap(routed));
+	}
+
+	private List<ServiceInstance> discover() {
+		List<ServiceInstance> servers = new ArrayList<>(instances.size());
+		for (ServiceInstance instance : instances) {
+			servers.add(new PolarisServiceInstance(((PolarisServiceInstance) instance).getPolarisInstance()));
+		}
+		return servers;
+	}
+
+	/**
+	 * Routed servers, as the router supplier returns them for all the instances.
+	 */
+	private static List<ServiceInstance> wrap(ServiceInstances serviceInstances) {
+		List<ServiceInstance> servers = new ArrayList<>(serviceInstances.getInstances().size());
+		serviceInstances.getInstances().forEach(instance -> servers.add(new PolarisServiceInstance(instance)));
+		return servers;
+	}
+
+	private static List<Instance> unwrap(List<ServiceInstance> servers) {
+		List<Instance> instances = new ArrayList<>(servers.size());
+		servers.forEach(server -> instances.add(((PolarisServiceInstance) server).getPolarisInstance()));
+		return instances;
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark.rpc;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.rpc.enhancement.instrument.scg.EnhancedGatewayGlobalFilter;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginRunner;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedRequestContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedResponseContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * Per-request overhead of {@link EnhancedGatewayGlobalFilter} on a load balanced route, with a plugin reading the
+ * target instance and the extra data of the context. Run with {@code -prof gc} to compare the bytes allocated per
+ * request.
+ * <p>
+ * {@code legacy} runs the plugins with the doOnSubscribe, doOnSuccess, doOnError and doFinally operators, a new
+ * target service instance per request and an eager extra data map, as {@link EnhancedGatewayGlobalFilter} used to.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnhancedGatewayGlobalFilterBenchmark {
+
+	private static final GatewayFilterChain CHAIN = exchange -> Mono.empty();
+
+	private ServerWebExchange exchange;
+
+	private EnhancedPluginRunner pluginRunner;
+
+	private EnhancedGatewayGlobalFilter filter;
+
+	@Setup
+	public void setup() {
+		exchange = MockServerWebExchange.from(MockServerHttpRequest.get("http://gateway/provider/echo"));
+		Route route = Route.async().id("provider").uri(URI.create("lb://provider")).predicate(e -> true).build();
+		exchange.getAttributes().put(GATEWAY_ROUTE_ATTR, route);
+		exchange.getAttributes().put(GATEWAY_REQUEST_URL_ATTR, URI.create("http://10.0.0.1:8080/echo"));
+		pluginRunner = new ReadingPluginRunner();
+		filter = new EnhancedGatewayGlobalFilter(pluginRunner);
+	}
+
+	@Benchmark
+	public void legacy(Blackhole blackhole) {
+		blackhole.consume(legacyFilter(exchange, CHAIN).block());
+	}
+
+	@Benchmark
+	public void current(Blackhole blackhole) {
+		blackhole.consume(filter.filter(exchange, CHAIN).block());
+	}
+
+	private Mono<Void> legacyFilter(ServerWebExchange originExchange, GatewayFilterChain chain) {
+		EnhancedPluginContext enhancedPluginContext = new EnhancedPluginContext();
+		enhancedPluginContext.getExtraData();
+		EnhancedRequestContext enhancedRequestContext = EnhancedRequestContext.builder()
+				.httpHeaders(originExchange.getRequest().getHeaders())
+				.httpMethod(originExchange.getRequest().getMethod())
+				.url(originExchange.getRequest().getURI())
+				.build();
+		enhancedPluginContext.setRequest(enhancedRequestContext);
+		enhancedPluginContext.setOriginRequest(originExchange);
+		pluginRunner.run(EnhancedPluginType.Client.PRE, enhancedPluginContext);
+		ServerWebExchange exchange = (ServerWebExchange) enhancedPluginContext.getOriginRequest();
+		enhancedPluginContext.startTiming();
+		return chain.filter(exchange)
+				.doOnSubscribe(v -> {
+					Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+					URI uri = exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
+					enhancedPluginContext.getRequest().setUrl(uri);
+					if (uri != null) {
+						if (route != null && route.getUri().getScheme().contains("lb")) {
+							DefaultServiceInstance serviceInstance = new DefaultServiceInstance();
+							serviceInstance.setServiceId(route.getUri().getHost());
+							serviceInstance.setHost(uri.getHost());
+							serviceInstance.setPort(uri.getPort());
+							enhancedPluginContext.setTargetServiceInstance(serviceInstance, null);
+						}
+						else {
+							enhancedPluginContext.setTargetServiceInstance(null, uri);
+						}
+					}
+				})
+				.doOnSuccess(v -> {
+					enhancedPluginContext.stopTiming();
+					EnhancedResponseContext enhancedResponseContext = EnhancedResponseContext.builder()
+							.httpStatus(exchange.getResponse().getRawStatusCode())
+							.httpHeaders(exchange.getResponse().getHeaders())
+							.build();
+					enhancedPluginContext.setResponse(enhancedResponseContext);
+					pluginRunner.run(EnhancedPluginType.Client.POST, enhancedPluginContext);
+				})
+				.doOnError(t -> {
+					enhancedPluginContext.stopTiming();
+					enhancedPluginContext.setThrowable(t);
+					pluginRunner.run(EnhancedPluginType.Client.EXCEPTION, enhancedPluginContext);
+				})
+				.doFinally(v -> pluginRunner.run(EnhancedPluginType.Client.FINALLY, enhancedPluginContext));
+	}
+
+	/**
+	 * Plugin runner reading the target instance and the extra data like the reporters do.
+	 */
+	private static final class ReadingPluginRunner implements EnhancedPluginRunner {
+
+		private long sum;
+
+		@Override
+		public void run(EnhancedPluginType pluginType, EnhancedPluginContext context) {
+			ServiceInstance instance = context.getTargetServiceInstance();
+			if (instance != null) {
+				sum += instance.getPort() + context.getDelayNanos();
+			}
+		}
+
+		@Override
+		public ServiceInstance getLocalServiceInstance() {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark.rpc;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.rpc.enhancement.instrument.filter.EnhancedServletFilter;
+import com.tencent.cloud.rpc.enhancement.plugin.DefaultEnhancedPluginRunner;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedRequestContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedResponseContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Per-request overhead of {@link EnhancedServletFilter} on a request with N headers, with server plugins reading two
+ * request headers and one response header.
+ * <p>
+ * {@code legacyCopy} copies all the request and response headers into the plugin context as
+ * {@link EnhancedServletFilter} used to.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnhancedServletFilterBenchmark {
+
+	private static final FilterChain CHAIN = (request, response) -> {
+	};
+
+	@Param({"5", "30", "80"})
+	private int headerCount;
+
+	private DefaultEnhancedPluginRunner runner;
+
+	private EnhancedServletFilter filter;
+
+	private MockHttpServletRequest request;
+
+	private MockHttpServletResponse response;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		runner = new DefaultEnhancedPluginRunner(Arrays.asList(
+				new HeaderReadingPlugin(EnhancedPluginType.Server.PRE, "x-header-0", "x-header-" + (headerCount - 1)),
+				new HeaderReadingPlugin(EnhancedPluginType.Server.POST, "x-response-0")),
+				new BenchmarkRegistration(), null);
+		filter = new EnhancedServletFilter(runner);
+
+		request = new MockHttpServletRequest("GET", "/users");
+		request.setServerName("callee");
+		for (int i = 0; i < headerCount; i++) {
+			request.addHeader("x-header-" + i, "value-" + i);
+		}
+		response = new MockHttpServletResponse();
+		for (int i = 0; i < 5; i++) {
+			response.addHeader("x-response-" + i, "value-" + i);
+		}
+	}
+
+	@Benchmark
+	public EnhancedPluginContext legacyCopy() throws ServletException, IOException {
+		return legacyFilter();
+	}
+
+	@Benchmark
+	public MockHttpServletRequest lazyView() throws ServletException, IOException {
+		filter.doFilter(request, response, CHAIN);
+		return request;
+	}
+
+	/**
+	 * {@link EnhancedServletFilter} before lazy header views.
+	 */
+	private EnhancedPluginContext legacyFilter() throws ServletException, IOException {
+		EnhancedPluginContext enhancedPluginContext = new EnhancedPluginContext();
+
+		HttpHeaders requestHeaders = new HttpHeaders();
+		Enumeration<String> requestHeaderNames = request.getHeaderNames();
+		while (requestHeaderNames.hasMoreElements()) {
+			String requestHeaderName = requestHeaderNames.nextElement();
+			requestHeaders.addAll(requestHeaderName, Collections.list(request.getHeaders(requestHeaderName)));
+		}
+		enhancedPluginContext.setRequest(EnhancedRequestContext.builder()
+				.httpHeaders(requestHeaders)
+				.httpMethod(HttpMethod.valueOf(request.getMethod()))
+				.url(URI.create(request.getRequestURL().toString()))
+				.build());
+		enhancedPluginContext.setLocalServiceInstance(runner.getLocalServiceInstance());
+		runner.run(EnhancedPluginType.Server.PRE, enhancedPluginContext);
+
+		long startMillis = System.currentTimeMillis();
+		CHAIN.doFilter(request, response);
+		enhancedPluginContext.setDelay(System.currentTimeMillis() - startMillis);
+
+		HttpHeaders responseHeaders = new HttpHeaders();
+		Collection<String> responseHeaderNames = response.getHeaderNames();
+		for (String responseHeaderName : responseHeaderNames) {
+			responseHeaders.addAll(responseHeaderName, new ArrayList<>(response.getHeaders(responseHeaderName)));
+		}
+		enhancedPluginContext.setResponse(EnhancedResponseContext.builder()
+				.httpStatus(response.getStatus())
+				.httpHeaders(responseHeaders)
+				.build());
+		runner.run(EnhancedPluginType.Server.POST, enhancedPluginContext);
+		runner.run(EnhancedPluginType.Server.FINALLY, enhancedPluginContext);
+		return enhancedPluginContext;
+	}
+
+	/**
+	 * Plugin reading some headers, as the built-in server plugins do.
+	 */
+	private static final class HeaderReadingPlugin implements EnhancedPlugin {
+
+		private final EnhancedPluginType type;
+
+		private final String[] headerNames;
+
+		private HeaderReadingPlugin(EnhancedPluginType type, String... headerNames) {
+			this.type = type;
+			this.headerNames = headerNames;
+		}
+
+		@Override
+		public EnhancedPluginType getType() {
+			return type;
+		}
+
+		@Override
+		public void run(EnhancedPluginContext context) {
+			HttpHeaders headers = type == EnhancedPluginType.Server.PRE ?
+					context.getRequest().getHttpHeaders() : context.getResponse().getHttpHeaders();
+			for (String headerName : headerNames) {
+				context.getExtraData().put(headerName, headers.getFirst(headerName));
+			}
+		}
+
+		@Override
+		public int getOrder() {
+			return 0;
+		}
+	}
+
+	private static final class BenchmarkRegistration extends DefaultServiceInstance implements Registration {
+	}
+}
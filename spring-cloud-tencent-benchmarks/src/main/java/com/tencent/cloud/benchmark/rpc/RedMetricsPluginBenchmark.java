@@ -0,0 +1,122 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark.rpc;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedRequestContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedResponseContext;
+import com.tencent.cloud.rpc.enhancement.plugin.metrics.PathTemplates;
+import com.tencent.cloud.rpc.enhancement.plugin.metrics.RedMetrics;
+import com.tencent.cloud.rpc.enhancement.plugin.metrics.RedMetricsMeterBinder;
+import com.tencent.cloud.rpc.enhancement.plugin.metrics.RedMetricsPlugin;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+
+/**
+ * Per-call overhead of {@link RedMetricsPlugin} on the client calls of one callee with templated paths, bound to a
+ * Micrometer registry. The budget is 250 ns per call, allocating only the series key and the templated path of the
+ * paths having an id segment in the steady state. {@code recordContended} needs at least 4 cores to be meaningful.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedMetricsPluginBenchmark {
+
+	@Benchmark
+	@Threads(1)
+	public void record(CallState state) {
+		state.plugin.run(state.next());
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void recordContended(CallState state) {
+		state.plugin.run(state.next());
+	}
+
+	@State(Scope.Benchmark)
+	public static class MetricsState {
+
+		private final RedMetrics redMetrics = new RedMetrics(1000);
+
+		public MetricsState() {
+			new RedMetricsMeterBinder(redMetrics).bindTo(new SimpleMeterRegistry());
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class CallState {
+
+		/**
+		 * Number of distinct raw paths called.
+		 */
+		@Param({"1", "1000"})
+		private int pathCount;
+
+		private RedMetricsPlugin plugin;
+
+		private EnhancedPluginContext[] contexts;
+
+		private int index;
+
+		@Setup
+		public void setup(MetricsState metricsState) {
+			plugin = new RedMetricsPlugin(metricsState.redMetrics, new PathTemplates(Collections.emptyList()),
+					RedMetrics.Side.CLIENT);
+			DefaultServiceInstance instance = new DefaultServiceInstance();
+			instance.setServiceId("provider");
+			contexts = new EnhancedPluginContext[pathCount];
+			for (int i = 0; i < pathCount; i++) {
+				EnhancedPluginContext context = new EnhancedPluginContext();
+				String path = pathCount == 1 ? "/echo" : "/users/" + i;
+				context.setRequest(EnhancedRequestContext.builder().url(URI.create("http://10.0.0.1:8080" + path)).build());
+				context.setResponse(EnhancedResponseContext.builder().httpStatus(i % 10 == 0 ? 503 : 200).build());
+				context.setTargetServiceInstance(instance, null);
+				context.setDelayNanos(1_000_000L + i);
+				contexts[i] = context;
+			}
+		}
+
+		EnhancedPluginContext next() {
+			EnhancedPluginContext context = contexts[index];
+			index = index + 1 == contexts.length ? 0 : index + 1;
+			return context;
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark.rule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import com.tencent.cloud.common.rule.CompiledConditions;
+import com.tencent.cloud.common.rule.Condition;
+import com.tencent.cloud.common.rule.ConditionUtils;
+import com.tencent.cloud.common.rule.Operation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluation of a regex-heavy rule.
+ * <p>
+ * {@code uncompiled} compiles the regex on every evaluation as {@link Operation} used to,
+ * {@code conditionUtils} uses the global pattern cache and {@code compiled} the conditions compiled at rule load.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleConditionBenchmark {
+
+	@Param({"2", "8"})
+	private int regexConditionCount;
+
+	private List<Condition> conditions;
+
+	private CompiledConditions compiledConditions;
+
+	private Map<String, String> actualValues;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		conditions = new ArrayList<>();
+		actualValues = new HashMap<>();
+		for (int i = 0; i < regexConditionCount; i++) {
+			conditions.add(condition("$header.r" + i, Operation.REGEX, Collections.singletonList("^user-[0-9]{2,8}(-(gray|blue))?$")));
+			actualValues.put("$header.r" + i, "user-123456-gray");
+		}
+		List<String> regions = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			regions.add("region-" + i);
+		}
+		conditions.add(condition("$query.region", Operation.IN, regions));
+		actualValues.put("$query.region", "region-19");
+		conditions.add(condition("$method", Operation.EQUALS, Collections.singletonList("GET")));
+		actualValues.put("$method", "GET");
+		compiledConditions = CompiledConditions.compile(conditions);
+	}
+
+	@Benchmark
+	public boolean uncompiled() {
+		for (Condition condition : conditions) {
+			String actualValue = actualValues.get(condition.getKey());
+			boolean matched;
+			if (Operation.REGEX.getValue().equals(condition.getOperation())) {
+				matched = Pattern.compile(condition.getValues().get(0)).matcher(actualValue).matches();
+			}
+			else {
+				matched = Operation.match(condition.getValues(), actualValue, condition.getOperation());
+			}
+			if (!matched) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Benchmark
+	public boolean conditionUtils() {
+		return ConditionUtils.match(actualValues, conditions);
+	}
+
+	@Benchmark
+	public boolean compiled() {
+		return compiledConditions.match(actualValues);
+	}
+
+	private static Condition condition(String key, Operation operation, List<String> values) {
+		Condition condition = new Condition();
+		condition.setKey(key);
+		condition.setOperation(operation.getValue());
+		condition.setValues(values);
+		return condition;
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.tencent.cloud.common.pojo.PolarisServiceInstance;
+import com.tencent.polaris.api.pojo.DefaultInstance;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+/**
+ * Service instances of the benchmarks.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public final class BenchmarkInstances {
+
+	/**
+	 * Namespace of the caller and the callee.
+	 */
+	public static final String NAMESPACE = "benchmark";
+
+	/**
+	 * Name of the caller, the benchmarks calling Polaris run with
+	 * {@code -Dspring.cloud.polaris.namespace=NAMESPACE -Dspring.cloud.polaris.service=CALLER}.
+	 */
+	public static final String CALLER = "benchmark-caller";
+
+	/**
+	 * Name of the callee.
+	 */
+	public static final String SERVICE = "benchmark-callee";
+
+	private BenchmarkInstances() {
+	}
+
+	/**
+	 * Create healthy instances of the callee spread over 2 zones, half of them in version v1 and the others in v2.
+	 * @param count count of instances
+	 * @return instances
+	 */
+	public static List<ServiceInstance> create(int count) {
+		List<ServiceInstance> instances = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			DefaultInstance instance = new DefaultInstance();
+			instance.setId("instance-" + i);
+			instance.setNamespace(NAMESPACE);
+			instance.setService(SERVICE);
+			instance.setHost("10.0." + (i / 250) + "." + (i % 250 + 1));
+			instance.setPort(8080);
+			instance.setProtocol("http");
+			instance.setWeight(100);
+			instance.setHealthy(true);
+			instance.setIsolated(false);
+			instance.setRegion("south-china");
+			instance.setZone("ap-guangzhou-" + (i % 2 + 1));
+			instance.setCampus("campus-" + (i % 4));
+			Map<String, String> metadata = new HashMap<>();
+			metadata.put("version", i % 2 == 0 ? "v1" : "v2");
+			metadata.put("env", "benchmark");
+			instance.setMetadata(metadata);
+			instances.add(new PolarisServiceInstance(instance));
+		}
+		return instances;
+	}
+}
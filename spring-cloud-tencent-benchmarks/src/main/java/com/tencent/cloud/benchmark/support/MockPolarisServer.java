@@ -0,0 +1,70 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.benchmark.support;
+
+import java.io.IOException;
+
+import com.tencent.polaris.api.config.Configuration;
+import com.tencent.polaris.client.api.SDKContext;
+import com.tencent.polaris.test.common.TestUtils;
+import com.tencent.polaris.test.mock.discovery.NamingServer;
+
+import static com.tencent.polaris.test.common.TestUtils.SERVER_ADDRESS_ENV;
+
+/**
+ * In-process Polaris naming server and the SDK context connected to it, so that the benchmarks run offline.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public final class MockPolarisServer implements AutoCloseable {
+
+	private final NamingServer namingServer;
+
+	private final SDKContext sdkContext;
+
+	private MockPolarisServer(NamingServer namingServer, SDKContext sdkContext) {
+		this.namingServer = namingServer;
+		this.sdkContext = sdkContext;
+	}
+
+	/**
+	 * Start a naming server on a random port and create the SDK context.
+	 * @return started server
+	 * @throws IOException if the naming server fails to start
+	 */
+	public static MockPolarisServer start() throws IOException {
+		NamingServer namingServer = NamingServer.startNamingServer(-1);
+		System.setProperty(SERVER_ADDRESS_ENV, String.format("127.0.0.1:%d", namingServer.getPort()));
+		Configuration configuration = TestUtils.configWithEnvAddress();
+		return new MockPolarisServer(namingServer, SDKContext.initContextByConfig(configuration));
+	}
+
+	public NamingServer getNamingServer() {
+		return namingServer;
+	}
+
+	public SDKContext getSdkContext() {
+		return sdkContext;
+	}
+
+	@Override
+	public void close() {
+		sdkContext.close();
+		namingServer.terminate();
+	}
+}
@@ -18,15 +18,16 @@
 package com.tencent.cloud.common.async;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.ThreadPoolExecutor;
 
 import com.tencent.cloud.plugin.threadlocal.TaskExecutorWrapper;
+import com.tencent.cloud.plugin.threadlocal.VirtualThreadTaskExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -40,34 +41,58 @@ import static com.tencent.cloud.common.metadata.CrossThreadMetadataContext.CROSS
 
 /**
  * polaris async executor for @Async .
+ * <p>
+ * Runs every task on a new virtual thread if enabled and supported, otherwise on a platform thread pool.
+ * The executor can also be injected into {@link com.tencent.cloud.common.util.PolarisCompletableFutureUtils} to run
+ * its tasks on the same threads.
  *
  * @author Haotian Zhang
  */
 @Configuration
 @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 @ConditionalOnProperty(name = "spring.cloud.tencent.async.enabled")
+@EnableConfigurationProperties(PolarisAsyncProperties.class)
 public class PolarisAsyncConfiguration implements AsyncConfigurer {
 
 	private static final Logger logger = LoggerFactory.getLogger(PolarisAsyncConfiguration.class);
 
+	private static final String THREAD_NAME_PREFIX = "polaris-async-executor-";
+
+	private final PolarisAsyncProperties polarisAsyncProperties;
+
+	public PolarisAsyncConfiguration(PolarisAsyncProperties polarisAsyncProperties) {
+		this.polarisAsyncProperties = polarisAsyncProperties;
+	}
+
 	@Primary
 	@Bean("polarisAsyncExecutor")
 	public TaskExecutor polarisAsyncExecutor() {
+		if (polarisAsyncProperties.isVirtualThreadEnabled()) {
+			if (VirtualThreadTaskExecutor.isSupported()) {
+				logger.info("Created async executor with virtual threads");
+				return TaskExecutorWrapper.ofVirtualThreads(THREAD_NAME_PREFIX,
+						CROSS_THREAD_METADATA_CONTEXT_SUPPLIER, CROSS_THREAD_METADATA_CONTEXT_CONSUMER);
+			}
+			logger.warn("Virtual threads require Java 21 or later, current is {}. Fall back to the platform thread pool.",
+					Runtime.version().feature());
+		}
+
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-		int corePoolSize = 10;
+		int corePoolSize = polarisAsyncProperties.getCorePoolSize();
 		executor.setCorePoolSize(corePoolSize);
-		int maxPoolSize = 50;
+		int maxPoolSize = polarisAsyncProperties.getMaxPoolSize();
 		executor.setMaxPoolSize(maxPoolSize);
-		int queueCapacity = 10;
+		int queueCapacity = polarisAsyncProperties.getQueueCapacity();
 		executor.setQueueCapacity(queueCapacity);
-		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
-		String threadNamePrefix = "polaris-async-executor-";
-		executor.setThreadNamePrefix(threadNamePrefix);
+		PolarisAsyncProperties.RejectionPolicy rejectionPolicy = polarisAsyncProperties.getRejectionPolicy();
+		executor.setRejectedExecutionHandler(rejectionPolicy.createHandler());
+		executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
 		executor.setWaitForTasksToCompleteOnShutdown(true);
 		executor.setAwaitTerminationSeconds(5);
 		executor.initialize();
 		TaskExecutor executorWrapper = new TaskExecutorWrapper<>(executor, CROSS_THREAD_METADATA_CONTEXT_SUPPLIER, CROSS_THREAD_METADATA_CONTEXT_CONSUMER);
-		logger.info("Created async executor with corePoolSize:{}, maxPoolSize:{}, queueCapacity:{}", corePoolSize, maxPoolSize, queueCapacity);
+		logger.info("Created async executor with corePoolSize:{}, maxPoolSize:{}, queueCapacity:{}, rejectionPolicy:{}",
+				corePoolSize, maxPoolSize, queueCapacity, rejectionPolicy);
 		return executorWrapper;
 	}
 
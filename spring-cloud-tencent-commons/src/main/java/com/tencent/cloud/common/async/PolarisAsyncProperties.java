@@ -0,0 +1,152 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.async;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties of the polaris async executor.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@ConfigurationProperties(prefix = "spring.cloud.tencent.async")
+public class PolarisAsyncProperties {
+
+	/**
+	 * Whether to run every task on a new virtual thread, requires Java 21 or later.
+	 * Falls back to the platform thread pool on earlier versions.
+	 */
+	private boolean virtualThreadEnabled = false;
+
+	/**
+	 * Core pool size of the platform thread pool.
+	 */
+	private int corePoolSize = 10;
+
+	/**
+	 * Max pool size of the platform thread pool.
+	 */
+	private int maxPoolSize = 50;
+
+	/**
+	 * Queue capacity of the platform thread pool.
+	 */
+	private int queueCapacity = 10;
+
+	/**
+	 * Policy for the tasks rejected by the platform thread pool.
+	 */
+	private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+	public boolean isVirtualThreadEnabled() {
+		return virtualThreadEnabled;
+	}
+
+	public void setVirtualThreadEnabled(boolean virtualThreadEnabled) {
+		this.virtualThreadEnabled = virtualThreadEnabled;
+	}
+
+	public int getCorePoolSize() {
+		return corePoolSize;
+	}
+
+	public void setCorePoolSize(int corePoolSize) {
+		this.corePoolSize = corePoolSize;
+	}
+
+	public int getMaxPoolSize() {
+		return maxPoolSize;
+	}
+
+	public void setMaxPoolSize(int maxPoolSize) {
+		this.maxPoolSize = maxPoolSize;
+	}
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	public RejectionPolicy getRejectionPolicy() {
+		return rejectionPolicy;
+	}
+
+	public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+		this.rejectionPolicy = rejectionPolicy;
+	}
+
+	@Override
+	public String toString() {
+		return "PolarisAsyncProperties{" +
+				"virtualThreadEnabled=" + virtualThreadEnabled +
+				", corePoolSize=" + corePoolSize +
+				", maxPoolSize=" + maxPoolSize +
+				", queueCapacity=" + queueCapacity +
+				", rejectionPolicy=" + rejectionPolicy +
+				'}';
+	}
+
+	/**
+	 * Policy for the tasks rejected by the platform thread pool.
+	 */
+	public enum RejectionPolicy {
+
+		/**
+		 * Run the task on the calling thread.
+		 */
+		CALLER_RUNS,
+
+		/**
+		 * Throw {@link java.util.concurrent.RejectedExecutionException}.
+		 */
+		ABORT,
+
+		/**
+		 * Discard the task.
+		 */
+		DISCARD,
+
+		/**
+		 * Discard the oldest queued task and retry.
+		 */
+		DISCARD_OLDEST;
+
+		/**
+		 * Create the handler of the policy.
+		 * @return rejected execution handler
+		 */
+		public RejectedExecutionHandler createHandler() {
+			switch (this) {
+			case ABORT:
+				return new ThreadPoolExecutor.AbortPolicy();
+			case DISCARD:
+				return new ThreadPoolExecutor.DiscardPolicy();
+			case DISCARD_OLDEST:
+				return new ThreadPoolExecutor.DiscardOldestPolicy();
+			default:
+				return new ThreadPoolExecutor.CallerRunsPolicy();
+			}
+		}
+	}
+}
@@ -21,6 +21,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiConsumer;
 
 import com.tencent.cloud.common.constant.MetadataConstant;
@@ -33,6 +36,7 @@ import com.tencent.polaris.metadata.core.MetadataStringValue;
 import com.tencent.polaris.metadata.core.MetadataType;
 import com.tencent.polaris.metadata.core.MetadataValue;
 import com.tencent.polaris.metadata.core.TransitiveType;
+import com.tencent.polaris.metadata.core.manager.MetadataContainerGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -81,6 +85,20 @@ public class MetadataContext extends com.tencent.polaris.metadata.core.manager.M
 	public static final String FRAGMENT_LB_METADATA = "load-balance-metadata";
 
 	private static final Logger LOG = LoggerFactory.getLogger(MetadataContext.class);
+
+	/**
+	 * name of the cached view of {@link #getCustomMetadata()}.
+	 */
+	static final String VIEW_CUSTOM = "custom";
+
+	private static final int SLOT_CUSTOM = 0;
+
+	private static final int SLOT_CALLER_CUSTOM = 1;
+
+	private static final int SLOT_APPLICATION = 2;
+
+	private static final int SLOT_CALLER_APPLICATION = 3;
+
 	/**
 	 * Namespace of local instance.
 	 */
@@ -121,12 +139,131 @@ public class MetadataContext extends com.tencent.polaris.metadata.core.manager.M
 		LOCAL_SERVICE = serviceName;
 	}
 
+	/**
+	 * Modification counters of the custom and application containers, indexed by container slot.
+	 */
+	private final AtomicLongArray containerVersions = new AtomicLongArray(4);
+
+	private final Map<String, MetadataFragmentView> fragmentViews = new ConcurrentHashMap<>();
+
+	private volatile MetadataFragmentView customMetadataView;
+
+	/**
+	 * Static metadata shared by all contexts, null if the context is not built on top of it.
+	 */
+	private final StaticMetadataLayer staticMetadataLayer;
+
+	/**
+	 * Containers handed out to callers, indexed by container slot, created on first use.
+	 */
+	private final AtomicReferenceArray<MetadataContainer> trackedContainers = new AtomicReferenceArray<>(4);
+
+	private volatile MetadataContainerGroup calleeContainerGroup;
+
+	private volatile MetadataContainerGroup callerContainerGroup;
+
 	public MetadataContext() {
+		this(null);
+	}
+
+	MetadataContext(StaticMetadataLayer staticMetadataLayer) {
 		super(MetadataConstant.POLARIS_TRANSITIVE_HEADER_PREFIX);
+		this.staticMetadataLayer = staticMetadataLayer;
+	}
+
+	/**
+	 * Custom and application containers are handed out wrapped, so that writes through them refresh the cached
+	 * fragment views, and reads fall through to the static metadata without copying it into the request. Reading
+	 * a container does not invalidate any view.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends MetadataContainer> T getMetadataContainer(MetadataType metadataType, boolean caller) {
+		int slot = containerSlot(metadataType, caller);
+		if (slot < 0 || trackedContainers == null) {
+			// may be called by the super constructor before the containers are initialized.
+			return super.getMetadataContainer(metadataType, caller);
+		}
+		return (T) getTrackedContainer(slot, metadataType, caller);
+	}
+
+	/**
+	 * The container group is read by the routers of polaris SDK. It is made of the same wrapped containers as
+	 * {@link #getMetadataContainer}, so the SDK reads the static metadata directly and its writes are tracked.
+	 */
+	@Override
+	public MetadataContainerGroup getMetadataContainerGroup(boolean caller) {
+		MetadataContainerGroup group = caller ? callerContainerGroup : calleeContainerGroup;
+		if (group == null) {
+			group = new TrackedMetadataContainerGroup(super.getMetadataContainer(MetadataType.MESSAGE, caller),
+					getMetadataContainer(MetadataType.APPLICATION, caller),
+					getMetadataContainer(MetadataType.CUSTOM, caller));
+			if (caller) {
+				callerContainerGroup = group;
+			}
+			else {
+				calleeContainerGroup = group;
+			}
+		}
+		return group;
+	}
+
+	private MetadataContainer getTrackedContainer(int slot, MetadataType metadataType, boolean caller) {
+		MetadataContainer container = trackedContainers.get(slot);
+		if (container == null) {
+			MetadataContainer staticContainer = null;
+			if (staticMetadataLayer != null && slot == SLOT_CUSTOM) {
+				staticContainer = staticMetadataLayer.getCustomContainer();
+			}
+			else if (staticMetadataLayer != null && slot == SLOT_APPLICATION) {
+				staticContainer = staticMetadataLayer.getApplicationContainer();
+			}
+			container = new TrackedMetadataContainer(super.getMetadataContainer(metadataType, caller),
+					staticContainer, getTransitivePrefix(), () -> markModified(slot));
+			if (!trackedContainers.compareAndSet(slot, null, container)) {
+				container = trackedContainers.get(slot);
+			}
+		}
+		return container;
+	}
+
+	private boolean fallsThroughToStaticLayer(int slot) {
+		return staticMetadataLayer != null && (slot == SLOT_CUSTOM || slot == SLOT_APPLICATION);
+	}
+
+	private static int containerSlot(MetadataType metadataType, boolean caller) {
+		switch (metadataType) {
+		case CUSTOM:
+			return caller ? SLOT_CALLER_CUSTOM : SLOT_CUSTOM;
+		case APPLICATION:
+			return caller ? SLOT_CALLER_APPLICATION : SLOT_APPLICATION;
+		default:
+			return -1;
+		}
+	}
+
+	private static int fragmentSlot(String fragment) {
+		switch (fragment) {
+		case FRAGMENT_UPSTREAM_DISPOSABLE:
+			return SLOT_CALLER_CUSTOM;
+		case FRAGMENT_APPLICATION:
+			return SLOT_APPLICATION;
+		case FRAGMENT_UPSTREAM_APPLICATION:
+			return SLOT_CALLER_APPLICATION;
+		default:
+			return SLOT_CUSTOM;
+		}
+	}
+
+	private void markModified(int slot) {
+		// may be called by the super constructor before the counters are initialized.
+		if (slot >= 0 && containerVersions != null) {
+			containerVersions.incrementAndGet(slot);
+		}
 	}
 
 	private Map<String, String> getMetadataAsMap(MetadataType metadataType, TransitiveType transitiveType, boolean caller) {
-		MetadataContainer metadataContainer = getMetadataContainer(metadataType, caller);
+		MetadataContainer metadataContainer = super.getMetadataContainer(metadataType, caller);
 		Map<String, String> values = new HashMap<>();
 		metadataContainer.iterateMetadataValues(new BiConsumer<String, MetadataValue>() {
 			@Override
@@ -143,14 +280,16 @@ public class MetadataContext extends com.tencent.polaris.metadata.core.manager.M
 	}
 
 	public void putMetadataAsMap(MetadataType metadataType, TransitiveType transitiveType, boolean caller, Map<String, String> values) {
-		MetadataContainer metadataContainer = getMetadataContainer(metadataType, caller);
+		MetadataContainer metadataContainer = super.getMetadataContainer(metadataType, caller);
 		for (Map.Entry<String, String> entry : values.entrySet()) {
-			metadataContainer.putMetadataStringValue(entry.getKey(), entry.getValue(), transitiveType);
+			metadataContainer.putMetadataStringValue(MetadataStringInterner.intern(entry.getKey()),
+					MetadataStringInterner.intern(entry.getValue()), transitiveType);
 		}
+		markModified(containerSlot(metadataType, caller));
 	}
 
 	private Map<String, String> getMapMetadataAsMap(MetadataType metadataType, String mapKey, TransitiveType transitiveType, boolean caller) {
-		MetadataContainer metadataContainer = getMetadataContainer(metadataType, caller);
+		MetadataContainer metadataContainer = super.getMetadataContainer(metadataType, caller);
 		Map<String, String> values = new HashMap<>();
 		MetadataValue metadataValue = metadataContainer.getMetadataValue(mapKey);
 		if (!(metadataValue instanceof MetadataMapValue)) {
@@ -173,10 +312,12 @@ public class MetadataContext extends com.tencent.polaris.metadata.core.manager.M
 
 	private void putMapMetadataAsMap(MetadataType metadataType, String mapKey,
 			TransitiveType transitiveType, boolean caller, Map<String, String> values) {
-		MetadataContainer metadataContainer = getMetadataContainer(metadataType, caller);
+		MetadataContainer metadataContainer = super.getMetadataContainer(metadataType, caller);
 		for (Map.Entry<String, String> entry : values.entrySet()) {
-			metadataContainer.putMetadataMapValue(mapKey, entry.getKey(), entry.getValue(), transitiveType);
+			metadataContainer.putMetadataMapValue(mapKey, MetadataStringInterner.intern(entry.getKey()),
+					MetadataStringInterner.intern(entry.getValue()), transitiveType);
 		}
+		markModified(containerSlot(metadataType, caller));
 	}
 
 	public Map<String, String> getDisposableMetadata() {
@@ -200,8 +341,27 @@ public class MetadataContext extends com.tencent.polaris.metadata.core.manager.M
 	}
 
 	public Map<String, String> getCustomMetadata() {
-		Map<String, String> transitiveMetadata = this.getTransitiveMetadata();
-		Map<String, String> disposableMetadata = this.getDisposableMetadata();
+		return getCustomMetadataView().getValues();
+	}
+
+	/**
+	 * Get the view of transitive metadata without the disposable metadata coming from upstream.
+	 * The same view is returned until the custom metadata container is modified.
+	 *
+	 * @return custom metadata view
+	 */
+	public MetadataFragmentView getCustomMetadataView() {
+		long version = containerVersions.get(SLOT_CUSTOM);
+		if (version == 0 && staticMetadataLayer != null) {
+			// nothing written during the request yet.
+			return staticMetadataLayer.getCustomMetadataView();
+		}
+		MetadataFragmentView view = customMetadataView;
+		if (view != null && view.getVersion() == version) {
+			return view;
+		}
+		Map<String, String> transitiveMetadata = getFragmentView(FRAGMENT_TRANSITIVE).getValues();
+		Map<String, String> disposableMetadata = getFragmentView(FRAGMENT_DISPOSABLE).getValues();
 		Map<String, String> customMetadata = new HashMap<>();
 		// Clean up one-time metadata coming from upstream .
 		transitiveMetadata.forEach((key, value) -> {
@@ -209,7 +369,9 @@ public class MetadataContext extends com.tencent.polaris.metadata.core.manager.M
 				customMetadata.put(key, value);
 			}
 		});
-		return Collections.unmodifiableMap(customMetadata);
+		view = new MetadataFragmentView(VIEW_CUSTOM, version, customMetadata);
+		customMetadataView = view;
+		return view;
 	}
 
 	public Map<String, String> getTransHeaders() {
@@ -221,7 +383,7 @@ public class MetadataContext extends com.tencent.polaris.metadata.core.manager.M
 	}
 
 	public Map<String, Object> getLoadbalancerMetadata() {
-		MetadataContainer metadataContainer = getMetadataContainer(MetadataType.APPLICATION, false);
+		MetadataContainer metadataContainer = super.getMetadataContainer(MetadataType.APPLICATION, false);
 		MetadataValue metadataValue = metadataContainer.getMetadataValue(FRAGMENT_LB_METADATA);
 		Map<String, Object> values = new HashMap<>();
 		if (metadataValue instanceof MetadataMapValue) {
@@ -240,8 +402,9 @@ public class MetadataContext extends com.tencent.polaris.metadata.core.manager.M
 	}
 
 	public void setLoadbalancer(String key, Object value) {
-		MetadataContainer metadataContainer = getMetadataContainer(MetadataType.APPLICATION, false);
+		MetadataContainer metadataContainer = super.getMetadataContainer(MetadataType.APPLICATION, false);
 		metadataContainer.putMetadataMapObjectValue(FRAGMENT_LB_METADATA, key, value);
+		markModified(SLOT_APPLICATION);
 	}
 
 	public void setUpstreamDisposableMetadata(Map<String, String> upstreamDisposableMetadata) {
@@ -256,7 +419,76 @@ public class MetadataContext extends com.tencent.polaris.metadata.core.manager.M
 		putContext(FRAGMENT_RAW_TRANSHEADERS, key, value);
 	}
 
+	/**
+	 * Get a copy of the values of the fragment, which the caller may change. Use {@link #getFragmentView}
+	 * to read the values without copying them.
+	 *
+	 * @param fragment fragment name
+	 * @return values of the fragment
+	 */
 	public Map<String, String> getFragmentContext(String fragment) {
+		return new HashMap<>(getFragmentView(fragment).getValues());
+	}
+
+	/**
+	 * Get the immutable view of the fragment. The same view is returned until the container backing
+	 * the fragment is modified, through {@link #putContext}, {@link #putFragmentContext} or a
+	 * container obtained from {@link #getMetadataContainer} or {@link #getMetadataContainerGroup}.
+	 *
+	 * @param fragment fragment name
+	 * @return view of the fragment
+	 */
+	public MetadataFragmentView getFragmentView(String fragment) {
+		// read the version before the values, so that a concurrent write never leaves a stale view behind.
+		int slot = fragmentSlot(fragment);
+		long version = containerVersions.get(slot);
+		if (version == 0 && staticMetadataLayer != null) {
+			// nothing written during the request yet, share the static view.
+			MetadataFragmentView staticView = staticMetadataLayer.getFragmentView(fragment);
+			if (staticView != null) {
+				return staticView;
+			}
+		}
+		MetadataFragmentView view = fragmentViews.get(fragment);
+		if (view != null && view.getVersion() == version) {
+			return view;
+		}
+		Map<String, String> values = readFragment(fragment);
+		if (fallsThroughToStaticLayer(slot)) {
+			mergeStaticLayer(fragment, values);
+		}
+		view = new MetadataFragmentView(fragment, version, values);
+		fragmentViews.put(fragment, view);
+		return view;
+	}
+
+	/**
+	 * Add the static values of the fragment whose keys were not written during the request.
+	 */
+	private void mergeStaticLayer(String fragment, Map<String, String> values) {
+		Map<String, String> staticValues = staticMetadataLayer.getFragmentValues(fragment);
+		if (staticValues.isEmpty()) {
+			return;
+		}
+		if (FRAGMENT_RAW_TRANSHEADERS.equals(fragment)) {
+			MetadataContainer metadataContainer = super.getMetadataContainer(MetadataType.CUSTOM, false);
+			for (Map.Entry<String, String> entry : staticValues.entrySet()) {
+				if (metadataContainer.getRawMetadataMapValue(FRAGMENT_RAW_TRANSHEADERS, entry.getKey()) == null) {
+					values.put(entry.getKey(), entry.getValue());
+				}
+			}
+			return;
+		}
+		MetadataType metadataType = FRAGMENT_APPLICATION.equals(fragment) ? MetadataType.APPLICATION : MetadataType.CUSTOM;
+		MetadataContainer metadataContainer = super.getMetadataContainer(metadataType, false);
+		for (Map.Entry<String, String> entry : staticValues.entrySet()) {
+			if (metadataContainer.getMetadataValue(entry.getKey()) == null) {
+				values.put(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	private Map<String, String> readFragment(String fragment) {
 		switch (fragment) {
 		case FRAGMENT_TRANSITIVE:
 			return getMetadataAsMap(MetadataType.CUSTOM, TransitiveType.PASS_THROUGH, false);
@@ -278,17 +510,11 @@ public class MetadataContext extends com.tencent.polaris.metadata.core.manager.M
 	}
 
 	public String getContext(String fragment, String key) {
-		Map<String, String> fragmentContext = getFragmentContext(fragment);
-		if (fragmentContext == null) {
-			return null;
-		}
-		return fragmentContext.get(key);
+		return getFragmentView(fragment).getValues().get(key);
 	}
 
 	public void putContext(String fragment, String key, String value) {
-		Map<String, String> values = new HashMap<>();
-		values.put(key, value);
-		putFragmentContext(fragment, values);
+		putFragmentContext(fragment, Collections.singletonMap(key, value));
 	}
 
 	public void putFragmentContext(String fragment, Map<String, String> context) {
@@ -17,14 +17,11 @@
 
 package com.tencent.cloud.common.metadata;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
 import com.tencent.cloud.common.util.ApplicationContextAwareUtils;
 import com.tencent.polaris.metadata.core.MessageMetadataContainer;
-import com.tencent.polaris.metadata.core.MetadataContainer;
 import com.tencent.polaris.metadata.core.MetadataProvider;
 import com.tencent.polaris.metadata.core.MetadataType;
 import com.tencent.polaris.metadata.core.TransitiveType;
@@ -32,7 +29,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.util.CollectionUtils;
-import org.springframework.util.StringUtils;
 
 import static com.tencent.cloud.common.metadata.MetadataContext.FRAGMENT_DISPOSABLE;
 import static com.tencent.cloud.common.metadata.MetadataContext.FRAGMENT_UPSTREAM_DISPOSABLE;
@@ -46,7 +42,12 @@ public final class MetadataContextHolder {
 
 	private static final Logger LOG = LoggerFactory.getLogger(MetadataContextHolder.class);
 
-	private static StaticMetadataManager staticMetadataManager;
+	/**
+	 * Set while the metadata context of the thread is read without creating it.
+	 */
+	private static final ThreadLocal<Boolean> CREATION_DISABLED = new ThreadLocal<>();
+
+	private static volatile StaticMetadataLayer staticMetadataLayer;
 
 	static {
 		com.tencent.polaris.metadata.core.manager.MetadataContextHolder.setInitializer(MetadataContextHolder::createMetadataManager);
@@ -59,47 +60,42 @@ public final class MetadataContextHolder {
 		return (MetadataContext) com.tencent.polaris.metadata.core.manager.MetadataContextHolder.getOrCreate();
 	}
 
+	/**
+	 * Get the metadata context of the thread without creating it.
+	 *
+	 * @return metadata context, or null if the thread has none
+	 */
+	public static MetadataContext getIfPresent() {
+		CREATION_DISABLED.set(Boolean.TRUE);
+		try {
+			MetadataContext metadataContext = get();
+			if (metadataContext == null) {
+				remove();
+			}
+			return metadataContext;
+		}
+		finally {
+			CREATION_DISABLED.remove();
+		}
+	}
+
 	private static MetadataContext createMetadataManager() {
-		MetadataContext metadataManager = new MetadataContext();
-		if (staticMetadataManager == null) {
+		if (CREATION_DISABLED.get() != null) {
+			return null;
+		}
+		if (staticMetadataLayer == null) {
 			if (ApplicationContextAwareUtils.getApplicationContext() != null) {
-				staticMetadataManager = ApplicationContextAwareUtils.getApplicationContext()
+				StaticMetadataManager staticMetadataManager = ApplicationContextAwareUtils.getApplicationContext()
 						.getBean(StaticMetadataManager.class);
+				// static metadata never changes, so it is resolved only once and shared by all contexts.
+				staticMetadataLayer = StaticMetadataLayer.of(staticMetadataManager);
 			}
 			else {
 				// for junit test.
-				return metadataManager;
+				return new MetadataContext();
 			}
 		}
-		// local custom metadata
-		MetadataContainer metadataContainer = metadataManager.getMetadataContainer(MetadataType.CUSTOM, false);
-		Map<String, String> mergedStaticMetadata = staticMetadataManager.getMergedStaticMetadata();
-		for (Map.Entry<String, String> entry : mergedStaticMetadata.entrySet()) {
-			metadataContainer.putMetadataStringValue(entry.getKey(), entry.getValue(), TransitiveType.NONE);
-		}
-		// local custom transitive metadata
-		Map<String, String> mergedStaticTransitiveMetadata = staticMetadataManager.getMergedStaticTransitiveMetadata();
-		for (Map.Entry<String, String> entry : mergedStaticTransitiveMetadata.entrySet()) {
-			metadataContainer.putMetadataStringValue(entry.getKey(), entry.getValue(), TransitiveType.PASS_THROUGH);
-		}
-		// local custom disposable metadata
-		Map<String, String> mergedStaticDisposableMetadata = staticMetadataManager.getMergedStaticDisposableMetadata();
-		for (Map.Entry<String, String> entry : mergedStaticDisposableMetadata.entrySet()) {
-			metadataContainer.putMetadataStringValue(entry.getKey(), entry.getValue(), TransitiveType.DISPOSABLE);
-		}
-		// local trans header
-		if (StringUtils.hasText(staticMetadataManager.getTransHeader())) {
-			String transHeader = staticMetadataManager.getTransHeader();
-			metadataContainer.putMetadataMapValue(MetadataContext.FRAGMENT_RAW_TRANSHEADERS, transHeader, "", TransitiveType.NONE);
-		}
-
-		// local application disposable metadata
-		MetadataContainer applicationMetadataContainer = metadataManager.getMetadataContainer(MetadataType.APPLICATION, false);
-		Map<String, String> mergedApplicationMetadata = staticMetadataManager.getMergedStaticMetadata();
-		for (Map.Entry<String, String> entry : mergedApplicationMetadata.entrySet()) {
-			applicationMetadataContainer.putMetadataStringValue(entry.getKey(), entry.getValue(), TransitiveType.DISPOSABLE);
-		}
-		return metadataManager;
+		return new MetadataContext(staticMetadataLayer);
 	}
 
 	/**
@@ -126,15 +122,14 @@ public final class MetadataContextHolder {
 	 * @return target disposable metadata value .
 	 */
 	public static Map<String, String> getAllDisposableMetadata(boolean upstream) {
-		Map<String, String> disposables = new HashMap<>();
 		MetadataContext context = get();
+		// the values of a fragment view are an unmodifiable snapshot, so they are not copied.
 		if (upstream) {
-			disposables.putAll(context.getFragmentContext(FRAGMENT_UPSTREAM_DISPOSABLE));
+			return context.getFragmentView(FRAGMENT_UPSTREAM_DISPOSABLE).getValues();
 		}
 		else {
-			disposables.putAll(context.getFragmentContext(FRAGMENT_DISPOSABLE));
+			return context.getFragmentView(FRAGMENT_DISPOSABLE).getValues();
 		}
-		return Collections.unmodifiableMap(disposables);
 	}
 
 	/**
@@ -157,28 +152,20 @@ public final class MetadataContextHolder {
 	public static void init(Map<String, String> dynamicTransitiveMetadata, Map<String, String> dynamicDisposableMetadata,
 			Map<String, String> dynamicApplicationMetadata, MetadataProvider callerMetadataProvider) {
 		com.tencent.polaris.metadata.core.manager.MetadataContextHolder.refresh(metadataManager -> {
+			// write through the context, so that static metadata is not copied into the containers.
+			MetadataContext metadataContext = (MetadataContext) metadataManager;
 			// caller transitive metadata to local custom transitive metadata
-			MetadataContainer metadataContainerUpstream = metadataManager.getMetadataContainer(MetadataType.CUSTOM, false);
 			if (!CollectionUtils.isEmpty(dynamicTransitiveMetadata)) {
-				for (Map.Entry<String, String> entry : dynamicTransitiveMetadata.entrySet()) {
-					metadataContainerUpstream.putMetadataStringValue(entry.getKey(), entry.getValue(), TransitiveType.PASS_THROUGH);
-				}
+				metadataContext.putMetadataAsMap(MetadataType.CUSTOM, TransitiveType.PASS_THROUGH, false, dynamicTransitiveMetadata);
 			}
 			// caller disposable metadata to caller custom disposable metadata
-			MetadataContainer metadataContainerDownstream = metadataManager.getMetadataContainer(MetadataType.CUSTOM, false);
-			MetadataContainer callerCustomMetadataContainer = metadataManager.getMetadataContainer(MetadataType.CUSTOM, true);
 			if (!CollectionUtils.isEmpty(dynamicDisposableMetadata)) {
-				for (Map.Entry<String, String> entry : dynamicDisposableMetadata.entrySet()) {
-					metadataContainerDownstream.putMetadataStringValue(entry.getKey(), entry.getValue(), TransitiveType.NONE);
-					callerCustomMetadataContainer.putMetadataStringValue(entry.getKey(), entry.getValue(), TransitiveType.DISPOSABLE);
-				}
+				metadataContext.putMetadataAsMap(MetadataType.CUSTOM, TransitiveType.NONE, false, dynamicDisposableMetadata);
+				metadataContext.putMetadataAsMap(MetadataType.CUSTOM, TransitiveType.DISPOSABLE, true, dynamicDisposableMetadata);
 			}
 			// caller application metadata to caller application disposable metadata
-			MetadataContainer applicationMetadataContainerDownstream = metadataManager.getMetadataContainer(MetadataType.APPLICATION, true);
 			if (!CollectionUtils.isEmpty(dynamicApplicationMetadata)) {
-				for (Map.Entry<String, String> entry : dynamicApplicationMetadata.entrySet()) {
-					applicationMetadataContainerDownstream.putMetadataStringValue(entry.getKey(), entry.getValue(), TransitiveType.DISPOSABLE);
-				}
+				metadataContext.putMetadataAsMap(MetadataType.APPLICATION, TransitiveType.DISPOSABLE, true, dynamicApplicationMetadata);
 			}
 
 			// caller message metadata
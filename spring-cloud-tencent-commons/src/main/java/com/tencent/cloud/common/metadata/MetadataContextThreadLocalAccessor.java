@@ -0,0 +1,58 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.metadata;
+
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * Bridges the thread local {@link MetadataContext} of {@link MetadataContextHolder} to the context propagation
+ * library, so that a Reactor {@code Context} carrying the metadata context under {@link #KEY} sets it on the
+ * threads running the pipeline.
+ * <p>
+ * Registered through {@code META-INF/services/io.micrometer.context.ThreadLocalAccessor}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class MetadataContextThreadLocalAccessor implements ThreadLocalAccessor<MetadataContext> {
+
+	/**
+	 * Key of the metadata context in the Reactor Context.
+	 */
+	public static final String KEY = "sct.metadata-context";
+
+	@Override
+	public Object key() {
+		return KEY;
+	}
+
+	@Override
+	public MetadataContext getValue() {
+		// a thread without a metadata context is left without one once restored.
+		return MetadataContextHolder.getIfPresent();
+	}
+
+	@Override
+	public void setValue(MetadataContext value) {
+		MetadataContextHolder.set(value);
+	}
+
+	@Override
+	public void setValue() {
+		MetadataContextHolder.remove();
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.metadata;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of one fragment of {@link MetadataContext}.
+ * <p>
+ * Views are cached by the context and handed out again as long as the metadata container backing
+ * the fragment has not been modified, so callers may use object identity to detect that nothing changed.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public final class MetadataFragmentView {
+
+	private final String fragment;
+
+	private final long version;
+
+	private final Map<String, String> values;
+
+	MetadataFragmentView(String fragment, long version, Map<String, String> values) {
+		this.fragment = fragment;
+		this.version = version;
+		this.values = values.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(values);
+	}
+
+	/**
+	 * Name of the fragment, for example {@link MetadataContext#FRAGMENT_TRANSITIVE}.
+	 * @return fragment name
+	 */
+	public String getFragment() {
+		return fragment;
+	}
+
+	/**
+	 * Modification counter of the backing container when this view was built.
+	 * @return version of this view
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Read-only key/value pairs of the fragment.
+	 * @return values of the fragment
+	 */
+	public Map<String, String> getValues() {
+		return values;
+	}
+
+	public boolean isEmpty() {
+		return values.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "MetadataFragmentView{" +
+				"fragment='" + fragment + '\'' +
+				", version=" + version +
+				", values=" + values +
+				'}';
+	}
+}
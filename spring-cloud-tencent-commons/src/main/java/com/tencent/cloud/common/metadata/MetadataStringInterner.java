@@ -0,0 +1,137 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.metadata;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.tencent.cloud.common.util.BoundedCache;
+
+/**
+ * Bounded global interning table of metadata keys and values.
+ * <p>
+ * Every request decodes the same few keys and values (region, zone, lane, env tags...) into new strings. Running
+ * them through the table makes the contexts of the in-flight requests share one instance of each. Strings longer
+ * than the maximum length, such as ids, are never interned, and the table evicts an entry for every string added
+ * once it reaches the maximum size, so that unique values can not grow it without limit.
+ * <p>
+ * Interning costs a lookup per string and keeps the strings alive after the requests, so it is disabled unless
+ * enabled by {@link #configure(boolean, int, int)}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public final class MetadataStringInterner {
+
+	/**
+	 * Default maximum number of interned strings.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 4096;
+
+	/**
+	 * Default maximum length of the interned strings.
+	 */
+	public static final int DEFAULT_MAX_LENGTH = 128;
+
+
+	private static final LongAdder HIT_COUNT = new LongAdder();
+
+	private static final LongAdder MISS_COUNT = new LongAdder();
+
+	private static volatile boolean enabled;
+
+	private static volatile BoundedCache<String, String> strings = new BoundedCache<>(DEFAULT_MAX_SIZE);
+
+	private static volatile int maxLength = DEFAULT_MAX_LENGTH;
+
+	private MetadataStringInterner() {
+	}
+
+	/**
+	 * Get the interned instance of the string.
+	 * @param value key or value of metadata, may be null
+	 * @return the interned instance, or the string itself if it is not interned
+	 */
+	public static String intern(String value) {
+		if (value == null || !enabled || value.length() > maxLength) {
+			return value;
+		}
+		BoundedCache<String, String> strings = MetadataStringInterner.strings;
+		String interned = strings.get(value);
+		if (interned != null) {
+			HIT_COUNT.increment();
+			return interned;
+		}
+		MISS_COUNT.increment();
+		interned = strings.putIfAbsent(value, value);
+		return interned != null ? interned : value;
+	}
+
+	/**
+	 * Configure the table, the interned strings and the statistics are reset.
+	 * @param enabled whether to intern strings
+	 * @param maxSize maximum number of interned strings
+	 * @param maxLength maximum length of the interned strings
+	 */
+	public static void configure(boolean enabled, int maxSize, int maxLength) {
+		MetadataStringInterner.enabled = enabled;
+		MetadataStringInterner.strings = new BoundedCache<>(maxSize);
+		MetadataStringInterner.maxLength = maxLength;
+		reset();
+	}
+
+	/**
+	 * Remove the interned strings and reset the statistics.
+	 */
+	public static void reset() {
+		strings.clear();
+		HIT_COUNT.reset();
+		MISS_COUNT.reset();
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	public static int size() {
+		return strings.size();
+	}
+
+	public static long getHitCount() {
+		return HIT_COUNT.sum();
+	}
+
+	public static long getMissCount() {
+		return MISS_COUNT.sum();
+	}
+
+	/**
+	 * Get the statistics of the table.
+	 * @return name to value
+	 */
+	public static Map<String, Object> getStatistics() {
+		Map<String, Object> statistics = new LinkedHashMap<>();
+		statistics.put("enabled", enabled);
+		statistics.put("size", size());
+		statistics.put("maxSize", strings.getMaxSize());
+		statistics.put("maxLength", maxLength);
+		statistics.put("hitCount", getHitCount());
+		statistics.put("missCount", getMissCount());
+		return statistics;
+	}
+}
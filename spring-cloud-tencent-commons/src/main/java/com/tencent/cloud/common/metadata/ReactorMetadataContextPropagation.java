@@ -0,0 +1,67 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.metadata;
+
+import reactor.core.publisher.Hooks;
+import reactor.util.context.Context;
+
+/**
+ * Switch of the automatic propagation of the metadata context in Reactor pipelines.
+ * <p>
+ * When enabled, Reactor restores the thread local metadata context from the Reactor Context around every operator,
+ * on whatever thread the operator runs, and restores the previous one afterwards. The reactive filters then carry
+ * the metadata context in the Reactor Context instead of leaving it on the request thread.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public final class ReactorMetadataContextPropagation {
+
+	private static volatile boolean enabled = false;
+
+	private ReactorMetadataContextPropagation() {
+	}
+
+	/**
+	 * Enable the automatic context propagation of Reactor.
+	 */
+	public static void enable() {
+		Hooks.enableAutomaticContextPropagation();
+		enabled = true;
+	}
+
+	/**
+	 * Disable the automatic context propagation of Reactor.
+	 */
+	public static void disable() {
+		Hooks.disableAutomaticContextPropagation();
+		enabled = false;
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Get the Reactor Context carrying the metadata context.
+	 * @param metadataContext metadata context of the request
+	 * @return Reactor Context
+	 */
+	public static Context context(MetadataContext metadataContext) {
+		return Context.of(MetadataContextThreadLocalAccessor.KEY, metadataContext);
+	}
+}
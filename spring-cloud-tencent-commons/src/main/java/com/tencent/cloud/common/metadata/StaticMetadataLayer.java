@@ -0,0 +1,203 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.metadata;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.tencent.cloud.common.constant.MetadataConstant;
+import com.tencent.polaris.metadata.core.MetadataContainer;
+import com.tencent.polaris.metadata.core.TransitiveType;
+import com.tencent.polaris.metadata.core.impl.MetadataContainerImpl;
+
+import org.springframework.util.StringUtils;
+
+import static com.tencent.cloud.common.metadata.MetadataContext.FRAGMENT_APPLICATION;
+import static com.tencent.cloud.common.metadata.MetadataContext.FRAGMENT_DISPOSABLE;
+import static com.tencent.cloud.common.metadata.MetadataContext.FRAGMENT_RAW_TRANSHEADERS;
+import static com.tencent.cloud.common.metadata.MetadataContext.FRAGMENT_TRANSITIVE;
+
+/**
+ * Immutable base layer of static metadata shared by every {@link MetadataContext}.
+ * <p>
+ * It is resolved once from {@link StaticMetadataManager}. Contexts created on top of it only keep the
+ * values written during the request in their containers, and fall through to this layer for the rest, either
+ * through its fragment views or through its containers, which are never written after they are built.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+final class StaticMetadataLayer {
+
+	/**
+	 * local custom metadata, not transitive.
+	 */
+	private final Map<String, String> customMetadata;
+
+	/**
+	 * local custom transitive metadata.
+	 */
+	private final Map<String, String> transitiveMetadata;
+
+	/**
+	 * local custom disposable metadata.
+	 */
+	private final Map<String, String> disposableMetadata;
+
+	/**
+	 * local trans headers, {"header1,header2":""}.
+	 */
+	private final Map<String, String> transHeaders;
+
+	/**
+	 * local application disposable metadata.
+	 */
+	private final Map<String, String> applicationMetadata;
+
+	private final Map<String, MetadataFragmentView> fragmentViews;
+
+	private final MetadataFragmentView customMetadataView;
+
+	private final MetadataContainer customContainer;
+
+	private final MetadataContainer applicationContainer;
+
+	private StaticMetadataLayer(Map<String, String> customMetadata, Map<String, String> transitiveMetadata,
+			Map<String, String> disposableMetadata, Map<String, String> transHeaders,
+			Map<String, String> applicationMetadata) {
+		this.customMetadata = Collections.unmodifiableMap(customMetadata);
+		this.transitiveMetadata = Collections.unmodifiableMap(transitiveMetadata);
+		this.disposableMetadata = Collections.unmodifiableMap(disposableMetadata);
+		this.transHeaders = Collections.unmodifiableMap(transHeaders);
+		this.applicationMetadata = Collections.unmodifiableMap(applicationMetadata);
+
+		Map<String, MetadataFragmentView> views = new HashMap<>();
+		views.put(FRAGMENT_TRANSITIVE, new MetadataFragmentView(FRAGMENT_TRANSITIVE, 0, transitiveMetadata));
+		views.put(FRAGMENT_DISPOSABLE, new MetadataFragmentView(FRAGMENT_DISPOSABLE, 0, disposableMetadata));
+		views.put(FRAGMENT_RAW_TRANSHEADERS, new MetadataFragmentView(FRAGMENT_RAW_TRANSHEADERS, 0, transHeaders));
+		views.put(FRAGMENT_APPLICATION, new MetadataFragmentView(FRAGMENT_APPLICATION, 0, applicationMetadata));
+		this.fragmentViews = Collections.unmodifiableMap(views);
+		// transitive and disposable keys never overlap in one container, see of(..).
+		this.customMetadataView = new MetadataFragmentView(MetadataContext.VIEW_CUSTOM, 0, transitiveMetadata);
+
+		this.customContainer = new MetadataContainerImpl(MetadataConstant.POLARIS_TRANSITIVE_HEADER_PREFIX);
+		copyTo(customContainer, customMetadata, TransitiveType.NONE);
+		copyTo(customContainer, transitiveMetadata, TransitiveType.PASS_THROUGH);
+		copyTo(customContainer, disposableMetadata, TransitiveType.DISPOSABLE);
+		for (Map.Entry<String, String> entry : transHeaders.entrySet()) {
+			customContainer.putMetadataMapValue(FRAGMENT_RAW_TRANSHEADERS, entry.getKey(), entry.getValue(), TransitiveType.NONE);
+		}
+		this.applicationContainer = new MetadataContainerImpl(MetadataConstant.POLARIS_TRANSITIVE_HEADER_PREFIX);
+		copyTo(applicationContainer, applicationMetadata, TransitiveType.DISPOSABLE);
+	}
+
+	static StaticMetadataLayer of(StaticMetadataManager staticMetadataManager) {
+		// the custom container keeps one value per key, so later puts replace the transitive type of earlier ones.
+		Map<String, TransitiveType> customTypes = new HashMap<>();
+		Map<String, String> customValues = new HashMap<>();
+		putAll(customTypes, customValues, staticMetadataManager.getMergedStaticMetadata(), TransitiveType.NONE);
+		putAll(customTypes, customValues, staticMetadataManager.getMergedStaticTransitiveMetadata(), TransitiveType.PASS_THROUGH);
+		putAll(customTypes, customValues, staticMetadataManager.getMergedStaticDisposableMetadata(), TransitiveType.DISPOSABLE);
+
+		Map<String, String> customMetadata = new HashMap<>();
+		Map<String, String> transitiveMetadata = new HashMap<>();
+		Map<String, String> disposableMetadata = new HashMap<>();
+		for (Map.Entry<String, TransitiveType> entry : customTypes.entrySet()) {
+			String value = customValues.get(entry.getKey());
+			switch (entry.getValue()) {
+			case PASS_THROUGH:
+				transitiveMetadata.put(entry.getKey(), value);
+				break;
+			case DISPOSABLE:
+				disposableMetadata.put(entry.getKey(), value);
+				break;
+			default:
+				customMetadata.put(entry.getKey(), value);
+				break;
+			}
+		}
+
+		Map<String, String> transHeaders = new HashMap<>();
+		String transHeader = staticMetadataManager.getTransHeader();
+		if (StringUtils.hasText(transHeader)) {
+			transHeaders.put(transHeader, "");
+		}
+
+		Map<String, String> applicationMetadata = new HashMap<>(staticMetadataManager.getMergedStaticMetadata());
+		return new StaticMetadataLayer(customMetadata, transitiveMetadata, disposableMetadata,
+				transHeaders, applicationMetadata);
+	}
+
+	private static void putAll(Map<String, TransitiveType> types, Map<String, String> values,
+			Map<String, String> metadata, TransitiveType transitiveType) {
+		if (metadata == null) {
+			return;
+		}
+		for (Map.Entry<String, String> entry : metadata.entrySet()) {
+			types.put(entry.getKey(), transitiveType);
+			values.put(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/**
+	 * Get the static view of the fragment.
+	 * @param fragment fragment name
+	 * @return static view, or null if this layer has no value for the fragment
+	 */
+	MetadataFragmentView getFragmentView(String fragment) {
+		return fragmentViews.get(fragment);
+	}
+
+	MetadataFragmentView getCustomMetadataView() {
+		return customMetadataView;
+	}
+
+	/**
+	 * Get static values of the fragment, used to merge with the values written during the request.
+	 * @param fragment fragment name
+	 * @return static values, never null
+	 */
+	Map<String, String> getFragmentValues(String fragment) {
+		MetadataFragmentView view = fragmentViews.get(fragment);
+		return view == null ? Collections.emptyMap() : view.getValues();
+	}
+
+	/**
+	 * Get the static custom metadata of the callee, read by the containers of the contexts for the keys not written
+	 * during the request.
+	 * @return custom metadata container, must not be written
+	 */
+	MetadataContainer getCustomContainer() {
+		return customContainer;
+	}
+
+	/**
+	 * Get the static application metadata of the callee, read by the containers of the contexts for the keys not
+	 * written during the request.
+	 * @return application metadata container, must not be written
+	 */
+	MetadataContainer getApplicationContainer() {
+		return applicationContainer;
+	}
+
+	private static void copyTo(MetadataContainer metadataContainer, Map<String, String> metadata, TransitiveType transitiveType) {
+		for (Map.Entry<String, String> entry : metadata.entrySet()) {
+			metadataContainer.putMetadataStringValue(entry.getKey(), entry.getValue(), transitiveType);
+		}
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.metadata;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import com.tencent.polaris.metadata.core.MetadataContainer;
+import com.tencent.polaris.metadata.core.MetadataProvider;
+import com.tencent.polaris.metadata.core.MetadataStringValue;
+import com.tencent.polaris.metadata.core.MetadataValue;
+import com.tencent.polaris.metadata.core.TransitiveType;
+import com.tencent.polaris.metadata.core.Utils;
+
+/**
+ * Container of a {@link MetadataContext} handed out to callers, that reports every write to the context so that
+ * cached fragment views are refreshed, and reads the static layer for the keys not written during the request
+ * instead of copying it in.
+ * <p>
+ * Values are written to the container of the context. Reads look up the container of the context first, then the
+ * static container. A map value written during the request shadows the whole static map value of the same key in
+ * {@link #getMetadataValue}, while {@link #getRawMetadataMapValue} still falls through per map key.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+final class TrackedMetadataContainer implements MetadataContainer {
+
+	private final MetadataContainer delegate;
+
+	/**
+	 * Static container read for the keys not written during the request, null if none.
+	 */
+	private final MetadataContainer staticContainer;
+
+	private final String transitivePrefix;
+
+	private final Runnable onWrite;
+
+	TrackedMetadataContainer(MetadataContainer delegate, MetadataContainer staticContainer,
+			String transitivePrefix, Runnable onWrite) {
+		this.delegate = delegate;
+		this.staticContainer = staticContainer;
+		this.transitivePrefix = transitivePrefix;
+		this.onWrite = onWrite;
+	}
+
+	@Override
+	public void putMetadataStringValue(String key, String value, TransitiveType transitiveType) {
+		delegate.putMetadataStringValue(key, value, transitiveType);
+		onWrite.run();
+	}
+
+	@Override
+	public void putMetadataMapValue(String key, String mapKey, String value, TransitiveType transitiveType) {
+		delegate.putMetadataMapValue(key, mapKey, value, transitiveType);
+		onWrite.run();
+	}
+
+	@Override
+	public <T> void putMetadataObjectValue(String key, T value) {
+		delegate.putMetadataObjectValue(key, value);
+		onWrite.run();
+	}
+
+	@Override
+	public <T> void putMetadataMapObjectValue(String key, String mapKey, T value) {
+		delegate.putMetadataMapObjectValue(key, mapKey, value);
+		onWrite.run();
+	}
+
+	@Override
+	public String getRawMetadataStringValue(String key) {
+		String value = delegate.getRawMetadataStringValue(key);
+		if (value == null && staticContainer != null) {
+			value = staticContainer.getRawMetadataStringValue(key);
+		}
+		return value;
+	}
+
+	@Override
+	public String getRawMetadataStringValue(String key, boolean keyCaseSensitive) {
+		String value = delegate.getRawMetadataStringValue(key, keyCaseSensitive);
+		if (value == null && staticContainer != null) {
+			value = staticContainer.getRawMetadataStringValue(key, keyCaseSensitive);
+		}
+		return value;
+	}
+
+	@Override
+	public String getRawMetadataMapValue(String key, String mapKey) {
+		String value = delegate.getRawMetadataMapValue(key, mapKey);
+		if (value == null && staticContainer != null) {
+			value = staticContainer.getRawMetadataMapValue(key, mapKey);
+		}
+		return value;
+	}
+
+	@Override
+	public String getRawMetadataMapValue(String key, String mapKey, boolean keyCaseSensitive) {
+		String value = delegate.getRawMetadataMapValue(key, mapKey, keyCaseSensitive);
+		if (value == null && staticContainer != null) {
+			value = staticContainer.getRawMetadataMapValue(key, mapKey, keyCaseSensitive);
+		}
+		return value;
+	}
+
+	@Override
+	public <T extends MetadataValue> T getMetadataValue(String key) {
+		T value = delegate.getMetadataValue(key);
+		if (value == null && staticContainer != null) {
+			value = staticContainer.getMetadataValue(key);
+		}
+		return value;
+	}
+
+	@Override
+	public <T extends MetadataValue> T getMetadataValue(String key, boolean keyCaseSensitive) {
+		T value = delegate.getMetadataValue(key, keyCaseSensitive);
+		if (value == null && staticContainer != null) {
+			value = staticContainer.getMetadataValue(key, keyCaseSensitive);
+		}
+		return value;
+	}
+
+	@Override
+	public void iterateMetadataValues(BiConsumer<String, MetadataValue> iterator) {
+		delegate.iterateMetadataValues(iterator);
+		if (staticContainer != null) {
+			staticContainer.iterateMetadataValues((key, value) -> {
+				if (delegate.getMetadataValue(key) == null) {
+					iterator.accept(key, value);
+				}
+			});
+		}
+	}
+
+	@Override
+	public Map<String, String> getTransitiveStringValues() {
+		if (staticContainer == null) {
+			return delegate.getTransitiveStringValues();
+		}
+		Map<String, String> values = new HashMap<>();
+		iterateMetadataValues((key, metadataValue) -> {
+			if (metadataValue instanceof MetadataStringValue) {
+				MetadataStringValue metadataStringValue = (MetadataStringValue) metadataValue;
+				if (metadataStringValue.getTransitiveType() == TransitiveType.PASS_THROUGH) {
+					values.put(Utils.encapsulateMetadataKey(transitivePrefix, key), metadataStringValue.getStringValue());
+				}
+				else if (metadataStringValue.getTransitiveType() == TransitiveType.DISPOSABLE) {
+					values.put(key, metadataStringValue.getStringValue());
+				}
+			}
+		});
+		return values;
+	}
+
+	@Override
+	public Map<String, String> getMapTransitiveStringValues(String key) {
+		if (staticContainer == null || delegate.getMetadataValue(key) != null) {
+			return delegate.getMapTransitiveStringValues(key);
+		}
+		return staticContainer.getMapTransitiveStringValues(key);
+	}
+
+	@Override
+	public Map<String, String> getMapTransitiveStringValues(String key, boolean keyCaseSensitive) {
+		if (staticContainer == null || delegate.getMetadataValue(key, keyCaseSensitive) != null) {
+			return delegate.getMapTransitiveStringValues(key, keyCaseSensitive);
+		}
+		return staticContainer.getMapTransitiveStringValues(key, keyCaseSensitive);
+	}
+
+	@Override
+	public void setMetadataProvider(MetadataProvider metadataProvider) {
+		delegate.setMetadataProvider(metadataProvider);
+	}
+
+	@Override
+	public MetadataProvider getMetadataProvider() {
+		return delegate.getMetadataProvider();
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.metadata;
+
+import com.tencent.polaris.metadata.core.MetadataContainer;
+import com.tencent.polaris.metadata.core.manager.MetadataContainerGroup;
+
+/**
+ * Container group of a {@link MetadataContext} handed out to the polaris SDK, made of its tracked containers.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+final class TrackedMetadataContainerGroup implements MetadataContainerGroup {
+
+	private final MetadataContainer messageMetadataContainer;
+
+	private final MetadataContainer applicationMetadataContainer;
+
+	private final MetadataContainer customMetadataContainer;
+
+	TrackedMetadataContainerGroup(MetadataContainer messageMetadataContainer,
+			MetadataContainer applicationMetadataContainer, MetadataContainer customMetadataContainer) {
+		this.messageMetadataContainer = messageMetadataContainer;
+		this.applicationMetadataContainer = applicationMetadataContainer;
+		this.customMetadataContainer = customMetadataContainer;
+	}
+
+	@Override
+	public MetadataContainer getMessageMetadataContainer() {
+		return messageMetadataContainer;
+	}
+
+	@Override
+	public MetadataContainer getApplicationMetadataContainer() {
+		return applicationMetadataContainer;
+	}
+
+	@Override
+	public MetadataContainer getCustomMetadataContainer() {
+		return customMetadataContainer;
+	}
+}
@@ -19,11 +19,13 @@ package com.tencent.cloud.common.metadata.config;
 
 import java.util.List;
 
+import com.tencent.cloud.common.metadata.MetadataStringInterner;
 import com.tencent.cloud.common.metadata.StaticMetadataManager;
 import com.tencent.cloud.common.spi.InstanceMetadataProvider;
 import com.tencent.cloud.common.spi.impl.DefaultInstanceMetadataProvider;
 import com.tencent.cloud.common.util.ApplicationContextAwareUtils;
 
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.Nullable;
@@ -56,4 +58,12 @@ public class MetadataAutoConfiguration {
 		return new StaticMetadataManager(metadataLocalProperties, instanceMetadataProviders);
 	}
 
+	@Bean
+	public SmartInitializingSingleton metadataStringInternerInitializer(MetadataLocalProperties metadataLocalProperties) {
+		return () -> {
+			MetadataLocalProperties.Intern intern = metadataLocalProperties.getIntern();
+			MetadataStringInterner.configure(intern.isEnabled(), intern.getMaxSize(), intern.getMaxLength());
+		};
+	}
+
 }
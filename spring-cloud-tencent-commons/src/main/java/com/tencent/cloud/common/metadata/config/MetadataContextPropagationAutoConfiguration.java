@@ -0,0 +1,45 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.metadata.config;
+
+import com.tencent.cloud.common.metadata.ReactorMetadataContextPropagation;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the propagation of the metadata context across the threads of Reactor pipelines in reactive web
+ * applications. Reactor's automatic context propagation is global to the JVM and costs on every operator, so it is
+ * only turned on when enabled explicitly.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "reactor.core.publisher.Hooks")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnProperty(value = "spring.cloud.tencent.metadata.reactor-context-propagation.enabled", havingValue = "true")
+public class MetadataContextPropagationAutoConfiguration implements InitializingBean {
+
+	@Override
+	public void afterPropertiesSet() {
+		ReactorMetadataContextPropagation.enable();
+	}
+}
@@ -22,6 +22,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.tencent.cloud.common.metadata.MetadataStringInterner;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.util.CollectionUtils;
 
@@ -53,6 +55,11 @@ public class MetadataLocalProperties {
 	 */
 	private List<String> headers;
 
+	/**
+	 * Interning of metadata keys and values.
+	 */
+	private Intern intern = new Intern();
+
 	public Map<String, String> getContent() {
 		if (CollectionUtils.isEmpty(content)) {
 			content = new HashMap<>();
@@ -96,4 +103,57 @@ public class MetadataLocalProperties {
 	public void setHeaders(List<String> headers) {
 		this.headers = headers;
 	}
+
+	public Intern getIntern() {
+		return intern;
+	}
+
+	public void setIntern(Intern intern) {
+		this.intern = intern;
+	}
+
+	/**
+	 * Properties of {@link MetadataStringInterner}.
+	 */
+	public static class Intern {
+
+		/**
+		 * Whether to intern metadata keys and values.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Maximum number of interned strings.
+		 */
+		private int maxSize = MetadataStringInterner.DEFAULT_MAX_SIZE;
+
+		/**
+		 * Maximum length of the interned strings.
+		 */
+		private int maxLength = MetadataStringInterner.DEFAULT_MAX_LENGTH;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaxSize() {
+			return maxSize;
+		}
+
+		public void setMaxSize(int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		public int getMaxLength() {
+			return maxLength;
+		}
+
+		public void setMaxLength(int maxLength) {
+			this.maxLength = maxLength;
+		}
+	}
 }
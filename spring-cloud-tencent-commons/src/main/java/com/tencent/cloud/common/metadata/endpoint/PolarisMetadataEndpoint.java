@@ -20,6 +20,7 @@ package com.tencent.cloud.common.metadata.endpoint;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.tencent.cloud.common.metadata.MetadataStringInterner;
 import com.tencent.cloud.common.metadata.StaticMetadataManager;
 
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
@@ -56,6 +57,7 @@ public class PolarisMetadataEndpoint {
 		result.put("zone", staticMetadataManager.getZone());
 		result.put("region", staticMetadataManager.getRegion());
 		result.put("campus", staticMetadataManager.getCampus());
+		result.put("Intern", MetadataStringInterner.getStatistics());
 		return result;
 	}
 }
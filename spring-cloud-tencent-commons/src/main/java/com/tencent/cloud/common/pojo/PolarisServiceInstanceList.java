@@ -0,0 +1,102 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.pojo;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import com.tencent.polaris.api.pojo.Instance;
+import com.tencent.polaris.api.pojo.ServiceInstances;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+/**
+ * Server list of Polaris instances, which keeps the Polaris {@link ServiceInstances} it was created from, so that the
+ * load balancer reads them instead of converting the servers back.
+ * <p>
+ * The list can be filtered or reordered in place like any other server list. Every change, including the ones made
+ * through {@link #subList(int, int)} or a list iterator, goes through {@link #set}, {@link #add} or {@link #remove},
+ * and the Polaris instances are no longer returned once the list is modified.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class PolarisServiceInstanceList extends AbstractList<ServiceInstance> implements RandomAccess {
+
+	private final ServiceInstances serviceInstances;
+
+	private final List<ServiceInstance> servers;
+
+	private boolean modified;
+
+	/**
+	 * Create the server list of the Polaris instances.
+	 * @param serviceInstances Polaris instances
+	 * @param wrapper wraps a Polaris instance in a server
+	 */
+	public PolarisServiceInstanceList(ServiceInstances serviceInstances, Function<Instance, ServiceInstance> wrapper) {
+		List<Instance> instances = serviceInstances.getInstances();
+		this.servers = new ArrayList<>(instances.size());
+		for (Instance instance : instances) {
+			servers.add(wrapper.apply(instance));
+		}
+		this.serviceInstances = serviceInstances;
+	}
+
+	/**
+	 * Get the Polaris instances of the servers.
+	 * @return Polaris instances, or null if the list has been modified
+	 */
+	public ServiceInstances getServiceInstances() {
+		return modified ? null : serviceInstances;
+	}
+
+	@Override
+	public ServiceInstance get(int index) {
+		return servers.get(index);
+	}
+
+	@Override
+	public int size() {
+		return servers.size();
+	}
+
+	@Override
+	public ServiceInstance set(int index, ServiceInstance element) {
+		ServiceInstance previous = servers.set(index, element);
+		modified = true;
+		return previous;
+	}
+
+	@Override
+	public void add(int index, ServiceInstance element) {
+		servers.add(index, element);
+		modified = true;
+		modCount++;
+	}
+
+	@Override
+	public ServiceInstance remove(int index) {
+		ServiceInstance previous = servers.remove(index);
+		modified = true;
+		modCount++;
+		return previous;
+	}
+}
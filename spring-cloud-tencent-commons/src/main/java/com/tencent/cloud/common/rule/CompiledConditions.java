@@ -0,0 +1,171 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.rule;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.apache.commons.lang.StringUtils;
+
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Conditions compiled into ready predicates when the rule loads, matching the same as
+ * {@link ConditionUtils#match(Map, List)}.
+ * <p>
+ * The operation is resolved once, regex conditions keep their compiled {@link Pattern} and IN/NOT_IN conditions
+ * keep their values in a {@link HashSet}. Invalid operations and regexes fail when they are evaluated, as they did
+ * before compilation.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public final class CompiledConditions {
+
+	private static final CompiledConditions EMPTY = new CompiledConditions(Collections.emptyList());
+
+	private final CompiledCondition[] conditions;
+
+	private final Set<String> keys;
+
+	private CompiledConditions(List<Condition> conditions) {
+		this.conditions = new CompiledCondition[conditions.size()];
+		Set<String> keys = new LinkedHashSet<>();
+		for (int i = 0; i < conditions.size(); i++) {
+			Condition condition = conditions.get(i);
+			this.conditions[i] = new CompiledCondition(condition);
+			keys.add(condition.getKey());
+		}
+		this.keys = Collections.unmodifiableSet(keys);
+	}
+
+	/**
+	 * Compile the conditions.
+	 * @param conditions conditions of a rule
+	 * @return compiled conditions
+	 */
+	public static CompiledConditions compile(List<Condition> conditions) {
+		if (CollectionUtils.isEmpty(conditions)) {
+			return EMPTY;
+		}
+		return new CompiledConditions(conditions);
+	}
+
+	/**
+	 * Whether all the conditions match.
+	 * @param actualValues key to actual value
+	 * @return true if all the conditions match
+	 */
+	public boolean match(Map<String, String> actualValues) {
+		for (CompiledCondition condition : conditions) {
+			if (!condition.match(actualValues.get(condition.key))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Get the keys referenced by the conditions.
+	 * @return read-only keys
+	 */
+	public Set<String> getKeys() {
+		return keys;
+	}
+
+	private static final class CompiledCondition {
+
+		private final String key;
+
+		private final String rawOperation;
+
+		private final Operation operation;
+
+		private final String firstExpectedValue;
+
+		private final Set<String> expectedValueSet;
+
+		private final Pattern pattern;
+
+		private CompiledCondition(Condition condition) {
+			this.key = condition.getKey();
+			this.rawOperation = condition.getOperation();
+			List<String> expectedValues = condition.getValues();
+			this.firstExpectedValue = CollectionUtils.isEmpty(expectedValues) ? null : expectedValues.get(0);
+
+			Operation operation;
+			try {
+				operation = Operation.getOperation(rawOperation);
+			}
+			catch (RuntimeException e) {
+				operation = null;
+			}
+			this.operation = operation;
+
+			this.expectedValueSet = (operation == Operation.IN || operation == Operation.NOT_IN)
+					&& !CollectionUtils.isEmpty(expectedValues) ? new HashSet<>(expectedValues) : null;
+
+			Pattern pattern = null;
+			if (operation == Operation.REGEX && firstExpectedValue != null) {
+				try {
+					pattern = RegexPatterns.compile(firstExpectedValue);
+				}
+				catch (PatternSyntaxException e) {
+					pattern = null;
+				}
+			}
+			this.pattern = pattern;
+		}
+
+		private boolean match(String actualValue) {
+			if (operation == null) {
+				// throws the unsupported operation exception.
+				Operation.getOperation(rawOperation);
+				return false;
+			}
+			switch (operation) {
+			case EQUALS:
+				return firstExpectedValue != null && StringUtils.equals(actualValue, firstExpectedValue);
+			case NOT_EQUALS:
+				return firstExpectedValue == null || !StringUtils.equals(actualValue, firstExpectedValue);
+			case BLANK:
+				return StringUtils.isBlank(actualValue);
+			case NOT_BLANK:
+				return !StringUtils.isBlank(actualValue);
+			case IN:
+				return expectedValueSet != null && expectedValueSet.contains(actualValue);
+			case NOT_IN:
+				return expectedValueSet == null || !expectedValueSet.contains(actualValue);
+			case REGEX:
+				if (firstExpectedValue == null) {
+					return false;
+				}
+				// an invalid regex throws the same syntax exception as before.
+				Pattern r = pattern != null ? pattern : Pattern.compile(firstExpectedValue);
+				return r.matcher(actualValue).matches();
+			default:
+				return false;
+			}
+		}
+	}
+}
@@ -17,7 +17,11 @@
 
 package com.tencent.cloud.common.rule;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
@@ -59,6 +63,16 @@ public enum Operation {
 	 */
 	NOT_BLANK("NOT_BLANK");
 
+	private static final Map<String, Operation> OPERATIONS;
+
+	static {
+		Map<String, Operation> operations = new HashMap<>();
+		for (Operation operation : values()) {
+			operations.put(operation.value, operation);
+		}
+		OPERATIONS = Collections.unmodifiableMap(operations);
+	}
+
 	private final String value;
 
 	Operation(String value) {
@@ -94,7 +108,7 @@ public enum Operation {
 			if (firstExpectedValue == null) {
 				return false;
 			}
-			Pattern r = Pattern.compile(firstExpectedValue);
+			Pattern r = RegexPatterns.compile(firstExpectedValue);
 			return r.matcher(actualValue).matches();
 		default:
 			return false;
@@ -102,26 +116,14 @@ public enum Operation {
 	}
 
 	public static Operation getOperation(String operation) {
-		if (StringUtils.equalsIgnoreCase(operation, EQUALS.value)) {
-			return EQUALS;
-		}
-		if (StringUtils.equalsIgnoreCase(operation, NOT_EQUALS.value)) {
-			return NOT_EQUALS;
-		}
-		if (StringUtils.equalsIgnoreCase(operation, IN.value)) {
-			return IN;
-		}
-		if (StringUtils.equalsIgnoreCase(operation, NOT_IN.value)) {
-			return NOT_IN;
-		}
-		if (StringUtils.equalsIgnoreCase(operation, REGEX.value)) {
-			return REGEX;
-		}
-		if (StringUtils.equalsIgnoreCase(operation, BLANK.value)) {
-			return BLANK;
-		}
-		if (StringUtils.equalsIgnoreCase(operation, NOT_BLANK.value)) {
-			return NOT_BLANK;
+		if (operation != null) {
+			Operation result = OPERATIONS.get(operation);
+			if (result == null) {
+				result = OPERATIONS.get(operation.toUpperCase(Locale.ROOT));
+			}
+			if (result != null) {
+				return result;
+			}
 		}
 		throw new RuntimeException("Unsupported operation. operation = " + operation);
 	}
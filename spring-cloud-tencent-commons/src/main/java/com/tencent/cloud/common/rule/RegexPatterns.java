@@ -0,0 +1,54 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.rule;
+
+import java.util.regex.Pattern;
+
+import com.tencent.cloud.common.util.BoundedCache;
+
+/**
+ * Bounded global cache of compiled regex patterns, for the callers matching conditions that are not compiled.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public final class RegexPatterns {
+
+	/**
+	 * Maximum number of cached patterns.
+	 */
+	static final int MAX_CACHED_SIZE = 1024;
+
+	private static final BoundedCache<String, Pattern> PATTERNS = new BoundedCache<>(MAX_CACHED_SIZE);
+
+	private RegexPatterns() {
+	}
+
+	/**
+	 * Get the compiled pattern of the regex.
+	 * @param regex regex
+	 * @return compiled pattern
+	 * @throws java.util.regex.PatternSyntaxException if the regex is invalid, invalid regexes are not cached
+	 */
+	public static Pattern compile(String regex) {
+		return PATTERNS.get(regex, Pattern::compile);
+	}
+
+	static int size() {
+		return PATTERNS.size();
+	}
+}
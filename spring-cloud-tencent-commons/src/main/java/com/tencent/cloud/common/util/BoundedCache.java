@@ -0,0 +1,138 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.util;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Concurrent cache of bounded size, for the values derived from rules or request headers that are computed again when
+ * missing.
+ * <p>
+ * Adding a key to a full cache evicts an arbitrary entry, so that keys that are not reused can't grow the cache
+ * without limit nor drop all the entries that are. Null keys and values are not supported.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ * @author Haotian Zhang 2026-10-18
+ */
+public final class BoundedCache<K, V> {
+
+	private final ConcurrentHashMap<K, V> entries = new ConcurrentHashMap<>();
+
+	private final int maxSize;
+
+	/**
+	 * Create the cache.
+	 * @param maxSize maximum number of entries, the cache may go over it by the entries added concurrently
+	 */
+	public BoundedCache(int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+		}
+		this.maxSize = maxSize;
+	}
+
+	@Nullable
+	public V get(K key) {
+		return entries.get(key);
+	}
+
+	/**
+	 * Get the value of the key, computed by the loader and cached if absent. The loader is not run under a lock, so
+	 * the callers missing the same key concurrently may all run it, and get the first value cached.
+	 * @param key key
+	 * @param loader computes the value of the key, the value is not cached if the loader throws or returns null
+	 * @return cached or computed value
+	 */
+	public V get(K key, Function<? super K, ? extends V> loader) {
+		V value = entries.get(key);
+		if (value == null) {
+			value = loader.apply(key);
+			if (value != null) {
+				V previous = putIfAbsent(key, value);
+				if (previous != null) {
+					value = previous;
+				}
+			}
+		}
+		return value;
+	}
+
+	public boolean containsKey(K key) {
+		return entries.containsKey(key);
+	}
+
+	public void put(K key, V value) {
+		if (!entries.containsKey(key)) {
+			evictIfFull();
+		}
+		entries.put(key, value);
+	}
+
+	@Nullable
+	public V putIfAbsent(K key, V value) {
+		V previous = entries.get(key);
+		if (previous != null) {
+			return previous;
+		}
+		evictIfFull();
+		return entries.putIfAbsent(key, value);
+	}
+
+	@Nullable
+	public V remove(K key) {
+		return entries.remove(key);
+	}
+
+	public boolean remove(K key, V value) {
+		return entries.remove(key, value);
+	}
+
+	public void clear() {
+		entries.clear();
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Make room for a new key.
+	 * <p>
+	 * The evicted entries are the first ones of the iteration order of the map, which is the order of the hashes of
+	 * the keys rather than the order of use.
+	 */
+	private void evictIfFull() {
+		if (entries.size() < maxSize) {
+			return;
+		}
+		Iterator<K> keys = entries.keySet().iterator();
+		while (entries.size() >= maxSize && keys.hasNext()) {
+			keys.next();
+			keys.remove();
+		}
+	}
+}
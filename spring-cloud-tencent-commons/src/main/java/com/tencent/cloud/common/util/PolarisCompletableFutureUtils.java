@@ -18,9 +18,11 @@
 package com.tencent.cloud.common.util;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import com.tencent.polaris.threadlocal.cross.CompletableFutureUtils;
+import com.tencent.polaris.threadlocal.cross.RunnableWrapper;
 
 import static com.tencent.cloud.common.metadata.CrossThreadMetadataContext.CROSS_THREAD_METADATA_CONTEXT_CONSUMER;
 import static com.tencent.cloud.common.metadata.CrossThreadMetadataContext.CROSS_THREAD_METADATA_CONTEXT_SUPPLIER;
@@ -42,4 +44,33 @@ public final class PolarisCompletableFutureUtils {
 	public static CompletableFuture<Void> runAsync(Runnable runnable) {
 		return CompletableFutureUtils.runAsync(runnable, CROSS_THREAD_METADATA_CONTEXT_SUPPLIER, CROSS_THREAD_METADATA_CONTEXT_CONSUMER);
 	}
+
+	/**
+	 * Run the supplier on the executor with the metadata context of the calling thread.
+	 * @param supplier task
+	 * @param executor executor of the task, such as the injected {@code polarisAsyncExecutor}
+	 * @param <U> type of the result
+	 * @return future of the result
+	 */
+	public static <U> CompletableFuture<U> supplyAsync(Supplier<U> supplier, Executor executor) {
+		return CompletableFuture.supplyAsync(supplier, propagating(executor));
+	}
+
+	/**
+	 * Run the task on the executor with the metadata context of the calling thread.
+	 * @param runnable task
+	 * @param executor executor of the task, such as the injected {@code polarisAsyncExecutor}
+	 * @return future of the completion
+	 */
+	public static CompletableFuture<Void> runAsync(Runnable runnable, Executor executor) {
+		return CompletableFuture.runAsync(runnable, propagating(executor));
+	}
+
+	/**
+	 * The task is wrapped when it is submitted, so the metadata context is captured on the calling thread.
+	 */
+	private static Executor propagating(Executor executor) {
+		return command -> executor.execute(new RunnableWrapper<>(command,
+				CROSS_THREAD_METADATA_CONTEXT_SUPPLIER, CROSS_THREAD_METADATA_CONTEXT_CONSUMER));
+	}
 }
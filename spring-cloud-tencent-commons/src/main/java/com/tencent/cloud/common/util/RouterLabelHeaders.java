@@ -0,0 +1,173 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.util;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.tencent.cloud.common.constant.RouterConstant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Parsed values of the router label header {@link RouterConstant#ROUTER_LABEL_HEADER}, shared by the router and
+ * the reporters of a request.
+ * <p>
+ * The header carries the URL-encoded json of the labels, computed from the same rules for most of the requests, so
+ * the parsed values are cached by the raw header value in a bounded global cache and a request decodes and
+ * deserializes the header at most once, or not at all when another request carried the same header.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public final class RouterLabelHeaders {
+
+	/**
+	 * Maximum number of cached header values.
+	 */
+	static final int MAX_CACHED_SIZE = 1024;
+
+	private static final Logger LOG = LoggerFactory.getLogger(RouterLabelHeaders.class);
+
+	private static final Labels ABSENT = new Labels(null, Collections.emptyMap(), null);
+
+	private static final BoundedCache<String, Labels> LABELS = new BoundedCache<>(MAX_CACHED_SIZE);
+
+	private RouterLabelHeaders() {
+	}
+
+	/**
+	 * Get the parsed router labels of the request headers.
+	 * @param headers request headers
+	 * @return parsed router labels of the first header value, never null
+	 */
+	public static Labels get(@Nullable HttpHeaders headers) {
+		if (headers == null) {
+			return ABSENT;
+		}
+		List<String> values = headers.get(RouterConstant.ROUTER_LABEL_HEADER);
+		return CollectionUtils.isEmpty(values) ? ABSENT : parse(values.get(0));
+	}
+
+	/**
+	 * Parse the router label header value.
+	 * @param headerValue URL-encoded json of the labels
+	 * @return parsed router labels, never null
+	 * @throws IllegalArgumentException if the value is not correctly URL-encoded, such values are not cached
+	 */
+	public static Labels parse(@Nullable String headerValue) {
+		if (headerValue == null) {
+			return ABSENT;
+		}
+		return LABELS.get(headerValue, RouterLabelHeaders::doParse);
+	}
+
+	private static Labels doParse(String headerValue) {
+		String json = URLDecoder.decode(headerValue, StandardCharsets.UTF_8);
+		Map<String, String> labelMap = null;
+		if (!StringUtils.hasText(json)) {
+			labelMap = Collections.emptyMap();
+		}
+		else {
+			try {
+				Map<?, ?> values = JacksonUtils.OM.readValue(json, Map.class);
+				Map<String, String> result = new HashMap<>(values.size() * 4 / 3 + 1);
+				values.forEach((key, value) -> result.put(String.valueOf(key), String.valueOf(value)));
+				labelMap = Collections.unmodifiableMap(result);
+			}
+			catch (JsonProcessingException e) {
+				LOG.error("Json to map failed. check if the format of the router label header[{}] is correct.", json, e);
+			}
+		}
+		return new Labels(json, labelMap, RequestLabelUtils.convertLabel(json));
+	}
+
+	static int size() {
+		return LABELS.size();
+	}
+
+	/**
+	 * Immutable parsed router labels.
+	 */
+	public static final class Labels {
+
+		private final String json;
+
+		private final Map<String, String> labelMap;
+
+		private final String labelString;
+
+		private Labels(String json, Map<String, String> labelMap, String labelString) {
+			this.json = json;
+			this.labelMap = labelMap;
+			this.labelString = labelString;
+		}
+
+		/**
+		 * Whether the header is present.
+		 * @return true if the header is present
+		 */
+		public boolean isPresent() {
+			return json != null;
+		}
+
+		/**
+		 * Whether the header is absent or holds a json object.
+		 * @return true if the labels can be read as a map
+		 */
+		public boolean isValid() {
+			return labelMap != null;
+		}
+
+		/**
+		 * Get the URL-decoded json of the labels.
+		 * @return json, null if the header is absent
+		 */
+		@Nullable
+		public String getJson() {
+			return json;
+		}
+
+		/**
+		 * Get the labels.
+		 * @return read-only labels, empty if the header is absent, null if the header is not a json object
+		 */
+		@Nullable
+		public Map<String, String> getLabelMap() {
+			return labelMap;
+		}
+
+		/**
+		 * Get the labels in the format of {@link RequestLabelUtils#convertLabel(String)}.
+		 * @return labels string, null if the header is absent
+		 */
+		@Nullable
+		public String getLabelString() {
+			return labelString;
+		}
+	}
+}
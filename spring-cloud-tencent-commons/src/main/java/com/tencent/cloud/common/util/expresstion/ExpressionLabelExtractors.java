@@ -0,0 +1,179 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.util.expresstion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.tencent.cloud.common.util.BoundedCache;
+import org.apache.commons.lang.StringUtils;
+
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Label expressions compiled into extractors.
+ * <p>
+ * The expression parsers run once per set of label keys instead of once per label key and request.
+ * Compiled extractors are cached by label keys, so all the requests of a rule set share them until the
+ * rule set changes.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public final class ExpressionLabelExtractors {
+
+	/**
+	 * Maximum number of cached label key sets.
+	 */
+	private static final int MAX_CACHED_SIZE = 1024;
+
+	private static final BoundedCache<Set<String>, ExpressionLabelExtractors> COMPILED_CACHE = new BoundedCache<>(MAX_CACHED_SIZE);
+
+	private static final ExpressionLabelExtractors EMPTY = new ExpressionLabelExtractors(Collections.emptySet());
+
+	private final Extractor[] extractors;
+
+	private ExpressionLabelExtractors(Set<String> labelKeys) {
+		List<Extractor> compiled = new ArrayList<>(labelKeys.size());
+		for (String labelKey : labelKeys) {
+			Extractor extractor = compile(labelKey);
+			if (extractor != null) {
+				compiled.add(extractor);
+			}
+		}
+		this.extractors = compiled.toArray(new Extractor[0]);
+	}
+
+	/**
+	 * Get the compiled extractors of the label keys.
+	 * @param labelKeys label keys, expression or not
+	 * @return compiled extractors, shared by the calls with the same label keys
+	 */
+	public static ExpressionLabelExtractors compile(Set<String> labelKeys) {
+		if (CollectionUtils.isEmpty(labelKeys)) {
+			return EMPTY;
+		}
+		ExpressionLabelExtractors compiled = COMPILED_CACHE.get(labelKeys);
+		if (compiled == null) {
+			Set<String> cacheKey = Collections.unmodifiableSet(new HashSet<>(labelKeys));
+			compiled = new ExpressionLabelExtractors(cacheKey);
+			COMPILED_CACHE.put(cacheKey, compiled);
+		}
+		return compiled;
+	}
+
+	private static Extractor compile(String labelKey) {
+		if (!ExpressionLabelUtils.isExpressionLabel(labelKey)) {
+			return null;
+		}
+		if (ExpressionLabelUtils.isHeaderLabel(labelKey)) {
+			String headerKey = ExpressionLabelUtils.parseHeaderKey(labelKey);
+			return StringUtils.isBlank(headerKey) ? null : new Extractor(labelKey, Type.HEADER, headerKey);
+		}
+		else if (ExpressionLabelUtils.isQueryLabel(labelKey)) {
+			String queryKey = ExpressionLabelUtils.parseQueryKey(labelKey);
+			return StringUtils.isBlank(queryKey) ? null : new Extractor(labelKey, Type.QUERY, queryKey);
+		}
+		else if (ExpressionLabelUtils.isCookieLabel(labelKey)) {
+			String cookieKey = ExpressionLabelUtils.parseCookieKey(labelKey);
+			return StringUtils.isBlank(cookieKey) ? null : new Extractor(labelKey, Type.COOKIE, cookieKey);
+		}
+		else if (ExpressionLabelUtils.isMethodLabel(labelKey)) {
+			return new Extractor(labelKey, Type.METHOD, null);
+		}
+		else if (ExpressionLabelUtils.isUriLabel(labelKey)) {
+			return new Extractor(labelKey, Type.URI, null);
+		}
+		return null;
+	}
+
+	/**
+	 * Resolve labels from the request.
+	 * @param request request view
+	 * @return label key to label value, missing values are null
+	 */
+	public Map<String, String> resolve(ExpressionLabelRequest request) {
+		return resolve(request, null);
+	}
+
+	/**
+	 * Resolve labels from the request.
+	 * @param request request view
+	 * @param cookieDefaultValue value of the cookie labels absent in the request
+	 * @return label key to label value
+	 */
+	public Map<String, String> resolve(ExpressionLabelRequest request, String cookieDefaultValue) {
+		Map<String, String> labels = new HashMap<>(extractors.length * 4 / 3 + 1);
+		for (Extractor extractor : extractors) {
+			String value;
+			switch (extractor.type) {
+			case HEADER:
+				value = request.getHeader(extractor.key);
+				break;
+			case QUERY:
+				value = request.getQuery(extractor.key);
+				break;
+			case COOKIE:
+				value = request.getCookie(extractor.key);
+				if (value == null) {
+					value = cookieDefaultValue;
+				}
+				break;
+			case METHOD:
+				value = request.getMethod();
+				break;
+			default:
+				value = request.getUri();
+				break;
+			}
+			labels.put(extractor.labelKey, value);
+		}
+		return labels;
+	}
+
+	/**
+	 * Get the number of label keys that are valid expressions.
+	 * @return number of extractors
+	 */
+	public int size() {
+		return extractors.length;
+	}
+
+	private enum Type {
+		HEADER, QUERY, COOKIE, METHOD, URI
+	}
+
+	private static final class Extractor {
+
+		private final String labelKey;
+
+		private final Type type;
+
+		private final String key;
+
+		private Extractor(String labelKey, Type type, String key) {
+			this.labelKey = labelKey;
+			this.type = type;
+			this.key = key;
+		}
+	}
+}
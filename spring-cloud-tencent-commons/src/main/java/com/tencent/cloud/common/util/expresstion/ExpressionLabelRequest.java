@@ -0,0 +1,62 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.util.expresstion;
+
+/**
+ * Per-request view of the data referenced by label expressions.
+ * <p>
+ * Query string and cookies are parsed lazily at the first access and shared by all the
+ * {@link ExpressionLabelExtractors} resolving labels of the same request.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public interface ExpressionLabelRequest {
+
+	/**
+	 * get first value of the header.
+	 * @param key header name
+	 * @return header value, null if absent
+	 */
+	String getHeader(String key);
+
+	/**
+	 * get first value of the query parameter.
+	 * @param key query parameter name
+	 * @return query value, null if absent
+	 */
+	String getQuery(String key);
+
+	/**
+	 * get value of the first cookie with the name.
+	 * @param key cookie name
+	 * @return cookie value, null if absent
+	 */
+	String getCookie(String key);
+
+	/**
+	 * get request method.
+	 * @return request method
+	 */
+	String getMethod();
+
+	/**
+	 * get request uri/path.
+	 * @return request uri/path
+	 */
+	String getUri();
+}
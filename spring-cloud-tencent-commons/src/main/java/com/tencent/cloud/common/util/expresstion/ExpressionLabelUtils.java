@@ -19,6 +19,8 @@ package com.tencent.cloud.common.util.expresstion;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -157,6 +159,31 @@ public final class ExpressionLabelUtils {
 		return defaultValue;
 	}
 
+	/**
+	 * Parse key-value pairs of query string or cookie header. The same as {@link #getQueryValue(String, String)},
+	 * pairs without exactly one '=' are skipped and the first value of a key wins.
+	 * @param text query string or cookie header
+	 * @param separator separator of pairs
+	 * @return key to value
+	 */
+	static Map<String, String> parseKeyValues(String text, String separator) {
+		if (StringUtils.isBlank(text)) {
+			return Collections.emptyMap();
+		}
+		String[] pairs = StringUtils.split(text, separator);
+		if (pairs == null || pairs.length == 0) {
+			return Collections.emptyMap();
+		}
+		Map<String, String> keyValues = new HashMap<>(pairs.length * 4 / 3 + 1);
+		for (String pair : pairs) {
+			String[] kv = StringUtils.split(pair, "=");
+			if (kv != null && kv.length == 2) {
+				keyValues.putIfAbsent(kv[0], kv[1]);
+			}
+		}
+		return keyValues;
+	}
+
 	public static String getFirstValue(Map<String, Collection<String>> valueMaps, String key) {
 		if (CollectionUtils.isEmpty(valueMaps)) {
 			return null;
@@ -20,9 +20,9 @@ package com.tencent.cloud.common.util.expresstion;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
-
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.lang.StringUtils;
@@ -35,6 +35,11 @@ import org.springframework.util.CollectionUtils;
  */
 public final class ServletExpressionLabelUtils {
 
+	/**
+	 * Attribute of the request holding its {@link ExpressionLabelRequest}.
+	 */
+	private static final String LABEL_REQUEST_ATTRIBUTE = ServletExpressionLabelUtils.class.getName() + ".LABEL_REQUEST";
+
 	private ServletExpressionLabelUtils() {
 	}
 
@@ -43,42 +48,22 @@ public final class ServletExpressionLabelUtils {
 			return Collections.emptyMap();
 		}
 
-		Map<String, String> labels = new HashMap<>();
+		return ExpressionLabelExtractors.compile(labelKeys).resolve(getLabelRequest(request), StringUtils.EMPTY);
+	}
 
-		for (String labelKey : labelKeys) {
-			if (!ExpressionLabelUtils.isExpressionLabel(labelKey)) {
-				continue;
-			}
-			if (ExpressionLabelUtils.isHeaderLabel(labelKey)) {
-				String headerKey = ExpressionLabelUtils.parseHeaderKey(labelKey);
-				if (StringUtils.isBlank(headerKey)) {
-					continue;
-				}
-				labels.put(labelKey, request.getHeader(headerKey));
-			}
-			else if (ExpressionLabelUtils.isQueryLabel(labelKey)) {
-				String queryKey = ExpressionLabelUtils.parseQueryKey(labelKey);
-				if (StringUtils.isBlank(queryKey)) {
-					continue;
-				}
-				labels.put(labelKey, ExpressionLabelUtils.getQueryValue(request.getQueryString(), queryKey));
-			}
-			else if (ExpressionLabelUtils.isCookieLabel(labelKey)) {
-				String cookieKey = ExpressionLabelUtils.parseCookieKey(labelKey);
-				if (StringUtils.isBlank(cookieKey)) {
-					continue;
-				}
-				labels.put(labelKey, getCookieValue(request.getCookies(), cookieKey));
-			}
-			else if (ExpressionLabelUtils.isMethodLabel(labelKey)) {
-				labels.put(labelKey, request.getMethod());
-			}
-			else if (ExpressionLabelUtils.isUriLabel(labelKey)) {
-				labels.put(labelKey, request.getRequestURI());
-			}
+	/**
+	 * Get the label view of the request, shared by all the label resolutions of the request.
+	 * @param request http servlet request
+	 * @return label view of the request
+	 */
+	public static ExpressionLabelRequest getLabelRequest(HttpServletRequest request) {
+		Object labelRequest = request.getAttribute(LABEL_REQUEST_ATTRIBUTE);
+		if (labelRequest instanceof ServletLabelRequest) {
+			return (ServletLabelRequest) labelRequest;
 		}
-
-		return labels;
+		ServletLabelRequest servletLabelRequest = new ServletLabelRequest(request);
+		request.setAttribute(LABEL_REQUEST_ATTRIBUTE, servletLabelRequest);
+		return servletLabelRequest;
 	}
 
 	public static String getCookieValue(Cookie[] cookies, String key) {
@@ -96,4 +81,66 @@ public final class ServletExpressionLabelUtils {
 		}
 		return defaultValue;
 	}
+
+	/**
+	 * Label view of {@link HttpServletRequest}. Query string and cookies are parsed again if they
+	 * change, e.g. after a forward.
+	 */
+	private static final class ServletLabelRequest implements ExpressionLabelRequest {
+
+		private final HttpServletRequest request;
+
+		private String queryString;
+
+		private Map<String, String> queries;
+
+		private Cookie[] cookieArray;
+
+		private Map<String, String> cookies;
+
+		private ServletLabelRequest(HttpServletRequest request) {
+			this.request = request;
+		}
+
+		@Override
+		public String getHeader(String key) {
+			return request.getHeader(key);
+		}
+
+		@Override
+		public String getQuery(String key) {
+			String currentQueryString = request.getQueryString();
+			if (queries == null || !Objects.equals(queryString, currentQueryString)) {
+				queries = ExpressionLabelUtils.parseKeyValues(currentQueryString, "&");
+				queryString = currentQueryString;
+			}
+			return queries.get(key);
+		}
+
+		@Override
+		public String getCookie(String key) {
+			Cookie[] currentCookies = request.getCookies();
+			if (cookies == null || cookieArray != currentCookies) {
+				Map<String, String> parsed = new HashMap<>();
+				if (currentCookies != null) {
+					for (Cookie cookie : currentCookies) {
+						parsed.putIfAbsent(cookie.getName(), cookie.getValue());
+					}
+				}
+				cookies = parsed;
+				cookieArray = currentCookies;
+			}
+			return cookies.get(key);
+		}
+
+		@Override
+		public String getMethod() {
+			return request.getMethod();
+		}
+
+		@Override
+		public String getUri() {
+			return request.getRequestURI();
+		}
+	}
 }
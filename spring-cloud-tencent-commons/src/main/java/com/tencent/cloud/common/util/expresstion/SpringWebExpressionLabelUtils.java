@@ -18,7 +18,6 @@
 package com.tencent.cloud.common.util.expresstion;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -38,6 +37,11 @@ import org.springframework.web.server.ServerWebExchange;
  */
 public final class SpringWebExpressionLabelUtils {
 
+	/**
+	 * Attribute of the exchange holding its {@link ExpressionLabelRequest}.
+	 */
+	private static final String LABEL_REQUEST_ATTRIBUTE = SpringWebExpressionLabelUtils.class.getName() + ".LABEL_REQUEST";
+
 	private SpringWebExpressionLabelUtils() {
 	}
 
@@ -46,42 +50,7 @@ public final class SpringWebExpressionLabelUtils {
 			return Collections.emptyMap();
 		}
 
-		Map<String, String> labels = new HashMap<>();
-
-		for (String labelKey : labelKeys) {
-			if (!ExpressionLabelUtils.isExpressionLabel(labelKey)) {
-				continue;
-			}
-			if (ExpressionLabelUtils.isHeaderLabel(labelKey)) {
-				String headerKey = ExpressionLabelUtils.parseHeaderKey(labelKey);
-				if (StringUtils.isBlank(headerKey)) {
-					continue;
-				}
-				labels.put(labelKey, getHeaderValue(exchange.getRequest(), headerKey));
-			}
-			else if (ExpressionLabelUtils.isQueryLabel(labelKey)) {
-				String queryKey = ExpressionLabelUtils.parseQueryKey(labelKey);
-				if (StringUtils.isBlank(queryKey)) {
-					continue;
-				}
-				labels.put(labelKey, getQueryValue(exchange.getRequest(), queryKey));
-			}
-			else if (ExpressionLabelUtils.isCookieLabel(labelKey)) {
-				String cookieKey = ExpressionLabelUtils.parseCookieKey(labelKey);
-				if (StringUtils.isBlank(cookieKey)) {
-					continue;
-				}
-				labels.put(labelKey, getCookieValue(exchange.getRequest(), cookieKey));
-			}
-			else if (ExpressionLabelUtils.isMethodLabel(labelKey)) {
-				labels.put(labelKey, exchange.getRequest().getMethod().toString());
-			}
-			else if (ExpressionLabelUtils.isUriLabel(labelKey)) {
-				labels.put(labelKey, exchange.getRequest().getURI().getPath());
-			}
-		}
-
-		return labels;
+		return ExpressionLabelExtractors.compile(labelKeys).resolve(getLabelRequest(exchange));
 	}
 
 	public static Map<String, String> resolve(HttpRequest request, Set<String> labelKeys) {
@@ -89,42 +58,42 @@ public final class SpringWebExpressionLabelUtils {
 			return Collections.emptyMap();
 		}
 
-		Map<String, String> labels = new HashMap<>();
+		return ExpressionLabelExtractors.compile(labelKeys).resolve(getLabelRequest(request));
+	}
 
-		for (String labelKey : labelKeys) {
-			if (!ExpressionLabelUtils.isExpressionLabel(labelKey)) {
-				continue;
-			}
-			if (ExpressionLabelUtils.isHeaderLabel(labelKey)) {
-				String headerKey = ExpressionLabelUtils.parseHeaderKey(labelKey);
-				if (StringUtils.isBlank(headerKey)) {
-					continue;
-				}
-				labels.put(labelKey, getHeaderValue(request, headerKey));
-			}
-			else if (ExpressionLabelUtils.isQueryLabel(labelKey)) {
-				String queryKey = ExpressionLabelUtils.parseQueryKey(labelKey);
-				if (StringUtils.isBlank(queryKey)) {
-					continue;
-				}
-				labels.put(labelKey, getQueryValue(request, queryKey));
-			}
-			else if (ExpressionLabelUtils.isCookieLabel(labelKey)) {
-				String cookieKey = ExpressionLabelUtils.parseCookieKey(labelKey);
-				if (StringUtils.isBlank(cookieKey)) {
-					continue;
-				}
-				labels.put(labelKey, getCookieValue(request, cookieKey));
-			}
-			else if (ExpressionLabelUtils.isMethodLabel(labelKey)) {
-				labels.put(labelKey, request.getMethod().toString());
-			}
-			else if (ExpressionLabelUtils.isUriLabel(labelKey)) {
-				labels.put(labelKey, request.getURI().getPath());
-			}
+	/**
+	 * Get the label view of the exchange request, shared by all the label resolutions of the exchange.
+	 * @param exchange server web exchange
+	 * @return label view of the request
+	 */
+	public static ExpressionLabelRequest getLabelRequest(ServerWebExchange exchange) {
+		Object labelRequest = exchange.getAttribute(LABEL_REQUEST_ATTRIBUTE);
+		// the request may be mutated by filters.
+		if (labelRequest instanceof ServerHttpLabelRequest
+				&& ((ServerHttpLabelRequest) labelRequest).request == exchange.getRequest()) {
+			return (ServerHttpLabelRequest) labelRequest;
 		}
+		ServerHttpLabelRequest serverHttpLabelRequest = new ServerHttpLabelRequest(exchange.getRequest());
+		exchange.getAttributes().put(LABEL_REQUEST_ATTRIBUTE, serverHttpLabelRequest);
+		return serverHttpLabelRequest;
+	}
 
-		return labels;
+	/**
+	 * Get the label view of the server request.
+	 * @param request server http request
+	 * @return label view of the request
+	 */
+	public static ExpressionLabelRequest getLabelRequest(ServerHttpRequest request) {
+		return new ServerHttpLabelRequest(request);
+	}
+
+	/**
+	 * Get the label view of the client request.
+	 * @param request http request
+	 * @return label view of the request
+	 */
+	public static ExpressionLabelRequest getLabelRequest(HttpRequest request) {
+		return new HttpLabelRequest(request);
 	}
 
 	public static String getHeaderValue(ServerHttpRequest request, String key) {
@@ -191,4 +160,89 @@ public final class SpringWebExpressionLabelUtils {
 		}
 		return null;
 	}
+
+	/**
+	 * Label view of {@link ServerHttpRequest}, whose query params and cookies are already parsed lazily
+	 * and cached by the request itself.
+	 */
+	private static final class ServerHttpLabelRequest implements ExpressionLabelRequest {
+
+		private final ServerHttpRequest request;
+
+		private ServerHttpLabelRequest(ServerHttpRequest request) {
+			this.request = request;
+		}
+
+		@Override
+		public String getHeader(String key) {
+			return getHeaderValue(request, key);
+		}
+
+		@Override
+		public String getQuery(String key) {
+			return getQueryValue(request, key);
+		}
+
+		@Override
+		public String getCookie(String key) {
+			return getCookieValue(request, key);
+		}
+
+		@Override
+		public String getMethod() {
+			return request.getMethod().toString();
+		}
+
+		@Override
+		public String getUri() {
+			return request.getURI().getPath();
+		}
+	}
+
+	/**
+	 * Label view of {@link HttpRequest}. Query string and cookie header are parsed once.
+	 */
+	private static final class HttpLabelRequest implements ExpressionLabelRequest {
+
+		private final HttpRequest request;
+
+		private Map<String, String> queries;
+
+		private Map<String, String> cookies;
+
+		private HttpLabelRequest(HttpRequest request) {
+			this.request = request;
+		}
+
+		@Override
+		public String getHeader(String key) {
+			return getHeaderValue(request, key);
+		}
+
+		@Override
+		public String getQuery(String key) {
+			if (queries == null) {
+				queries = ExpressionLabelUtils.parseKeyValues(request.getURI().getQuery(), "&");
+			}
+			return queries.get(key);
+		}
+
+		@Override
+		public String getCookie(String key) {
+			if (cookies == null) {
+				cookies = ExpressionLabelUtils.parseKeyValues(request.getHeaders().getFirst(HttpHeaders.COOKIE), ";");
+			}
+			return cookies.get(key);
+		}
+
+		@Override
+		public String getMethod() {
+			return request.getMethod().toString();
+		}
+
+		@Override
+		public String getUri() {
+			return request.getURI().getPath();
+		}
+	}
 }
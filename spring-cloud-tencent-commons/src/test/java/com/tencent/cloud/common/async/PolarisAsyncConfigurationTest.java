@@ -0,0 +1,143 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.async;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.common.metadata.MetadataContextHolder;
+import com.tencent.cloud.common.util.PolarisCompletableFutureUtils;
+import com.tencent.cloud.plugin.threadlocal.VirtualThreadTaskExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.TaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test for {@link PolarisAsyncConfiguration}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class PolarisAsyncConfigurationTest {
+
+	private final ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(PolarisAsyncConfiguration.class))
+			.withPropertyValues("spring.cloud.tencent.async.enabled=true");
+
+	@AfterEach
+	public void tearDown() {
+		MetadataContextHolder.remove();
+	}
+
+	@Test
+	public void testPlatformThreadPool() {
+		applicationContextRunner.withPropertyValues("spring.cloud.tencent.async.core-pool-size=2",
+						"spring.cloud.tencent.async.max-pool-size=4",
+						"spring.cloud.tencent.async.queue-capacity=100",
+						"spring.cloud.tencent.async.rejection-policy=abort")
+				.run(context -> {
+					PolarisAsyncProperties properties = context.getBean(PolarisAsyncProperties.class);
+					assertThat(properties.getCorePoolSize()).isEqualTo(2);
+					assertThat(properties.getMaxPoolSize()).isEqualTo(4);
+					assertThat(properties.getQueueCapacity()).isEqualTo(100);
+					assertThat(properties.getRejectionPolicy()).isEqualTo(PolarisAsyncProperties.RejectionPolicy.ABORT);
+
+					Thread thread = assertPropagated(context.getBean("polarisAsyncExecutor", TaskExecutor.class));
+					assertThat(thread.getName()).startsWith("polaris-async-executor-");
+					assertThat(isVirtual(thread)).isFalse();
+				});
+	}
+
+	@Test
+	public void testVirtualThreads() {
+		assumeTrue(VirtualThreadTaskExecutor.isSupported());
+
+		applicationContextRunner.withPropertyValues("spring.cloud.tencent.async.virtual-thread-enabled=true")
+				.run(context -> {
+					TaskExecutor executor = context.getBean("polarisAsyncExecutor", TaskExecutor.class);
+					Thread thread = assertPropagated(executor);
+					assertThat(thread.getName()).startsWith("polaris-async-executor-");
+					assertThat(isVirtual(thread)).isTrue();
+
+					// the injected executor runs the tasks of PolarisCompletableFutureUtils on virtual threads.
+					assertThat(isVirtual(assertPropagated(command -> PolarisCompletableFutureUtils.runAsync(command, executor)))).isTrue();
+				});
+	}
+
+	@Test
+	public void testVirtualThreadsFallback() {
+		assumeFalse(VirtualThreadTaskExecutor.isSupported());
+
+		applicationContextRunner.withPropertyValues("spring.cloud.tencent.async.virtual-thread-enabled=true")
+				.run(context -> {
+					Thread thread = assertPropagated(context.getBean("polarisAsyncExecutor", TaskExecutor.class));
+					assertThat(thread.getName()).startsWith("polaris-async-executor-");
+					assertThat(isVirtual(thread)).isFalse();
+				});
+	}
+
+	@Test
+	public void testDisabled() {
+		new ApplicationContextRunner().withConfiguration(AutoConfigurations.of(PolarisAsyncConfiguration.class))
+				.run(context -> assertThat(context).doesNotHaveBean("polarisAsyncExecutor"));
+	}
+
+	/**
+	 * Run a task reading the metadata context of the submitting thread.
+	 * @return thread running the task
+	 */
+	static Thread assertPropagated(Executor executor) throws Exception {
+		MetadataContext metadataContext = new MetadataContext();
+		metadataContext.setTransitiveMetadata(Collections.singletonMap("k1", "v1"));
+		MetadataContextHolder.set(metadataContext);
+
+		AtomicReference<Thread> thread = new AtomicReference<>();
+		AtomicReference<String> value = new AtomicReference<>();
+		CountDownLatch latch = new CountDownLatch(1);
+		executor.execute(() -> {
+			thread.set(Thread.currentThread());
+			value.set(MetadataContextHolder.get().getTransitiveMetadata().get("k1"));
+			latch.countDown();
+		});
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(value.get()).isEqualTo("v1");
+		return thread.get();
+	}
+
+	static boolean isVirtual(Thread thread) throws Exception {
+		try {
+			Method isVirtual = Thread.class.getMethod("isVirtual");
+			return (Boolean) isVirtual.invoke(thread);
+		}
+		catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.metadata;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import com.tencent.polaris.metadata.core.MetadataContainer;
+import com.tencent.polaris.metadata.core.MetadataType;
+import com.tencent.polaris.metadata.core.TransitiveType;
+import org.junit.jupiter.api.Test;
+
+import static com.tencent.cloud.common.metadata.MetadataContext.FRAGMENT_APPLICATION;
+import static com.tencent.cloud.common.metadata.MetadataContext.FRAGMENT_DISPOSABLE;
+import static com.tencent.cloud.common.metadata.MetadataContext.FRAGMENT_RAW_TRANSHEADERS_KV;
+import static com.tencent.cloud.common.metadata.MetadataContext.FRAGMENT_TRANSITIVE;
+import static com.tencent.cloud.common.metadata.MetadataContext.FRAGMENT_UPSTREAM_DISPOSABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for fragment views of {@link MetadataContext}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class MetadataContextTest {
+
+	@Test
+	public void testViewReusedUntilModified() {
+		MetadataContext metadataContext = new MetadataContext();
+		metadataContext.putContext(FRAGMENT_TRANSITIVE, "a", "1");
+
+		MetadataFragmentView view = metadataContext.getFragmentView(FRAGMENT_TRANSITIVE);
+		assertThat(view.getValues()).containsExactly(Map.entry("a", "1"));
+		assertThat(metadataContext.getFragmentView(FRAGMENT_TRANSITIVE)).isSameAs(view);
+		assertThat(metadataContext.getTransitiveMetadata()).isEqualTo(view.getValues()).isNotSameAs(view.getValues());
+
+		metadataContext.putContext(FRAGMENT_TRANSITIVE, "b", "2");
+		MetadataFragmentView newView = metadataContext.getFragmentView(FRAGMENT_TRANSITIVE);
+		assertThat(newView).isNotSameAs(view);
+		assertThat(newView.getVersion()).isGreaterThan(view.getVersion());
+		assertThat(newView.getValues()).containsOnly(Map.entry("a", "1"), Map.entry("b", "2"));
+		// old view is a snapshot and is not affected by later writes.
+		assertThat(view.getValues()).containsOnly(Map.entry("a", "1"));
+	}
+
+	@Test
+	public void testViewsOfOtherContainersNotInvalidated() {
+		MetadataContext metadataContext = new MetadataContext();
+		metadataContext.putContext(FRAGMENT_APPLICATION, "app", "v");
+		metadataContext.putContext(FRAGMENT_UPSTREAM_DISPOSABLE, "up", "v");
+		MetadataFragmentView applicationView = metadataContext.getFragmentView(FRAGMENT_APPLICATION);
+		MetadataFragmentView upstreamView = metadataContext.getFragmentView(FRAGMENT_UPSTREAM_DISPOSABLE);
+
+		metadataContext.putContext(FRAGMENT_TRANSITIVE, "a", "1");
+		metadataContext.setTransHeadersKV("h", "v");
+
+		assertThat(metadataContext.getFragmentView(FRAGMENT_APPLICATION)).isSameAs(applicationView);
+		assertThat(metadataContext.getFragmentView(FRAGMENT_UPSTREAM_DISPOSABLE)).isSameAs(upstreamView);
+		assertThat(metadataContext.getTransHeadersKV()).containsOnly(Map.entry("h", "v"));
+	}
+
+	@Test
+	public void testCustomMetadataView() {
+		MetadataContext metadataContext = new MetadataContext();
+		metadataContext.putContext(FRAGMENT_TRANSITIVE, "a", "1");
+		metadataContext.putContext(FRAGMENT_TRANSITIVE, "b", "2");
+
+		MetadataFragmentView customView = metadataContext.getCustomMetadataView();
+		assertThat(customView.getValues()).containsOnly(Map.entry("a", "1"), Map.entry("b", "2"));
+		assertThat(metadataContext.getCustomMetadataView()).isSameAs(customView);
+
+		// same key written as disposable replaces the transitive value in the shared container.
+		metadataContext.putContext(FRAGMENT_DISPOSABLE, "b", "3");
+		assertThat(metadataContext.getCustomMetadata()).containsOnly(Map.entry("a", "1"));
+		assertThat(metadataContext.getDisposableMetadata()).containsOnly(Map.entry("b", "3"));
+	}
+
+	@Test
+	public void testWriteThroughContainerInvalidatesView() {
+		MetadataContext metadataContext = new MetadataContext();
+		MetadataFragmentView view = metadataContext.getFragmentView(FRAGMENT_TRANSITIVE);
+		assertThat(view.isEmpty()).isTrue();
+
+		MetadataContainer metadataContainer = metadataContext.getMetadataContainer(MetadataType.CUSTOM, false);
+		metadataContainer.putMetadataStringValue("a", "1", TransitiveType.PASS_THROUGH);
+
+		assertThat(metadataContext.getTransitiveMetadata()).containsOnly(Map.entry("a", "1"));
+	}
+
+	@Test
+	public void testViewIsReadOnly() {
+		MetadataContext metadataContext = new MetadataContext();
+		metadataContext.putContext(FRAGMENT_TRANSITIVE, "a", "1");
+		assertThatThrownBy(() -> metadataContext.getFragmentView(FRAGMENT_TRANSITIVE).getValues().put("b", "2"))
+				.isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> metadataContext.getCustomMetadata().put("b", "2"))
+				.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	public void testLegacyGettersReturnCopies() {
+		MetadataContext metadataContext = new MetadataContext();
+		metadataContext.putContext(FRAGMENT_TRANSITIVE, "a", "1");
+		metadataContext.putContext(FRAGMENT_APPLICATION, "app", "v");
+
+		Map<String, String> transitiveMetadata = metadataContext.getTransitiveMetadata();
+		transitiveMetadata.put("b", "2");
+		metadataContext.getApplicationMetadata().remove("app");
+		metadataContext.getFragmentContext(FRAGMENT_TRANSITIVE).clear();
+
+		assertThat(transitiveMetadata).containsOnly(Map.entry("a", "1"), Map.entry("b", "2"));
+		assertThat(metadataContext.getTransitiveMetadata()).containsOnly(Map.entry("a", "1"));
+		assertThat(metadataContext.getApplicationMetadata()).containsEntry("app", "v");
+	}
+
+	@Test
+	public void testInterleavedWrites() {
+		MetadataContext metadataContext = new MetadataContext();
+		Map<String, String> expectedTransitive = new HashMap<>();
+		Map<String, String> expectedDisposable = new HashMap<>();
+		Map<String, String> expectedApplication = new HashMap<>();
+		Map<String, String> expectedTransHeaders = new HashMap<>();
+		Random random = new Random(20261018L);
+		for (int i = 0; i < 2000; i++) {
+			String key = "k" + random.nextInt(16);
+			String value = "v" + i;
+			switch (random.nextInt(6)) {
+			case 0:
+				metadataContext.putContext(FRAGMENT_TRANSITIVE, key, value);
+				expectedDisposable.remove(key);
+				expectedTransitive.put(key, value);
+				break;
+			case 1:
+				metadataContext.putContext(FRAGMENT_DISPOSABLE, key, value);
+				expectedTransitive.remove(key);
+				expectedDisposable.put(key, value);
+				break;
+			case 2:
+				metadataContext.putFragmentContext(FRAGMENT_APPLICATION, Map.of(key, value));
+				expectedApplication.put(key, value);
+				break;
+			case 3:
+				metadataContext.putContext(FRAGMENT_RAW_TRANSHEADERS_KV, key, value);
+				expectedTransHeaders.put(key, value);
+				break;
+			default:
+				// read only, repeated reads must return the same view.
+				assertThat(metadataContext.getFragmentView(FRAGMENT_TRANSITIVE))
+						.isSameAs(metadataContext.getFragmentView(FRAGMENT_TRANSITIVE));
+				break;
+			}
+			assertThat(metadataContext.getTransitiveMetadata()).isEqualTo(expectedTransitive);
+			assertThat(metadataContext.getDisposableMetadata()).isEqualTo(expectedDisposable);
+			// the application container of callee is shared by the whole process in polaris SDK.
+			assertThat(metadataContext.getApplicationMetadata()).containsAllEntriesOf(expectedApplication);
+			assertThat(metadataContext.getTransHeadersKV()).isEqualTo(expectedTransHeaders);
+			assertThat(metadataContext.getCustomMetadata()).isEqualTo(expectedTransitive);
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.metadata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.tencent.cloud.common.metadata.config.MetadataLocalProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link MetadataStringInterner}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class MetadataStringInternerTest {
+
+	private static final String[][] METADATA = {
+			{"region", "ap-guangzhou"}, {"zone", "ap-guangzhou-3"}, {"campus", "guangzhou-tencent-building"},
+			{"lane", "lane-feature-login"}, {"env", "production"}, {"version", "2.0.0"}
+	};
+
+	@AfterEach
+	public void tearDown() {
+		MetadataStringInterner.configure(false, MetadataStringInterner.DEFAULT_MAX_SIZE, MetadataStringInterner.DEFAULT_MAX_LENGTH);
+	}
+
+	@Test
+	public void testIntern() {
+		MetadataStringInterner.configure(true, 16, 8);
+		String zone = MetadataStringInterner.intern(copy("zone"));
+
+		assertThat(MetadataStringInterner.intern(copy("zone"))).isSameAs(zone);
+		assertThat(MetadataStringInterner.intern(null)).isNull();
+		String longValue = copy("longer than 8");
+		assertThat(MetadataStringInterner.intern(longValue)).isSameAs(longValue);
+		assertThat(MetadataStringInterner.getHitCount()).isEqualTo(1);
+		assertThat(MetadataStringInterner.getMissCount()).isEqualTo(1);
+		assertThat(MetadataStringInterner.getStatistics()).containsEntry("size", 1).containsEntry("hitCount", 1L);
+	}
+
+	@Test
+	public void testDisabled() {
+		MetadataStringInterner.configure(false, 16, 8);
+		String zone = copy("zone");
+
+		assertThat(MetadataStringInterner.intern(zone)).isSameAs(zone);
+		assertThat(MetadataStringInterner.size()).isZero();
+		assertThat(MetadataStringInterner.getMissCount()).isZero();
+	}
+
+	@Test
+	public void testBounded() {
+		MetadataStringInterner.configure(true, 100, 64);
+		for (int i = 0; i < 1000; i++) {
+			MetadataStringInterner.intern("request-" + i);
+			assertThat(MetadataStringInterner.size()).isLessThanOrEqualTo(100);
+		}
+		// a full table evicts an entry for every new string instead of dropping all of them.
+		assertThat(MetadataStringInterner.size()).isEqualTo(100);
+	}
+
+	@Test
+	public void testDisabledByDefault() {
+		assertThat(new MetadataLocalProperties.Intern().isEnabled()).isFalse();
+	}
+
+	@Test
+	public void testPutContextInterned() {
+		MetadataStringInterner.configure(true, MetadataStringInterner.DEFAULT_MAX_SIZE, MetadataStringInterner.DEFAULT_MAX_LENGTH);
+		MetadataContext metadataContext1 = new MetadataContext();
+		MetadataContext metadataContext2 = new MetadataContext();
+		metadataContext1.putContext(MetadataContext.FRAGMENT_TRANSITIVE, copy("zone"), copy("ap-guangzhou-3"));
+		metadataContext2.putContext(MetadataContext.FRAGMENT_TRANSITIVE, copy("zone"), copy("ap-guangzhou-3"));
+
+		assertThat(metadataContext1.getContext(MetadataContext.FRAGMENT_TRANSITIVE, "zone"))
+				.isSameAs(metadataContext2.getContext(MetadataContext.FRAGMENT_TRANSITIVE, "zone"));
+	}
+
+	@Test
+	public void testRetainedSizePerRequest() {
+		int requestCount = 1000;
+
+		MetadataStringInterner.configure(false, MetadataStringInterner.DEFAULT_MAX_SIZE, MetadataStringInterner.DEFAULT_MAX_LENGTH);
+		long retainedWithoutInterning = retainedStringSize(inFlightRequests(requestCount)) / requestCount;
+		MetadataStringInterner.configure(true, MetadataStringInterner.DEFAULT_MAX_SIZE, MetadataStringInterner.DEFAULT_MAX_LENGTH);
+		long retainedWithInterning = retainedStringSize(inFlightRequests(requestCount)) / requestCount;
+
+		// 12 strings of every request without interning, one shared set with interning.
+		assertThat(retainedWithoutInterning).isGreaterThanOrEqualTo(12 * 48);
+		assertThat(retainedWithInterning).isLessThan(retainedWithoutInterning / 100);
+	}
+
+	/**
+	 * Metadata of in-flight requests, every request decodes new strings from its headers.
+	 */
+	private static List<Map<String, String>> inFlightRequests(int requestCount) {
+		List<Map<String, String>> requests = new ArrayList<>();
+		for (int i = 0; i < requestCount; i++) {
+			Map<String, String> metadata = new HashMap<>();
+			for (String[] entry : METADATA) {
+				metadata.put(MetadataStringInterner.intern(copy(entry[0])), MetadataStringInterner.intern(copy(entry[1])));
+			}
+			requests.add(metadata);
+		}
+		return requests;
+	}
+
+	/**
+	 * Shallow size of the distinct strings referenced by the requests, with their byte arrays, as laid out by
+	 * a 64-bit JVM with compressed oops and compact strings.
+	 */
+	private static long retainedStringSize(List<Map<String, String>> requests) {
+		Set<String> strings = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Map<String, String> metadata : requests) {
+			strings.addAll(metadata.keySet());
+			strings.addAll(metadata.values());
+		}
+		long size = 0;
+		for (String string : strings) {
+			size += 24 + align(16 + string.length());
+		}
+		return size;
+	}
+
+	private static long align(long size) {
+		return (size + 7) / 8 * 8;
+	}
+
+	private static String copy(String value) {
+		return new String(value.toCharArray());
+	}
+}
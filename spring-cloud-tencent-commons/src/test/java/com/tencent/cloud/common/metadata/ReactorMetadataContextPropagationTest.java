@@ -0,0 +1,156 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.metadata;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link ReactorMetadataContextPropagation} and {@link MetadataContextThreadLocalAccessor}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class ReactorMetadataContextPropagationTest {
+
+	private static final int REQUEST_COUNT = 64;
+
+	@BeforeEach
+	public void setUp() {
+		ReactorMetadataContextPropagation.enable();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		ReactorMetadataContextPropagation.disable();
+		MetadataContextHolder.remove();
+	}
+
+	@Test
+	public void testAccessor() {
+		MetadataContextThreadLocalAccessor accessor = new MetadataContextThreadLocalAccessor();
+		MetadataContext metadataContext = new MetadataContext();
+
+		accessor.setValue(metadataContext);
+		assertThat(accessor.key()).isEqualTo(MetadataContextThreadLocalAccessor.KEY);
+		assertThat(accessor.getValue()).isSameAs(metadataContext);
+		accessor.setValue();
+		assertThat(MetadataContextHolder.get()).isNotSameAs(metadataContext);
+	}
+
+	@Test
+	public void testAccessorWithoutContext() {
+		MetadataContextThreadLocalAccessor accessor = new MetadataContextThreadLocalAccessor();
+		MetadataContextHolder.remove();
+
+		// reading a thread without a metadata context leaves it without one.
+		assertThat(accessor.getValue()).isNull();
+		assertThat(MetadataContextHolder.getIfPresent()).isNull();
+		MetadataContext metadataContext = MetadataContextHolder.get();
+		assertThat(accessor.getValue()).isSameAs(metadataContext);
+	}
+
+	@Test
+	public void testPropagatedAcrossSchedulers() {
+		List<MetadataContext> metadataContexts = new ArrayList<>();
+		List<List<MetadataContext>> observedContexts = new ArrayList<>();
+		for (int i = 0; i < REQUEST_COUNT; i++) {
+			metadataContexts.add(new MetadataContext());
+			observedContexts.add(new CopyOnWriteArrayList<>());
+		}
+
+		Flux.range(0, REQUEST_COUNT)
+				.flatMap(i -> request(metadataContexts.get(i), observedContexts.get(i)))
+				.blockLast(Duration.ofSeconds(30));
+
+		for (int i = 0; i < REQUEST_COUNT; i++) {
+			MetadataContext metadataContext = metadataContexts.get(i);
+			assertThat(observedContexts.get(i)).hasSize(5).allSatisfy(observed -> assertThat(observed).isSameAs(metadataContext));
+		}
+	}
+
+	@Test
+	public void testNotLeakedAfterRequests() {
+		Set<MetadataContext> metadataContexts = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+		Flux.range(0, REQUEST_COUNT)
+				.flatMap(i -> {
+					MetadataContext metadataContext = new MetadataContext();
+					metadataContexts.add(metadataContext);
+					return request(metadataContext, new CopyOnWriteArrayList<>());
+				})
+				.blockLast(Duration.ofSeconds(30));
+
+		// the contexts left on the scheduler threads, outside of any request.
+		List<MetadataContext> leftContexts = Flux.range(0, REQUEST_COUNT * 4)
+				.flatMap(i -> Mono.fromCallable(MetadataContextHolder::get)
+						.subscribeOn(i % 2 == 0 ? Schedulers.parallel() : Schedulers.boundedElastic()))
+				.collectList()
+				.block(Duration.ofSeconds(30));
+		leftContexts.add(MetadataContextHolder.get());
+
+		assertThat(leftContexts).noneMatch(metadataContexts::contains);
+	}
+
+	@Test
+	public void testDisabled() {
+		ReactorMetadataContextPropagation.disable();
+		MetadataContext metadataContext = new MetadataContext();
+
+		MetadataContext observed = Mono.fromCallable(MetadataContextHolder::get)
+				.subscribeOn(Schedulers.boundedElastic())
+				.contextWrite(ReactorMetadataContextPropagation.context(metadataContext))
+				.block(Duration.ofSeconds(30));
+
+		assertThat(ReactorMetadataContextPropagation.isEnabled()).isFalse();
+		assertThat(observed).isNotSameAs(metadataContext);
+	}
+
+	/**
+	 * A request hopping across schedulers, recording the metadata context seen by every stage.
+	 */
+	private static Mono<Void> request(MetadataContext metadataContext, List<MetadataContext> observedContexts) {
+		return Mono.fromCallable(MetadataContextHolder::get)
+				.doOnNext(observedContexts::add)
+				.subscribeOn(Schedulers.boundedElastic())
+				.publishOn(Schedulers.parallel())
+				.map(ignored -> MetadataContextHolder.get())
+				.doOnNext(observedContexts::add)
+				.delayElement(Duration.ofMillis(ThreadLocalRandom.current().nextInt(5)))
+				.doOnNext(ignored -> observedContexts.add(MetadataContextHolder.get()))
+				.publishOn(Schedulers.boundedElastic())
+				.filter(ignored -> observedContexts.add(MetadataContextHolder.get()))
+				.doOnSuccess(ignored -> observedContexts.add(MetadataContextHolder.get()))
+				.then()
+				.contextWrite(ReactorMetadataContextPropagation.context(metadataContext))
+				.subscribeOn(Schedulers.parallel());
+	}
+}
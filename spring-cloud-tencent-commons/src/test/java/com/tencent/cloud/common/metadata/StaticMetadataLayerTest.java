@@ -0,0 +1,197 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.metadata;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import com.tencent.cloud.common.metadata.config.MetadataLocalProperties;
+import com.tencent.polaris.metadata.core.MetadataContainer;
+import com.tencent.polaris.metadata.core.MetadataType;
+import com.tencent.polaris.metadata.core.TransitiveType;
+import com.tencent.polaris.metadata.core.manager.MetadataContainerGroup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.tencent.cloud.common.metadata.MetadataContext.FRAGMENT_APPLICATION;
+import static com.tencent.cloud.common.metadata.MetadataContext.FRAGMENT_DISPOSABLE;
+import static com.tencent.cloud.common.metadata.MetadataContext.FRAGMENT_RAW_TRANSHEADERS;
+import static com.tencent.cloud.common.metadata.MetadataContext.FRAGMENT_RAW_TRANSHEADERS_KV;
+import static com.tencent.cloud.common.metadata.MetadataContext.FRAGMENT_TRANSITIVE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link StaticMetadataLayer}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class StaticMetadataLayerTest {
+
+	private StaticMetadataManager staticMetadataManager;
+
+	private StaticMetadataLayer staticMetadataLayer;
+
+	@BeforeEach
+	void setUp() {
+		Map<String, String> content = new HashMap<>();
+		content.put("k1", "v1");
+		content.put("k2", "v2");
+		content.put("k3", "v3");
+		content.put("k4", "v4");
+		MetadataLocalProperties metadataLocalProperties = new MetadataLocalProperties();
+		metadataLocalProperties.setContent(content);
+		metadataLocalProperties.setTransitive(Arrays.asList("k1", "k2"));
+		metadataLocalProperties.setDisposable(Collections.singletonList("k3"));
+		metadataLocalProperties.setHeaders(Arrays.asList("d", "c"));
+		staticMetadataManager = new StaticMetadataManager(metadataLocalProperties, null);
+		staticMetadataLayer = StaticMetadataLayer.of(staticMetadataManager);
+	}
+
+	@Test
+	public void testStaticViewsSharedByContexts() {
+		MetadataContext first = new MetadataContext(staticMetadataLayer);
+		MetadataContext second = new MetadataContext(staticMetadataLayer);
+
+		assertThat(first.getTransitiveMetadata()).containsOnly(Map.entry("k1", "v1"), Map.entry("k2", "v2"));
+		assertThat(first.getDisposableMetadata()).containsOnly(Map.entry("k3", "v3"));
+		assertThat(first.getApplicationMetadata()).hasSize(4);
+		assertThat(first.getTransHeaders()).containsOnly(Map.entry("c,d", ""));
+		assertThat(first.getCustomMetadata()).containsOnly(Map.entry("k1", "v1"), Map.entry("k2", "v2"));
+
+		assertThat(first.getFragmentView(FRAGMENT_TRANSITIVE)).isSameAs(second.getFragmentView(FRAGMENT_TRANSITIVE));
+		assertThat(first.getCustomMetadataView()).isSameAs(second.getCustomMetadataView());
+	}
+
+	@Test
+	public void testOverlayShadowsStaticLayer() {
+		MetadataContext metadataContext = new MetadataContext(staticMetadataLayer);
+		MetadataContext other = new MetadataContext(staticMetadataLayer);
+
+		metadataContext.putContext(FRAGMENT_TRANSITIVE, "k3", "dynamic");
+		metadataContext.setTransHeaders("e", "");
+
+		assertThat(metadataContext.getTransitiveMetadata()).containsOnly(Map.entry("k1", "v1"),
+				Map.entry("k2", "v2"), Map.entry("k3", "dynamic"));
+		assertThat(metadataContext.getDisposableMetadata()).isEmpty();
+		assertThat(metadataContext.getTransHeaders()).containsOnly(Map.entry("c,d", ""), Map.entry("e", ""));
+		// the static layer itself is never modified.
+		assertThat(other.getTransitiveMetadata()).containsOnly(Map.entry("k1", "v1"), Map.entry("k2", "v2"));
+		assertThat(other.getDisposableMetadata()).containsOnly(Map.entry("k3", "v3"));
+	}
+
+	@Test
+	public void testContainerReadsStaticLayer() {
+		MetadataContext metadataContext = new MetadataContext(staticMetadataLayer);
+		metadataContext.putContext(FRAGMENT_TRANSITIVE, "k1", "dynamic");
+		MetadataFragmentView view = metadataContext.getFragmentView(FRAGMENT_TRANSITIVE);
+
+		MetadataContainer metadataContainer = metadataContext.getMetadataContainer(MetadataType.CUSTOM, false);
+		assertThat(metadataContainer.getRawMetadataStringValue("k1")).isEqualTo("dynamic");
+		assertThat(metadataContainer.getRawMetadataStringValue("k2")).isEqualTo("v2");
+		assertThat(metadataContainer.getRawMetadataStringValue("k4")).isEqualTo("v4");
+		assertThat(metadataContainer.getRawMetadataMapValue(FRAGMENT_RAW_TRANSHEADERS, "c,d")).isEqualTo("");
+
+		MetadataContainer applicationContainer = metadataContext.getMetadataContainer(MetadataType.APPLICATION, false);
+		assertThat(applicationContainer.getRawMetadataStringValue("k4")).isEqualTo("v4");
+
+		MetadataContainerGroup containerGroup = metadataContext.getMetadataContainerGroup(false);
+		assertThat(containerGroup.getCustomMetadataContainer().getRawMetadataStringValue("k2")).isEqualTo("v2");
+		assertThat(containerGroup.getApplicationMetadataContainer().getRawMetadataStringValue("k4")).isEqualTo("v4");
+
+		// reading the containers neither copies the static layer nor invalidates the views.
+		assertThat(metadataContext.getFragmentView(FRAGMENT_TRANSITIVE)).isSameAs(view);
+		assertThat(metadataContext.getTransitiveMetadata()).containsOnly(Map.entry("k1", "dynamic"), Map.entry("k2", "v2"));
+		assertThat(new MetadataContext().getMetadataContainer(MetadataType.CUSTOM, false)
+				.getRawMetadataStringValue("k2")).isNull();
+	}
+
+	@Test
+	public void testWriteThroughContainerGroupShadowsStaticLayer() {
+		MetadataContext metadataContext = new MetadataContext(staticMetadataLayer);
+		assertThat(metadataContext.getTransitiveMetadata()).containsEntry("k2", "v2");
+
+		metadataContext.getMetadataContainerGroup(false).getCustomMetadataContainer()
+				.putMetadataStringValue("k2", "dynamic", TransitiveType.PASS_THROUGH);
+
+		assertThat(metadataContext.getTransitiveMetadata()).containsEntry("k2", "dynamic");
+		assertThat(metadataContext.getMetadataContainer(MetadataType.CUSTOM, false).getRawMetadataStringValue("k2"))
+				.isEqualTo("dynamic");
+		assertThat(new MetadataContext(staticMetadataLayer).getTransitiveMetadata()).containsEntry("k2", "v2");
+	}
+
+	@Test
+	public void testSameFragmentsAsEagerCopy() {
+		MetadataContext layered = new MetadataContext(staticMetadataLayer);
+		MetadataContext eager = eagerCopy();
+		Random random = new Random(20261018L);
+		for (int i = 0; i < 1000; i++) {
+			String key = "k" + random.nextInt(6);
+			String value = "v" + i;
+			switch (random.nextInt(5)) {
+			case 0:
+				layered.putContext(FRAGMENT_TRANSITIVE, key, value);
+				eager.putContext(FRAGMENT_TRANSITIVE, key, value);
+				break;
+			case 1:
+				layered.putContext(FRAGMENT_DISPOSABLE, key, value);
+				eager.putContext(FRAGMENT_DISPOSABLE, key, value);
+				break;
+			case 2:
+				layered.putContext(FRAGMENT_APPLICATION, key, value);
+				eager.putContext(FRAGMENT_APPLICATION, key, value);
+				break;
+			case 3:
+				layered.setTransHeadersKV(key, value);
+				eager.setTransHeadersKV(key, value);
+				break;
+			default:
+				// reading the containers changes nothing.
+				layered.getMetadataContainer(MetadataType.CUSTOM, false).getRawMetadataStringValue(key);
+				layered.getMetadataContainerGroup(false).getApplicationMetadataContainer().getRawMetadataStringValue(key);
+				break;
+			}
+			for (String fragment : Arrays.asList(FRAGMENT_TRANSITIVE, FRAGMENT_DISPOSABLE, FRAGMENT_APPLICATION,
+					FRAGMENT_RAW_TRANSHEADERS, FRAGMENT_RAW_TRANSHEADERS_KV)) {
+				assertThat(layered.getFragmentContext(fragment)).isEqualTo(eager.getFragmentContext(fragment));
+			}
+			assertThat(layered.getCustomMetadata()).isEqualTo(eager.getCustomMetadata());
+		}
+	}
+
+	/**
+	 * Build the context the way it was built before the static layer, by copying every static entry.
+	 */
+	private MetadataContext eagerCopy() {
+		MetadataContext metadataContext = new MetadataContext();
+		MetadataContainer metadataContainer = metadataContext.getMetadataContainer(MetadataType.CUSTOM, false);
+		staticMetadataManager.getMergedStaticMetadata().forEach((key, value) ->
+				metadataContainer.putMetadataStringValue(key, value, TransitiveType.NONE));
+		staticMetadataManager.getMergedStaticTransitiveMetadata().forEach((key, value) ->
+				metadataContainer.putMetadataStringValue(key, value, TransitiveType.PASS_THROUGH));
+		staticMetadataManager.getMergedStaticDisposableMetadata().forEach((key, value) ->
+				metadataContainer.putMetadataStringValue(key, value, TransitiveType.DISPOSABLE));
+		metadataContainer.putMetadataMapValue(FRAGMENT_RAW_TRANSHEADERS, staticMetadataManager.getTransHeader(), "", TransitiveType.NONE);
+		MetadataContainer applicationContainer = metadataContext.getMetadataContainer(MetadataType.APPLICATION, false);
+		staticMetadataManager.getMergedStaticMetadata().forEach((key, value) ->
+				applicationContainer.putMetadataStringValue(key, value, TransitiveType.DISPOSABLE));
+		return metadataContext;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.metadata.config;
+
+import com.tencent.cloud.common.metadata.ReactorMetadataContextPropagation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link MetadataContextPropagationAutoConfiguration}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class MetadataContextPropagationAutoConfigurationTest {
+
+	private final ReactiveWebApplicationContextRunner reactiveWebApplicationContextRunner = new ReactiveWebApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(MetadataContextPropagationAutoConfiguration.class));
+
+	@AfterEach
+	public void tearDown() {
+		ReactorMetadataContextPropagation.disable();
+	}
+
+	@Test
+	public void testReactiveWebApplication() {
+		this.reactiveWebApplicationContextRunner
+				.withPropertyValues("spring.cloud.tencent.metadata.reactor-context-propagation.enabled=true")
+				.run(context -> {
+					assertThat(context).hasSingleBean(MetadataContextPropagationAutoConfiguration.class);
+					assertThat(ReactorMetadataContextPropagation.isEnabled()).isTrue();
+				});
+	}
+
+	@Test
+	public void testDisabledByDefault() {
+		this.reactiveWebApplicationContextRunner.run(context -> {
+			assertThat(context).doesNotHaveBean(MetadataContextPropagationAutoConfiguration.class);
+			assertThat(ReactorMetadataContextPropagation.isEnabled()).isFalse();
+		});
+	}
+
+	@Test
+	public void testServletWebApplication() {
+		new WebApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(MetadataContextPropagationAutoConfiguration.class))
+				.withPropertyValues("spring.cloud.tencent.metadata.reactor-context-propagation.enabled=true")
+				.run(context -> assertThat(context).doesNotHaveBean(MetadataContextPropagationAutoConfiguration.class));
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.pojo;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Consumer;
+
+import com.tencent.polaris.api.pojo.DefaultInstance;
+import com.tencent.polaris.api.pojo.DefaultServiceInstances;
+import com.tencent.polaris.api.pojo.Instance;
+import com.tencent.polaris.api.pojo.ServiceInstances;
+import com.tencent.polaris.api.pojo.ServiceKey;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import static com.tencent.polaris.test.common.Consts.NAMESPACE_TEST;
+import static com.tencent.polaris.test.common.Consts.SERVICE_PROVIDER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link PolarisServiceInstanceList}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class PolarisServiceInstanceListTest {
+
+	@Test
+	public void testServiceInstances() {
+		ServiceInstances serviceInstances = serviceInstances();
+		PolarisServiceInstanceList servers = new PolarisServiceInstanceList(serviceInstances, PolarisServiceInstance::new);
+
+		assertThat(servers).hasSize(2);
+		assertThat(((PolarisServiceInstance) servers.get(1)).getPolarisInstance())
+				.isSameAs(serviceInstances.getInstances().get(1));
+		assertThat(servers.getServiceInstances()).isSameAs(serviceInstances);
+	}
+
+	@Test
+	public void testModified() {
+		assertModified(servers -> servers.remove(0));
+		assertModified(servers -> servers.add(servers.get(0)));
+		assertModified(servers -> servers.set(0, servers.get(1)));
+		assertModified(servers -> servers.subList(0, 1).set(0, servers.get(1)));
+		assertModified(servers -> servers.subList(0, 1).clear());
+		assertModified(servers -> servers.sort(Comparator.comparing(ServiceInstance::getInstanceId).reversed()));
+		assertModified(servers -> Collections.swap(servers, 0, 1));
+		assertModified(servers -> servers.removeIf(server -> "instance-1".equals(server.getInstanceId())));
+		assertModified(servers -> {
+			ListIterator<ServiceInstance> iterator = servers.listIterator();
+			iterator.set(iterator.next());
+		});
+		assertModified(List::clear);
+	}
+
+	@Test
+	public void testFilteredInPlace() {
+		PolarisServiceInstanceList servers = new PolarisServiceInstanceList(serviceInstances(), PolarisServiceInstance::new);
+		servers.removeIf(server -> "instance-1".equals(server.getInstanceId()));
+
+		assertThat(servers).extracting(ServiceInstance::getInstanceId).containsExactly("instance-2");
+	}
+
+	private static void assertModified(Consumer<List<ServiceInstance>> modification) {
+		PolarisServiceInstanceList servers = new PolarisServiceInstanceList(serviceInstances(), PolarisServiceInstance::new);
+		modification.accept(servers);
+		assertThat(servers.getServiceInstances()).isNull();
+	}
+
+	private static ServiceInstances serviceInstances() {
+		List<Instance> instances = Arrays.asList(instance("instance-1"), instance("instance-2"));
+		return new DefaultServiceInstances(new ServiceKey(NAMESPACE_TEST, SERVICE_PROVIDER), instances);
+	}
+
+	private static Instance instance(String id) {
+		DefaultInstance instance = new DefaultInstance();
+		instance.setId(id);
+		instance.setNamespace(NAMESPACE_TEST);
+		instance.setService(SERVICE_PROVIDER);
+		instance.setHost("127.0.0.1");
+		instance.setPort(8080);
+		return instance;
+	}
+}
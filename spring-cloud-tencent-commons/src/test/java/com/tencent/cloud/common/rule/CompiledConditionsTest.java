@@ -0,0 +1,128 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.rule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link CompiledConditions}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class CompiledConditionsTest {
+
+	private static final String[] OPERATIONS = {
+			"EQUALS", "equals", "NOT_EQUALS", "IN", "not_in", "REGEX", "Regex", "BLANK", "NOT_BLANK", "UNKNOWN", null
+	};
+
+	private static final List<List<String>> VALUES = Arrays.asList(null, Collections.emptyList(),
+			Collections.singletonList("v1"), Arrays.asList("v1", "v2"), Collections.singletonList("v[1~10]"),
+			Collections.singletonList("a.*"), Collections.singletonList("("), Collections.singletonList(null));
+
+	private static final String[] ACTUAL_VALUES = {null, "", " ", "v1", "v2", "v12", "a b"};
+
+	@Test
+	public void testMatch() {
+		CompiledConditions conditions = CompiledConditions.compile(Arrays.asList(
+				condition("k1", "IN", "v1", "v2"),
+				condition("k2", "regex", "v[1~10]"),
+				condition("k3", "NOT_BLANK")));
+
+		assertThat(conditions.getKeys()).containsExactly("k1", "k2", "k3");
+		assertThat(conditions.match(values("v2", "v1", "x"))).isTrue();
+		assertThat(conditions.match(values("v3", "v1", "x"))).isFalse();
+		assertThat(conditions.match(values("v1", "v12", "x"))).isFalse();
+		assertThat(conditions.match(values("v1", "v1", " "))).isFalse();
+		assertThat(CompiledConditions.compile(null).match(new HashMap<>())).isTrue();
+	}
+
+	@Test
+	public void testInvalidConditionFailsWhenEvaluated() {
+		CompiledConditions invalidOperation = CompiledConditions.compile(Arrays.asList(
+				condition("k1", "EQUALS", "v1"), condition("k2", "UNKNOWN", "v1")));
+		CompiledConditions invalidRegex = CompiledConditions.compile(Collections.singletonList(condition("k1", "REGEX", "(")));
+
+		// short-circuited before the invalid condition.
+		assertThat(invalidOperation.match(values("v2", "v1", null))).isFalse();
+		assertThatThrownBy(() -> invalidOperation.match(values("v1", "v1", null))).isInstanceOf(RuntimeException.class);
+		assertThatThrownBy(() -> invalidRegex.match(values("v1", null, null))).isInstanceOf(PatternSyntaxException.class);
+	}
+
+	@Test
+	public void testSameAsConditionUtils() {
+		Random random = new Random(20261018L);
+		for (int i = 0; i < 5000; i++) {
+			List<Condition> conditions = new ArrayList<>();
+			int size = 1 + random.nextInt(3);
+			for (int j = 0; j < size; j++) {
+				Condition condition = new Condition();
+				condition.setKey("k" + random.nextInt(3));
+				condition.setOperation(OPERATIONS[random.nextInt(OPERATIONS.length)]);
+				condition.setValues(VALUES.get(random.nextInt(VALUES.size())));
+				conditions.add(condition);
+			}
+			CompiledConditions compiled = CompiledConditions.compile(conditions);
+			Map<String, String> actualValues = values(ACTUAL_VALUES[random.nextInt(ACTUAL_VALUES.length)],
+					ACTUAL_VALUES[random.nextInt(ACTUAL_VALUES.length)], ACTUAL_VALUES[random.nextInt(ACTUAL_VALUES.length)]);
+
+			assertThat(outcome(() -> compiled.match(actualValues))).as(conditions + " " + actualValues)
+					.isEqualTo(outcome(() -> ConditionUtils.match(actualValues, conditions)));
+		}
+	}
+
+	private static Condition condition(String key, String operation, String... values) {
+		Condition condition = new Condition();
+		condition.setKey(key);
+		condition.setOperation(operation);
+		condition.setValues(Arrays.asList(values));
+		return condition;
+	}
+
+	private static Map<String, String> values(String v1, String v2, String v3) {
+		Map<String, String> values = new HashMap<>();
+		values.put("k1", v1);
+		values.put("k2", v2);
+		values.put("k3", v3);
+		return values;
+	}
+
+	/**
+	 * Result of the match, or the class of the exception it throws.
+	 */
+	private static Object outcome(Supplier<Boolean> match) {
+		try {
+			return match.get();
+		}
+		catch (RuntimeException e) {
+			return e.getClass();
+		}
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.rule;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link RegexPatterns}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class RegexPatternsTest {
+
+	@Test
+	public void testCompiledPatternReused() {
+		Pattern pattern = RegexPatterns.compile("v[0-9]+");
+
+		assertThat(RegexPatterns.compile("v[0-9]+")).isSameAs(pattern);
+		assertThat(pattern.matcher("v12").matches()).isTrue();
+		assertThatThrownBy(() -> RegexPatterns.compile("(")).isInstanceOf(PatternSyntaxException.class);
+	}
+
+	@Test
+	public void testCacheBounded() {
+		for (int i = 0; i < RegexPatterns.MAX_CACHED_SIZE * 3; i++) {
+			RegexPatterns.compile("bounded-" + i);
+			assertThat(RegexPatterns.size()).isLessThanOrEqualTo(RegexPatterns.MAX_CACHED_SIZE);
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link BoundedCache}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class BoundedCacheTest {
+
+	@Test
+	public void testLoad() {
+		BoundedCache<String, Integer> cache = new BoundedCache<>(4);
+		AtomicInteger loads = new AtomicInteger();
+
+		assertThat(cache.get("a", key -> loads.incrementAndGet())).isEqualTo(1);
+		assertThat(cache.get("a", key -> loads.incrementAndGet())).isEqualTo(1);
+		assertThat(cache.get("b", key -> null)).isNull();
+		assertThatThrownBy(() -> cache.get("c", key -> {
+			throw new IllegalArgumentException(key);
+		})).isInstanceOf(IllegalArgumentException.class);
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.containsKey("b")).isFalse();
+	}
+
+	@Test
+	public void testPut() {
+		BoundedCache<String, Integer> cache = new BoundedCache<>(4);
+		cache.put("a", 1);
+		cache.put("a", 2);
+
+		assertThat(cache.get("a")).isEqualTo(2);
+		assertThat(cache.putIfAbsent("a", 3)).isEqualTo(2);
+		assertThat(cache.putIfAbsent("b", 3)).isNull();
+		assertThat(cache.remove("a", 1)).isFalse();
+		assertThat(cache.remove("a")).isEqualTo(2);
+		assertThat(cache.size()).isEqualTo(1);
+		cache.clear();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void testEvictOneWhenFull() {
+		BoundedCache<Integer, Integer> cache = new BoundedCache<>(100);
+		for (int i = 0; i < 1000; i++) {
+			cache.put(i, i);
+			assertThat(cache.size()).isLessThanOrEqualTo(100);
+		}
+		assertThat(cache.size()).isEqualTo(100);
+		assertThat(cache.containsKey(999)).isTrue();
+
+		// replacing the value of a cached key evicts nothing.
+		cache.put(999, -1);
+		assertThat(cache.size()).isEqualTo(100);
+		assertThat(cache.get(999)).isEqualTo(-1);
+	}
+
+	@Test
+	public void testInvalidMaxSize() {
+		assertThatThrownBy(() -> new BoundedCache<>(0)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.util;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import com.tencent.cloud.common.util.expresstion.ExpressionLabelExtractors;
+import com.tencent.cloud.common.util.expresstion.ExpressionLabelRequest;
+import com.tencent.cloud.common.util.expresstion.ExpressionLabelUtils;
+import com.tencent.cloud.common.util.expresstion.ServletExpressionLabelUtils;
+import com.tencent.cloud.common.util.expresstion.SpringWebExpressionLabelUtils;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.MockCookie;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link ExpressionLabelExtractors}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class ExpressionLabelExtractorsTest {
+
+	@Test
+	public void testCompiledOncePerLabelKeys() {
+		Set<String> labelKeys = Stream.of("$header.uid", "${http.query.uid}", "${http.cookie.uid}",
+				"$method", "${http.uri}", "$query.", "uid", "$caller_ip").collect(toSet());
+
+		ExpressionLabelExtractors extractors = ExpressionLabelExtractors.compile(labelKeys);
+
+		assertThat(ExpressionLabelExtractors.compile(new HashSet<>(labelKeys))).isSameAs(extractors);
+		assertThat(extractors.size()).isEqualTo(5);
+		labelKeys.add("$header.other");
+		assertThat(ExpressionLabelExtractors.compile(labelKeys)).isNotSameAs(extractors);
+	}
+
+	@Test
+	public void testServletLabelRequestSharedAndRefreshed() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setQueryString("uid=a&uid=b&x=1=2&y=&z=3");
+		request.setCookies(new MockCookie("uid", "c1"), new MockCookie("uid", "c2"));
+
+		ExpressionLabelRequest labelRequest = ServletExpressionLabelUtils.getLabelRequest(request);
+		assertThat(ServletExpressionLabelUtils.getLabelRequest(request)).isSameAs(labelRequest);
+		assertThat(labelRequest.getQuery("uid")).isEqualTo("a");
+		assertThat(labelRequest.getQuery("x")).isNull();
+		assertThat(labelRequest.getQuery("y")).isNull();
+		assertThat(labelRequest.getQuery("z")).isEqualTo("3");
+		assertThat(labelRequest.getCookie("uid")).isEqualTo("c1");
+		assertThat(labelRequest.getCookie("none")).isNull();
+
+		// e.g. forwarded request
+		request.setQueryString("uid=forwarded");
+		request.setCookies(new MockCookie("uid", "c3"));
+		assertThat(labelRequest.getQuery("uid")).isEqualTo("forwarded");
+		assertThat(labelRequest.getCookie("uid")).isEqualTo("c3");
+
+		Map<String, String> labels = ServletExpressionLabelUtils.resolve(request,
+				Stream.of("${http.cookie.none}", "$query.uid").collect(toSet()));
+		assertThat(labels).containsEntry("${http.cookie.none}", "").containsEntry("$query.uid", "forwarded");
+	}
+
+	@Test
+	public void testServerWebExchangeLabelRequest() {
+		MockServerHttpRequest request = MockServerHttpRequest.get("http://callee/echo?uid=a&uid=b").build();
+		MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+		ExpressionLabelRequest labelRequest = SpringWebExpressionLabelUtils.getLabelRequest(exchange);
+		assertThat(SpringWebExpressionLabelUtils.getLabelRequest(exchange)).isSameAs(labelRequest);
+		assertThat(labelRequest.getQuery("uid")).isEqualTo("a");
+
+		// the request mutated by a filter shares the attributes of the exchange.
+		ServerWebExchange mutated = exchange.mutate().request(request.mutate().header("uid", "h").build()).build();
+		assertThat(SpringWebExpressionLabelUtils.getLabelRequest(mutated).getHeader("uid")).isEqualTo("h");
+	}
+
+	@Test
+	public void testHttpRequestLabelRequest() {
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, URI.create("http://callee/echo?uid=a&uid=b"));
+		request.getHeaders().add("cookie", "uid=zhangsan; auth-token=abc");
+
+		ExpressionLabelRequest labelRequest = SpringWebExpressionLabelUtils.getLabelRequest(request);
+		assertThat(labelRequest.getQuery("uid")).isEqualTo("a");
+		assertThat(labelRequest.getCookie("uid")).isEqualTo("zhangsan");
+		assertThat(labelRequest.getCookie(" auth-token")).isEqualTo("abc");
+		assertThat(labelRequest.getMethod()).isEqualTo("POST");
+		assertThat(labelRequest.getUri()).isEqualTo("/echo");
+	}
+
+	@Test
+	public void testSameAsPerLabelParsing() {
+		String[] fragments = {"a", "b", "uid", "=", "&", "&&", "==", "x"};
+		Random random = new Random(20261018L);
+		for (int i = 0; i < 2000; i++) {
+			StringBuilder queryString = new StringBuilder();
+			int length = random.nextInt(12);
+			for (int j = 0; j < length; j++) {
+				queryString.append(fragments[random.nextInt(fragments.length)]);
+			}
+			MockHttpServletRequest request = new MockHttpServletRequest();
+			request.setQueryString(queryString.toString());
+			ExpressionLabelRequest labelRequest = ServletExpressionLabelUtils.getLabelRequest(request);
+			for (String key : new String[] {"a", "b", "uid", "x", "ab"}) {
+				assertThat(labelRequest.getQuery(key)).as(queryString.toString())
+						.isEqualTo(ExpressionLabelUtils.getQueryValue(queryString.toString(), key));
+			}
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.util;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.common.metadata.MetadataContextHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link PolarisCompletableFutureUtils}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class PolarisCompletableFutureUtilsTest {
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	@BeforeEach
+	public void setUp() {
+		MetadataContext metadataContext = new MetadataContext();
+		metadataContext.setTransitiveMetadata(Collections.singletonMap("k1", "v1"));
+		MetadataContextHolder.set(metadataContext);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		MetadataContextHolder.remove();
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testSupplyAsyncWithExecutor() throws Exception {
+		assertThat(PolarisCompletableFutureUtils.supplyAsync(PolarisCompletableFutureUtilsTest::transitiveValue, executor)
+				.get(5, TimeUnit.SECONDS)).isEqualTo("v1");
+	}
+
+	@Test
+	public void testRunAsyncWithExecutor() throws Exception {
+		String[] values = new String[1];
+
+		PolarisCompletableFutureUtils.runAsync(() -> values[0] = transitiveValue(), executor).get(5, TimeUnit.SECONDS);
+
+		assertThat(values).containsExactly("v1");
+	}
+
+	private static String transitiveValue() {
+		return MetadataContextHolder.get().getTransitiveMetadata().get("k1");
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.common.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.tencent.cloud.common.constant.RouterConstant;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link RouterLabelHeaders}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class RouterLabelHeadersTest {
+
+	@Test
+	public void testParse() {
+		Map<String, String> labels = new LinkedHashMap<>();
+		labels.put("k1", "v1");
+		labels.put("k2", "v 2");
+		HttpHeaders headers = new HttpHeaders();
+		headers.add(RouterConstant.ROUTER_LABEL_HEADER, UrlUtils.encode(JacksonUtils.serialize2Json(labels)));
+
+		RouterLabelHeaders.Labels parsed = RouterLabelHeaders.get(headers);
+		assertThat(parsed.isPresent()).isTrue();
+		assertThat(parsed.isValid()).isTrue();
+		assertThat(parsed.getLabelMap()).isEqualTo(labels);
+		assertThat(parsed.getLabelString()).isEqualTo("k1:v1|k2:v 2");
+		// parsed once for the requests carrying the same header.
+		assertThat(RouterLabelHeaders.get(headers)).isSameAs(parsed);
+		assertThatThrownBy(() -> parsed.getLabelMap().put("k3", "v3")).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	public void testAbsentAndInvalid() {
+		RouterLabelHeaders.Labels absent = RouterLabelHeaders.get(new HttpHeaders());
+		assertThat(absent.isPresent()).isFalse();
+		assertThat(absent.isValid()).isTrue();
+		assertThat(absent.getLabelMap()).isEmpty();
+		assertThat(absent.getLabelString()).isNull();
+		assertThat(RouterLabelHeaders.get(null)).isSameAs(absent);
+
+		RouterLabelHeaders.Labels invalid = RouterLabelHeaders.parse("not-json");
+		assertThat(invalid.isPresent()).isTrue();
+		assertThat(invalid.isValid()).isFalse();
+		assertThat(invalid.getLabelMap()).isNull();
+		assertThat(invalid.getLabelString()).isEqualTo("not-json");
+
+		assertThat(RouterLabelHeaders.parse("").getLabelMap()).isEmpty();
+		assertThatThrownBy(() -> RouterLabelHeaders.parse("%zz")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void testCacheBounded() {
+		for (int i = 0; i < RouterLabelHeaders.MAX_CACHED_SIZE * 3; i++) {
+			RouterLabelHeaders.parse("{\"k\":\"" + i + "\"}");
+			assertThat(RouterLabelHeaders.size()).isLessThanOrEqualTo(RouterLabelHeaders.MAX_CACHED_SIZE);
+		}
+	}
+}
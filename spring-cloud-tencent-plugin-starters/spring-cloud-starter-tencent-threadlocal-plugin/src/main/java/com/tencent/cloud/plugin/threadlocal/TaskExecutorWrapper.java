@@ -38,6 +38,21 @@ public class TaskExecutorWrapper<T> implements TaskExecutor {
 		this.contextSetter = contextSetter;
 	}
 
+	/**
+	 * Create a wrapper running every task on a new virtual thread.
+	 * @param threadNamePrefix prefix of the thread names
+	 * @param contextGetter context getter
+	 * @param contextSetter context setter
+	 * @param <T> type of context
+	 * @return task executor wrapper
+	 * @throws IllegalStateException if virtual threads are not supported by the running JVM
+	 * @see VirtualThreadTaskExecutor#isSupported()
+	 */
+	public static <T> TaskExecutorWrapper<T> ofVirtualThreads(String threadNamePrefix,
+			Supplier<T> contextGetter, Consumer<T> contextSetter) {
+		return new TaskExecutorWrapper<>(new VirtualThreadTaskExecutor(threadNamePrefix), contextGetter, contextSetter);
+	}
+
 	@Override
 	public void execute(Runnable command) {
 		taskExecutor.execute(new RunnableWrapper<>(command, contextGetter, contextSetter));
@@ -0,0 +1,94 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.plugin.threadlocal;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.core.task.TaskExecutor;
+
+/**
+ * {@link TaskExecutor} running every task on a new virtual thread.
+ * <p>
+ * Virtual threads are available since Java 21 while the plugin is built for Java 17, so they are created through
+ * reflection. Check {@link #isSupported()} before creating the executor.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class VirtualThreadTaskExecutor implements TaskExecutor {
+
+	private static final Method OF_VIRTUAL;
+
+	private static final Method BUILDER_NAME;
+
+	private static final Method BUILDER_FACTORY;
+
+	static {
+		Method ofVirtual = null;
+		Method builderName = null;
+		Method builderFactory = null;
+		if (Runtime.version().feature() >= 21) {
+			try {
+				ofVirtual = Thread.class.getMethod("ofVirtual");
+				Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+				builderName = builderClass.getMethod("name", String.class, long.class);
+				builderFactory = builderClass.getMethod("factory");
+			}
+			catch (ReflectiveOperationException e) {
+				ofVirtual = null;
+			}
+		}
+		OF_VIRTUAL = ofVirtual;
+		BUILDER_NAME = builderName;
+		BUILDER_FACTORY = builderFactory;
+	}
+
+	private final ThreadFactory threadFactory;
+
+	/**
+	 * Create the executor.
+	 * @param threadNamePrefix prefix of the thread names, followed by a counter
+	 * @throws IllegalStateException if virtual threads are not supported by the running JVM
+	 */
+	public VirtualThreadTaskExecutor(String threadNamePrefix) {
+		if (!isSupported()) {
+			throw new IllegalStateException("Virtual threads require Java 21 or later, current is "
+					+ Runtime.version().feature() + ".");
+		}
+		try {
+			Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), threadNamePrefix, 0L);
+			this.threadFactory = (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+		}
+		catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Failed to create the virtual thread factory.", e);
+		}
+	}
+
+	/**
+	 * Whether the running JVM supports virtual threads.
+	 * @return true on Java 21 or later
+	 */
+	public static boolean isSupported() {
+		return OF_VIRTUAL != null;
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		threadFactory.newThread(task).start();
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.plugin.threadlocal;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test for {@link VirtualThreadTaskExecutor}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class VirtualThreadTaskExecutorTest {
+
+	private static final ThreadLocal<String> TEST_THREAD_LOCAL = new ThreadLocal<>();
+
+	private static final String TEST = "TEST";
+
+	@Test
+	public void testExecuteOnVirtualThread() throws Exception {
+		assumeTrue(VirtualThreadTaskExecutor.isSupported());
+
+		AtomicReference<Thread> thread = new AtomicReference<>();
+		CountDownLatch latch = new CountDownLatch(1);
+		new VirtualThreadTaskExecutor("test-virtual-").execute(() -> {
+			thread.set(Thread.currentThread());
+			latch.countDown();
+		});
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(isVirtual(thread.get())).isTrue();
+		assertThat(thread.get().getName()).startsWith("test-virtual-");
+	}
+
+	@Test
+	public void testWrapperPropagatesContext() throws Exception {
+		assumeTrue(VirtualThreadTaskExecutor.isSupported());
+
+		TEST_THREAD_LOCAL.set(TEST);
+		AtomicReference<String> result = new AtomicReference<>();
+		CountDownLatch latch = new CountDownLatch(1);
+		try {
+			TaskExecutorWrapper.ofVirtualThreads("test-virtual-", TEST_THREAD_LOCAL::get, TEST_THREAD_LOCAL::set)
+					.execute(() -> {
+						result.set(TEST_THREAD_LOCAL.get());
+						latch.countDown();
+					});
+
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(result.get()).isEqualTo(TEST);
+		}
+		finally {
+			TEST_THREAD_LOCAL.remove();
+		}
+	}
+
+	@Test
+	public void testUnsupported() {
+		assumeFalse(VirtualThreadTaskExecutor.isSupported());
+
+		assertThatThrownBy(() -> new VirtualThreadTaskExecutor("test-virtual-"))
+				.isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> TaskExecutorWrapper.ofVirtualThreads("test-virtual-", TEST_THREAD_LOCAL::get, TEST_THREAD_LOCAL::set))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	static boolean isVirtual(Thread thread) throws Exception {
+		Method isVirtual = Thread.class.getMethod("isVirtual");
+		return (Boolean) isVirtual.invoke(thread);
+	}
+}
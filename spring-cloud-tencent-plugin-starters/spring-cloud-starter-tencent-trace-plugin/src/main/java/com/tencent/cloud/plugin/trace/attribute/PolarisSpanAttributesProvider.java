@@ -43,19 +43,19 @@ public class PolarisSpanAttributesProvider implements SpanAttributesProvider {
 	public Map<String, String> getServerSpanAttributes(EnhancedPluginContext context) {
 		Map<String, String> attributes = new HashMap<>();
 		MetadataContext metadataContext = MetadataContextHolder.get();
-		Map<String, String> transitiveCustomAttributes = metadataContext.getFragmentContext(MetadataContext.FRAGMENT_TRANSITIVE);
+		Map<String, String> transitiveCustomAttributes = metadataContext.getFragmentView(MetadataContext.FRAGMENT_TRANSITIVE).getValues();
 		if (CollectionUtils.isNotEmpty(transitiveCustomAttributes)) {
 			for (Map.Entry<String, String> entry : transitiveCustomAttributes.entrySet()) {
 				attributes.put("custom." + entry.getKey(), entry.getValue());
 			}
 		}
-		Map<String, String> disposableCustomAttributes = metadataContext.getFragmentContext(MetadataContext.FRAGMENT_DISPOSABLE);
+		Map<String, String> disposableCustomAttributes = metadataContext.getFragmentView(MetadataContext.FRAGMENT_DISPOSABLE).getValues();
 		if (CollectionUtils.isNotEmpty(disposableCustomAttributes)) {
 			for (Map.Entry<String, String> entry : disposableCustomAttributes.entrySet()) {
 				attributes.put("custom." + entry.getKey(), entry.getValue());
 			}
 		}
-		Map<String, String> upstreamDisposableCustomAttributes = metadataContext.getFragmentContext(MetadataContext.FRAGMENT_UPSTREAM_DISPOSABLE);
+		Map<String, String> upstreamDisposableCustomAttributes = metadataContext.getFragmentView(MetadataContext.FRAGMENT_UPSTREAM_DISPOSABLE).getValues();
 		if (CollectionUtils.isNotEmpty(upstreamDisposableCustomAttributes)) {
 			for (Map.Entry<String, String> entry : upstreamDisposableCustomAttributes.entrySet()) {
 				attributes.put("custom." + entry.getKey(), entry.getValue());
@@ -70,13 +70,13 @@ public class PolarisSpanAttributesProvider implements SpanAttributesProvider {
 	public Map<String, String> getClientBaggageAttributes(EnhancedPluginContext context) {
 		Map<String, String> attributes = new HashMap<>();
 		MetadataContext metadataContext = MetadataContextHolder.get();
-		Map<String, String> transitiveCustomAttributes = metadataContext.getFragmentContext(MetadataContext.FRAGMENT_TRANSITIVE);
+		Map<String, String> transitiveCustomAttributes = metadataContext.getFragmentView(MetadataContext.FRAGMENT_TRANSITIVE).getValues();
 		if (CollectionUtils.isNotEmpty(transitiveCustomAttributes)) {
 			for (Map.Entry<String, String> entry : transitiveCustomAttributes.entrySet()) {
 				attributes.put("custom." + entry.getKey(), entry.getValue());
 			}
 		}
-		Map<String, String> disposableCustomAttributes = metadataContext.getFragmentContext(MetadataContext.FRAGMENT_DISPOSABLE);
+		Map<String, String> disposableCustomAttributes = metadataContext.getFragmentView(MetadataContext.FRAGMENT_DISPOSABLE).getValues();
 		if (CollectionUtils.isNotEmpty(disposableCustomAttributes)) {
 			for (Map.Entry<String, String> entry : disposableCustomAttributes.entrySet()) {
 				attributes.put("custom." + entry.getKey(), entry.getValue());
@@ -19,13 +19,10 @@ package com.tencent.cloud.plugin.gateway.staining.rule;
 
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
-import com.tencent.cloud.common.rule.Condition;
-import com.tencent.cloud.common.rule.ConditionUtils;
+import com.tencent.cloud.common.rule.CompiledConditions;
 import com.tencent.cloud.common.rule.KVPairUtils;
 import com.tencent.cloud.common.util.expresstion.SpringWebExpressionLabelUtils;
 
@@ -51,13 +48,11 @@ public class RuleStainingExecutor {
 		Map<String, String> parsedLabels = new HashMap<>();
 
 		for (StainingRule.Rule rule : rules) {
-			List<Condition> conditions = rule.getConditions();
+			CompiledConditions conditions = rule.getCompiledConditions();
 
-			Set<String> keys = new HashSet<>();
-			conditions.forEach(condition -> keys.add(condition.getKey()));
-			Map<String, String> actualValues = SpringWebExpressionLabelUtils.resolve(exchange, keys);
+			Map<String, String> actualValues = SpringWebExpressionLabelUtils.resolve(exchange, conditions.getKeys());
 
-			if (!ConditionUtils.match(actualValues, conditions)) {
+			if (!conditions.match(actualValues)) {
 				continue;
 			}
 
@@ -19,6 +19,8 @@ package com.tencent.cloud.plugin.gateway.staining.rule;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.tencent.cloud.common.rule.CompiledConditions;
 import com.tencent.cloud.common.rule.Condition;
 import com.tencent.cloud.common.rule.KVPair;
 
@@ -48,6 +50,7 @@ public class StainingRule {
 	public static class Rule {
 		private List<Condition> conditions;
 		private List<KVPair> labels;
+		private volatile CompiledConditions compiledConditions;
 
 		public List<Condition> getConditions() {
 			return conditions;
@@ -55,6 +58,21 @@ public class StainingRule {
 
 		public void setConditions(List<Condition> conditions) {
 			this.conditions = conditions;
+			this.compiledConditions = null;
+		}
+
+		/**
+		 * Get the conditions compiled into predicates, compiled at the first call after the conditions are set.
+		 * @return compiled conditions
+		 */
+		@JsonIgnore
+		public CompiledConditions getCompiledConditions() {
+			CompiledConditions compiled = compiledConditions;
+			if (compiled == null) {
+				compiled = CompiledConditions.compile(conditions);
+				compiledConditions = compiled;
+			}
+			return compiled;
 		}
 
 		public List<KVPair> getLabels() {
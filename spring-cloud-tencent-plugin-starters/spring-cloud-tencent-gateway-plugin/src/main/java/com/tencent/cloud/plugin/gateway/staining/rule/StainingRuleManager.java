@@ -65,7 +65,9 @@ public class StainingRuleManager {
 		}
 
 		try {
-			stainingRule = JacksonUtils.deserialize(ruleJsonStr, StainingRule.class);
+			StainingRule newStainingRule = JacksonUtils.deserialize(ruleJsonStr, StainingRule.class);
+			compile(newStainingRule);
+			stainingRule = newStainingRule;
 		}
 		catch (Exception e) {
 			LOGGER.error("[SCT] deserialize staining rule error.", e);
@@ -73,6 +75,18 @@ public class StainingRuleManager {
 		}
 	}
 
+	/**
+	 * Compile conditions when the rule loads instead of at the first request.
+	 */
+	private void compile(StainingRule newStainingRule) {
+		if (newStainingRule == null || newStainingRule.getRules() == null) {
+			return;
+		}
+		for (StainingRule.Rule rule : newStainingRule.getRules()) {
+			rule.getCompiledConditions();
+		}
+	}
+
 	public StainingRule getStainingRule() {
 		return stainingRule;
 	}
@@ -88,6 +88,15 @@ public class ServiceRuleManager {
 		return rules;
 	}
 
+	/**
+	 * Get the revision of the router rules of the source service and the peer service, which changes with the rules.
+	 */
+	public String getServiceRouterRuleRevision(String namespace, String sourceService, String dstService) {
+		ServiceRule sourceServiceRule = getServiceRule(namespace, sourceService, ServiceEventKey.EventType.ROUTING);
+		ServiceRule dstServiceRule = getServiceRule(namespace, dstService, ServiceEventKey.EventType.ROUTING);
+		return getRevision(sourceServiceRule) + "/" + getRevision(dstServiceRule);
+	}
+
 	public List<CircuitBreakerProto.CircuitBreakerRule> getServiceCircuitBreakerRule(String namespace, String sourceService, String dstService) {
 		LOG.debug("Get service circuit breaker rules with namespace:{} and sourceService:{} and dstService:{}.", namespace, sourceService, dstService);
 
@@ -125,4 +134,11 @@ public class ServiceRuleManager {
 		return res.getServiceRule();
 	}
 
+	private static String getRevision(ServiceRule serviceRule) {
+		if (serviceRule == null || serviceRule.getRevision() == null) {
+			return "";
+		}
+		return serviceRule.getRevision();
+	}
+
 }
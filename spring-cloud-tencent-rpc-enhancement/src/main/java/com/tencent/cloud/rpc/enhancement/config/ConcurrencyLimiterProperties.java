@@ -0,0 +1,209 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties of the adaptive concurrency limiter of the client calls. The top-level limits apply to every callee
+ * service, and can be overridden per callee service in {@code services}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@ConfigurationProperties("spring.cloud.tencent.rpc-enhancement.concurrency-limiter")
+public class ConcurrencyLimiterProperties {
+
+	/**
+	 * Whether limit the concurrent calls to the callee services.
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * Limit before the first samples.
+	 */
+	private int initialLimit = 20;
+
+	/**
+	 * Minimum limit.
+	 */
+	private int minLimit = 1;
+
+	/**
+	 * Maximum limit.
+	 */
+	private int maxLimit = 200;
+
+	/**
+	 * Ratio of the short-term RTT to the long-term RTT tolerated before the limit is decreased.
+	 */
+	private double rttTolerance = 1.5;
+
+	/**
+	 * Weight of a new limit, from 0 to 1.
+	 */
+	private double smoothing = 0.2;
+
+	/**
+	 * Number of samples averaged into the short-term RTT.
+	 */
+	private int windowSize = 10;
+
+	/**
+	 * Number of windows the long-term RTT is averaged over.
+	 */
+	private int longWindow = 60;
+
+	/**
+	 * Overrides per callee service.
+	 */
+	private Map<String, Service> services = new HashMap<>();
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public int getInitialLimit() {
+		return initialLimit;
+	}
+
+	public void setInitialLimit(int initialLimit) {
+		this.initialLimit = initialLimit;
+	}
+
+	public int getMinLimit() {
+		return minLimit;
+	}
+
+	public void setMinLimit(int minLimit) {
+		this.minLimit = minLimit;
+	}
+
+	public int getMaxLimit() {
+		return maxLimit;
+	}
+
+	public void setMaxLimit(int maxLimit) {
+		this.maxLimit = maxLimit;
+	}
+
+	public double getRttTolerance() {
+		return rttTolerance;
+	}
+
+	public void setRttTolerance(double rttTolerance) {
+		this.rttTolerance = rttTolerance;
+	}
+
+	public double getSmoothing() {
+		return smoothing;
+	}
+
+	public void setSmoothing(double smoothing) {
+		this.smoothing = smoothing;
+	}
+
+	public int getWindowSize() {
+		return windowSize;
+	}
+
+	public void setWindowSize(int windowSize) {
+		this.windowSize = windowSize;
+	}
+
+	public int getLongWindow() {
+		return longWindow;
+	}
+
+	public void setLongWindow(int longWindow) {
+		this.longWindow = longWindow;
+	}
+
+	public Map<String, Service> getServices() {
+		return services;
+	}
+
+	public void setServices(Map<String, Service> services) {
+		this.services = services;
+	}
+
+	/**
+	 * Overrides of a callee service, the unset ones are inherited.
+	 */
+	public static class Service {
+
+		/**
+		 * Whether limit the concurrent calls to the callee service.
+		 */
+		private Boolean enabled;
+
+		private Integer initialLimit;
+
+		private Integer minLimit;
+
+		private Integer maxLimit;
+
+		private Double rttTolerance;
+
+		public Boolean getEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(Boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Integer getInitialLimit() {
+			return initialLimit;
+		}
+
+		public void setInitialLimit(Integer initialLimit) {
+			this.initialLimit = initialLimit;
+		}
+
+		public Integer getMinLimit() {
+			return minLimit;
+		}
+
+		public void setMinLimit(Integer minLimit) {
+			this.minLimit = minLimit;
+		}
+
+		public Integer getMaxLimit() {
+			return maxLimit;
+		}
+
+		public void setMaxLimit(Integer maxLimit) {
+			this.maxLimit = maxLimit;
+		}
+
+		public Double getRttTolerance() {
+			return rttTolerance;
+		}
+
+		public void setRttTolerance(Double rttTolerance) {
+			this.rttTolerance = rttTolerance;
+		}
+	}
+}
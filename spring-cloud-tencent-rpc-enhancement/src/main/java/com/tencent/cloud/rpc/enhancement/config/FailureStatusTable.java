@@ -0,0 +1,139 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.config;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.lang.Nullable;
+
+import static org.springframework.http.HttpStatus.BAD_GATEWAY;
+import static org.springframework.http.HttpStatus.BANDWIDTH_LIMIT_EXCEEDED;
+import static org.springframework.http.HttpStatus.GATEWAY_TIMEOUT;
+import static org.springframework.http.HttpStatus.HTTP_VERSION_NOT_SUPPORTED;
+import static org.springframework.http.HttpStatus.INSUFFICIENT_STORAGE;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.LOOP_DETECTED;
+import static org.springframework.http.HttpStatus.NETWORK_AUTHENTICATION_REQUIRED;
+import static org.springframework.http.HttpStatus.NOT_EXTENDED;
+import static org.springframework.http.HttpStatus.NOT_IMPLEMENTED;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.VARIANT_ALSO_NEGOTIATES;
+
+/**
+ * Http status codes classified as failed or not, in a flat table indexed by status code.
+ * <p>
+ * The table of the reporter properties is compiled when they are bound, and rebuilt when they are rebound on refresh,
+ * see {@link RpcEnhancementReporterProperties#getFailureStatusTable()}. Status codes out of the standard range, and
+ * the ones unknown to {@link HttpStatus}, are never failed.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public final class FailureStatusTable {
+
+	/**
+	 * Minimum status code in the table.
+	 */
+	public static final int MIN_STATUS_CODE = 100;
+
+	/**
+	 * Maximum status code in the table.
+	 */
+	public static final int MAX_STATUS_CODE = 599;
+
+	/**
+	 * Statuses reported as failed when neither statuses nor series are configured.
+	 */
+	static final List<HttpStatus> DEFAULT_FAILURE_STATUSES = List.of(NOT_IMPLEMENTED, BAD_GATEWAY,
+			SERVICE_UNAVAILABLE, GATEWAY_TIMEOUT, HTTP_VERSION_NOT_SUPPORTED, VARIANT_ALSO_NEGOTIATES,
+			INSUFFICIENT_STORAGE, LOOP_DETECTED, BANDWIDTH_LIMIT_EXCEEDED, NOT_EXTENDED, NETWORK_AUTHENTICATION_REQUIRED);
+
+	private final boolean[] failures = new boolean[MAX_STATUS_CODE - MIN_STATUS_CODE + 1];
+
+	private FailureStatusTable() {
+	}
+
+	/**
+	 * Compile the table of the reporter properties. Statuses take precedence over series.
+	 * @param properties reporter properties
+	 * @return table
+	 */
+	public static FailureStatusTable compile(RpcEnhancementReporterProperties properties) {
+		FailureStatusTable table = new FailureStatusTable();
+		List<HttpStatus> statuses = properties.getStatuses();
+		List<HttpStatus.Series> series = properties.getSeries();
+		boolean ignoreInternalServerError = properties.isIgnoreInternalServerError();
+		for (int statusCode = MIN_STATUS_CODE; statusCode <= MAX_STATUS_CODE; statusCode++) {
+			HttpStatus httpStatus = HttpStatus.resolve(statusCode);
+			if (httpStatus == null) {
+				continue;
+			}
+			boolean failure;
+			if (!statuses.isEmpty()) {
+				failure = statuses.contains(httpStatus);
+			}
+			else if (ignoreInternalServerError && Objects.equals(httpStatus, INTERNAL_SERVER_ERROR)) {
+				failure = false;
+			}
+			else if (series.isEmpty()) {
+				failure = DEFAULT_FAILURE_STATUSES.contains(httpStatus);
+			}
+			else {
+				failure = series.contains(httpStatus.series());
+			}
+			table.failures[statusCode - MIN_STATUS_CODE] = failure;
+		}
+		return table;
+	}
+
+	/**
+	 * Get the table of the given failed statuses.
+	 * @param statuses failed statuses
+	 * @return table
+	 */
+	public static FailureStatusTable of(Collection<HttpStatus> statuses) {
+		FailureStatusTable table = new FailureStatusTable();
+		for (int statusCode = MIN_STATUS_CODE; statusCode <= MAX_STATUS_CODE; statusCode++) {
+			HttpStatus httpStatus = HttpStatus.resolve(statusCode);
+			table.failures[statusCode - MIN_STATUS_CODE] = httpStatus != null && statuses.contains(httpStatus);
+		}
+		return table;
+	}
+
+	/**
+	 * Whether the status code is failed.
+	 * @param statusCode status code
+	 * @return true if failed
+	 */
+	public boolean isFailure(int statusCode) {
+		return statusCode >= MIN_STATUS_CODE && statusCode <= MAX_STATUS_CODE
+				&& failures[statusCode - MIN_STATUS_CODE];
+	}
+
+	/**
+	 * Whether the status code is failed.
+	 * @param statusCode status code
+	 * @return true if failed, false if null
+	 */
+	public boolean isFailure(@Nullable HttpStatusCode statusCode) {
+		return statusCode != null && isFailure(statusCode.value());
+	}
+}
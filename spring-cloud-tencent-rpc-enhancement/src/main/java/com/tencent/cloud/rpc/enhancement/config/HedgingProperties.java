@@ -0,0 +1,137 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties of the hedged requests of the idempotent load balanced calls.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@ConfigurationProperties("spring.cloud.tencent.rpc-enhancement.hedging")
+public class HedgingProperties {
+
+	/**
+	 * Whether hedge the idempotent load balanced calls of RestTemplate, WebClient and Feign.
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * Callee services to hedge, all the callee services if empty.
+	 */
+	private List<String> services = new ArrayList<>();
+
+	/**
+	 * Percentile of the recent latency of the callee after which the call is hedged.
+	 */
+	private double percentile = 95.0;
+
+	/**
+	 * Minimum delay before the call is hedged.
+	 */
+	private Duration minDelay = Duration.ofMillis(5);
+
+	/**
+	 * Maximum hedged calls in percentage of the calls to the callee.
+	 */
+	private double budgetPercent = 10.0;
+
+	/**
+	 * Number of recent latencies kept per callee.
+	 */
+	private int windowSize = 100;
+
+	/**
+	 * Number of recent latencies of the callee before its calls are hedged.
+	 */
+	private int minSamples = 20;
+
+	/**
+	 * Maximum number of threads running the attempts of the blocking calls.
+	 */
+	private int maxThreads = 64;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public List<String> getServices() {
+		return services;
+	}
+
+	public void setServices(List<String> services) {
+		this.services = services;
+	}
+
+	public double getPercentile() {
+		return percentile;
+	}
+
+	public void setPercentile(double percentile) {
+		this.percentile = percentile;
+	}
+
+	public Duration getMinDelay() {
+		return minDelay;
+	}
+
+	public void setMinDelay(Duration minDelay) {
+		this.minDelay = minDelay;
+	}
+
+	public double getBudgetPercent() {
+		return budgetPercent;
+	}
+
+	public void setBudgetPercent(double budgetPercent) {
+		this.budgetPercent = budgetPercent;
+	}
+
+	public int getWindowSize() {
+		return windowSize;
+	}
+
+	public void setWindowSize(int windowSize) {
+		this.windowSize = windowSize;
+	}
+
+	public int getMinSamples() {
+		return minSamples;
+	}
+
+	public void setMinSamples(int minSamples) {
+		this.minSamples = minSamples;
+	}
+
+	public int getMaxThreads() {
+		return maxThreads;
+	}
+
+	public void setMaxThreads(int maxThreads) {
+		this.maxThreads = maxThreads;
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties of the latency histograms of the calls per callee.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@ConfigurationProperties("spring.cloud.tencent.rpc-enhancement.latency-histogram")
+public class LatencyHistogramProperties {
+
+	/**
+	 * Whether record the latency histograms of the calls per callee (service, method), which needs HdrHistogram.
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * Maximum number of callees with a histogram.
+	 */
+	private int maxSize = 1000;
+
+	/**
+	 * Number of significant decimal digits of the recorded latencies, from 0 to 5.
+	 */
+	private int significantDigits = 2;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public void setMaxSize(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	public int getSignificantDigits() {
+		return significantDigits;
+	}
+
+	public void setSignificantDigits(int significantDigits) {
+		this.significantDigits = significantDigits;
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties of the in-process RED (rate, errors, duration) metrics of the calls.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@ConfigurationProperties("spring.cloud.tencent.rpc-enhancement.red-metrics")
+public class RedMetricsProperties {
+
+	/**
+	 * Whether record the RED metrics of the client and server calls and bind them to Micrometer.
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * Maximum number of series (side, caller, callee, method, status). The calls of new series are recorded in an
+	 * overflow series once reached.
+	 */
+	private int maxSeries = 1000;
+
+	/**
+	 * Ant-style path templates, such as /users/{id}/orders/**, the method of a call is the first matching template.
+	 * The other paths have their numeric, UUID and long hex segments replaced.
+	 */
+	private List<String> pathTemplates = new ArrayList<>();
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public int getMaxSeries() {
+		return maxSeries;
+	}
+
+	public void setMaxSeries(int maxSeries) {
+		this.maxSeries = maxSeries;
+	}
+
+	public List<String> getPathTemplates() {
+		return pathTemplates;
+	}
+
+	public void setPathTemplates(List<String> pathTemplates) {
+		this.pathTemplates = pathTemplates;
+	}
+}
@@ -27,14 +27,30 @@ import com.tencent.cloud.rpc.enhancement.instrument.feign.EnhancedFeignBeanPostP
 import com.tencent.cloud.rpc.enhancement.instrument.feign.PolarisLoadBalancerFeignRequestTransformer;
 import com.tencent.cloud.rpc.enhancement.instrument.filter.EnhancedReactiveFilter;
 import com.tencent.cloud.rpc.enhancement.instrument.filter.EnhancedServletFilter;
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.HedgingExecutor;
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.HedgingInstanceChooser;
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.HedgingPolicy;
 import com.tencent.cloud.rpc.enhancement.instrument.resttemplate.EnhancedRestTemplateInterceptor;
+import com.tencent.cloud.rpc.enhancement.instrument.resttemplate.HedgingRestTemplateInterceptor;
 import com.tencent.cloud.rpc.enhancement.instrument.resttemplate.PolarisLoadBalancerRequestTransformer;
 import com.tencent.cloud.rpc.enhancement.instrument.scg.EnhancedGatewayGlobalFilter;
 import com.tencent.cloud.rpc.enhancement.instrument.webclient.EnhancedWebClientExchangeFilterFunction;
+import com.tencent.cloud.rpc.enhancement.instrument.webclient.HedgingWebClientExchangeFilterFunction;
 import com.tencent.cloud.rpc.enhancement.instrument.webclient.PolarisLoadBalancerClientRequestTransformer;
 import com.tencent.cloud.rpc.enhancement.plugin.DefaultEnhancedPluginRunner;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPlugin;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginRunner;
+import com.tencent.cloud.rpc.enhancement.plugin.latency.CalleeLatencyHistograms;
+import com.tencent.cloud.rpc.enhancement.plugin.latency.LatencyHistogramPlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.limiter.ConcurrencyLimiterFinallyPlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.limiter.ConcurrencyLimiterPrePlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.limiter.ConcurrencyLimiters;
+import com.tencent.cloud.rpc.enhancement.plugin.metrics.PathTemplates;
+import com.tencent.cloud.rpc.enhancement.plugin.metrics.RedMetrics;
+import com.tencent.cloud.rpc.enhancement.plugin.metrics.RedMetricsMeterBinder;
+import com.tencent.cloud.rpc.enhancement.plugin.metrics.RedMetricsPlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.reporter.AsyncServiceCallResultReporter;
+import com.tencent.cloud.rpc.enhancement.plugin.reporter.AsyncServiceCallResultReporterMetrics;
 import com.tencent.cloud.rpc.enhancement.plugin.reporter.ExceptionPolarisReporter;
 import com.tencent.cloud.rpc.enhancement.plugin.reporter.SuccessPolarisReporter;
 import com.tencent.cloud.rpc.enhancement.transformer.InstanceTransformer;
@@ -42,6 +58,7 @@ import com.tencent.cloud.rpc.enhancement.transformer.PolarisInstanceTransformer;
 import com.tencent.cloud.rpc.enhancement.transformer.PolarisRegistrationTransformer;
 import com.tencent.cloud.rpc.enhancement.transformer.RegistrationTransformer;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.support.RootBeanDefinition;
@@ -53,6 +70,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
 import org.springframework.cloud.client.serviceregistry.Registration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -77,7 +95,8 @@ import static jakarta.servlet.DispatcherType.REQUEST;
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnPolarisEnabled
 @ConditionalOnProperty(value = "spring.cloud.tencent.rpc-enhancement.enabled", havingValue = "true", matchIfMissing = true)
-@EnableConfigurationProperties(RpcEnhancementReporterProperties.class)
+@EnableConfigurationProperties({RpcEnhancementReporterProperties.class, LatencyHistogramProperties.class,
+		RedMetricsProperties.class, ConcurrencyLimiterProperties.class, HedgingProperties.class})
 @AutoConfigureAfter(PolarisContextAutoConfiguration.class)
 public class RpcEnhancementAutoConfiguration {
 
@@ -105,15 +124,128 @@ public class RpcEnhancementAutoConfiguration {
 	}
 
 	@Bean
-	public SuccessPolarisReporter successPolarisReporter(RpcEnhancementReporterProperties properties,
+	@ConditionalOnProperty(value = "spring.cloud.tencent.rpc-enhancement.reporter.async.enabled", havingValue = "true")
+	public AsyncServiceCallResultReporter asyncServiceCallResultReporter(RpcEnhancementReporterProperties properties,
 			PolarisSDKContextManager polarisSDKContextManager) {
-		return new SuccessPolarisReporter(properties, polarisSDKContextManager.getConsumerAPI());
+		return new AsyncServiceCallResultReporter(polarisSDKContextManager.getConsumerAPI(), properties.getAsync());
+	}
+
+	@Bean
+	public SuccessPolarisReporter successPolarisReporter(RpcEnhancementReporterProperties properties,
+			PolarisSDKContextManager polarisSDKContextManager,
+			ObjectProvider<AsyncServiceCallResultReporter> asyncReporterProvider) {
+		return new SuccessPolarisReporter(properties, polarisSDKContextManager.getConsumerAPI(),
+				asyncReporterProvider.getIfAvailable());
 	}
 
 	@Bean
 	public ExceptionPolarisReporter exceptionPolarisReporter(RpcEnhancementReporterProperties properties,
-			PolarisSDKContextManager polarisSDKContextManager) {
-		return new ExceptionPolarisReporter(properties, polarisSDKContextManager.getConsumerAPI());
+			PolarisSDKContextManager polarisSDKContextManager,
+			ObjectProvider<AsyncServiceCallResultReporter> asyncReporterProvider) {
+		return new ExceptionPolarisReporter(properties, polarisSDKContextManager.getConsumerAPI(),
+				asyncReporterProvider.getIfAvailable());
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "org.HdrHistogram.Histogram")
+	@ConditionalOnProperty(value = "spring.cloud.tencent.rpc-enhancement.latency-histogram.enabled", havingValue = "true")
+	protected static class LatencyHistogramConfig {
+
+		@Bean
+		public CalleeLatencyHistograms calleeLatencyHistograms(LatencyHistogramProperties properties) {
+			return new CalleeLatencyHistograms(properties.getMaxSize(), properties.getSignificantDigits());
+		}
+
+		@Bean
+		public LatencyHistogramPlugin latencyHistogramPlugin(CalleeLatencyHistograms calleeLatencyHistograms,
+				RedMetricsProperties redMetricsProperties) {
+			return new LatencyHistogramPlugin(calleeLatencyHistograms,
+					new PathTemplates(redMetricsProperties.getPathTemplates()));
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(value = "spring.cloud.tencent.rpc-enhancement.concurrency-limiter.enabled", havingValue = "true")
+	protected static class ConcurrencyLimiterConfig {
+
+		@Bean
+		public ConcurrencyLimiters concurrencyLimiters(ConcurrencyLimiterProperties properties) {
+			return new ConcurrencyLimiters(properties);
+		}
+
+		@Bean
+		public ConcurrencyLimiterPrePlugin concurrencyLimiterPrePlugin(ConcurrencyLimiters concurrencyLimiters) {
+			return new ConcurrencyLimiterPrePlugin(concurrencyLimiters);
+		}
+
+		@Bean
+		public ConcurrencyLimiterFinallyPlugin concurrencyLimiterFinallyPlugin() {
+			return new ConcurrencyLimiterFinallyPlugin();
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(value = "spring.cloud.tencent.rpc-enhancement.hedging.enabled", havingValue = "true")
+	@ConditionalOnClass(name = "org.springframework.cloud.client.loadbalancer.LoadBalancerClient")
+	protected static class HedgingConfig {
+
+		@Bean
+		public HedgingPolicy hedgingPolicy(HedgingProperties properties) {
+			return new HedgingPolicy(properties);
+		}
+
+		@Bean
+		public HedgingInstanceChooser hedgingInstanceChooser(@Lazy LoadBalancerClient loadBalancerClient) {
+			return new HedgingInstanceChooser(loadBalancerClient);
+		}
+
+		@Bean
+		public HedgingExecutor hedgingExecutor(HedgingPolicy hedgingPolicy, HedgingInstanceChooser hedgingInstanceChooser,
+				HedgingProperties properties) {
+			return new HedgingExecutor(hedgingPolicy, hedgingInstanceChooser, properties.getMaxThreads());
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(value = "spring.cloud.tencent.rpc-enhancement.red-metrics.enabled", havingValue = "true")
+	protected static class RedMetricsConfig {
+
+		@Bean
+		public RedMetrics redMetrics(RedMetricsProperties properties) {
+			return new RedMetrics(properties.getMaxSeries());
+		}
+
+		@Bean
+		public RedMetricsPlugin clientRedMetricsPlugin(RedMetrics redMetrics, RedMetricsProperties properties) {
+			return new RedMetricsPlugin(redMetrics, new PathTemplates(properties.getPathTemplates()), RedMetrics.Side.CLIENT);
+		}
+
+		@Bean
+		public RedMetricsPlugin serverRedMetricsPlugin(RedMetrics redMetrics, RedMetricsProperties properties) {
+			return new RedMetricsPlugin(redMetrics, new PathTemplates(properties.getPathTemplates()), RedMetrics.Side.SERVER);
+		}
+
+		@Configuration(proxyBeanMethods = false)
+		@ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+		protected static class RedMetricsMeterBinderConfig {
+
+			@Bean
+			public RedMetricsMeterBinder redMetricsMeterBinder(RedMetrics redMetrics) {
+				return new RedMetricsMeterBinder(redMetrics);
+			}
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+	@ConditionalOnProperty(value = "spring.cloud.tencent.rpc-enhancement.reporter.async.enabled", havingValue = "true")
+	protected static class AsyncServiceCallResultReporterMetricsConfig {
+
+		@Bean
+		public AsyncServiceCallResultReporterMetrics asyncServiceCallResultReporterMetrics(
+				AsyncServiceCallResultReporter asyncServiceCallResultReporter) {
+			return new AsyncServiceCallResultReporterMetrics(asyncServiceCallResultReporter);
+		}
 	}
 
 	@Configuration(proxyBeanMethods = false)
@@ -160,8 +292,9 @@ public class RpcEnhancementAutoConfiguration {
 	protected static class PolarisFeignClientAutoConfiguration {
 
 		@Bean
-		public EnhancedFeignBeanPostProcessor polarisFeignBeanPostProcessor(@Lazy EnhancedPluginRunner pluginRunner) {
-			return new EnhancedFeignBeanPostProcessor(pluginRunner);
+		public EnhancedFeignBeanPostProcessor polarisFeignBeanPostProcessor(@Lazy EnhancedPluginRunner pluginRunner,
+				ObjectProvider<HedgingExecutor> hedgingExecutorProvider) {
+			return new EnhancedFeignBeanPostProcessor(pluginRunner, hedgingExecutorProvider);
 		}
 
 		@Bean
@@ -192,10 +325,21 @@ public class RpcEnhancementAutoConfiguration {
 		}
 
 		@Bean
-		public SmartInitializingSingleton setPolarisReporterForRestTemplate(EnhancedRestTemplateInterceptor reporter) {
+		@ConditionalOnProperty(value = "spring.cloud.tencent.rpc-enhancement.hedging.enabled", havingValue = "true")
+		@ConditionalOnClass(name = "org.springframework.cloud.client.loadbalancer.LoadBalancerClient")
+		public HedgingRestTemplateInterceptor hedgingRestTemplateInterceptor(HedgingExecutor hedgingExecutor,
+				EnhancedRestTemplateInterceptor reporter) {
+			return new HedgingRestTemplateInterceptor(hedgingExecutor, reporter);
+		}
+
+		@Bean
+		public SmartInitializingSingleton setPolarisReporterForRestTemplate(EnhancedRestTemplateInterceptor reporter,
+				ObjectProvider<HedgingRestTemplateInterceptor> hedgingInterceptorProvider) {
 			return () -> {
+				HedgingRestTemplateInterceptor hedgingInterceptor = hedgingInterceptorProvider.getIfAvailable();
 				for (RestTemplate restTemplate : restTemplates) {
-					restTemplate.getInterceptors().add(reporter);
+					// the hedging interceptor runs the reporter for each attempt.
+					restTemplate.getInterceptors().add(hedgingInterceptor != null ? hedgingInterceptor : reporter);
 				}
 			};
 		}
@@ -227,10 +371,21 @@ public class RpcEnhancementAutoConfiguration {
 		}
 
 		@Bean
-		public SmartInitializingSingleton addEnhancedWebClientReporterForWebClient(EnhancedWebClientExchangeFilterFunction reporter) {
-			return () -> webClientBuilder.forEach(webClient -> {
-				webClient.filter(reporter);
-			});
+		@ConditionalOnProperty(value = "spring.cloud.tencent.rpc-enhancement.hedging.enabled", havingValue = "true")
+		@ConditionalOnClass(name = "org.springframework.cloud.client.loadbalancer.LoadBalancerClient")
+		public HedgingWebClientExchangeFilterFunction hedgingExchangeFilterFunction(HedgingPolicy hedgingPolicy,
+				HedgingInstanceChooser hedgingInstanceChooser, EnhancedWebClientExchangeFilterFunction reporter) {
+			return new HedgingWebClientExchangeFilterFunction(hedgingPolicy, hedgingInstanceChooser, reporter);
+		}
+
+		@Bean
+		public SmartInitializingSingleton addEnhancedWebClientReporterForWebClient(EnhancedWebClientExchangeFilterFunction reporter,
+				ObjectProvider<HedgingWebClientExchangeFilterFunction> hedgingFilterProvider) {
+			return () -> {
+				HedgingWebClientExchangeFilterFunction hedgingFilter = hedgingFilterProvider.getIfAvailable();
+				// the hedging filter runs the reporter for each attempt.
+				webClientBuilder.forEach(webClient -> webClient.filter(hedgingFilter != null ? hedgingFilter : reporter));
+			};
 		}
 
 		@Bean
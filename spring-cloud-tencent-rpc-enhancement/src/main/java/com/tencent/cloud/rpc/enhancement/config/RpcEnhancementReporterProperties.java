@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.http.HttpStatus;
 
@@ -30,7 +31,7 @@ import org.springframework.http.HttpStatus;
  * @author <a href="mailto:iskp.me@gmail.com">Elve.Xu</a> 2022-07-08
  */
 @ConfigurationProperties("spring.cloud.tencent.rpc-enhancement.reporter")
-public class RpcEnhancementReporterProperties {
+public class RpcEnhancementReporterProperties implements InitializingBean {
 
 	/**
 	 * Whether report call result to polaris.
@@ -53,6 +54,13 @@ public class RpcEnhancementReporterProperties {
 	 */
 	private boolean ignoreInternalServerError = true;
 
+	/**
+	 * Asynchronous reporting of call results.
+	 */
+	private Async async = new Async();
+
+	private volatile FailureStatusTable failureStatusTable;
+
 	/**
 	 * Convert items to List.
 	 *
@@ -65,6 +73,25 @@ public class RpcEnhancementReporterProperties {
 		return new ArrayList<>(Arrays.asList(items));
 	}
 
+	@Override
+	public void afterPropertiesSet() {
+		// bound or rebound on refresh.
+		failureStatusTable = FailureStatusTable.compile(this);
+	}
+
+	/**
+	 * Get the classification of the status codes.
+	 * @return table compiled from the statuses, series and ignoreInternalServerError
+	 */
+	public FailureStatusTable getFailureStatusTable() {
+		FailureStatusTable table = failureStatusTable;
+		if (table == null) {
+			table = FailureStatusTable.compile(this);
+			failureStatusTable = table;
+		}
+		return table;
+	}
+
 	public boolean isEnabled() {
 		return enabled;
 	}
@@ -79,6 +106,7 @@ public class RpcEnhancementReporterProperties {
 
 	public void setStatuses(List<HttpStatus> statuses) {
 		this.statuses = statuses;
+		this.failureStatusTable = null;
 	}
 
 	public List<HttpStatus.Series> getSeries() {
@@ -87,6 +115,7 @@ public class RpcEnhancementReporterProperties {
 
 	public void setSeries(List<HttpStatus.Series> series) {
 		this.series = series;
+		this.failureStatusTable = null;
 	}
 
 	public boolean isIgnoreInternalServerError() {
@@ -95,5 +124,88 @@ public class RpcEnhancementReporterProperties {
 
 	public void setIgnoreInternalServerError(boolean ignoreInternalServerError) {
 		this.ignoreInternalServerError = ignoreInternalServerError;
+		this.failureStatusTable = null;
+	}
+
+	public Async getAsync() {
+		return async;
+	}
+
+	public void setAsync(Async async) {
+		this.async = async;
+	}
+
+	/**
+	 * Overflow policy of the asynchronous reporting queue.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Drop the oldest queued call result.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * Report the call result on the calling thread.
+		 */
+		INLINE
+	}
+
+	/**
+	 * Properties of asynchronous reporting of call results.
+	 */
+	public static class Async {
+
+		/**
+		 * Whether report call results from a background thread instead of the calling thread.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Maximum number of queued call results.
+		 */
+		private int queueCapacity = 8192;
+
+		/**
+		 * Window in milliseconds in which queued call results are aggregated before being reported.
+		 */
+		private long aggregationWindow = 20L;
+
+		/**
+		 * What to do with a call result when the queue is full.
+		 */
+		private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getQueueCapacity() {
+			return queueCapacity;
+		}
+
+		public void setQueueCapacity(int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+
+		public long getAggregationWindow() {
+			return aggregationWindow;
+		}
+
+		public void setAggregationWindow(long aggregationWindow) {
+			this.aggregationWindow = aggregationWindow;
+		}
+
+		public OverflowPolicy getOverflowPolicy() {
+			return overflowPolicy;
+		}
+
+		public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+			this.overflowPolicy = overflowPolicy;
+		}
 	}
 }
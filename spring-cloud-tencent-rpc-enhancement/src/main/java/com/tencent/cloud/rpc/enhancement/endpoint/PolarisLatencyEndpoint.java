@@ -0,0 +1,58 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.endpoint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.tencent.cloud.rpc.enhancement.plugin.latency.CalleeLatencyHistograms;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Endpoint of the latency percentiles of the calls per callee.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@Endpoint(id = "polarislatency")
+public class PolarisLatencyEndpoint {
+
+	private final CalleeLatencyHistograms histograms;
+
+	public PolarisLatencyEndpoint(CalleeLatencyHistograms histograms) {
+		this.histograms = histograms;
+	}
+
+	@ReadOperation
+	public Map<String, Object> latency() {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("unit", "microseconds");
+		result.put("size", histograms.size());
+		result.put("maxSize", histograms.getMaxSize());
+		result.put("overflow", histograms.getOverflowCount());
+		result.put("callees", histograms.getPercentiles());
+		return result;
+	}
+
+	@DeleteOperation
+	public void reset() {
+		histograms.reset();
+	}
+}
@@ -17,12 +17,14 @@
 
 package com.tencent.cloud.rpc.enhancement.instrument.feign;
 
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.HedgingExecutor;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginRunner;
 import feign.Client;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.cloud.loadbalancer.blocking.client.BlockingLoadBalancerClient;
 import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
@@ -39,10 +41,18 @@ public class EnhancedFeignBeanPostProcessor implements BeanPostProcessor, BeanFa
 
 	private final EnhancedPluginRunner pluginRunner;
 
+	private final ObjectProvider<HedgingExecutor> hedgingExecutorProvider;
+
 	private BeanFactory factory;
 
 	public EnhancedFeignBeanPostProcessor(EnhancedPluginRunner pluginRunner) {
+		this(pluginRunner, null);
+	}
+
+	public EnhancedFeignBeanPostProcessor(EnhancedPluginRunner pluginRunner,
+			ObjectProvider<HedgingExecutor> hedgingExecutorProvider) {
 		this.pluginRunner = pluginRunner;
+		this.hedgingExecutorProvider = hedgingExecutorProvider;
 	}
 
 	@Override
@@ -75,11 +85,17 @@ public class EnhancedFeignBeanPostProcessor implements BeanPostProcessor, BeanFa
 	}
 
 	private boolean isNeedWrap(Object bean) {
-		return bean instanceof Client && !(bean instanceof EnhancedFeignClient);
+		return bean instanceof Client && !(bean instanceof EnhancedFeignClient) && !(bean instanceof HedgingFeignClient);
 	}
 
-	private EnhancedFeignClient createPolarisFeignClient(Client delegate) {
-		return new EnhancedFeignClient(delegate, pluginRunner);
+	private Client createPolarisFeignClient(Client delegate) {
+		EnhancedFeignClient enhancedFeignClient = new EnhancedFeignClient(delegate, pluginRunner);
+		HedgingExecutor hedgingExecutor = hedgingExecutorProvider != null ? hedgingExecutorProvider.getIfAvailable() : null;
+		if (hedgingExecutor != null) {
+			// every attempt runs the enhanced plugins.
+			return new HedgingFeignClient(enhancedFeignClient, hedgingExecutor);
+		}
+		return enhancedFeignClient;
 	}
 
 	@Override
@@ -85,10 +85,10 @@ public class EnhancedFeignClient implements Client {
 		// Run pre enhanced plugins.
 		pluginRunner.run(EnhancedPluginType.Client.PRE, enhancedPluginContext);
 
-		long startMillis = System.currentTimeMillis();
+		enhancedPluginContext.startTiming();
 		try {
 			Response response = delegate.execute(request, options);
-			enhancedPluginContext.setDelay(System.currentTimeMillis() - startMillis);
+			enhancedPluginContext.stopTiming();
 
 			HttpHeaders responseHeaders = new HttpHeaders();
 			response.headers().forEach((s, strings) -> responseHeaders.addAll(s, new ArrayList<>(strings)));
@@ -104,7 +104,7 @@ public class EnhancedFeignClient implements Client {
 			return response;
 		}
 		catch (IOException origin) {
-			enhancedPluginContext.setDelay(System.currentTimeMillis() - startMillis);
+			enhancedPluginContext.stopTiming();
 			enhancedPluginContext.setThrowable(origin);
 			// Run exception enhanced feign plugins.
 			pluginRunner.run(EnhancedPluginType.Client.EXCEPTION, enhancedPluginContext);
@@ -0,0 +1,87 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.feign;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URI;
+
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.HedgingExecutor;
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.HedgingInstanceChooser;
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.HedgingPolicy;
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.Idempotent;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Request.Options;
+import feign.RequestTemplate;
+import feign.Response;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import static feign.Util.checkNotNull;
+
+/**
+ * Hedges the load balanced calls of the Feign client methods marked with {@link Idempotent}, with a second attempt
+ * to another instance. It wraps {@link EnhancedFeignClient} and runs it for each attempt, so that every attempt is
+ * reported, limited and measured against its own instance.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class HedgingFeignClient implements Client {
+
+	private final Client delegate;
+
+	private final HedgingExecutor hedgingExecutor;
+
+	public HedgingFeignClient(Client target, HedgingExecutor hedgingExecutor) {
+		this.delegate = checkNotNull(target, "target");
+		this.hedgingExecutor = hedgingExecutor;
+	}
+
+	@Override
+	public Response execute(Request request, Options options) throws IOException {
+		URI url = URI.create(request.url());
+		ServiceInstance chosen = HedgingInstanceChooser.getChosenInstance(url);
+		if (chosen == null || !isIdempotent(request) || !hedgingExecutor.getPolicy().isHedged(chosen.getServiceId())) {
+			return delegate.execute(request, options);
+		}
+		String serviceId = chosen.getServiceId();
+		return hedgingExecutor.execute(serviceId, () -> delegate.execute(request, options), () -> {
+			ServiceInstance other = hedgingExecutor.getInstanceChooser().chooseOther(serviceId, chosen);
+			if (other == null) {
+				return null;
+			}
+			Request hedgeRequest = Request.create(request.httpMethod(),
+					HedgingInstanceChooser.reconstructURI(other, url).toString(), request.headers(), request.body(),
+					request.charset(), request.requestTemplate());
+			return () -> delegate.execute(hedgeRequest, options);
+		}, response -> HedgingPolicy.isSuccessful(response.status()));
+	}
+
+	static boolean isIdempotent(Request request) {
+		RequestTemplate requestTemplate = request.requestTemplate();
+		MethodMetadata methodMetadata = requestTemplate != null ? requestTemplate.methodMetadata() : null;
+		Method method = methodMetadata != null ? methodMetadata.method() : null;
+		return method != null && method.isAnnotationPresent(Idempotent.class);
+	}
+
+	public Client getDelegate() {
+		return delegate;
+	}
+}
@@ -59,10 +59,10 @@ public class EnhancedReactiveFilter implements WebFilter, Ordered {
 		// Run pre enhanced plugins.
 		pluginRunner.run(EnhancedPluginType.Server.PRE, enhancedPluginContext);
 
-		long startMillis = System.currentTimeMillis();
+		enhancedPluginContext.startTiming();
 		return chain.filter(exchange)
 				.doOnSuccess(v -> {
-					enhancedPluginContext.setDelay(System.currentTimeMillis() - startMillis);
+					enhancedPluginContext.stopTiming();
 
 					EnhancedResponseContext enhancedResponseContext = EnhancedResponseContext.builder()
 							.httpStatus(exchange.getResponse().getRawStatusCode())
@@ -74,7 +74,7 @@ public class EnhancedReactiveFilter implements WebFilter, Ordered {
 					pluginRunner.run(EnhancedPluginType.Server.POST, enhancedPluginContext);
 				})
 				.doOnError(e -> {
-					enhancedPluginContext.setDelay(System.currentTimeMillis() - startMillis);
+					enhancedPluginContext.stopTiming();
 					enhancedPluginContext.setThrowable(e);
 					// Run exception enhanced plugins.
 					pluginRunner.run(EnhancedPluginType.Server.EXCEPTION, enhancedPluginContext);
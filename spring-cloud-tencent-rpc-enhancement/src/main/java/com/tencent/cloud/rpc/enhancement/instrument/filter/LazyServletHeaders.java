@@ -0,0 +1,230 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.filter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * Headers of a servlet request or response read on demand.
+ * <p>
+ * Reading a header reads it from the servlet request or response, nothing is copied up front. Operations on all the
+ * headers, and any modification, copy the headers once, and the copy is used from then on, so that the request or
+ * response itself is never modified. As the headers are read from the servlet objects, they must only be used while
+ * the request is processed.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+final class LazyServletHeaders implements MultiValueMap<String, String> {
+
+	private final Supplier<Collection<String>> names;
+
+	private final Function<String, String> firstValue;
+
+	private final Function<String, List<String>> values;
+
+	private MultiValueMap<String, String> copy;
+
+	private LazyServletHeaders(Supplier<Collection<String>> names, Function<String, String> firstValue,
+			Function<String, List<String>> values) {
+		this.names = names;
+		this.firstValue = firstValue;
+		this.values = values;
+	}
+
+	/**
+	 * Get the headers of the request.
+	 * @param request servlet request
+	 * @return headers read on demand
+	 */
+	static HttpHeaders of(HttpServletRequest request) {
+		return new HttpHeaders(new LazyServletHeaders(
+				() -> {
+					Enumeration<String> headerNames = request.getHeaderNames();
+					return headerNames != null ? Collections.list(headerNames) : Collections.emptyList();
+				},
+				request::getHeader,
+				name -> Collections.list(request.getHeaders(name))));
+	}
+
+	/**
+	 * Get the headers of the response.
+	 * @param response servlet response
+	 * @return headers read on demand
+	 */
+	static HttpHeaders of(HttpServletResponse response) {
+		return new HttpHeaders(new LazyServletHeaders(
+				response::getHeaderNames,
+				response::getHeader,
+				name -> new ArrayList<>(response.getHeaders(name))));
+	}
+
+	private MultiValueMap<String, String> copy() {
+		if (copy == null) {
+			MultiValueMap<String, String> headers = CollectionUtils.toMultiValueMap(
+					new LinkedCaseInsensitiveMap<>(8, Locale.ENGLISH));
+			Collection<String> headerNames = names.get();
+			if (headerNames != null) {
+				for (String headerName : headerNames) {
+					headers.addAll(headerName, values.apply(headerName));
+				}
+			}
+			copy = headers;
+		}
+		return copy;
+	}
+
+	@Override
+	public String getFirst(String key) {
+		if (copy != null) {
+			return copy.getFirst(key);
+		}
+		return key != null ? firstValue.apply(key) : null;
+	}
+
+	@Override
+	public List<String> get(Object key) {
+		if (copy != null) {
+			return copy.get(key);
+		}
+		if (!(key instanceof String)) {
+			return null;
+		}
+		List<String> headerValues = values.apply((String) key);
+		return headerValues == null || headerValues.isEmpty() ? null : headerValues;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if (copy != null) {
+			return copy.containsKey(key);
+		}
+		return key instanceof String && firstValue.apply((String) key) != null;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		return copy().containsValue(value);
+	}
+
+	@Override
+	public int size() {
+		return copy().size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return copy().isEmpty();
+	}
+
+	@Override
+	public Set<String> keySet() {
+		return copy().keySet();
+	}
+
+	@Override
+	public Collection<List<String>> values() {
+		return copy().values();
+	}
+
+	@Override
+	public Set<Map.Entry<String, List<String>>> entrySet() {
+		return copy().entrySet();
+	}
+
+	@Override
+	public Map<String, String> toSingleValueMap() {
+		return copy().toSingleValueMap();
+	}
+
+	@Override
+	public List<String> put(String key, List<String> value) {
+		return copy().put(key, value);
+	}
+
+	@Override
+	public List<String> remove(Object key) {
+		return copy().remove(key);
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends List<String>> map) {
+		copy().putAll(map);
+	}
+
+	@Override
+	public void clear() {
+		copy().clear();
+	}
+
+	@Override
+	public void add(String key, String value) {
+		copy().add(key, value);
+	}
+
+	@Override
+	public void addAll(String key, List<? extends String> values) {
+		copy().addAll(key, values);
+	}
+
+	@Override
+	public void addAll(MultiValueMap<String, String> values) {
+		copy().addAll(values);
+	}
+
+	@Override
+	public void set(String key, String value) {
+		copy().set(key, value);
+	}
+
+	@Override
+	public void setAll(Map<String, String> values) {
+		copy().setAll(values);
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return this == other || copy().equals(other);
+	}
+
+	@Override
+	public int hashCode() {
+		return copy().hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return copy().toString();
+	}
+}
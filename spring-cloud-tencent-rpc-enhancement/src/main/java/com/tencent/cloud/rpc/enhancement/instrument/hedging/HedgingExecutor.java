@@ -0,0 +1,279 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.hedging;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.tencent.polaris.client.util.NamedThreadFactory;
+import com.tencent.polaris.threadlocal.cross.RunnableWrapper;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import static com.tencent.cloud.common.metadata.CrossThreadMetadataContext.CROSS_THREAD_METADATA_CONTEXT_CONSUMER;
+import static com.tencent.cloud.common.metadata.CrossThreadMetadataContext.CROSS_THREAD_METADATA_CONTEXT_SUPPLIER;
+
+/**
+ * Runs the hedged blocking calls. The attempts of a hedged call run on the threads of the executor, with the metadata
+ * context of the caller, while the caller waits for the answer. The hedge is sent once the first attempt is slower
+ * than the hedging delay of the callee.
+ * <p>
+ * The first successful response answers the call, whichever attempt it comes from, and the response of the other
+ * attempt is closed when it comes. The response or the failure of the first attempt answers the call if no attempt
+ * succeeded. A call is run by the caller without hedging when the executor has no thread left.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class HedgingExecutor implements DisposableBean {
+
+	private final HedgingPolicy policy;
+
+	private final HedgingInstanceChooser instanceChooser;
+
+	private final ThreadPoolExecutor executor;
+
+	public HedgingExecutor(HedgingPolicy policy, HedgingInstanceChooser instanceChooser, int maxThreads) {
+		this.policy = policy;
+		this.instanceChooser = instanceChooser;
+		this.executor = new ThreadPoolExecutor(0, Math.max(2, maxThreads), 60, TimeUnit.SECONDS,
+				new SynchronousQueue<>(), new NamedThreadFactory("polaris-hedging"));
+	}
+
+	/**
+	 * Run a call, hedged by a second attempt if the first one is slower than the hedging delay of the callee.
+	 * @param callee callee service
+	 * @param first first attempt
+	 * @param hedge creates the second attempt, or returns null if the call can not be hedged
+	 * @param successful whether a response may answer the call
+	 * @param <T> response
+	 * @return first successful response of the attempts, or the response of the first attempt if none succeeded
+	 * @throws IOException if the first attempt failed and the hedge did not succeed
+	 */
+	public <T extends Closeable> T execute(String callee, Attempt<T> first, Supplier<Attempt<T>> hedge,
+			Predicate<T> successful) throws IOException {
+		Attempt<T> timedFirst = timed(callee, first, successful);
+		long delayNanos = policy.start(callee);
+		if (delayNanos < 0) {
+			return timedFirst.call();
+		}
+		CompletableFuture<T> firstFuture = submit(timedFirst);
+		if (firstFuture == null) {
+			return timedFirst.call();
+		}
+		Race<T> race = new Race<>(firstFuture, successful);
+		try {
+			firstFuture.get(delayNanos, TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException e) {
+			Attempt<T> second = hedge.get();
+			if (second != null && policy.tryHedge(callee)) {
+				CompletableFuture<T> secondFuture = submit(timed(callee, second, successful));
+				if (secondFuture != null) {
+					race.add(secondFuture, true);
+				}
+			}
+		}
+		catch (ExecutionException e) {
+			// answered by the failure of the first attempt.
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			race.done();
+			race.abandon();
+			throw new InterruptedIOException("Interrupted while waiting for the hedged call.");
+		}
+		return race.await();
+	}
+
+	private <T> Attempt<T> timed(String callee, Attempt<T> attempt, Predicate<T> successful) {
+		return () -> {
+			long startNanos = System.nanoTime();
+			T response = attempt.call();
+			if (successful.test(response)) {
+				policy.record(callee, System.nanoTime() - startNanos);
+			}
+			return response;
+		};
+	}
+
+	/**
+	 * Send the attempt from a thread of the executor, with the metadata context of the caller.
+	 * @return response of the attempt, or null if the executor has no thread left
+	 */
+	private <T> CompletableFuture<T> submit(Attempt<T> attempt) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		Runnable send = new RunnableWrapper<>(() -> {
+			try {
+				future.complete(attempt.call());
+			}
+			catch (Throwable t) {
+				future.completeExceptionally(t);
+			}
+		}, CROSS_THREAD_METADATA_CONTEXT_SUPPLIER, CROSS_THREAD_METADATA_CONTEXT_CONSUMER);
+		try {
+			executor.execute(send);
+		}
+		catch (RejectedExecutionException e) {
+			return null;
+		}
+		return future;
+	}
+
+	private static void closeQuietly(Closeable closeable) {
+		try {
+			closeable.close();
+		}
+		catch (IOException | RuntimeException ignored) {
+		}
+	}
+
+	public HedgingPolicy getPolicy() {
+		return policy;
+	}
+
+	public HedgingInstanceChooser getInstanceChooser() {
+		return instanceChooser;
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Attempt of a call.
+	 *
+	 * @param <T> response
+	 */
+	@FunctionalInterface
+	public interface Attempt<T> {
+
+		/**
+		 * Send the request.
+		 * @return response
+		 * @throws IOException if failed
+		 */
+		T call() throws IOException;
+	}
+
+	/**
+	 * Attempts of a call in flight, answered by the first successful response.
+	 *
+	 * @param <T> response
+	 */
+	private final class Race<T extends Closeable> {
+
+		private final CompletableFuture<T> first;
+
+		private final Predicate<T> successful;
+
+		private final CompletableFuture<T> answer = new CompletableFuture<>();
+
+		/**
+		 * Attempts in flight, plus one held by the caller until no more attempts are added.
+		 */
+		private final AtomicInteger pending = new AtomicInteger(1);
+
+		private Race(CompletableFuture<T> first, Predicate<T> successful) {
+			this.first = first;
+			this.successful = successful;
+			add(first, false);
+		}
+
+		private void add(CompletableFuture<T> attempt, boolean hedge) {
+			pending.incrementAndGet();
+			attempt.whenComplete((response, throwable) -> {
+				if (throwable == null && successful.test(response)) {
+					if (!answer.complete(response)) {
+						closeQuietly(response);
+					}
+					else if (hedge) {
+						policy.onHedgeWon();
+					}
+				}
+				else if (hedge && response != null) {
+					closeQuietly(response);
+				}
+				done();
+			});
+		}
+
+		/**
+		 * An attempt is done, or no more attempts are added. Once all of them are done, the call is answered by the
+		 * first attempt if none succeeded, and its response is closed otherwise.
+		 */
+		private void done() {
+			if (pending.decrementAndGet() != 0) {
+				return;
+			}
+			first.whenComplete((response, throwable) -> {
+				if (throwable != null) {
+					answer.completeExceptionally(throwable);
+				}
+				else if (!successful.test(response) && !answer.complete(response)) {
+					closeQuietly(response);
+				}
+			});
+		}
+
+		private T await() throws IOException {
+			done();
+			try {
+				return answer.get();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				abandon();
+				throw new InterruptedIOException("Interrupted while waiting for the hedged call.");
+			}
+			catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof IOException) {
+					throw (IOException) cause;
+				}
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw new IOException(cause);
+			}
+		}
+
+		/**
+		 * The caller no longer waits, the responses are closed when they come.
+		 */
+		private void abandon() {
+			if (!answer.cancel(false)) {
+				answer.thenAccept(HedgingExecutor::closeQuietly);
+			}
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.hedging;
+
+import java.net.URI;
+
+import com.tencent.cloud.common.metadata.MetadataContextHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerUriTools;
+import org.springframework.cloud.client.loadbalancer.ServiceInstanceChooser;
+
+import static com.tencent.cloud.rpc.enhancement.instrument.resttemplate.PolarisLoadBalancerRequestTransformer.LOAD_BALANCER_SERVICE_INSTANCE;
+
+/**
+ * Chooses the instance of a hedge through the load balancer, another instance than the one of the first attempt.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class HedgingInstanceChooser {
+
+	private static final Logger LOG = LoggerFactory.getLogger(HedgingInstanceChooser.class);
+
+	/**
+	 * Maximum choices to find another instance.
+	 */
+	static final int MAX_CHOICES = 3;
+
+	private final ServiceInstanceChooser serviceInstanceChooser;
+
+	public HedgingInstanceChooser(ServiceInstanceChooser serviceInstanceChooser) {
+		this.serviceInstanceChooser = serviceInstanceChooser;
+	}
+
+	/**
+	 * Get the instance chosen by the load balancer for the request, as recorded by the load balancer request
+	 * transformers.
+	 * @param url request url
+	 * @return chosen instance, or null if the request is not load balanced
+	 */
+	public static ServiceInstance getChosenInstance(URI url) {
+		Object instance = MetadataContextHolder.get().getLoadbalancerMetadata().get(LOAD_BALANCER_SERVICE_INSTANCE);
+		if (instance instanceof ServiceInstance) {
+			ServiceInstance chosen = (ServiceInstance) instance;
+			// left by a previous call of the thread.
+			if (url.getPort() == chosen.getPort() && chosen.getHost() != null && chosen.getHost().equals(url.getHost())) {
+				return chosen;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Rewrite the url of a request to another instance.
+	 * @param instance instance
+	 * @param url request url
+	 * @return url of the instance
+	 */
+	public static URI reconstructURI(ServiceInstance instance, URI url) {
+		return LoadBalancerUriTools.reconstructURI(instance, url);
+	}
+
+	/**
+	 * Choose another instance of the service.
+	 * @param serviceId service id
+	 * @param chosen instance of the first attempt
+	 * @return another instance, or null if none was chosen
+	 */
+	public ServiceInstance chooseOther(String serviceId, ServiceInstance chosen) {
+		try {
+			for (int i = 0; i < MAX_CHOICES; i++) {
+				ServiceInstance instance = serviceInstanceChooser.choose(serviceId);
+				if (instance == null) {
+					return null;
+				}
+				if (instance.getPort() != chosen.getPort() || !instance.getHost().equals(chosen.getHost())) {
+					return instance;
+				}
+			}
+		}
+		catch (RuntimeException e) {
+			LOG.debug("Choose the hedging instance of service {} failed.", serviceId, e);
+		}
+		return null;
+	}
+}
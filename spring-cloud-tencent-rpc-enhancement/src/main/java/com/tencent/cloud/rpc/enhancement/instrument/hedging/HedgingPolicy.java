@@ -0,0 +1,245 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.hedging;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.tencent.cloud.rpc.enhancement.config.HedgingProperties;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ * When and how often the calls to a callee service are hedged.
+ * <p>
+ * A call is hedged once it is slower than the configured percentile of the recent latencies of its callee. Every
+ * call adds {@code budgetPercent / 100} token to the budget of its callee and a hedge takes one token, so that the
+ * hedges stay under the budget percentage of the calls.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class HedgingPolicy {
+
+	/**
+	 * Maximum number of callees, the callees beyond it are not hedged.
+	 */
+	static final int MAX_CALLEES = 1000;
+
+	/**
+	 * A token of the budget, in thousandths.
+	 */
+	static final long TOKEN = 1000;
+
+	/**
+	 * Maximum saved tokens, the burst of hedges after a quiet period.
+	 */
+	static final long MAX_TOKENS = 10 * TOKEN;
+
+	private final Set<String> services;
+
+	private final double percentile;
+
+	private final long minDelayNanos;
+
+	private final long tokensPerCall;
+
+	private final int windowSize;
+
+	private final int minSamples;
+
+	private final Map<String, Callee> callees = new ConcurrentHashMap<>();
+
+	private final LongAdder hedgedCount = new LongAdder();
+
+	private final LongAdder hedgeWonCount = new LongAdder();
+
+	public HedgingPolicy(HedgingProperties properties) {
+		this.services = new HashSet<>(properties.getServices());
+		this.percentile = Math.max(0.0, Math.min(100.0, properties.getPercentile()));
+		this.minDelayNanos = properties.getMinDelay().toNanos();
+		this.tokensPerCall = Math.round(Math.max(0.0, properties.getBudgetPercent()) * TOKEN / 100);
+		this.windowSize = Math.max(1, properties.getWindowSize());
+		this.minSamples = Math.max(1, Math.min(windowSize, properties.getMinSamples()));
+	}
+
+	/**
+	 * Whether the request method is idempotent, GET, HEAD and OPTIONS requests may be hedged.
+	 * @param method request method
+	 * @return true if idempotent
+	 */
+	public static boolean isIdempotent(HttpMethod method) {
+		return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method);
+	}
+
+	/**
+	 * Whether the response status is a success that may answer a hedged call. The server errors and 429 are not, so
+	 * that the other attempt is waited for.
+	 * @param status response status
+	 * @return true if successful
+	 */
+	public static boolean isSuccessful(int status) {
+		return status < 500 && status != 429;
+	}
+
+	/**
+	 * Whether the calls to the callee may be hedged.
+	 * @param callee callee service
+	 * @return true if hedged
+	 */
+	public boolean isHedged(String callee) {
+		return callee != null && (services.isEmpty() || services.contains(callee));
+	}
+
+	/**
+	 * Start a hedged call to the callee, adding its share to the budget.
+	 * @param callee callee service
+	 * @return delay in nanoseconds after which the call is hedged, or -1 if it is not hedged
+	 */
+	public long start(String callee) {
+		Callee state = getOrCreate(callee);
+		if (state == null) {
+			return -1;
+		}
+		state.deposit(tokensPerCall);
+		return state.delayNanos;
+	}
+
+	/**
+	 * Take a token of the budget of the callee to hedge a call.
+	 * @param callee callee service
+	 * @return true if the call is hedged, false if the budget is spent
+	 */
+	public boolean tryHedge(String callee) {
+		Callee state = callees.get(callee);
+		if (state != null && state.withdraw()) {
+			hedgedCount.increment();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Record the latency of a successful attempt.
+	 * @param callee callee service
+	 * @param latencyNanos latency in nanoseconds
+	 */
+	public void record(String callee, long latencyNanos) {
+		Callee state = getOrCreate(callee);
+		if (state != null) {
+			state.record(latencyNanos);
+		}
+	}
+
+	/**
+	 * Count a call answered by its hedge.
+	 */
+	public void onHedgeWon() {
+		hedgeWonCount.increment();
+	}
+
+	/**
+	 * Get the delay after which the calls to the callee are hedged.
+	 * @param callee callee service
+	 * @return delay in nanoseconds, or -1 if not hedged yet
+	 */
+	public long getDelayNanos(String callee) {
+		Callee state = callees.get(callee);
+		return state != null ? state.delayNanos : -1;
+	}
+
+	public long getHedgedCount() {
+		return hedgedCount.sum();
+	}
+
+	public long getHedgeWonCount() {
+		return hedgeWonCount.sum();
+	}
+
+	private Callee getOrCreate(String callee) {
+		Callee state = callees.get(callee);
+		if (state == null) {
+			if (callees.size() >= MAX_CALLEES) {
+				return null;
+			}
+			state = callees.computeIfAbsent(callee, key -> new Callee());
+		}
+		return state;
+	}
+
+	/**
+	 * Recent latencies and budget of a callee.
+	 */
+	private final class Callee {
+
+		private final AtomicLongArray samples = new AtomicLongArray(windowSize);
+
+		private final AtomicLong sampleCount = new AtomicLong();
+
+		private final AtomicLong tokens = new AtomicLong();
+
+		private volatile long delayNanos = -1;
+
+		private void deposit(long amount) {
+			long current;
+			do {
+				current = tokens.get();
+				if (current >= MAX_TOKENS) {
+					return;
+				}
+			}
+			while (!tokens.compareAndSet(current, Math.min(MAX_TOKENS, current + amount)));
+		}
+
+		private boolean withdraw() {
+			long current;
+			do {
+				current = tokens.get();
+				if (current < TOKEN) {
+					return false;
+				}
+			}
+			while (!tokens.compareAndSet(current, current - TOKEN));
+			return true;
+		}
+
+		private void record(long latencyNanos) {
+			long count = sampleCount.incrementAndGet();
+			samples.set((int) ((count - 1) % windowSize), latencyNanos);
+			// the percentile is refreshed every tenth of the window.
+			if (count >= minSamples && (count == minSamples || count % Math.max(1, windowSize / 10) == 0)) {
+				refresh((int) Math.min(count, windowSize));
+			}
+		}
+
+		private void refresh(int size) {
+			long[] sorted = new long[size];
+			for (int i = 0; i < size; i++) {
+				sorted[i] = samples.get(i);
+			}
+			Arrays.sort(sorted);
+			int index = (int) Math.ceil(percentile / 100 * size) - 1;
+			delayNanos = Math.max(minDelayNanos, sorted[Math.max(0, Math.min(size - 1, index))]);
+		}
+	}
+}
@@ -49,6 +49,15 @@ public class EnhancedRestTemplateInterceptor implements ClientHttpRequestInterce
 
 	@Override
 	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+		return intercept(request, body, execution, (ServiceInstance) MetadataContextHolder.get()
+				.getLoadbalancerMetadata().get(LOAD_BALANCER_SERVICE_INSTANCE));
+	}
+
+	/**
+	 * Run the call to the given instance, used by {@link HedgingRestTemplateInterceptor} for each attempt.
+	 */
+	ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution,
+			ServiceInstance targetServiceInstance) throws IOException {
 
 		EnhancedPluginContext enhancedPluginContext = new EnhancedPluginContext();
 
@@ -61,16 +70,15 @@ public class EnhancedRestTemplateInterceptor implements ClientHttpRequestInterce
 		enhancedPluginContext.setOriginRequest(request);
 
 		enhancedPluginContext.setLocalServiceInstance(pluginRunner.getLocalServiceInstance());
-		enhancedPluginContext.setTargetServiceInstance((ServiceInstance) MetadataContextHolder.get()
-				.getLoadbalancerMetadata().get(LOAD_BALANCER_SERVICE_INSTANCE), request.getURI());
+		enhancedPluginContext.setTargetServiceInstance(targetServiceInstance, request.getURI());
 
 		// Run pre enhanced plugins.
 		pluginRunner.run(EnhancedPluginType.Client.PRE, enhancedPluginContext);
 
-		long startMillis = System.currentTimeMillis();
+		enhancedPluginContext.startTiming();
 		try {
 			ClientHttpResponse response = execution.execute(request, body);
-			enhancedPluginContext.setDelay(System.currentTimeMillis() - startMillis);
+			enhancedPluginContext.stopTiming();
 
 			EnhancedResponseContext enhancedResponseContext = EnhancedResponseContext.builder()
 					.httpStatus(response.getRawStatusCode())
@@ -83,7 +91,7 @@ public class EnhancedRestTemplateInterceptor implements ClientHttpRequestInterce
 			return response;
 		}
 		catch (IOException e) {
-			enhancedPluginContext.setDelay(System.currentTimeMillis() - startMillis);
+			enhancedPluginContext.stopTiming();
 			enhancedPluginContext.setThrowable(e);
 			// Run exception enhanced plugins.
 			pluginRunner.run(EnhancedPluginType.Client.EXCEPTION, enhancedPluginContext);
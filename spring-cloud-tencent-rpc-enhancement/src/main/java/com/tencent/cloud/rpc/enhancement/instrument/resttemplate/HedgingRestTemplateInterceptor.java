@@ -0,0 +1,95 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.resttemplate;
+
+import java.io.IOException;
+import java.net.URI;
+
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.HedgingExecutor;
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.HedgingInstanceChooser;
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.HedgingPolicy;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+
+/**
+ * Hedges the idempotent load balanced calls of {@link org.springframework.web.client.RestTemplate} with a second
+ * attempt to another instance. It takes the place of {@link EnhancedRestTemplateInterceptor} as the last interceptor
+ * and runs it for each attempt, so that every attempt is reported, limited and measured against its own instance,
+ * and both attempts go straight to the request factory.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class HedgingRestTemplateInterceptor implements ClientHttpRequestInterceptor {
+
+	private final HedgingExecutor hedgingExecutor;
+
+	private final EnhancedRestTemplateInterceptor enhancedInterceptor;
+
+	public HedgingRestTemplateInterceptor(HedgingExecutor hedgingExecutor,
+			EnhancedRestTemplateInterceptor enhancedInterceptor) {
+		this.hedgingExecutor = hedgingExecutor;
+		this.enhancedInterceptor = enhancedInterceptor;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+		ServiceInstance chosen = HedgingInstanceChooser.getChosenInstance(request.getURI());
+		if (chosen == null || !HedgingPolicy.isIdempotent(request.getMethod())
+				|| !hedgingExecutor.getPolicy().isHedged(chosen.getServiceId())) {
+			return enhancedInterceptor.intercept(request, body, execution);
+		}
+		String serviceId = chosen.getServiceId();
+		return hedgingExecutor.execute(serviceId, () -> enhancedInterceptor.intercept(request, body, execution, chosen), () -> {
+			ServiceInstance other = hedgingExecutor.getInstanceChooser().chooseOther(serviceId, chosen);
+			if (other == null) {
+				return null;
+			}
+			URI uri = HedgingInstanceChooser.reconstructURI(other, request.getURI());
+			// the plugins of the hedge must not change the headers of the first attempt.
+			HttpHeaders headers = new HttpHeaders();
+			headers.addAll(request.getHeaders());
+			HttpRequest hedgeRequest = new HttpRequestWrapper(request) {
+				@Override
+				public URI getURI() {
+					return uri;
+				}
+
+				@Override
+				public HttpHeaders getHeaders() {
+					return headers;
+				}
+			};
+			return () -> enhancedInterceptor.intercept(hedgeRequest, body, execution, other);
+		}, HedgingRestTemplateInterceptor::isSuccessful);
+	}
+
+	private static boolean isSuccessful(ClientHttpResponse response) {
+		try {
+			return HedgingPolicy.isSuccessful(response.getStatusCode().value());
+		}
+		catch (IOException e) {
+			return false;
+		}
+	}
+}
@@ -24,17 +24,14 @@ import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginRunner;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedRequestContext;
-import com.tencent.cloud.rpc.enhancement.plugin.EnhancedResponseContext;
 import reactor.core.publisher.Mono;
 
-import org.springframework.cloud.client.DefaultServiceInstance;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.cloud.gateway.route.Route;
 import org.springframework.core.Ordered;
 import org.springframework.web.server.ServerWebExchange;
 
-import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
 import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
 
 /**
@@ -46,6 +43,8 @@ public class EnhancedGatewayGlobalFilter implements GlobalFilter, Ordered {
 
 	private final EnhancedPluginRunner pluginRunner;
 
+	private final TargetServiceInstanceCache targetServiceInstanceCache = new TargetServiceInstanceCache();
+
 	public EnhancedGatewayGlobalFilter(EnhancedPluginRunner pluginRunner) {
 		this.pluginRunner = pluginRunner;
 	}
@@ -61,52 +60,22 @@ public class EnhancedGatewayGlobalFilter implements GlobalFilter, Ordered {
 				.build();
 		enhancedPluginContext.setRequest(enhancedRequestContext);
 		enhancedPluginContext.setOriginRequest(originExchange);
+		// The instance is not chosen yet, the pre plugins see the callee of the route.
+		Route route = originExchange.getAttribute(GATEWAY_ROUTE_ATTR);
+		if (route != null) {
+			URI routeUri = route.getUri();
+			enhancedPluginContext.setTargetServiceInstance(routeUri.getScheme().contains("lb")
+					? targetServiceInstanceCache.getService(routeUri.getHost())
+					: targetServiceInstanceCache.getDirect(routeUri), null);
+		}
 
 		// Run pre enhanced plugins.
 		pluginRunner.run(EnhancedPluginType.Client.PRE, enhancedPluginContext);
 		// Exchange may be changed in plugin
 		ServerWebExchange exchange = (ServerWebExchange) enhancedPluginContext.getOriginRequest();
-		long startTime = System.currentTimeMillis();
-		return chain.filter(exchange)
-				.doOnSubscribe(v -> {
-					Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
-					URI uri = exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
-					enhancedPluginContext.getRequest().setUrl(uri);
-					if (uri != null) {
-						if (route != null && route.getUri().getScheme().contains("lb")) {
-							DefaultServiceInstance serviceInstance = new DefaultServiceInstance();
-							serviceInstance.setServiceId(route.getUri().getHost());
-							serviceInstance.setHost(uri.getHost());
-							serviceInstance.setPort(uri.getPort());
-							enhancedPluginContext.setTargetServiceInstance(serviceInstance, null);
-						}
-						else {
-							enhancedPluginContext.setTargetServiceInstance(null, uri);
-						}
-					}
-				})
-				.doOnSuccess(v -> {
-					enhancedPluginContext.setDelay(System.currentTimeMillis() - startTime);
-					EnhancedResponseContext enhancedResponseContext = EnhancedResponseContext.builder()
-							.httpStatus(exchange.getResponse().getRawStatusCode())
-							.httpHeaders(exchange.getResponse().getHeaders())
-							.build();
-					enhancedPluginContext.setResponse(enhancedResponseContext);
-
-					// Run post enhanced plugins.
-					pluginRunner.run(EnhancedPluginType.Client.POST, enhancedPluginContext);
-				})
-				.doOnError(t -> {
-					enhancedPluginContext.setDelay(System.currentTimeMillis() - startTime);
-					enhancedPluginContext.setThrowable(t);
-
-					// Run exception enhanced plugins.
-					pluginRunner.run(EnhancedPluginType.Client.EXCEPTION, enhancedPluginContext);
-				})
-				.doFinally(v -> {
-					// Run finally enhanced plugins.
-					pluginRunner.run(EnhancedPluginType.Client.FINALLY, enhancedPluginContext);
-				});
+		enhancedPluginContext.startTiming();
+		return new EnhancedGatewayMonoOperator(chain.filter(exchange), pluginRunner, enhancedPluginContext, exchange,
+				targetServiceInstanceCache);
 	}
 
 	@Override
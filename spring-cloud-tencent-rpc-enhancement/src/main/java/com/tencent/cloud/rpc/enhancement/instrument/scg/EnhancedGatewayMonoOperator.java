@@ -0,0 +1,191 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.scg;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginRunner;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedResponseContext;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoOperator;
+import reactor.core.publisher.Operators;
+import reactor.util.context.Context;
+
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.web.server.ServerWebExchange;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * MonoOperator running the enhanced plugins around the gateway filter chain.
+ * <p>
+ * One subscriber does the work of the doOnSubscribe, doOnSuccess, doOnError and doFinally operators, which allocated
+ * an operator, a subscriber and a capturing lambda each per request.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+class EnhancedGatewayMonoOperator extends MonoOperator<Void, Void> {
+
+	private final EnhancedPluginRunner pluginRunner;
+
+	private final EnhancedPluginContext enhancedPluginContext;
+
+	private final ServerWebExchange exchange;
+
+	private final TargetServiceInstanceCache targetServiceInstanceCache;
+
+	EnhancedGatewayMonoOperator(Mono<Void> source, EnhancedPluginRunner pluginRunner,
+			EnhancedPluginContext enhancedPluginContext, ServerWebExchange exchange,
+			TargetServiceInstanceCache targetServiceInstanceCache) {
+		super(source);
+		this.pluginRunner = pluginRunner;
+		this.enhancedPluginContext = enhancedPluginContext;
+		this.exchange = exchange;
+		this.targetServiceInstanceCache = targetServiceInstanceCache;
+	}
+
+	@Override
+	public void subscribe(CoreSubscriber<? super Void> actual) {
+		source.subscribe(new EnhancedGatewaySubscriber(actual, this));
+	}
+
+	private void onSubscribe() {
+		Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+		URI uri = exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
+		enhancedPluginContext.getRequest().setUrl(uri);
+		if (uri != null) {
+			if (route != null && route.getUri().getScheme().contains("lb")) {
+				enhancedPluginContext.setTargetServiceInstance(targetServiceInstanceCache.getLoadBalanced(
+						route.getUri().getHost(), uri.getHost(), uri.getPort()), null);
+			}
+			else {
+				enhancedPluginContext.setTargetServiceInstance(targetServiceInstanceCache.getDirect(uri), null);
+			}
+		}
+	}
+
+	private void onSuccess() {
+		enhancedPluginContext.stopTiming();
+		EnhancedResponseContext enhancedResponseContext = EnhancedResponseContext.builder()
+				.httpStatus(exchange.getResponse().getRawStatusCode())
+				.httpHeaders(exchange.getResponse().getHeaders())
+				.build();
+		enhancedPluginContext.setResponse(enhancedResponseContext);
+
+		// Run post enhanced plugins.
+		pluginRunner.run(EnhancedPluginType.Client.POST, enhancedPluginContext);
+	}
+
+	private void onError(Throwable t) {
+		enhancedPluginContext.stopTiming();
+		enhancedPluginContext.setThrowable(t);
+
+		// Run exception enhanced plugins.
+		pluginRunner.run(EnhancedPluginType.Client.EXCEPTION, enhancedPluginContext);
+	}
+
+	private void onFinally() {
+		// Run finally enhanced plugins.
+		pluginRunner.run(EnhancedPluginType.Client.FINALLY, enhancedPluginContext);
+	}
+
+	static final class EnhancedGatewaySubscriber implements CoreSubscriber<Void>, Subscription {
+
+		private static final AtomicIntegerFieldUpdater<EnhancedGatewaySubscriber> FINALLY =
+				AtomicIntegerFieldUpdater.newUpdater(EnhancedGatewaySubscriber.class, "finallyRun");
+
+		private final CoreSubscriber<? super Void> actual;
+
+		private final EnhancedGatewayMonoOperator operator;
+
+		private Subscription s;
+
+		private volatile int finallyRun;
+
+		EnhancedGatewaySubscriber(CoreSubscriber<? super Void> actual, EnhancedGatewayMonoOperator operator) {
+			this.actual = actual;
+			this.operator = operator;
+		}
+
+		@Override
+		public Context currentContext() {
+			return actual.currentContext();
+		}
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			if (Operators.validate(this.s, s)) {
+				this.s = s;
+				try {
+					operator.onSubscribe();
+				}
+				catch (Throwable e) {
+					s.cancel();
+					Throwable error = Operators.onOperatorError(e, actual.currentContext());
+					operator.onError(error);
+					Operators.error(actual, error);
+					runFinally();
+					return;
+				}
+				actual.onSubscribe(this);
+			}
+		}
+
+		@Override
+		public void onNext(Void t) {
+			actual.onNext(t);
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			operator.onError(t);
+			actual.onError(t);
+			runFinally();
+		}
+
+		@Override
+		public void onComplete() {
+			operator.onSuccess();
+			actual.onComplete();
+			runFinally();
+		}
+
+		@Override
+		public void request(long n) {
+			s.request(n);
+		}
+
+		@Override
+		public void cancel() {
+			s.cancel();
+			runFinally();
+		}
+
+		private void runFinally() {
+			if (FINALLY.compareAndSet(this, 0, 1)) {
+				operator.onFinally();
+			}
+		}
+	}
+}
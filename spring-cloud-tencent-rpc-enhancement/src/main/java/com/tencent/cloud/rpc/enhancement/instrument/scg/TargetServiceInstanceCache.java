@@ -0,0 +1,191 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.scg;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.tencent.cloud.common.util.BoundedCache;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+/**
+ * Bounded cache of the target service instances of the gateway calls, so that the calls to the same instance share
+ * one {@link ServiceInstance} instead of allocating one per call. The cached instances are read-only for the plugins.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+final class TargetServiceInstanceCache {
+
+	/**
+	 * Maximum number of cached hosts.
+	 */
+	static final int MAX_CACHED_HOSTS = 4096;
+
+	/**
+	 * Maximum number of cached services whose instance is not chosen yet.
+	 */
+	static final int MAX_CACHED_SERVICES = 1024;
+
+	private static final String DIRECT = "";
+
+	/**
+	 * Port key of the instances without a port.
+	 */
+	private static final int NO_PORT = -1;
+
+	/**
+	 * Host to the instances of the host, by service id (empty for the direct calls) and port.
+	 */
+	private final BoundedCache<String, HostInstances> hosts = new BoundedCache<>(MAX_CACHED_HOSTS);
+
+	/**
+	 * Service id to the instance of the service before the instance is chosen.
+	 */
+	private final BoundedCache<String, ServiceInstance> services = new BoundedCache<>(MAX_CACHED_SERVICES);
+
+	/**
+	 * Get the instance of a load balanced call.
+	 * @param serviceId service id of the route
+	 * @param host host of the request url
+	 * @param port port of the request url
+	 * @return instance with the service id, host and port
+	 */
+	ServiceInstance getLoadBalanced(String serviceId, String host, int port) {
+		ServiceInstance instance = get(serviceId, host, port);
+		if (instance == null) {
+			DefaultServiceInstance serviceInstance = new DefaultServiceInstance();
+			serviceInstance.setServiceId(serviceId);
+			serviceInstance.setHost(host);
+			serviceInstance.setPort(port);
+			instance = put(serviceId, host, port, serviceInstance);
+		}
+		return instance;
+	}
+
+	/**
+	 * Get the instance of a load balanced call before the instance is chosen.
+	 * @param serviceId service id of the route
+	 * @return instance with the service id only
+	 */
+	ServiceInstance getService(String serviceId) {
+		return services.get(serviceId, key -> {
+			DefaultServiceInstance serviceInstance = new DefaultServiceInstance();
+			serviceInstance.setServiceId(key);
+			return serviceInstance;
+		});
+	}
+
+	/**
+	 * Get the instance of a direct call, the same as {@code EnhancedPluginContext#setTargetServiceInstance(null, url)}
+	 * but with the uri of the host only.
+	 * @param url request url
+	 * @return instance with the host and the default port of the scheme
+	 */
+	ServiceInstance getDirect(URI url) {
+		String scheme = url.getScheme();
+		String host = url.getHost();
+		// the instance only has the default port of its scheme.
+		ServiceInstance instance = get(DIRECT, host, NO_PORT);
+		if (instance == null || !Objects.equals(instance.getUri().getScheme(), scheme)) {
+			DefaultServiceInstance serviceInstance = new DefaultServiceInstance();
+			serviceInstance.setUri(host != null ? URI.create(scheme + "://" + host) : url);
+			serviceInstance.setPort(serviceInstance.isSecure() ? 443 : 80);
+			instance = put(DIRECT, host, NO_PORT, serviceInstance);
+		}
+		return instance;
+	}
+
+	/**
+	 * Get the number of cached hosts and services.
+	 * @return number of cached hosts and services
+	 */
+	int size() {
+		return hosts.size() + services.size();
+	}
+
+	private ServiceInstance get(String serviceId, String host, int port) {
+		HostInstances hostInstances = host != null ? hosts.get(host) : null;
+		return hostInstances != null ? hostInstances.get(serviceId, port) : null;
+	}
+
+	private ServiceInstance put(String serviceId, String host, int port, ServiceInstance instance) {
+		if (host == null) {
+			return instance;
+		}
+		// the instances of a host put concurrently may replace each other, and are put again on their next call.
+		HostInstances hostInstances = hosts.get(host);
+		hosts.put(host, hostInstances == null ? new HostInstances(serviceId, port, instance)
+				: hostInstances.with(serviceId, port, instance));
+		return instance;
+	}
+
+	/**
+	 * Instances of a host by service id and port, replaced on write as a host rarely has more than a few of them.
+	 */
+	private static final class HostInstances {
+
+		private final String[] serviceIds;
+
+		private final int[] ports;
+
+		private final ServiceInstance[] instances;
+
+		private HostInstances(String serviceId, int port, ServiceInstance instance) {
+			this(new String[] {serviceId}, new int[] {port}, new ServiceInstance[] {instance});
+		}
+
+		private HostInstances(String[] serviceIds, int[] ports, ServiceInstance[] instances) {
+			this.serviceIds = serviceIds;
+			this.ports = ports;
+			this.instances = instances;
+		}
+
+		private ServiceInstance get(String serviceId, int port) {
+			int i = indexOf(serviceId, port);
+			return i >= 0 ? instances[i] : null;
+		}
+
+		private HostInstances with(String serviceId, int port, ServiceInstance instance) {
+			int i = indexOf(serviceId, port);
+			if (i >= 0) {
+				ServiceInstance[] replaced = instances.clone();
+				replaced[i] = instance;
+				return new HostInstances(serviceIds, ports, replaced);
+			}
+			String[] addedServiceIds = Arrays.copyOf(serviceIds, serviceIds.length + 1);
+			int[] addedPorts = Arrays.copyOf(ports, ports.length + 1);
+			ServiceInstance[] addedInstances = Arrays.copyOf(instances, instances.length + 1);
+			addedServiceIds[serviceIds.length] = serviceId;
+			addedPorts[ports.length] = port;
+			addedInstances[instances.length] = instance;
+			return new HostInstances(addedServiceIds, addedPorts, addedInstances);
+		}
+
+		private int indexOf(String serviceId, int port) {
+			for (int i = 0; i < ports.length; i++) {
+				if (ports[i] == port && Objects.equals(serviceIds[i], serviceId)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+	}
+}
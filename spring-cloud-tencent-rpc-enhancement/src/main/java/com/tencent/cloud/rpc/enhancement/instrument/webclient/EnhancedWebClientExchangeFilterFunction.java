@@ -47,6 +47,14 @@ public class EnhancedWebClientExchangeFilterFunction implements ExchangeFilterFu
 
 	@Override
 	public Mono<ClientResponse> filter(ClientRequest originRequest, ExchangeFunction next) {
+		return filter(originRequest, next, (ServiceInstance) MetadataContextHolder.get()
+				.getLoadbalancerMetadata().get(LOAD_BALANCER_SERVICE_INSTANCE));
+	}
+
+	/**
+	 * Run the exchange with the given instance, used by {@link HedgingWebClientExchangeFilterFunction} for each attempt.
+	 */
+	Mono<ClientResponse> filter(ClientRequest originRequest, ExchangeFunction next, ServiceInstance targetServiceInstance) {
 		EnhancedPluginContext enhancedPluginContext = new EnhancedPluginContext();
 
 		EnhancedRequestContext enhancedRequestContext = EnhancedRequestContext.builder()
@@ -58,17 +66,16 @@ public class EnhancedWebClientExchangeFilterFunction implements ExchangeFilterFu
 		enhancedPluginContext.setOriginRequest(originRequest);
 
 		enhancedPluginContext.setLocalServiceInstance(pluginRunner.getLocalServiceInstance());
-		enhancedPluginContext.setTargetServiceInstance((ServiceInstance) MetadataContextHolder.get()
-				.getLoadbalancerMetadata().get(LOAD_BALANCER_SERVICE_INSTANCE), originRequest.url());
+		enhancedPluginContext.setTargetServiceInstance(targetServiceInstance, originRequest.url());
 
 		// Run post enhanced plugins.
 		pluginRunner.run(EnhancedPluginType.Client.PRE, enhancedPluginContext);
 		// request may be changed by plugin
 		ClientRequest request = (ClientRequest) enhancedPluginContext.getOriginRequest();
-		long startTime = System.currentTimeMillis();
+		enhancedPluginContext.startTiming();
 		return next.exchange(request)
 				.doOnSuccess(response -> {
-					enhancedPluginContext.setDelay(System.currentTimeMillis() - startTime);
+					enhancedPluginContext.stopTiming();
 
 					EnhancedResponseContext enhancedResponseContext = EnhancedResponseContext.builder()
 							.httpStatus(response.statusCode().value())
@@ -80,7 +87,7 @@ public class EnhancedWebClientExchangeFilterFunction implements ExchangeFilterFu
 					pluginRunner.run(EnhancedPluginType.Client.POST, enhancedPluginContext);
 				})
 				.doOnError(t -> {
-					enhancedPluginContext.setDelay(System.currentTimeMillis() - startTime);
+					enhancedPluginContext.stopTiming();
 					enhancedPluginContext.setThrowable(t);
 
 					// Run exception enhanced plugins.
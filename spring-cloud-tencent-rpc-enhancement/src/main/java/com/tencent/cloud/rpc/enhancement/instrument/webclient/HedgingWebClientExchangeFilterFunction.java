@@ -0,0 +1,147 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.webclient;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.HedgingInstanceChooser;
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.HedgingPolicy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * Hedges the idempotent load balanced calls of {@link org.springframework.web.reactive.function.client.WebClient}
+ * with a second attempt to another instance. It takes the place of {@link EnhancedWebClientExchangeFilterFunction}
+ * as the last filter and runs it for each attempt, so that every attempt is reported, limited and measured against
+ * its own instance.
+ * <p>
+ * The first successful response answers the call and the other attempt is cancelled. A failed attempt leaves the call
+ * to the other one in flight, and the failure of the first attempt is returned if none succeeded. The hedge is not
+ * sent once the first attempt failed, the same as {@link com.tencent.cloud.rpc.enhancement.instrument.hedging.HedgingExecutor}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class HedgingWebClientExchangeFilterFunction implements ExchangeFilterFunction {
+
+	private final HedgingPolicy policy;
+
+	private final HedgingInstanceChooser instanceChooser;
+
+	private final EnhancedWebClientExchangeFilterFunction enhancedFilter;
+
+	public HedgingWebClientExchangeFilterFunction(HedgingPolicy policy, HedgingInstanceChooser instanceChooser,
+			EnhancedWebClientExchangeFilterFunction enhancedFilter) {
+		this.policy = policy;
+		this.instanceChooser = instanceChooser;
+		this.enhancedFilter = enhancedFilter;
+	}
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+		ServiceInstance chosen = HedgingInstanceChooser.getChosenInstance(request.url());
+		if (chosen == null || !HedgingPolicy.isIdempotent(request.method()) || !policy.isHedged(chosen.getServiceId())) {
+			return enhancedFilter.filter(request, next);
+		}
+		String serviceId = chosen.getServiceId();
+		long delayNanos = policy.start(serviceId);
+		Mono<ClientResponse> first = timed(serviceId, enhancedFilter.filter(request, next, chosen));
+		if (delayNanos < 0) {
+			return first;
+		}
+		// failed response or exception of the first attempt.
+		AtomicReference<Object> firstFailure = new AtomicReference<>();
+		AtomicReference<ClientResponse> hedgeResponse = new AtomicReference<>();
+		Sinks.Empty<Void> firstFailed = Sinks.empty();
+
+		Mono<ClientResponse> firstAttempt = first
+				.onErrorResume(throwable -> {
+					firstFailure.set(throwable);
+					firstFailed.tryEmitEmpty();
+					return Mono.empty();
+				})
+				.flatMap(response -> {
+					if (isSuccessful(response)) {
+						return Mono.just(response);
+					}
+					firstFailure.set(response);
+					firstFailed.tryEmitEmpty();
+					return Mono.empty();
+				});
+		Mono<ClientResponse> hedgeAttempt = Mono.delay(Duration.ofNanos(delayNanos))
+				.takeUntilOther(firstFailed.asMono())
+				// the load balancer may block.
+				.flatMap(tick -> Mono.fromCallable(() -> instanceChooser.chooseOther(serviceId, chosen))
+						.subscribeOn(Schedulers.boundedElastic()))
+				.filter(other -> policy.tryHedge(serviceId))
+				.flatMap(other -> timed(serviceId, enhancedFilter.filter(ClientRequest.from(request)
+						.url(HedgingInstanceChooser.reconstructURI(other, request.url())).build(), next, other)))
+				.onErrorResume(throwable -> Mono.empty())
+				.flatMap(response -> {
+					if (isSuccessful(response)) {
+						hedgeResponse.set(response);
+						return Mono.just(response);
+					}
+					return response.releaseBody().then(Mono.empty());
+				});
+
+		return Flux.merge(firstAttempt, hedgeAttempt)
+				.next()
+				.doOnNext(response -> {
+					if (response == hedgeResponse.get()) {
+						policy.onHedgeWon();
+					}
+					Object failure = firstFailure.getAndSet(null);
+					if (failure instanceof ClientResponse) {
+						((ClientResponse) failure).releaseBody().subscribe();
+					}
+				})
+				.switchIfEmpty(Mono.defer(() -> {
+					Object failure = firstFailure.getAndSet(null);
+					if (failure instanceof Throwable) {
+						return Mono.error((Throwable) failure);
+					}
+					return Mono.justOrEmpty((ClientResponse) failure);
+				}))
+				// the response of the other attempt that came at the same time.
+				.doOnDiscard(ClientResponse.class, response -> response.releaseBody().subscribe());
+	}
+
+	private static boolean isSuccessful(ClientResponse response) {
+		return HedgingPolicy.isSuccessful(response.statusCode().value());
+	}
+
+	private Mono<ClientResponse> timed(String serviceId, Mono<ClientResponse> exchange) {
+		return Mono.defer(() -> {
+			long startNanos = System.nanoTime();
+			return exchange.doOnNext(response -> {
+				if (isSuccessful(response)) {
+					policy.record(serviceId, System.nanoTime() - startNanos);
+				}
+			});
+		});
+	}
+}
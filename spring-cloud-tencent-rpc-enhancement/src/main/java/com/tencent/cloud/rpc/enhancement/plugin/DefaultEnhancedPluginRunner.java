@@ -17,40 +17,75 @@
 
 package com.tencent.cloud.rpc.enhancement.plugin;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.Multimap;
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.polaris.client.api.SDKContext;
 
 import org.springframework.cloud.client.DefaultServiceInstance;
 import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.SmartApplicationListener;
 import org.springframework.util.CollectionUtils;
 
 /**
  * Default plugin runner.
+ * <p>
+ * The enabled plugins of every type are kept in an array sorted by order, so that running a type only iterates the
+ * plugins that do something. Plugins may be enabled or disabled by the configuration, so a refresh of it marks the
+ * arrays as stale and they are rebuilt by the next run, once the configuration properties have been rebound.
  *
  * @author Derek Yi 2022-08-16
  */
-public class DefaultEnhancedPluginRunner implements EnhancedPluginRunner {
+public class DefaultEnhancedPluginRunner implements EnhancedPluginRunner, SmartApplicationListener {
 
-	private final Multimap<EnhancedPluginType, EnhancedPlugin> pluginMap = ArrayListMultimap.create();
+	private static final EnhancedPlugin[] EMPTY = new EnhancedPlugin[0];
+
+	private static final int CLIENT_TYPE_COUNT = EnhancedPluginType.Client.values().length;
+
+	private static final int TYPE_COUNT = CLIENT_TYPE_COUNT + EnhancedPluginType.Server.values().length;
+
+	private final List<EnhancedPlugin> enhancedPlugins;
 
 	private final ServiceInstance localServiceInstance;
 
+	/**
+	 * Enabled plugins of the built-in types, indexed by {@link #indexOf(EnhancedPluginType)}.
+	 */
+	private volatile EnhancedPlugin[][] pluginArrays;
+
+	/**
+	 * Enabled plugins of the other types.
+	 */
+	private volatile Map<EnhancedPluginType, EnhancedPlugin[]> otherPluginArrays;
+
+	/**
+	 * Whether the configuration was refreshed since the arrays were built.
+	 */
+	private volatile boolean stale;
+
 	public DefaultEnhancedPluginRunner(
 			List<EnhancedPlugin> enhancedPlugins,
 			Registration registration,
 			SDKContext sdkContext
 	) {
 		if (!CollectionUtils.isEmpty(enhancedPlugins)) {
-			enhancedPlugins.stream()
-					.sorted(Comparator.comparing(EnhancedPlugin::getOrder))
-					.forEach(plugin -> pluginMap.put(plugin.getType(), plugin));
+			List<EnhancedPlugin> sortedPlugins = new ArrayList<>(enhancedPlugins);
+			sortedPlugins.sort(Comparator.comparing(EnhancedPlugin::getOrder));
+			this.enhancedPlugins = Collections.unmodifiableList(sortedPlugins);
+		}
+		else {
+			this.enhancedPlugins = Collections.emptyList();
 		}
+		rebuild();
 		if (registration != null) {
 			localServiceInstance = registration;
 		}
@@ -70,7 +105,11 @@ public class DefaultEnhancedPluginRunner implements EnhancedPluginRunner {
 	 */
 	@Override
 	public void run(EnhancedPluginType pluginType, EnhancedPluginContext context) {
-		for (EnhancedPlugin plugin : pluginMap.get(pluginType)) {
+		EnhancedPlugin[] plugins = getPlugins(pluginType);
+		if (plugins.length == 0) {
+			return;
+		}
+		for (EnhancedPlugin plugin : plugins) {
 			try {
 				plugin.run(context);
 			}
@@ -85,4 +124,75 @@ public class DefaultEnhancedPluginRunner implements EnhancedPluginRunner {
 		return this.localServiceInstance;
 	}
 
+	/**
+	 * Get the enabled plugins of the type.
+	 *
+	 * @param pluginType type of plugin
+	 * @return plugins sorted by order, must not be changed
+	 */
+	EnhancedPlugin[] getPlugins(EnhancedPluginType pluginType) {
+		if (stale) {
+			stale = false;
+			rebuild();
+		}
+		int index = indexOf(pluginType);
+		if (index >= 0) {
+			return pluginArrays[index];
+		}
+		return otherPluginArrays.getOrDefault(pluginType, EMPTY);
+	}
+
+	/**
+	 * Rebuild the plugin arrays with the plugins enabled by the current configuration.
+	 */
+	public void rebuild() {
+		List<List<EnhancedPlugin>> pluginLists = new ArrayList<>(TYPE_COUNT);
+		for (int i = 0; i < TYPE_COUNT; i++) {
+			pluginLists.add(new ArrayList<>());
+		}
+		Map<EnhancedPluginType, List<EnhancedPlugin>> otherPluginLists = new HashMap<>();
+		for (EnhancedPlugin plugin : enhancedPlugins) {
+			if (!plugin.isEnabled()) {
+				continue;
+			}
+			int index = indexOf(plugin.getType());
+			if (index >= 0) {
+				pluginLists.get(index).add(plugin);
+			}
+			else {
+				otherPluginLists.computeIfAbsent(plugin.getType(), type -> new ArrayList<>()).add(plugin);
+			}
+		}
+
+		EnhancedPlugin[][] pluginArrays = new EnhancedPlugin[TYPE_COUNT][];
+		for (int i = 0; i < TYPE_COUNT; i++) {
+			pluginArrays[i] = pluginLists.get(i).toArray(EMPTY);
+		}
+		Map<EnhancedPluginType, EnhancedPlugin[]> otherPluginArrays = new HashMap<>();
+		otherPluginLists.forEach((type, plugins) -> otherPluginArrays.put(type, plugins.toArray(EMPTY)));
+		this.pluginArrays = pluginArrays;
+		this.otherPluginArrays = otherPluginArrays;
+	}
+
+	private static int indexOf(EnhancedPluginType pluginType) {
+		if (pluginType instanceof EnhancedPluginType.Client) {
+			return ((EnhancedPluginType.Client) pluginType).ordinal();
+		}
+		if (pluginType instanceof EnhancedPluginType.Server) {
+			return CLIENT_TYPE_COUNT + ((EnhancedPluginType.Server) pluginType).ordinal();
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+		return EnvironmentChangeEvent.class.isAssignableFrom(eventType)
+				|| RefreshScopeRefreshedEvent.class.isAssignableFrom(eventType);
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationEvent event) {
+		// the listeners rebinding the configuration properties may not have run yet.
+		stale = true;
+	}
 }
@@ -42,6 +42,16 @@ public interface EnhancedPlugin extends Ordered {
 	 */
 	EnhancedPluginType getType();
 
+	/**
+	 * Whether the plugin is enabled by the current configuration. Disabled plugins are not run, and it is checked
+	 * again when the configuration is refreshed.
+	 *
+	 * @return true if enabled
+	 */
+	default boolean isEnabled() {
+		return true;
+	}
+
 	/**
 	 * Run the plugin.
 	 *
@@ -22,6 +22,8 @@ import java.net.URI;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,18 +39,36 @@ import org.springframework.cloud.client.ServiceInstance;
 public class EnhancedPluginContext {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(EnhancedPluginContext.class);
-	private final Map<String, Object> extraData = new ConcurrentHashMap<>();
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<EnhancedPluginContext, Map> EXTRA_DATA =
+			AtomicReferenceFieldUpdater.newUpdater(EnhancedPluginContext.class, Map.class, "extraData");
+	/**
+	 * Created on first use. The post plugins and the finally plugins of a call may run on different threads,
+	 * e.g. when a call is cancelled while it completes, so the map is concurrent and published with a CAS.
+	 */
+	private volatile Map<String, Object> extraData;
 	private Object originRequest;
 	private EnhancedRequestContext request;
 	private EnhancedResponseContext response;
 	private Throwable throwable;
 	private long delay;
+	private long delayNanos;
+	private long startNanos;
+	private final NanoClock clock;
 	private ServiceInstance localServiceInstance;
 	/**
 	 * targetServiceInstance only exist in a client runner type.
 	 */
 	private ServiceInstance targetServiceInstance;
 
+	public EnhancedPluginContext() {
+		this(NanoClock.SYSTEM);
+	}
+
+	public EnhancedPluginContext(NanoClock clock) {
+		this.clock = clock;
+	}
+
 	public Object getOriginRequest() {
 		return originRequest;
 	}
@@ -81,12 +101,44 @@ public class EnhancedPluginContext {
 		this.throwable = throwable;
 	}
 
+	/**
+	 * Get the delay of the call.
+	 * @return delay in milliseconds
+	 */
 	public long getDelay() {
 		return delay;
 	}
 
 	public void setDelay(long delay) {
 		this.delay = delay;
+		this.delayNanos = TimeUnit.MILLISECONDS.toNanos(delay);
+	}
+
+	/**
+	 * Get the delay of the call.
+	 * @return delay in nanoseconds
+	 */
+	public long getDelayNanos() {
+		return delayNanos;
+	}
+
+	public void setDelayNanos(long delayNanos) {
+		this.delayNanos = delayNanos;
+		this.delay = TimeUnit.NANOSECONDS.toMillis(delayNanos);
+	}
+
+	/**
+	 * Start timing the call with the monotonic clock.
+	 */
+	public void startTiming() {
+		this.startNanos = clock.nanoTime();
+	}
+
+	/**
+	 * Set the delay of the call to the time elapsed since {@link #startTiming()}.
+	 */
+	public void stopTiming() {
+		setDelayNanos(clock.nanoTime() - startNanos);
 	}
 
 	public ServiceInstance getLocalServiceInstance() {
@@ -122,8 +174,14 @@ public class EnhancedPluginContext {
 		}
 	}
 
+	@SuppressWarnings("unchecked")
 	public Map<String, Object> getExtraData() {
-		return extraData;
+		Map<String, Object> data = extraData;
+		if (data == null) {
+			EXTRA_DATA.compareAndSet(this, null, new ConcurrentHashMap<>(4));
+			data = extraData;
+		}
+		return data;
 	}
 
 	@Override
@@ -133,6 +191,7 @@ public class EnhancedPluginContext {
 				", response=" + response +
 				", throwable=" + throwable +
 				", delay=" + delay +
+				", delayNanos=" + delayNanos +
 				", localServiceInstance=" + localServiceInstance +
 				", targetServiceInstance=" + targetServiceInstance +
 				'}';
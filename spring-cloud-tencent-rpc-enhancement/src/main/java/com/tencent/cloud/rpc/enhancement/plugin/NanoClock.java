@@ -0,0 +1,38 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin;
+
+/**
+ * Monotonic clock timing the calls, {@link #SYSTEM} unless controlled by tests.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+@FunctionalInterface
+public interface NanoClock {
+
+	/**
+	 * Clock of {@link System#nanoTime()}.
+	 */
+	NanoClock SYSTEM = System::nanoTime;
+
+	/**
+	 * Current value of the clock, only meaningful to compute elapsed time.
+	 * @return nanoseconds
+	 */
+	long nanoTime();
+}
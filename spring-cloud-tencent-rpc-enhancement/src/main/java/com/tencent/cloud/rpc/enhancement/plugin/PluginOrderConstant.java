@@ -28,6 +28,15 @@ public class PluginOrderConstant {
 
 	public static class ClientPluginOrder {
 
+		/**
+		 * order for
+		 * {@link com.tencent.cloud.rpc.enhancement.plugin.limiter.ConcurrencyLimiterPrePlugin}
+		 * and
+		 * {@link com.tencent.cloud.rpc.enhancement.plugin.limiter.ConcurrencyLimiterFinallyPlugin},
+		 * before the other pre plugins as a rejected call does not run the finally plugins.
+		 */
+		public static final int CONCURRENCY_LIMITER_PLUGIN_ORDER = Ordered.HIGHEST_PRECEDENCE;
+
 		/**
 		 * order for
 		 * {@link com.tencent.cloud.rpc.enhancement.plugin.reporter.SuccessPolarisReporter}
@@ -71,6 +80,18 @@ public class PluginOrderConstant {
 		 * {@link com.tencent.cloud.plugin.trace.TraceClientFinallyEnhancedPlugin}.
 		 */
 		public static final int TRACE_CLIENT_PLUGIN_ORDER = Ordered.HIGHEST_PRECEDENCE + 3;
+
+		/**
+		 * order for
+		 * {@link com.tencent.cloud.rpc.enhancement.plugin.latency.LatencyHistogramPlugin}.
+		 */
+		public static final int LATENCY_HISTOGRAM_PLUGIN_ORDER = Ordered.HIGHEST_PRECEDENCE + 4;
+
+		/**
+		 * order for
+		 * {@link com.tencent.cloud.rpc.enhancement.plugin.metrics.RedMetricsPlugin} of the client calls.
+		 */
+		public static final int RED_METRICS_PLUGIN_ORDER = Ordered.HIGHEST_PRECEDENCE + 5;
 	}
 
 	public static class ServerPluginOrder {
@@ -80,6 +101,12 @@ public class PluginOrderConstant {
 		 * {@link com.tencent.cloud.plugin.trace.TraceServerPreEnhancedPlugin}.
 		 */
 		public static final int TRACE_SERVER_PRE_PLUGIN_ORDER = Ordered.HIGHEST_PRECEDENCE + 1;
+
+		/**
+		 * order for
+		 * {@link com.tencent.cloud.rpc.enhancement.plugin.metrics.RedMetricsPlugin} of the server calls.
+		 */
+		public static final int RED_METRICS_PLUGIN_ORDER = Ordered.HIGHEST_PRECEDENCE + 2;
 	}
 
 }
@@ -22,21 +22,16 @@ import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.net.URLDecoder;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tencent.cloud.common.constant.HeaderConstant;
-import com.tencent.cloud.common.constant.RouterConstant;
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.util.ApplicationContextAwareUtils;
-import com.tencent.cloud.common.util.RequestLabelUtils;
+import com.tencent.cloud.common.util.RouterLabelHeaders;
+import com.tencent.cloud.rpc.enhancement.config.FailureStatusTable;
 import com.tencent.cloud.rpc.enhancement.config.RpcEnhancementReporterProperties;
 import com.tencent.polaris.api.plugin.circuitbreaker.ResourceStat;
 import com.tencent.polaris.api.plugin.circuitbreaker.entity.InstanceResource;
@@ -55,18 +50,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.lang.Nullable;
 
 import static com.tencent.cloud.common.constant.ContextConstant.UTF_8;
-import static org.springframework.http.HttpStatus.BAD_GATEWAY;
-import static org.springframework.http.HttpStatus.BANDWIDTH_LIMIT_EXCEEDED;
-import static org.springframework.http.HttpStatus.GATEWAY_TIMEOUT;
-import static org.springframework.http.HttpStatus.HTTP_VERSION_NOT_SUPPORTED;
-import static org.springframework.http.HttpStatus.INSUFFICIENT_STORAGE;
-import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
-import static org.springframework.http.HttpStatus.LOOP_DETECTED;
-import static org.springframework.http.HttpStatus.NETWORK_AUTHENTICATION_REQUIRED;
-import static org.springframework.http.HttpStatus.NOT_EXTENDED;
-import static org.springframework.http.HttpStatus.NOT_IMPLEMENTED;
-import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
-import static org.springframework.http.HttpStatus.VARIANT_ALSO_NEGOTIATES;
 
 /**
  * Abstract Polaris Plugin Adapter .
@@ -76,9 +59,6 @@ import static org.springframework.http.HttpStatus.VARIANT_ALSO_NEGOTIATES;
 public final class PolarisEnhancedPluginUtils {
 
 	private static final Logger LOG = LoggerFactory.getLogger(PolarisEnhancedPluginUtils.class);
-	private static final List<HttpStatus> HTTP_STATUSES = toList(NOT_IMPLEMENTED, BAD_GATEWAY,
-			SERVICE_UNAVAILABLE, GATEWAY_TIMEOUT, HTTP_VERSION_NOT_SUPPORTED, VARIANT_ALSO_NEGOTIATES,
-			INSUFFICIENT_STORAGE, LOOP_DETECTED, BANDWIDTH_LIMIT_EXCEEDED, NOT_EXTENDED, NETWORK_AUTHENTICATION_REQUIRED);
 
 	private PolarisEnhancedPluginUtils() {
 
@@ -102,6 +82,31 @@ public final class PolarisEnhancedPluginUtils {
 			@Nullable String calleeServiceName, @Nullable String calleeHost, @Nullable Integer calleePort,
 			URI uri, HttpHeaders requestHeaders, @Nullable HttpHeaders responseHeaders,
 			@Nullable Integer statusCode, long delay, @Nullable Throwable exception) {
+		return createServiceCallResult(callerHost, calleeServiceName, calleeHost, calleePort, uri, requestHeaders,
+				responseHeaders, statusCode, delay, exception, null);
+	}
+
+	/**
+	 * createServiceCallResult.
+	 * @param callerHost caller host ip
+	 * @param calleeServiceName will pick up url host when null
+	 * @param calleeHost will pick up url host when null
+	 * @param calleePort will pick up url port when null
+	 * @param uri request url
+	 * @param requestHeaders request header
+	 * @param responseHeaders response header
+	 * @param statusCode response status
+	 * @param delay delay
+	 * @param exception exception
+	 * @param failureStatusTable classification of the status codes, see
+	 * {@link RpcEnhancementReporterProperties#getFailureStatusTable()}, read from the application context when null
+	 * @return ServiceCallResult
+	 */
+	public static ServiceCallResult createServiceCallResult(String callerHost,
+			@Nullable String calleeServiceName, @Nullable String calleeHost, @Nullable Integer calleePort,
+			URI uri, HttpHeaders requestHeaders, @Nullable HttpHeaders responseHeaders,
+			@Nullable Integer statusCode, long delay, @Nullable Throwable exception,
+			@Nullable FailureStatusTable failureStatusTable) {
 
 		ServiceCallResult resultRequest = new ServiceCallResult();
 		resultRequest.setNamespace(MetadataContext.LOCAL_NAMESPACE);
@@ -114,7 +119,8 @@ public final class PolarisEnhancedPluginUtils {
 		resultRequest.setHost(StringUtils.isBlank(calleeHost) ? uri.getHost() : calleeHost);
 		resultRequest.setPort(calleePort == null ? getPort(uri) : calleePort);
 		resultRequest.setLabels(getLabels(requestHeaders));
-		resultRequest.setRetStatus(getRetStatusFromRequest(responseHeaders, statusCode, exception));
+		resultRequest.setRetStatus(getRetStatusFromRequest(responseHeaders,
+				getDefaultRetStatus(statusCode, exception, failureStatusTable)));
 		resultRequest.setRuleName(getActiveRuleNameFromRequest(responseHeaders));
 		return resultRequest;
 	}
@@ -133,6 +139,27 @@ public final class PolarisEnhancedPluginUtils {
 	public static ResourceStat createInstanceResourceStat(
 			@Nullable String calleeServiceName, @Nullable String calleeHost, @Nullable Integer calleePort,
 			URI uri, @Nullable Integer statusCode, long delay, @Nullable Throwable exception) {
+		return createInstanceResourceStat(calleeServiceName, calleeHost, calleePort, uri, statusCode, delay, exception,
+				null);
+	}
+
+	/**
+	 * createInstanceResourceStat.
+	 * @param calleeServiceName will pick up url host when null
+	 * @param calleeHost will pick up url host when null
+	 * @param calleePort will pick up url port when null
+	 * @param uri request url
+	 * @param statusCode response status
+	 * @param delay delay
+	 * @param exception exception
+	 * @param failureStatusTable classification of the status codes, see
+	 * {@link RpcEnhancementReporterProperties#getFailureStatusTable()}, read from the application context when null
+	 * @return ResourceStat
+	 */
+	public static ResourceStat createInstanceResourceStat(
+			@Nullable String calleeServiceName, @Nullable String calleeHost, @Nullable Integer calleePort,
+			URI uri, @Nullable Integer statusCode, long delay, @Nullable Throwable exception,
+			@Nullable FailureStatusTable failureStatusTable) {
 		ServiceKey calleeServiceKey = new ServiceKey(MetadataContext.LOCAL_NAMESPACE, StringUtils.isBlank(calleeServiceName) ? uri.getHost() : calleeServiceName);
 		ServiceKey callerServiceKey = new ServiceKey(MetadataContext.LOCAL_NAMESPACE, MetadataContext.LOCAL_SERVICE);
 		Resource resource = new InstanceResource(
@@ -141,22 +168,11 @@ public final class PolarisEnhancedPluginUtils {
 				calleePort == null ? getPort(uri) : calleePort,
 				callerServiceKey
 		);
-		return new ResourceStat(resource, statusCode == null ? -1 : statusCode, delay, getDefaultRetStatus(statusCode, exception));
+		return new ResourceStat(resource, statusCode == null ? -1 : statusCode, delay,
+				getDefaultRetStatus(statusCode, exception, failureStatusTable));
 	}
 
 
-	/**
-	 * Convert items to List.
-	 *
-	 * @param items item arrays
-	 * @param <T>   Object Generics.
-	 * @return list
-	 */
-	@SafeVarargs
-	private static <T> List<T> toList(T... items) {
-		return new ArrayList<>(Arrays.asList(items));
-	}
-
 	/**
 	 * Callback after completion of request processing, Check if business meltdown reporting is required.
 	 *
@@ -164,9 +180,13 @@ public final class PolarisEnhancedPluginUtils {
 	 * @return true , otherwise return false .
 	 */
 	static boolean apply(@Nullable HttpStatus httpStatus) {
-		if (Objects.isNull(httpStatus)) {
-			return false;
-		}
+		return getFailureStatusTable().isFailure(httpStatus);
+	}
+
+	/**
+	 * Get the table of the reporter properties in the application context, for the callers not passing one.
+	 */
+	private static FailureStatusTable getFailureStatusTable() {
 		RpcEnhancementReporterProperties reportProperties;
 		try {
 			reportProperties = ApplicationContextAwareUtils.getApplicationContext()
@@ -176,25 +196,13 @@ public final class PolarisEnhancedPluginUtils {
 			LOG.error("get RpcEnhancementReporterProperties bean err", e);
 			reportProperties = new RpcEnhancementReporterProperties();
 		}
-		// statuses > series
-		List<HttpStatus> status = reportProperties.getStatuses();
-		if (status.isEmpty()) {
-			List<HttpStatus.Series> series = reportProperties.getSeries();
-			// Check INTERNAL_SERVER_ERROR (500) status.
-			if (reportProperties.isIgnoreInternalServerError() && Objects.equals(httpStatus, INTERNAL_SERVER_ERROR)) {
-				return false;
-			}
-			if (series.isEmpty()) {
-				return HTTP_STATUSES.contains(httpStatus);
-			}
-			return series.contains(httpStatus.series());
-		}
-		// Use the user-specified fuse status code.
-		return status.contains(httpStatus);
+		FailureStatusTable table = reportProperties.getFailureStatusTable();
+		// properties not compiling their table, e.g. a proxy.
+		return table != null ? table : FailureStatusTable.compile(reportProperties);
 	}
 
 	public static RetStatus getRetStatusFromRequest(HttpHeaders headers, Integer statusCode, Throwable exception) {
-		return getRetStatusFromRequest(headers, getDefaultRetStatus(statusCode, exception));
+		return getRetStatusFromRequest(headers, getDefaultRetStatus(statusCode, exception, null));
 	}
 
 	static RetStatus getRetStatusFromRequest(HttpHeaders headers, RetStatus defaultVal) {
@@ -231,7 +239,8 @@ public final class PolarisEnhancedPluginUtils {
 		return "";
 	}
 
-	private static RetStatus getDefaultRetStatus(Integer statusCode, Throwable exception) {
+	private static RetStatus getDefaultRetStatus(Integer statusCode, Throwable exception,
+			@Nullable FailureStatusTable failureStatusTable) {
 		RetStatus retStatus = RetStatus.RetSuccess;
 		if (exception != null) {
 			retStatus = RetStatus.RetFail;
@@ -239,7 +248,8 @@ public final class PolarisEnhancedPluginUtils {
 				retStatus = RetStatus.RetTimeout;
 			}
 		}
-		else if (statusCode == null || apply(HttpStatus.resolve(statusCode))) {
+		else if (statusCode == null || (failureStatusTable != null ? failureStatusTable : getFailureStatusTable())
+				.isFailure(statusCode)) {
 			retStatus = RetStatus.RetFail;
 		}
 		return retStatus;
@@ -251,42 +261,17 @@ public final class PolarisEnhancedPluginUtils {
 	}
 
 	private static String getLabels(HttpHeaders headers) {
-		if (headers != null) {
-			Collection<String> labels = headers.get(RouterConstant.ROUTER_LABEL_HEADER);
-			if (CollectionUtils.isNotEmpty(labels) && labels.iterator().hasNext()) {
-				String label = labels.iterator().next();
-				try {
-					label = URLDecoder.decode(label, UTF_8);
-				}
-				catch (UnsupportedEncodingException e) {
-					LOG.error("unsupported charset exception " + UTF_8, e);
-				}
-				return RequestLabelUtils.convertLabel(label);
-			}
-		}
-		return null;
+		return RouterLabelHeaders.get(headers).getLabelString();
 	}
 
+	/**
+	 * Get the router labels of the request.
+	 * @param headers request headers
+	 * @return read-only router labels, null if the header is absent or invalid
+	 */
 	public static Map<String, String> getLabelMap(HttpHeaders headers) {
-		if (headers != null) {
-			Collection<String> labels = headers.get(RouterConstant.ROUTER_LABEL_HEADER);
-			if (CollectionUtils.isNotEmpty(labels) && labels.iterator().hasNext()) {
-				String label = labels.iterator().next();
-				try {
-					label = URLDecoder.decode(label, UTF_8);
-				}
-				catch (UnsupportedEncodingException e) {
-					LOG.error("unsupported charset exception " + UTF_8, e);
-				}
-				try {
-					return new ObjectMapper().readValue(label, new TypeReference<HashMap<String, String>>() { });
-				}
-				catch (JsonProcessingException e) {
-					LOG.error("parse label map exception", e);
-				}
-			}
-		}
-		return null;
+		RouterLabelHeaders.Labels labels = RouterLabelHeaders.get(headers);
+		return labels.isPresent() ? labels.getLabelMap() : null;
 	}
 
 }
@@ -0,0 +1,136 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.latency;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histograms of the calls per callee (service, method), in microseconds.
+ * <p>
+ * Histograms are created on the first call of a callee, up to a maximum number of histograms, the calls of the
+ * callees beyond are only counted as overflow.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class CalleeLatencyHistograms {
+
+	private final int maxSize;
+
+	private final int significantDigits;
+
+	private final Map<String, Map<String, Histogram>> histograms = new ConcurrentHashMap<>();
+
+	private final AtomicInteger size = new AtomicInteger();
+
+	private final LongAdder overflowCount = new LongAdder();
+
+	public CalleeLatencyHistograms(int maxSize, int significantDigits) {
+		this.maxSize = maxSize;
+		this.significantDigits = significantDigits;
+	}
+
+	/**
+	 * Record the delay of a call.
+	 * @param service callee service
+	 * @param method callee method
+	 * @param delayNanos delay in nanoseconds
+	 */
+	public void record(String service, String method, long delayNanos) {
+		Histogram histogram = getOrCreate(service != null ? service : "", method != null ? method : "");
+		if (histogram == null) {
+			overflowCount.increment();
+			return;
+		}
+		histogram.recordValue(Math.max(0L, TimeUnit.NANOSECONDS.toMicros(delayNanos)));
+	}
+
+	private Histogram getOrCreate(String service, String method) {
+		Map<String, Histogram> methodHistograms = histograms.get(service);
+		if (methodHistograms == null) {
+			if (size.get() >= maxSize) {
+				return null;
+			}
+			methodHistograms = histograms.computeIfAbsent(service, key -> new ConcurrentHashMap<>());
+		}
+		Histogram histogram = methodHistograms.get(method);
+		if (histogram == null) {
+			if (size.get() >= maxSize) {
+				return null;
+			}
+			histogram = methodHistograms.computeIfAbsent(method, key -> {
+				size.incrementAndGet();
+				return new ConcurrentHistogram(significantDigits);
+			});
+		}
+		return histogram;
+	}
+
+	/**
+	 * Get the percentiles of every callee.
+	 * @return percentiles in microseconds of every callee, ordered by service and method
+	 */
+	public List<Map<String, Object>> getPercentiles() {
+		List<Map<String, Object>> percentiles = new ArrayList<>();
+		histograms.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(serviceEntry ->
+				serviceEntry.getValue().entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(methodEntry -> {
+					Histogram histogram = methodEntry.getValue().copy();
+					Map<String, Object> callee = new LinkedHashMap<>();
+					callee.put("service", serviceEntry.getKey());
+					callee.put("method", methodEntry.getKey());
+					callee.put("count", histogram.getTotalCount());
+					callee.put("p50", histogram.getValueAtPercentile(50.0));
+					callee.put("p90", histogram.getValueAtPercentile(90.0));
+					callee.put("p99", histogram.getValueAtPercentile(99.0));
+					callee.put("p999", histogram.getValueAtPercentile(99.9));
+					callee.put("max", histogram.getMaxValue());
+					percentiles.add(callee);
+				}));
+		return percentiles;
+	}
+
+	/**
+	 * Remove all the histograms.
+	 */
+	public void reset() {
+		histograms.clear();
+		size.set(0);
+		overflowCount.reset();
+	}
+
+	public int size() {
+		return size.get();
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public long getOverflowCount() {
+		return overflowCount.sum();
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.latency;
+
+import java.net.URI;
+
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedRequestContext;
+import com.tencent.cloud.rpc.enhancement.plugin.metrics.PathTemplates;
+import org.apache.commons.lang.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import static com.tencent.cloud.rpc.enhancement.plugin.PluginOrderConstant.ClientPluginOrder.LATENCY_HISTOGRAM_PLUGIN_ORDER;
+
+/**
+ * Records the delay of every call in the histogram of its callee, whose method is the template of the called path.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class LatencyHistogramPlugin implements EnhancedPlugin {
+
+	private static final Logger LOG = LoggerFactory.getLogger(LatencyHistogramPlugin.class);
+
+	private final CalleeLatencyHistograms histograms;
+
+	private final PathTemplates pathTemplates;
+
+	public LatencyHistogramPlugin(CalleeLatencyHistograms histograms, PathTemplates pathTemplates) {
+		this.histograms = histograms;
+		this.pathTemplates = pathTemplates;
+	}
+
+	@Override
+	public String getName() {
+		return LatencyHistogramPlugin.class.getName();
+	}
+
+	@Override
+	public EnhancedPluginType getType() {
+		return EnhancedPluginType.Client.FINALLY;
+	}
+
+	@Override
+	public void run(EnhancedPluginContext context) {
+		EnhancedRequestContext request = context.getRequest();
+		URI url = request != null ? request.getUrl() : null;
+		if (url == null) {
+			return;
+		}
+		ServiceInstance calleeServiceInstance = context.getTargetServiceInstance();
+		String service = calleeServiceInstance != null ? calleeServiceInstance.getServiceId() : null;
+		histograms.record(StringUtils.isBlank(service) ? url.getHost() : service, pathTemplates.template(url.getPath()),
+				context.getDelayNanos());
+	}
+
+	@Override
+	public void handlerThrowable(EnhancedPluginContext context, Throwable throwable) {
+		LOG.error("LatencyHistogramPlugin runs failed. context=[{}].", context, throwable);
+	}
+
+	@Override
+	public int getOrder() {
+		return LATENCY_HISTOGRAM_PLUGIN_ORDER;
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.limiter;
+
+/**
+ * Thrown when a call is rejected because the calls in flight to the callee service reached the concurrency limit.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+	private final String callee;
+
+	private final int limit;
+
+	public ConcurrencyLimitExceededException(String callee, int limit) {
+		super("Concurrency limit " + limit + " of callee service " + callee + " exceeded.");
+		this.callee = callee;
+		this.limit = limit;
+	}
+
+	public String getCallee() {
+		return callee;
+	}
+
+	public int getLimit() {
+		return limit;
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.limiter;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeoutException;
+
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedResponseContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.tencent.cloud.rpc.enhancement.plugin.PluginOrderConstant.ClientPluginOrder.CONCURRENCY_LIMITER_PLUGIN_ORDER;
+
+/**
+ * Releases the permit acquired by {@link ConcurrencyLimiterPrePlugin}, with the delay of the call as the RTT sample.
+ * Timeouts and the 429 and 503 statuses are dropped calls, other exceptions and cancelled calls release the permit
+ * without a sample.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class ConcurrencyLimiterFinallyPlugin implements EnhancedPlugin {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ConcurrencyLimiterFinallyPlugin.class);
+
+	@Override
+	public String getName() {
+		return ConcurrencyLimiterFinallyPlugin.class.getName();
+	}
+
+	@Override
+	public EnhancedPluginType getType() {
+		return EnhancedPluginType.Client.FINALLY;
+	}
+
+	@Override
+	public void run(EnhancedPluginContext context) {
+		GradientConcurrencyLimiter limiter = (GradientConcurrencyLimiter) context.getExtraData()
+				.remove(ConcurrencyLimiters.LIMITER_KEY);
+		if (limiter == null) {
+			return;
+		}
+		EnhancedResponseContext response = context.getResponse();
+		Throwable throwable = context.getThrowable();
+		if (throwable != null) {
+			limiter.release(0, isTimeout(throwable));
+		}
+		else if (response != null) {
+			Integer status = response.getHttpStatus();
+			boolean dropped = status != null && (status == 429 || status == 503);
+			limiter.release(context.getDelayNanos(), dropped);
+		}
+		else {
+			limiter.release(0, false);
+		}
+	}
+
+	private static boolean isTimeout(Throwable throwable) {
+		for (Throwable t = throwable; t != null; t = t.getCause() == t ? null : t.getCause()) {
+			if (t instanceof SocketTimeoutException || t instanceof TimeoutException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void handlerThrowable(EnhancedPluginContext context, Throwable throwable) {
+		LOG.error("ConcurrencyLimiterFinallyPlugin runs failed. context=[{}].", context, throwable);
+	}
+
+	@Override
+	public int getOrder() {
+		return CONCURRENCY_LIMITER_PLUGIN_ORDER;
+	}
+}
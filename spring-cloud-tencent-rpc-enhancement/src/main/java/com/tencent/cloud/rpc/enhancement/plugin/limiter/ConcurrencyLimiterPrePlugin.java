@@ -0,0 +1,80 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.limiter;
+
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.tencent.cloud.rpc.enhancement.plugin.PluginOrderConstant.ClientPluginOrder.CONCURRENCY_LIMITER_PLUGIN_ORDER;
+
+/**
+ * Acquires a permit of the callee limiter before the call, and rejects the call with
+ * {@link ConcurrencyLimitExceededException} when the limit is reached. The permit is released by
+ * {@link ConcurrencyLimiterFinallyPlugin}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class ConcurrencyLimiterPrePlugin implements EnhancedPlugin {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ConcurrencyLimiterPrePlugin.class);
+
+	private final ConcurrencyLimiters limiters;
+
+	public ConcurrencyLimiterPrePlugin(ConcurrencyLimiters limiters) {
+		this.limiters = limiters;
+	}
+
+	@Override
+	public String getName() {
+		return ConcurrencyLimiterPrePlugin.class.getName();
+	}
+
+	@Override
+	public EnhancedPluginType getType() {
+		return EnhancedPluginType.Client.PRE;
+	}
+
+	@Override
+	public void run(EnhancedPluginContext context) {
+		GradientConcurrencyLimiter limiter = limiters.get(ConcurrencyLimiters.callee(context));
+		if (limiter == null) {
+			return;
+		}
+		if (!limiter.tryAcquire()) {
+			throw new ConcurrencyLimitExceededException(limiter.getCallee(), limiter.getLimit());
+		}
+		context.getExtraData().put(ConcurrencyLimiters.LIMITER_KEY, limiter);
+	}
+
+	@Override
+	public void handlerThrowable(EnhancedPluginContext context, Throwable throwable) {
+		if (throwable instanceof ConcurrencyLimitExceededException) {
+			// abort the call, the finally plugins are not run as the call is not sent.
+			throw (ConcurrencyLimitExceededException) throwable;
+		}
+		LOG.error("ConcurrencyLimiterPrePlugin runs failed. context=[{}].", context, throwable);
+	}
+
+	@Override
+	public int getOrder() {
+		return CONCURRENCY_LIMITER_PLUGIN_ORDER;
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.limiter;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.tencent.cloud.rpc.enhancement.config.ConcurrencyLimiterProperties;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import org.apache.commons.lang.StringUtils;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+/**
+ * Concurrency limiters of the callee services, created on the first call with the limits configured for the callee.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class ConcurrencyLimiters {
+
+	/**
+	 * Maximum number of limited callees, the callees beyond it are not limited.
+	 */
+	static final int MAX_CALLEES = 1000;
+
+	/**
+	 * Key of the acquired limiter in {@link EnhancedPluginContext#getExtraData()}.
+	 */
+	static final String LIMITER_KEY = ConcurrencyLimiters.class.getName();
+
+	private final ConcurrencyLimiterProperties properties;
+
+	private final Map<String, GradientConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+	public ConcurrencyLimiters(ConcurrencyLimiterProperties properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * Get the limiter of a callee service.
+	 * @param callee callee service, or host of a direct call
+	 * @return limiter, or null if the callee is not limited
+	 */
+	public GradientConcurrencyLimiter get(String callee) {
+		if (StringUtils.isBlank(callee)) {
+			return null;
+		}
+		GradientConcurrencyLimiter limiter = limiters.get(callee);
+		if (limiter == null) {
+			ConcurrencyLimiterProperties.Service service = properties.getServices().get(callee);
+			if (service != null && Boolean.FALSE.equals(service.getEnabled()) || limiters.size() >= MAX_CALLEES) {
+				return null;
+			}
+			limiter = limiters.computeIfAbsent(callee, key -> create(key, service));
+		}
+		return limiter;
+	}
+
+	/**
+	 * Get the limiters created so far.
+	 * @return read-only limiters
+	 */
+	public Collection<GradientConcurrencyLimiter> getLimiters() {
+		return Collections.unmodifiableCollection(limiters.values());
+	}
+
+	private GradientConcurrencyLimiter create(String callee, ConcurrencyLimiterProperties.Service service) {
+		int initialLimit = properties.getInitialLimit();
+		int minLimit = properties.getMinLimit();
+		int maxLimit = properties.getMaxLimit();
+		double rttTolerance = properties.getRttTolerance();
+		if (service != null) {
+			initialLimit = service.getInitialLimit() != null ? service.getInitialLimit() : initialLimit;
+			minLimit = service.getMinLimit() != null ? service.getMinLimit() : minLimit;
+			maxLimit = service.getMaxLimit() != null ? service.getMaxLimit() : maxLimit;
+			rttTolerance = service.getRttTolerance() != null ? service.getRttTolerance() : rttTolerance;
+		}
+		return new GradientConcurrencyLimiter(callee, initialLimit, minLimit, maxLimit, rttTolerance,
+				properties.getSmoothing(), properties.getWindowSize(), properties.getLongWindow());
+	}
+
+	/**
+	 * Get the callee of a call, the service id of the target instance, else its host.
+	 * @param context context of the call
+	 * @return callee, or null if unknown
+	 */
+	static String callee(EnhancedPluginContext context) {
+		ServiceInstance instance = context.getTargetServiceInstance();
+		if (instance != null) {
+			if (StringUtils.isNotBlank(instance.getServiceId())) {
+				return instance.getServiceId();
+			}
+			if (StringUtils.isNotBlank(instance.getHost())) {
+				return instance.getHost();
+			}
+		}
+		URI url = context.getRequest() != null ? context.getRequest().getUrl() : null;
+		return url != null ? url.getHost() : null;
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive concurrency limit of a callee service, following the gradient of the observed RTT.
+ * <p>
+ * The RTTs of the successful calls are averaged per window of {@code windowSize} samples into the short-term RTT,
+ * and the windows into the long-term RTT. At the end of a window where the limit was used, the limit becomes
+ * {@code limit * gradient + sqrt(limit)}, smoothed, with {@code gradient = clamp(tolerance * longRtt / shortRtt,
+ * 0.5, 1)}. The square root lets the limit grow while the RTT holds, and the gradient shrinks it as soon as the RTT
+ * rises. A dropped call (timeout, 429 or 503) decreases the limit multiplicatively at once.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class GradientConcurrencyLimiter {
+
+	/**
+	 * Ratio the limit is multiplied by when a call is dropped.
+	 */
+	static final double BACKOFF_RATIO = 0.9;
+
+	private final String callee;
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final double rttTolerance;
+
+	private final double smoothing;
+
+	private final int windowSize;
+
+	private final int longWindow;
+
+	private final AtomicInteger inflight = new AtomicInteger();
+
+	private volatile double limit;
+
+	private long windowRttSum;
+
+	private int windowCount;
+
+	private int windowMaxInflight;
+
+	private double longRtt;
+
+	public GradientConcurrencyLimiter(String callee, int initialLimit, int minLimit, int maxLimit, double rttTolerance,
+			double smoothing, int windowSize, int longWindow) {
+		this.callee = callee;
+		this.minLimit = Math.max(1, minLimit);
+		this.maxLimit = Math.max(this.minLimit, maxLimit);
+		this.rttTolerance = Math.max(1.0, rttTolerance);
+		this.smoothing = Math.min(1.0, Math.max(0.0, smoothing));
+		this.windowSize = Math.max(1, windowSize);
+		this.longWindow = Math.max(1, longWindow);
+		this.limit = clamp(initialLimit);
+	}
+
+	/**
+	 * Acquire a permit for a call.
+	 * @return true if the call is allowed, it must then be released with {@link #release(long, boolean)}
+	 */
+	public boolean tryAcquire() {
+		int current;
+		do {
+			current = inflight.get();
+			if (current >= (int) limit) {
+				return false;
+			}
+		}
+		while (!inflight.compareAndSet(current, current + 1));
+		return true;
+	}
+
+	/**
+	 * Release the permit of a call and learn from its RTT.
+	 * @param rttNanos RTT of the call, ignored when not positive, such as a cancelled call
+	 * @param dropped whether the callee dropped the call, because of a timeout or an overload status
+	 */
+	public void release(long rttNanos, boolean dropped) {
+		int current = inflight.getAndDecrement();
+		if (dropped) {
+			onDropped();
+		}
+		else if (rttNanos > 0) {
+			onSample(rttNanos, current);
+		}
+	}
+
+	private synchronized void onDropped() {
+		limit = clamp(limit * BACKOFF_RATIO);
+	}
+
+	private synchronized void onSample(long rttNanos, int inflightOfCall) {
+		windowRttSum += rttNanos;
+		windowMaxInflight = Math.max(windowMaxInflight, inflightOfCall);
+		if (++windowCount < windowSize) {
+			return;
+		}
+		double shortRtt = (double) windowRttSum / windowCount;
+		int maxInflight = windowMaxInflight;
+		windowRttSum = 0;
+		windowCount = 0;
+		windowMaxInflight = 0;
+
+		if (longRtt == 0) {
+			longRtt = shortRtt;
+		}
+		else {
+			longRtt += (shortRtt - longRtt) / longWindow;
+			// recover quickly after a latency drop, instead of following the slow long-term average.
+			if (longRtt > 2 * shortRtt) {
+				longRtt *= 0.95;
+			}
+		}
+		// the limit was not used, the RTT says nothing about it.
+		if (maxInflight < limit / 2) {
+			return;
+		}
+		double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+		double newLimit = limit * gradient + Math.sqrt(limit);
+		limit = clamp(limit * (1 - smoothing) + newLimit * smoothing);
+	}
+
+	private double clamp(double value) {
+		return Math.max(minLimit, Math.min(maxLimit, value));
+	}
+
+	public String getCallee() {
+		return callee;
+	}
+
+	public int getLimit() {
+		return (int) limit;
+	}
+
+	public int getInflight() {
+		return inflight.get();
+	}
+}
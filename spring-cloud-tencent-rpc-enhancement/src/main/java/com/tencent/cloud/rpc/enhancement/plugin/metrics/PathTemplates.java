@@ -0,0 +1,140 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.metrics;
+
+import java.util.List;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.PathMatcher;
+
+/**
+ * Turns the raw paths of the calls into low cardinality method tags.
+ * <p>
+ * A path matching one of the configured Ant-style templates becomes the template. In the other paths, the numeric,
+ * UUID and long hex segments are replaced by {number}, {uuid} and {id}, and the path is returned as is when it has no
+ * such segment.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class PathTemplates {
+
+	static final String NUMBER = "{number}";
+
+	static final String UUID = "{uuid}";
+
+	static final String ID = "{id}";
+
+	/**
+	 * Minimum length of a hex segment replaced by {id}.
+	 */
+	private static final int MIN_HEX_ID_LENGTH = 16;
+
+	private final String[] templates;
+
+	private final PathMatcher pathMatcher = new AntPathMatcher();
+
+	public PathTemplates(List<String> templates) {
+		this.templates = CollectionUtils.isEmpty(templates) ? new String[0] : templates.toArray(new String[0]);
+	}
+
+	/**
+	 * Get the template of the path.
+	 * @param path raw path
+	 * @return template of the path, empty if the path is null
+	 */
+	public String template(String path) {
+		if (path == null) {
+			return "";
+		}
+		for (String template : templates) {
+			if (pathMatcher.match(template, path)) {
+				return template;
+			}
+		}
+		return replaceIdSegments(path);
+	}
+
+	static String replaceIdSegments(String path) {
+		StringBuilder builder = null;
+		int length = path.length();
+		int start = 0;
+		while (start <= length) {
+			int end = path.indexOf('/', start);
+			if (end < 0) {
+				end = length;
+			}
+			String replacement = end > start ? replacement(path, start, end) : null;
+			if (replacement != null && builder == null) {
+				builder = new StringBuilder(length).append(path, 0, start);
+			}
+			if (builder != null) {
+				if (replacement != null) {
+					builder.append(replacement);
+				}
+				else {
+					builder.append(path, start, end);
+				}
+				if (end < length) {
+					builder.append('/');
+				}
+			}
+			start = end + 1;
+		}
+		return builder != null ? builder.toString() : path;
+	}
+
+	private static String replacement(String path, int start, int end) {
+		int length = end - start;
+		boolean digits = true;
+		boolean hex = true;
+		boolean hasDigit = false;
+		for (int i = start; i < end; i++) {
+			char c = path.charAt(i);
+			boolean digit = c >= '0' && c <= '9';
+			hasDigit |= digit;
+			digits &= digit;
+			hex &= digit || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+		}
+		if (digits) {
+			return NUMBER;
+		}
+		if (length == 36 && isUuid(path, start)) {
+			return UUID;
+		}
+		if (hex && hasDigit && length >= MIN_HEX_ID_LENGTH) {
+			return ID;
+		}
+		return null;
+	}
+
+	private static boolean isUuid(String path, int start) {
+		for (int i = 0; i < 36; i++) {
+			char c = path.charAt(start + i);
+			if (i == 8 || i == 13 || i == 18 || i == 23) {
+				if (c != '-') {
+					return false;
+				}
+			}
+			else if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F'))) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
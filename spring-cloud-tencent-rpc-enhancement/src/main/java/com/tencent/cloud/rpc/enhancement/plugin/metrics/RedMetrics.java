@@ -0,0 +1,264 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.metrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * In-process RED (rate, errors, duration) metrics of the calls, one series per (side, caller, callee, method,
+ * status).
+ * <p>
+ * A call updates two {@link LongAdder}s of its series, the series are read by the meters bound with
+ * {@link RedMetricsMeterBinder}. The number of series is bounded, the calls of new series are recorded in an
+ * overflow series of their side and status once reached.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class RedMetrics {
+
+	/**
+	 * Tag value of the caller, callee and method of the overflow series.
+	 */
+	public static final String OTHER = "other";
+
+	/**
+	 * Status of the calls failed with an exception.
+	 */
+	public static final String EXCEPTION = "exception";
+
+	/**
+	 * Status of the calls without status code.
+	 */
+	public static final String UNKNOWN = "unknown";
+
+	private static final String[] STATUS_CLASSES = {"1xx", "2xx", "3xx", "4xx", "5xx"};
+
+	private final int maxSeries;
+
+	private final Map<Key, Series> series = new ConcurrentHashMap<>();
+
+	private final AtomicInteger size = new AtomicInteger();
+
+	private final LongAdder overflowCount = new LongAdder();
+
+	private final List<Consumer<Series>> listeners = new CopyOnWriteArrayList<>();
+
+	public RedMetrics(int maxSeries) {
+		this.maxSeries = maxSeries;
+	}
+
+	/**
+	 * Get the status of a call.
+	 * @param statusCode http status code, may be null
+	 * @param throwable exception of the call, may be null
+	 * @return status class such as 2xx, {@link #EXCEPTION} or {@link #UNKNOWN}
+	 */
+	public static String status(Integer statusCode, Throwable throwable) {
+		if (throwable != null) {
+			return EXCEPTION;
+		}
+		if (statusCode == null || statusCode < 100 || statusCode > 599) {
+			return UNKNOWN;
+		}
+		return STATUS_CLASSES[statusCode / 100 - 1];
+	}
+
+	/**
+	 * Record a call.
+	 * @param side client or server
+	 * @param caller caller service
+	 * @param callee callee service
+	 * @param method method, a path template
+	 * @param status status class
+	 * @param delayNanos delay in nanoseconds
+	 */
+	public void record(Side side, String caller, String callee, String method, String status, long delayNanos) {
+		getOrCreate(new Key(side, caller, callee, method, status)).record(delayNanos);
+	}
+
+	private Series getOrCreate(Key key) {
+		Series current = series.get(key);
+		if (current != null) {
+			return current;
+		}
+		if (size.get() >= maxSeries) {
+			overflowCount.increment();
+			key = new Key(key.side, OTHER, OTHER, OTHER, key.status);
+			current = series.get(key);
+			if (current != null) {
+				return current;
+			}
+		}
+		boolean[] created = new boolean[1];
+		current = series.computeIfAbsent(key, k -> {
+			created[0] = true;
+			size.incrementAndGet();
+			return new Series(k);
+		});
+		if (created[0]) {
+			for (Consumer<Series> listener : listeners) {
+				listener.accept(current);
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Listen to the series, the listener receives the existing series and then the new ones.
+	 * @param listener listener of the series
+	 */
+	public void addListener(Consumer<Series> listener) {
+		listeners.add(listener);
+		series.values().forEach(listener);
+	}
+
+	public Collection<Series> getSeries() {
+		return Collections.unmodifiableCollection(series.values());
+	}
+
+	public int getMaxSeries() {
+		return maxSeries;
+	}
+
+	/**
+	 * Get the number of calls recorded in an overflow series.
+	 * @return number of calls
+	 */
+	public long getOverflowCount() {
+		return overflowCount.sum();
+	}
+
+	/**
+	 * Side of the calls.
+	 */
+	public enum Side {
+
+		/**
+		 * Calls made by this application.
+		 */
+		CLIENT,
+
+		/**
+		 * Calls served by this application.
+		 */
+		SERVER
+	}
+
+	/**
+	 * Counters of a series.
+	 */
+	public static final class Series {
+
+		private final Key key;
+
+		private final LongAdder count = new LongAdder();
+
+		private final LongAdder totalNanos = new LongAdder();
+
+		private Series(Key key) {
+			this.key = key;
+		}
+
+		void record(long delayNanos) {
+			count.increment();
+			totalNanos.add(Math.max(0L, delayNanos));
+		}
+
+		public Side getSide() {
+			return key.side;
+		}
+
+		public String getCaller() {
+			return key.caller;
+		}
+
+		public String getCallee() {
+			return key.callee;
+		}
+
+		public String getMethod() {
+			return key.method;
+		}
+
+		public String getStatus() {
+			return key.status;
+		}
+
+		public long getCount() {
+			return count.sum();
+		}
+
+		public double getTotalNanos() {
+			return totalNanos.sum();
+		}
+	}
+
+	private static final class Key {
+
+		private final Side side;
+
+		private final String caller;
+
+		private final String callee;
+
+		private final String method;
+
+		private final String status;
+
+		private final int hash;
+
+		private Key(Side side, String caller, String callee, String method, String status) {
+			this.side = side;
+			this.caller = caller != null ? caller : UNKNOWN;
+			this.callee = callee != null ? callee : UNKNOWN;
+			this.method = method != null ? method : "";
+			this.status = status;
+			int hash = side.hashCode();
+			hash = 31 * hash + this.caller.hashCode();
+			hash = 31 * hash + this.callee.hashCode();
+			hash = 31 * hash + this.method.hashCode();
+			this.hash = 31 * hash + status.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) o;
+			return side == key.side && status.equals(key.status) && method.equals(key.method)
+					&& callee.equals(key.callee) && caller.equals(key.caller);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
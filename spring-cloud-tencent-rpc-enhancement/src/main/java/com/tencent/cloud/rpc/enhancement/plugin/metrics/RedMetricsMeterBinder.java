@@ -0,0 +1,67 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Binds {@link RedMetrics} to Micrometer, one function timer per series named
+ * {@code polaris.rpc.client.requests} or {@code polaris.rpc.server.requests} with the caller, callee, method and
+ * status tags.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class RedMetricsMeterBinder implements MeterBinder {
+
+	/**
+	 * Name of the timers of the client calls.
+	 */
+	public static final String CLIENT_REQUESTS = "polaris.rpc.client.requests";
+
+	/**
+	 * Name of the timers of the server calls.
+	 */
+	public static final String SERVER_REQUESTS = "polaris.rpc.server.requests";
+
+	private final RedMetrics redMetrics;
+
+	public RedMetricsMeterBinder(RedMetrics redMetrics) {
+		this.redMetrics = redMetrics;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("polaris.rpc.series.overflow", redMetrics, RedMetrics::getOverflowCount)
+				.description("Number of calls recorded in an overflow series because the series limit was reached.")
+				.register(registry);
+		redMetrics.addListener(series -> FunctionTimer.builder(
+						series.getSide() == RedMetrics.Side.CLIENT ? CLIENT_REQUESTS : SERVER_REQUESTS, series,
+						RedMetrics.Series::getCount, RedMetrics.Series::getTotalNanos, TimeUnit.NANOSECONDS)
+				.tag("caller", series.getCaller())
+				.tag("callee", series.getCallee())
+				.tag("method", series.getMethod())
+				.tag("status", series.getStatus())
+				.description("Rate, errors and duration of the calls.")
+				.register(registry));
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.metrics;
+
+import java.net.URI;
+
+import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedRequestContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedResponseContext;
+import com.tencent.cloud.rpc.enhancement.plugin.PluginOrderConstant;
+import org.apache.commons.lang.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+/**
+ * Plugin recording the calls of a side in {@link RedMetrics}, when the calls finish.
+ * <p>
+ * The client calls are recorded with the local service as caller and the target service, or the url host, as
+ * callee. The server calls are recorded with the local service as callee, the caller is not known.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class RedMetricsPlugin implements EnhancedPlugin {
+
+	private static final Logger LOG = LoggerFactory.getLogger(RedMetricsPlugin.class);
+
+	private final RedMetrics redMetrics;
+
+	private final PathTemplates pathTemplates;
+
+	private final RedMetrics.Side side;
+
+	public RedMetricsPlugin(RedMetrics redMetrics, PathTemplates pathTemplates, RedMetrics.Side side) {
+		this.redMetrics = redMetrics;
+		this.pathTemplates = pathTemplates;
+		this.side = side;
+	}
+
+	@Override
+	public String getName() {
+		return RedMetricsPlugin.class.getName() + "." + side;
+	}
+
+	@Override
+	public EnhancedPluginType getType() {
+		return side == RedMetrics.Side.CLIENT ? EnhancedPluginType.Client.FINALLY : EnhancedPluginType.Server.FINALLY;
+	}
+
+	@Override
+	public void run(EnhancedPluginContext context) {
+		EnhancedRequestContext request = context.getRequest();
+		URI url = request != null ? request.getUrl() : null;
+		if (url == null) {
+			return;
+		}
+		EnhancedResponseContext response = context.getResponse();
+		String status = RedMetrics.status(response != null ? response.getHttpStatus() : null, context.getThrowable());
+		String method = pathTemplates.template(url.getPath());
+		if (side == RedMetrics.Side.CLIENT) {
+			ServiceInstance target = context.getTargetServiceInstance();
+			String callee = target != null ? target.getServiceId() : null;
+			redMetrics.record(side, MetadataContext.LOCAL_SERVICE, StringUtils.isBlank(callee) ? url.getHost() : callee,
+					method, status, context.getDelayNanos());
+		}
+		else {
+			redMetrics.record(side, RedMetrics.UNKNOWN, MetadataContext.LOCAL_SERVICE, method, status,
+					context.getDelayNanos());
+		}
+	}
+
+	@Override
+	public void handlerThrowable(EnhancedPluginContext context, Throwable throwable) {
+		LOG.error("RedMetricsPlugin runs failed. context=[{}].", context, throwable);
+	}
+
+	@Override
+	public int getOrder() {
+		return side == RedMetrics.Side.CLIENT ? PluginOrderConstant.ClientPluginOrder.RED_METRICS_PLUGIN_ORDER
+				: PluginOrderConstant.ServerPluginOrder.RED_METRICS_PLUGIN_ORDER;
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.reporter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.tencent.cloud.rpc.enhancement.config.RpcEnhancementReporterProperties;
+import com.tencent.polaris.api.core.ConsumerAPI;
+import com.tencent.polaris.api.rpc.ServiceCallResult;
+import com.tencent.polaris.client.util.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Reports call results to polaris from a background thread, so that the time the SDK takes to update its statistics
+ * and circuit breakers is not added to the calls.
+ * <p>
+ * Call results are queued in a bounded lock-free queue, and drained every aggregation window. A drain groups the call
+ * results by (service, instance, method) and reports each group in arrival order. Every call result is still reported
+ * and the order of the results of an instance is kept, as the circuit breakers count calls and consecutive errors, so
+ * a state transition is delayed by at most about one window.
+ * When the queue is full, either the oldest call result is dropped or the call result is reported on the calling
+ * thread, see {@link RpcEnhancementReporterProperties.OverflowPolicy}.
+ * Once the reporter is destroyed, call results are reported on the calling thread.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class AsyncServiceCallResultReporter implements DisposableBean {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AsyncServiceCallResultReporter.class);
+
+	private final ConsumerAPI consumerAPI;
+
+	private final int queueCapacity;
+
+	private final RpcEnhancementReporterProperties.OverflowPolicy overflowPolicy;
+
+	private final Queue<ServiceCallResult> queue = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger queueSize = new AtomicInteger();
+
+	private final LongAdder droppedCount = new LongAdder();
+
+	private final LongAdder inlineCount = new LongAdder();
+
+	private final LongAdder reportedCount = new LongAdder();
+
+	private final ScheduledExecutorService drainExecutor;
+
+	private volatile boolean closed;
+
+	public AsyncServiceCallResultReporter(ConsumerAPI consumerAPI, RpcEnhancementReporterProperties.Async properties) {
+		this.consumerAPI = consumerAPI;
+		this.queueCapacity = Math.max(1, properties.getQueueCapacity());
+		this.overflowPolicy = properties.getOverflowPolicy();
+		long aggregationWindow = Math.max(1L, properties.getAggregationWindow());
+		this.drainExecutor = Executors.newSingleThreadScheduledExecutor(
+				new NamedThreadFactory("polaris-call-result-reporter"));
+		this.drainExecutor.scheduleWithFixedDelay(this::drain, aggregationWindow, aggregationWindow, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Queue the call result to report.
+	 * @param result call result
+	 */
+	public void report(ServiceCallResult result) {
+		if (closed) {
+			update(result);
+			return;
+		}
+		if (queueSize.incrementAndGet() <= queueCapacity) {
+			offer(result);
+			return;
+		}
+		queueSize.decrementAndGet();
+		if (overflowPolicy == RpcEnhancementReporterProperties.OverflowPolicy.INLINE) {
+			inlineCount.increment();
+			update(result);
+			return;
+		}
+		if (queue.poll() != null) {
+			droppedCount.increment();
+			LOG.debug("Call result reporting queue is full, the oldest call result is dropped.");
+		}
+		else {
+			// drained meanwhile.
+			queueSize.incrementAndGet();
+		}
+		offer(result);
+	}
+
+	private void offer(ServiceCallResult result) {
+		queue.offer(result);
+		if (closed) {
+			// queued while the reporter was destroyed, after its last drain.
+			drainAll();
+		}
+	}
+
+	/**
+	 * Report the queued call results.
+	 * @return number of call results reported
+	 */
+	int drain() {
+		Map<AggregationKey, List<ServiceCallResult>> groups = new LinkedHashMap<>();
+		int count = 0;
+		ServiceCallResult result;
+		while (count < queueCapacity && (result = queue.poll()) != null) {
+			queueSize.decrementAndGet();
+			groups.computeIfAbsent(new AggregationKey(result), key -> new ArrayList<>(4)).add(result);
+			count++;
+		}
+		for (List<ServiceCallResult> group : groups.values()) {
+			for (ServiceCallResult groupedResult : group) {
+				update(groupedResult);
+			}
+		}
+		reportedCount.add(count);
+		return count;
+	}
+
+	private void update(ServiceCallResult result) {
+		try {
+			consumerAPI.updateServiceCallResult(result);
+		}
+		catch (Throwable throwable) {
+			LOG.error("Report call result failed. result=[{}].", result, throwable);
+		}
+	}
+
+	private void drainAll() {
+		while (drain() > 0) {
+			// report what is left in the queue.
+		}
+	}
+
+	@Override
+	public void destroy() {
+		closed = true;
+		drainExecutor.shutdown();
+		try {
+			drainExecutor.awaitTermination(1, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		drainAll();
+	}
+
+	public int getQueueSize() {
+		return Math.max(0, queueSize.get());
+	}
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	public long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	public long getInlineCount() {
+		return inlineCount.sum();
+	}
+
+	public long getReportedCount() {
+		return reportedCount.sum();
+	}
+
+	/**
+	 * Call results aggregated together.
+	 */
+	private static final class AggregationKey {
+
+		private final String namespace;
+
+		private final String service;
+
+		private final String host;
+
+		private final Object port;
+
+		private final String method;
+
+		private final int hashCode;
+
+		private AggregationKey(ServiceCallResult result) {
+			this.namespace = result.getNamespace();
+			this.service = result.getService();
+			this.host = result.getHost();
+			this.port = result.getPort();
+			this.method = result.getMethod();
+			this.hashCode = Objects.hash(namespace, service, host, port, method);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof AggregationKey)) {
+				return false;
+			}
+			AggregationKey that = (AggregationKey) o;
+			return Objects.equals(namespace, that.namespace) && Objects.equals(service, that.service)
+					&& Objects.equals(host, that.host) && Objects.equals(port, that.port)
+					&& Objects.equals(method, that.method);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.reporter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Metrics of {@link AsyncServiceCallResultReporter}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class AsyncServiceCallResultReporterMetrics implements MeterBinder {
+
+	private final AsyncServiceCallResultReporter reporter;
+
+	public AsyncServiceCallResultReporterMetrics(AsyncServiceCallResultReporter reporter) {
+		this.reporter = reporter;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("polaris.reporter.async.queue.size", reporter, AsyncServiceCallResultReporter::getQueueSize)
+				.description("Number of call results waiting to be reported.")
+				.register(registry);
+		Gauge.builder("polaris.reporter.async.queue.capacity", reporter, AsyncServiceCallResultReporter::getQueueCapacity)
+				.description("Maximum number of call results waiting to be reported.")
+				.register(registry);
+		FunctionCounter.builder("polaris.reporter.async.dropped", reporter, AsyncServiceCallResultReporter::getDroppedCount)
+				.description("Number of call results dropped because the queue was full.")
+				.register(registry);
+		FunctionCounter.builder("polaris.reporter.async.inline", reporter, AsyncServiceCallResultReporter::getInlineCount)
+				.description("Number of call results reported on the calling thread because the queue was full.")
+				.register(registry);
+		FunctionCounter.builder("polaris.reporter.async.reported", reporter, AsyncServiceCallResultReporter::getReportedCount)
+				.description("Number of call results reported from the queue.")
+				.register(registry);
+	}
+}
@@ -33,6 +33,7 @@ import org.slf4j.LoggerFactory;
 
 import org.springframework.cloud.client.DefaultServiceInstance;
 import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.lang.Nullable;
 
 import static com.tencent.cloud.rpc.enhancement.plugin.PluginOrderConstant.ClientPluginOrder.CONSUMER_REPORTER_PLUGIN_ORDER;
 
@@ -49,10 +50,18 @@ public class ExceptionPolarisReporter implements EnhancedPlugin {
 
 	private final RpcEnhancementReporterProperties reportProperties;
 
+	private final AsyncServiceCallResultReporter asyncReporter;
+
 	public ExceptionPolarisReporter(RpcEnhancementReporterProperties reportProperties,
 			ConsumerAPI consumerAPI) {
+		this(reportProperties, consumerAPI, null);
+	}
+
+	public ExceptionPolarisReporter(RpcEnhancementReporterProperties reportProperties,
+			ConsumerAPI consumerAPI, @Nullable AsyncServiceCallResultReporter asyncReporter) {
 		this.reportProperties = reportProperties;
 		this.consumerAPI = consumerAPI;
+		this.asyncReporter = asyncReporter;
 	}
 
 	@Override
@@ -65,6 +74,11 @@ public class ExceptionPolarisReporter implements EnhancedPlugin {
 		return EnhancedPluginType.Client.EXCEPTION;
 	}
 
+	@Override
+	public boolean isEnabled() {
+		return this.reportProperties.isEnabled();
+	}
+
 	@Override
 	public void run(EnhancedPluginContext context) {
 		if (!this.reportProperties.isEnabled()) {
@@ -85,14 +99,19 @@ public class ExceptionPolarisReporter implements EnhancedPlugin {
 				null,
 				null,
 				context.getDelay(),
-				context.getThrowable()
+				context.getThrowable(),
+				reportProperties.getFailureStatusTable()
 		);
 
 		LOG.debug("Will report ServiceCallResult of {}. Request=[{} {}]. Response=[{}]. Delay=[{}]ms.",
 				resultRequest.getRetStatus().name(), request.getHttpMethod().name(), request.getUrl().getPath(), context.getThrowable().getMessage(), context.getDelay());
 
-		consumerAPI.updateServiceCallResult(resultRequest);
-
+		if (asyncReporter != null) {
+			asyncReporter.report(resultRequest);
+		}
+		else {
+			consumerAPI.updateServiceCallResult(resultRequest);
+		}
 	}
 
 	@Override
@@ -33,6 +33,7 @@ import org.slf4j.LoggerFactory;
 
 import org.springframework.cloud.client.DefaultServiceInstance;
 import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.lang.Nullable;
 
 import static com.tencent.cloud.rpc.enhancement.plugin.PluginOrderConstant.ClientPluginOrder.CONSUMER_REPORTER_PLUGIN_ORDER;
 
@@ -49,10 +50,18 @@ public class SuccessPolarisReporter implements EnhancedPlugin {
 
 	private final RpcEnhancementReporterProperties reportProperties;
 
+	private final AsyncServiceCallResultReporter asyncReporter;
+
 	public SuccessPolarisReporter(RpcEnhancementReporterProperties reportProperties,
 			ConsumerAPI consumerAPI) {
+		this(reportProperties, consumerAPI, null);
+	}
+
+	public SuccessPolarisReporter(RpcEnhancementReporterProperties reportProperties,
+			ConsumerAPI consumerAPI, @Nullable AsyncServiceCallResultReporter asyncReporter) {
 		this.reportProperties = reportProperties;
 		this.consumerAPI = consumerAPI;
+		this.asyncReporter = asyncReporter;
 	}
 
 	@Override
@@ -65,6 +74,11 @@ public class SuccessPolarisReporter implements EnhancedPlugin {
 		return EnhancedPluginType.Client.POST;
 	}
 
+	@Override
+	public boolean isEnabled() {
+		return this.reportProperties.isEnabled();
+	}
+
 	@Override
 	public void run(EnhancedPluginContext context) {
 		if (!this.reportProperties.isEnabled()) {
@@ -86,14 +100,19 @@ public class SuccessPolarisReporter implements EnhancedPlugin {
 				response.getHttpHeaders(),
 				response.getHttpStatus(),
 				context.getDelay(),
-				null
+				null,
+				reportProperties.getFailureStatusTable()
 		);
 
 		LOG.debug("Will report ServiceCallResult of {}. Request=[{} {}]. Response=[{}]. Delay=[{}]ms.",
 				resultRequest.getRetStatus().name(), request.getHttpMethod().name(), request.getUrl().getPath(), response.getHttpStatus(), context.getDelay());
 
-		consumerAPI.updateServiceCallResult(resultRequest);
-
+		if (asyncReporter != null) {
+			asyncReporter.report(resultRequest);
+		}
+		else {
+			consumerAPI.updateServiceCallResult(resultRequest);
+		}
 	}
 
 	@Override
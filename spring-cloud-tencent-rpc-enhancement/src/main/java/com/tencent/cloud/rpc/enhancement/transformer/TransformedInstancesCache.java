@@ -0,0 +1,195 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.transformer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.common.pojo.PolarisServiceInstance;
+import com.tencent.cloud.common.util.BoundedCache;
+import com.tencent.polaris.api.pojo.Instance;
+import com.tencent.polaris.api.pojo.ServiceInstances;
+import com.tencent.polaris.api.pojo.ServiceKey;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+/**
+ * Cache of the Polaris instances transformed from the server list of a service, so that routing does not transform
+ * every instance on every call.
+ * <p>
+ * The cached instances are reused while the server list is the same list, or holds the same instances in the same
+ * order, and the revision of the service is unchanged. Polaris instances are compared by identity as the SDK replaces
+ * them when they change, other instances by equality. The revision is bumped by {@link #invalidate(String, String)}
+ * when the instances of the service change. The namespace of the servers is the one of their Polaris instances, or the
+ * local namespace for other servers.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class TransformedInstancesCache {
+
+	/**
+	 * Maximum number of services with a revision, the revisions are reset when reached.
+	 */
+	static final int MAX_SERVICES = 1000;
+
+	/**
+	 * Revision of the service instances that are no longer cached.
+	 */
+	public static final long NO_REVISION = -1L;
+
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+
+	private static final BoundedCache<ServiceKey, Long> REVISIONS = new BoundedCache<>(MAX_SERVICES);
+
+	private static volatile long initialRevision;
+
+	private final Function<ServiceInstance, Instance> transformer;
+
+	private final Function<List<Instance>, ServiceInstances> assembler;
+
+	private volatile Entry entry;
+
+	/**
+	 * Create the cache.
+	 * @param transformer transforms a server to a Polaris instance
+	 * @param assembler assembles the service instances of the transformed non-empty instances
+	 */
+	public TransformedInstancesCache(Function<ServiceInstance, Instance> transformer,
+			Function<List<Instance>, ServiceInstances> assembler) {
+		this.transformer = transformer;
+		this.assembler = assembler;
+	}
+
+	/**
+	 * Invalidate the cached instances of the service.
+	 * @param namespace namespace of the service
+	 * @param service name of the service
+	 */
+	public static void invalidate(String namespace, String service) {
+		if (service == null) {
+			return;
+		}
+		ServiceKey serviceKey = new ServiceKey(namespace, service);
+		if (REVISIONS.size() >= MAX_SERVICES && !REVISIONS.containsKey(serviceKey)) {
+			// an evicted service would need a new initial revision, which invalidates every service without a
+			// revision, so all of them are reset at once instead of one per new service.
+			initialRevision = SEQUENCE.incrementAndGet();
+			REVISIONS.clear();
+		}
+		REVISIONS.put(serviceKey, SEQUENCE.incrementAndGet());
+	}
+
+	static long getRevision(String namespace, String service) {
+		Long revision = service != null ? REVISIONS.get(new ServiceKey(namespace, service)) : null;
+		return revision != null ? revision : initialRevision;
+	}
+
+	/**
+	 * Get the service instances transformed from the servers.
+	 * @param servers non-empty servers of a service
+	 * @return cached or newly transformed service instances
+	 */
+	public ServiceInstances get(List<? extends ServiceInstance> servers) {
+		ServiceInstance first = servers.get(0);
+		long revision = getRevision(namespace(first), first.getServiceId());
+		Entry current = entry;
+		if (current != null && current.revision == revision && current.matches(servers)) {
+			return current.serviceInstances;
+		}
+		Object[] keys = new Object[servers.size()];
+		List<Instance> instances = new ArrayList<>(servers.size());
+		for (int i = 0; i < keys.length; i++) {
+			ServiceInstance server = servers.get(i);
+			keys[i] = key(server);
+			instances.add(transformer.apply(server));
+		}
+		Entry created = new Entry(revision, servers, keys, assembler.apply(instances));
+		entry = created;
+		return created.serviceInstances;
+	}
+
+	/**
+	 * Get the revision of the service instances, which is different every time the instances are transformed.
+	 * @param serviceInstances service instances got from this cache
+	 * @return revision of the service instances, or {@link #NO_REVISION} if they have been replaced
+	 */
+	public long getInstancesRevision(ServiceInstances serviceInstances) {
+		Entry current = entry;
+		return current != null && current.serviceInstances == serviceInstances ? current.id : NO_REVISION;
+	}
+
+	private static String namespace(ServiceInstance server) {
+		if (server instanceof PolarisServiceInstance) {
+			String namespace = ((PolarisServiceInstance) server).getPolarisInstance().getNamespace();
+			if (namespace != null) {
+				return namespace;
+			}
+		}
+		return MetadataContext.LOCAL_NAMESPACE;
+	}
+
+	private static Object key(ServiceInstance server) {
+		if (server instanceof PolarisServiceInstance) {
+			return ((PolarisServiceInstance) server).getPolarisInstance();
+		}
+		return server;
+	}
+
+	private static final class Entry {
+
+		private final long id = SEQUENCE.incrementAndGet();
+
+		private final long revision;
+
+		private final Object[] keys;
+
+		private final ServiceInstances serviceInstances;
+
+		private volatile List<? extends ServiceInstance> servers;
+
+		private Entry(long revision, List<? extends ServiceInstance> servers, Object[] keys,
+				ServiceInstances serviceInstances) {
+			this.revision = revision;
+			this.servers = servers;
+			this.keys = keys;
+			this.serviceInstances = serviceInstances;
+		}
+
+		private boolean matches(List<? extends ServiceInstance> servers) {
+			if (this.servers == servers) {
+				return true;
+			}
+			if (keys.length != servers.size()) {
+				return false;
+			}
+			for (int i = 0; i < keys.length; i++) {
+				Object key = key(servers.get(i));
+				if (key != keys[i] && (key instanceof Instance || !Objects.equals(key, keys[i]))) {
+					return false;
+				}
+			}
+			// the next call with the same list is matched by identity.
+			this.servers = servers;
+			return true;
+		}
+	}
+}
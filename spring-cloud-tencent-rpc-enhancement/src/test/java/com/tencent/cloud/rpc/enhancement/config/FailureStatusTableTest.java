@@ -0,0 +1,123 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link FailureStatusTable}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class FailureStatusTableTest {
+
+	private static final List<List<HttpStatus>> STATUSES = Arrays.asList(Collections.emptyList(),
+			Arrays.asList(HttpStatus.BAD_GATEWAY, HttpStatus.INTERNAL_SERVER_ERROR),
+			Arrays.asList(HttpStatus.NOT_FOUND, HttpStatus.TOO_MANY_REQUESTS, HttpStatus.OK));
+
+	private static final List<List<HttpStatus.Series>> SERIES = Arrays.asList(Collections.emptyList(),
+			Collections.singletonList(HttpStatus.Series.SERVER_ERROR),
+			Arrays.asList(HttpStatus.Series.CLIENT_ERROR, HttpStatus.Series.SERVER_ERROR),
+			Arrays.asList(HttpStatus.Series.INFORMATIONAL, HttpStatus.Series.REDIRECTION));
+
+	@Test
+	public void testSameAsLegacyClassificationForEveryStatusCode() {
+		for (List<HttpStatus> statuses : STATUSES) {
+			for (List<HttpStatus.Series> series : SERIES) {
+				for (boolean ignoreInternalServerError : new boolean[] {true, false}) {
+					RpcEnhancementReporterProperties properties = new RpcEnhancementReporterProperties();
+					properties.setStatuses(new ArrayList<>(statuses));
+					properties.setSeries(new ArrayList<>(series));
+					properties.setIgnoreInternalServerError(ignoreInternalServerError);
+					FailureStatusTable table = FailureStatusTable.compile(properties);
+
+					for (int statusCode = 0; statusCode < 1000; statusCode++) {
+						assertThat(table.isFailure(statusCode))
+								.as("%s %s %s %d", statuses, series, ignoreInternalServerError, statusCode)
+								.isEqualTo(legacyApply(properties, HttpStatus.resolve(statusCode)));
+					}
+					assertThat(table.isFailure(null)).isFalse();
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testOf() {
+		Set<HttpStatus> statuses = EnumSet.of(HttpStatus.BAD_GATEWAY, HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.CONTINUE);
+		FailureStatusTable table = FailureStatusTable.of(statuses);
+
+		for (int statusCode = 0; statusCode < 1000; statusCode++) {
+			assertThat(table.isFailure(statusCode)).as("%d", statusCode)
+					.isEqualTo(statuses.contains(HttpStatus.resolve(statusCode)));
+		}
+	}
+
+	@Test
+	public void testRebuiltWhenRebound() {
+		RpcEnhancementReporterProperties properties = new RpcEnhancementReporterProperties();
+		properties.afterPropertiesSet();
+		FailureStatusTable table = properties.getFailureStatusTable();
+
+		assertThat(properties.getFailureStatusTable()).isSameAs(table);
+		assertThat(table.isFailure(502)).isTrue();
+		assertThat(table.isFailure(404)).isFalse();
+
+		// rebinding sets the properties and initializes the bean again.
+		properties.setStatuses(new ArrayList<>(Collections.singletonList(HttpStatus.NOT_FOUND)));
+		properties.afterPropertiesSet();
+
+		FailureStatusTable reboundTable = properties.getFailureStatusTable();
+		assertThat(reboundTable).isNotSameAs(table);
+		assertThat(reboundTable.isFailure(502)).isFalse();
+		assertThat(reboundTable.isFailure(404)).isTrue();
+	}
+
+	/**
+	 * Classification before the table.
+	 */
+	private static boolean legacyApply(RpcEnhancementReporterProperties reportProperties, HttpStatus httpStatus) {
+		if (Objects.isNull(httpStatus)) {
+			return false;
+		}
+		List<HttpStatus> status = reportProperties.getStatuses();
+		if (status.isEmpty()) {
+			List<HttpStatus.Series> series = reportProperties.getSeries();
+			if (reportProperties.isIgnoreInternalServerError() && Objects.equals(httpStatus, HttpStatus.INTERNAL_SERVER_ERROR)) {
+				return false;
+			}
+			if (series.isEmpty()) {
+				return FailureStatusTable.DEFAULT_FAILURE_STATUSES.contains(httpStatus);
+			}
+			return series.contains(httpStatus.series());
+		}
+		return status.contains(httpStatus);
+	}
+}
@@ -21,6 +21,10 @@ import com.tencent.cloud.polaris.context.config.PolarisContextAutoConfiguration;
 import com.tencent.cloud.rpc.enhancement.instrument.feign.EnhancedFeignBeanPostProcessor;
 import com.tencent.cloud.rpc.enhancement.instrument.resttemplate.EnhancedRestTemplateInterceptor;
 import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginRunner;
+import com.tencent.cloud.rpc.enhancement.plugin.latency.CalleeLatencyHistograms;
+import com.tencent.cloud.rpc.enhancement.plugin.latency.LatencyHistogramPlugin;
+import com.tencent.cloud.rpc.enhancement.plugin.reporter.AsyncServiceCallResultReporter;
+import com.tencent.cloud.rpc.enhancement.plugin.reporter.AsyncServiceCallResultReporterMetrics;
 import com.tencent.cloud.rpc.enhancement.plugin.reporter.ExceptionPolarisReporter;
 import com.tencent.cloud.rpc.enhancement.plugin.reporter.SuccessPolarisReporter;
 import org.junit.jupiter.api.Test;
@@ -60,9 +64,29 @@ public class RpcEnhancementAutoConfigurationTest {
 			assertThat(context).hasSingleBean(ExceptionPolarisReporter.class);
 			assertThat(context).hasSingleBean(EnhancedRestTemplateInterceptor.class);
 			assertThat(context).hasSingleBean(RestTemplate.class);
+			assertThat(context).doesNotHaveBean(AsyncServiceCallResultReporter.class);
+			assertThat(context).doesNotHaveBean(LatencyHistogramPlugin.class);
 		});
 	}
 
+	@Test
+	public void testLatencyHistogramInitialization() {
+		this.contextRunner.withPropertyValues("spring.cloud.tencent.rpc-enhancement.latency-histogram.enabled=true")
+				.run(context -> {
+					assertThat(context).hasSingleBean(CalleeLatencyHistograms.class);
+					assertThat(context).hasSingleBean(LatencyHistogramPlugin.class);
+				});
+	}
+
+	@Test
+	public void testAsyncReporterInitialization() {
+		this.contextRunner.withPropertyValues("spring.cloud.tencent.rpc-enhancement.reporter.async.enabled=true")
+				.run(context -> {
+					assertThat(context).hasSingleBean(AsyncServiceCallResultReporter.class);
+					assertThat(context).hasSingleBean(AsyncServiceCallResultReporterMetrics.class);
+				});
+	}
+
 	@Configuration
 	@EnableAutoConfiguration
 	static class PolarisRestTemplateAutoConfigurationTester {
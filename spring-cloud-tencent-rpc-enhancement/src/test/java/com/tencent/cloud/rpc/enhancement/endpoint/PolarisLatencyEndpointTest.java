@@ -0,0 +1,50 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.endpoint;
+
+import java.util.List;
+import java.util.Map;
+
+import com.tencent.cloud.rpc.enhancement.plugin.latency.CalleeLatencyHistograms;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link PolarisLatencyEndpoint}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class PolarisLatencyEndpointTest {
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testLatencyAndReset() {
+		CalleeLatencyHistograms histograms = new CalleeLatencyHistograms(10, 2);
+		histograms.record("provider", "/echo", 2_000_000L);
+		PolarisLatencyEndpoint endpoint = new PolarisLatencyEndpoint(histograms);
+
+		Map<String, Object> latency = endpoint.latency();
+		assertThat(latency).containsEntry("unit", "microseconds").containsEntry("size", 1)
+				.containsEntry("maxSize", 10).containsEntry("overflow", 0L);
+		assertThat((List<Map<String, Object>>) latency.get("callees")).hasSize(1);
+
+		endpoint.reset();
+		assertThat((List<Map<String, Object>>) endpoint.latency().get("callees")).isEmpty();
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.feign;
+
+import java.util.HashMap;
+import java.util.List;
+
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.Idempotent;
+import feign.Contract;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestLine;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link HedgingFeignClient}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class HedgingFeignClientTest {
+
+	@Test
+	public void testIdempotent() {
+		List<MethodMetadata> metadata = new Contract.Default().parseAndValidateMetadata(TestApi.class);
+		for (MethodMetadata methodMetadata : metadata) {
+			assertThat(HedgingFeignClient.isIdempotent(request(methodMetadata)))
+					.isEqualTo(methodMetadata.method().getName().equals("get"));
+		}
+		assertThat(HedgingFeignClient.isIdempotent(Request.create(Request.HttpMethod.GET, "http://provider/get",
+				new HashMap<>(), null, null, null))).isFalse();
+	}
+
+	private static Request request(MethodMetadata methodMetadata) {
+		return Request.create(Request.HttpMethod.GET, "http://provider/get", new HashMap<>(), null, null,
+				methodMetadata.template());
+	}
+
+	interface TestApi {
+
+		@Idempotent
+		@RequestLine("GET /get")
+		String get();
+
+		@RequestLine("POST /post")
+		String post();
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.filter;
+
+import java.util.Arrays;
+import java.util.Enumeration;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link LazyServletHeaders}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class LazyServletHeadersTest {
+
+	@Test
+	public void testReadRequestHeadersWithoutCopying() {
+		CountingRequest request = new CountingRequest();
+		request.addHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE);
+		request.addHeader("x-lane", "lane-1");
+		request.addHeader("x-lane", "lane-2");
+
+		HttpHeaders headers = LazyServletHeaders.of(request);
+
+		assertThat(headers.getFirst("X-LANE")).isEqualTo("lane-1");
+		assertThat(headers.get("x-lane")).containsExactly("lane-1", "lane-2");
+		assertThat(headers.get("missing")).isNull();
+		assertThat(headers.containsKey("x-lane")).isTrue();
+		assertThat(headers.containsKey("missing")).isFalse();
+		assertThat(headers.getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(request.headerNamesCount).isZero();
+
+		assertThat(headers.keySet()).containsExactly("Content-Type", "x-lane");
+		assertThat(headers.size()).isEqualTo(2);
+		assertThat(request.headerNamesCount).isEqualTo(1);
+	}
+
+	@Test
+	public void testModificationNotWrittenToRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("x-lane", "lane-1");
+
+		HttpHeaders headers = LazyServletHeaders.of(request);
+		headers.add("x-added", "1");
+		headers.set("x-lane", "lane-2");
+
+		assertThat(headers.getFirst("x-added")).isEqualTo("1");
+		assertThat(headers.get("X-Lane")).containsExactly("lane-2");
+		assertThat(request.getHeader("x-added")).isNull();
+		assertThat(request.getHeader("x-lane")).isEqualTo("lane-1");
+
+		headers.remove("x-lane");
+		assertThat(headers.containsKey("x-lane")).isFalse();
+		assertThat(request.getHeader("x-lane")).isEqualTo("lane-1");
+	}
+
+	@Test
+	public void testResponseHeaders() {
+		HttpServletResponse response = new MockHttpServletResponse();
+		response.addHeader("x-trace", "t1");
+		response.addHeader("x-trace", "t2");
+
+		HttpHeaders headers = LazyServletHeaders.of(response);
+
+		assertThat(headers.getFirst("X-Trace")).isEqualTo("t1");
+		assertThat(headers.get("x-trace")).containsExactly("t1", "t2");
+		assertThat(headers.get("missing")).isNull();
+		assertThat(headers.toSingleValueMap()).containsEntry("x-trace", "t1");
+
+		HttpHeaders expected = new HttpHeaders();
+		expected.addAll("x-trace", Arrays.asList("t1", "t2"));
+		assertThat(headers).isEqualTo(expected);
+	}
+
+	private static final class CountingRequest extends MockHttpServletRequest {
+
+		private int headerNamesCount;
+
+		@Override
+		public Enumeration<String> getHeaderNames() {
+			headerNamesCount++;
+			return super.getHeaderNames();
+		}
+	}
+}
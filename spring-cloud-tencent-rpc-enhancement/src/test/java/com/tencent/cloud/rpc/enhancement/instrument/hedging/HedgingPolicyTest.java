@@ -0,0 +1,100 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.hedging;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.rpc.enhancement.config.HedgingProperties;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link HedgingPolicy}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class HedgingPolicyTest {
+
+	@Test
+	public void testDelayFromRecentLatency() {
+		HedgingProperties properties = new HedgingProperties();
+		properties.setPercentile(90.0);
+		properties.setMinDelay(Duration.ofMillis(2));
+		properties.setWindowSize(100);
+		properties.setMinSamples(20);
+		HedgingPolicy policy = new HedgingPolicy(properties);
+
+		for (int i = 1; i < 20; i++) {
+			policy.record("provider", TimeUnit.MILLISECONDS.toNanos(i));
+		}
+		assertThat(policy.start("provider")).isEqualTo(-1);
+		policy.record("provider", TimeUnit.MILLISECONDS.toNanos(20));
+		assertThat(policy.start("provider")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(18));
+
+		// the window slides to the recent latencies.
+		for (int i = 0; i < 100; i++) {
+			policy.record("provider", TimeUnit.MILLISECONDS.toNanos(1));
+		}
+		assertThat(policy.getDelayNanos("provider")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(2));
+		assertThat(policy.getDelayNanos("consumer")).isEqualTo(-1);
+	}
+
+	@Test
+	public void testBudget() {
+		HedgingProperties properties = new HedgingProperties();
+		properties.setBudgetPercent(10.0);
+		HedgingPolicy policy = new HedgingPolicy(properties);
+
+		int hedged = 0;
+		for (int i = 0; i < 1000; i++) {
+			policy.start("provider");
+			if (policy.tryHedge("provider")) {
+				hedged++;
+			}
+		}
+		assertThat(hedged).isEqualTo(100);
+		assertThat(policy.getHedgedCount()).isEqualTo(100);
+
+		// the saved tokens are capped after a quiet period.
+		for (int i = 0; i < 1000; i++) {
+			policy.start("provider");
+		}
+		hedged = 0;
+		while (policy.tryHedge("provider")) {
+			hedged++;
+		}
+		assertThat(hedged).isEqualTo((int) (HedgingPolicy.MAX_TOKENS / HedgingPolicy.TOKEN));
+	}
+
+	@Test
+	public void testHedged() {
+		HedgingProperties properties = new HedgingProperties();
+		assertThat(new HedgingPolicy(properties).isHedged("provider")).isTrue();
+		properties.setServices(Collections.singletonList("consumer"));
+		assertThat(new HedgingPolicy(properties).isHedged("provider")).isFalse();
+		assertThat(new HedgingPolicy(properties).isHedged("consumer")).isTrue();
+
+		assertThat(HedgingPolicy.isIdempotent(HttpMethod.GET)).isTrue();
+		assertThat(HedgingPolicy.isIdempotent(HttpMethod.POST)).isFalse();
+	}
+}
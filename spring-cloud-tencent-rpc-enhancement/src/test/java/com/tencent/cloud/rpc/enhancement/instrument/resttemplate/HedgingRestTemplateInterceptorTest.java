@@ -0,0 +1,314 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.resttemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
+import com.sun.net.httpserver.HttpServer;
+import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.common.metadata.MetadataContextHolder;
+import com.tencent.cloud.rpc.enhancement.config.HedgingProperties;
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.HedgingExecutor;
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.HedgingInstanceChooser;
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.HedgingPolicy;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginRunner;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.ServiceInstanceChooser;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import static com.tencent.cloud.rpc.enhancement.instrument.resttemplate.PolarisLoadBalancerRequestTransformer.LOAD_BALANCER_SERVICE_INSTANCE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link HedgingRestTemplateInterceptor} with the instances of a service served by local stub servers.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class HedgingRestTemplateInterceptorTest {
+
+	private static final String SERVICE = "provider";
+
+	private static final int CALLS = 200;
+
+	private final List<HttpServer> servers = new ArrayList<>();
+
+	private final List<ServiceInstance> instances = new ArrayList<>();
+
+	private final AtomicInteger choices = new AtomicInteger();
+
+	private final ServiceInstanceChooser roundRobin = new ServiceInstanceChooser() {
+		@Override
+		public ServiceInstance choose(String serviceId) {
+			return instances.get(Math.floorMod(choices.getAndIncrement(), instances.size()));
+		}
+
+		@Override
+		public <T> ServiceInstance choose(String serviceId, Request<T> request) {
+			return choose(serviceId);
+		}
+	};
+
+	private final List<EnhancedPluginContext> finished = new CopyOnWriteArrayList<>();
+
+	private final List<MetadataContext> contexts = new CopyOnWriteArrayList<>();
+
+	private final EnhancedPluginRunner pluginRunner = new EnhancedPluginRunner() {
+		@Override
+		public void run(EnhancedPluginType pluginType, EnhancedPluginContext context) {
+			if (pluginType == EnhancedPluginType.Client.PRE) {
+				contexts.add(MetadataContextHolder.get());
+			}
+			else if (pluginType == EnhancedPluginType.Client.FINALLY) {
+				finished.add(context);
+			}
+		}
+
+		@Override
+		public ServiceInstance getLocalServiceInstance() {
+			return null;
+		}
+	};
+
+	private HedgingExecutor hedgingExecutor;
+
+	@BeforeAll
+	static void beforeAll() {
+		// avoid the delayed ack of the stub servers dominating the latency.
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+	}
+
+	@AfterEach
+	void tearDown() {
+		servers.forEach(server -> server.stop(0));
+		if (hedgingExecutor != null) {
+			hedgingExecutor.destroy();
+		}
+		MetadataContextHolder.remove();
+	}
+
+	@Test
+	public void testFailedFirstAttemptAnsweredByHedge() {
+		// every tenth call of the first instance fails slowly.
+		startInstance(count -> count % 10 == 0 ? 200 : 0, count -> count % 10 == 0 ? 503 : 200);
+		startInstance(count -> 0, count -> 200);
+		HedgingProperties properties = new HedgingProperties();
+		properties.setPercentile(90.0);
+		properties.setMinDelay(Duration.ofMillis(20));
+		properties.setMinSamples(5);
+		HedgingPolicy policy = new HedgingPolicy(properties);
+
+		int plainFailures = 0;
+		RestTemplate plain = restTemplate(null);
+		for (int i = 0; i < CALLS; i++) {
+			try {
+				plain.getForObject("http://" + SERVICE + "/echo", String.class);
+			}
+			catch (HttpServerErrorException e) {
+				plainFailures++;
+			}
+		}
+		finished.clear();
+
+		RestTemplate hedged = restTemplate(policy);
+		for (int i = 0; i < CALLS; i++) {
+			assertThat(hedged.getForObject("http://" + SERVICE + "/echo", String.class)).isEqualTo("ok");
+		}
+
+		assertThat(plainFailures).isPositive();
+		assertThat(policy.getHedgeWonCount()).isPositive();
+		assertThat(policy.getHedgedCount()).isLessThanOrEqualTo(CALLS / 10);
+		// every attempt is reported against its own instance, the last failed first attempts finish after the call.
+		awaitFinished((int) (CALLS + policy.getHedgeWonCount()));
+		assertThat(finished).hasSizeGreaterThanOrEqualTo((int) (CALLS + policy.getHedgeWonCount()));
+		assertThat(finished).allSatisfy(context -> assertThat(context.getTargetServiceInstance().getPort())
+				.isEqualTo(context.getRequest().getUrl().getPort()));
+		assertThat(finished).filteredOn(context -> context.getResponse() != null
+				&& context.getResponse().getHttpStatus() == 503).hasSizeGreaterThanOrEqualTo((int) policy.getHedgeWonCount());
+	}
+
+	@Test
+	public void testSlowFirstAttemptAnsweredByHedge() {
+		// every tenth call of the first instance succeeds slowly.
+		startInstance(count -> count % 10 == 0 ? 500 : 0);
+		startInstance(count -> 0);
+		HedgingProperties properties = new HedgingProperties();
+		properties.setPercentile(90.0);
+		properties.setMinDelay(Duration.ofMillis(20));
+		properties.setMinSamples(5);
+		properties.setBudgetPercent(20.0);
+		HedgingPolicy policy = new HedgingPolicy(properties);
+
+		long plainP99 = p99Millis(restTemplate(null));
+		long hedgedP99 = p99Millis(restTemplate(policy));
+
+		assertThat(plainP99).isGreaterThanOrEqualTo(500L);
+		assertThat(hedgedP99).isLessThan(plainP99 / 2);
+		assertThat(policy.getHedgeWonCount()).isPositive();
+	}
+
+	@Test
+	public void testHedgeRunsWithCallerContext() {
+		// the first instance is always slower than the hedging delay.
+		startInstance(count -> count > 20 ? 100 : 0, count -> 200);
+		startInstance(count -> 0, count -> 200);
+		HedgingProperties properties = new HedgingProperties();
+		properties.setPercentile(50.0);
+		properties.setMinDelay(Duration.ofMillis(20));
+		properties.setBudgetPercent(100.0);
+		HedgingPolicy policy = new HedgingPolicy(properties);
+
+		RestTemplate restTemplate = restTemplate(policy);
+		for (int i = 0; i < CALLS / 2; i++) {
+			MetadataContext metadataContext = MetadataContextHolder.get();
+			contexts.clear();
+			assertThat(restTemplate.getForObject("http://" + SERVICE + "/echo", String.class)).isEqualTo("ok");
+			assertThat(contexts).allSatisfy(context -> assertThat(context).isSameAs(metadataContext));
+		}
+		assertThat(policy.getHedgedCount()).isPositive();
+	}
+
+	@Test
+	public void testBudgetHolds() {
+		// most calls are slower than the 10th percentile.
+		startInstance(count -> 5 + count % 10);
+		startInstance(count -> 5 + count % 10);
+		HedgingProperties properties = new HedgingProperties();
+		properties.setPercentile(10.0);
+		properties.setMinDelay(Duration.ofMillis(1));
+		properties.setBudgetPercent(10.0);
+		HedgingPolicy policy = new HedgingPolicy(properties);
+
+		RestTemplate restTemplate = restTemplate(policy);
+		for (int i = 0; i < CALLS / 2; i++) {
+			assertThat(restTemplate.getForObject("http://" + SERVICE + "/echo", String.class)).isEqualTo("ok");
+		}
+		assertThat(policy.getHedgedCount()).isPositive().isLessThanOrEqualTo(CALLS / 2 / 10);
+	}
+
+	private void awaitFinished(int count) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (finished.size() < count && System.nanoTime() < deadline) {
+			try {
+				Thread.sleep(10);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private static long p99Millis(RestTemplate restTemplate) {
+		long[] latencies = new long[CALLS];
+		for (int i = 0; i < CALLS; i++) {
+			long startNanos = System.nanoTime();
+			assertThat(restTemplate.getForObject("http://" + SERVICE + "/echo", String.class)).isEqualTo("ok");
+			latencies[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+		}
+		Arrays.sort(latencies);
+		return latencies[CALLS * 99 / 100 - 1];
+	}
+
+	private void startInstance(IntUnaryOperator delayMillisOfCall) {
+		startInstance(delayMillisOfCall, count -> 200);
+	}
+
+	private void startInstance(IntUnaryOperator delayMillisOfCall, IntUnaryOperator statusOfCall) {
+		HttpServer server;
+		try {
+			server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		server.setExecutor(Executors.newCachedThreadPool());
+		AtomicInteger count = new AtomicInteger();
+		server.createContext("/", exchange -> {
+			int call = count.incrementAndGet();
+			try {
+				Thread.sleep(delayMillisOfCall.applyAsInt(call));
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(statusOfCall.applyAsInt(call), body.length);
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(body);
+			}
+		});
+		server.start();
+		servers.add(server);
+		instances.add(new DefaultServiceInstance(SERVICE + "-" + servers.size(), SERVICE, "127.0.0.1",
+				server.getAddress().getPort(), false));
+	}
+
+	/**
+	 * RestTemplate load balancing the calls like LoadBalancerInterceptor, hedged by the policy if any.
+	 */
+	private RestTemplate restTemplate(HedgingPolicy policy) {
+		ClientHttpRequestInterceptor loadBalancer = (request, body, execution) -> {
+			ServiceInstance instance = roundRobin.choose(SERVICE);
+			MetadataContextHolder.get().setLoadbalancer(LOAD_BALANCER_SERVICE_INSTANCE, instance);
+			URI uri = HedgingInstanceChooser.reconstructURI(instance, request.getURI());
+			return execution.execute(new HttpRequestWrapper(request) {
+				@Override
+				public URI getURI() {
+					return uri;
+				}
+			}, body);
+		};
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.getInterceptors().add(loadBalancer);
+		EnhancedRestTemplateInterceptor reporter = new EnhancedRestTemplateInterceptor(pluginRunner);
+		if (policy != null) {
+			hedgingExecutor = new HedgingExecutor(policy, new HedgingInstanceChooser(roundRobin), 16);
+			restTemplate.getInterceptors().add(new HedgingRestTemplateInterceptor(hedgingExecutor, reporter));
+		}
+		else {
+			restTemplate.getInterceptors().add(reporter);
+		}
+		return restTemplate;
+	}
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.scg;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginRunner;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * Test for {@link EnhancedGatewayMonoOperator}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class EnhancedGatewayMonoOperatorTest {
+
+	private final List<EnhancedPluginType> runs = new ArrayList<>();
+
+	private final List<EnhancedPluginContext> contexts = new ArrayList<>();
+
+	private final EnhancedGatewayGlobalFilter filter = new EnhancedGatewayGlobalFilter(new EnhancedPluginRunner() {
+		@Override
+		public void run(EnhancedPluginType pluginType, EnhancedPluginContext context) {
+			runs.add(pluginType);
+			contexts.add(context);
+		}
+
+		@Override
+		public ServiceInstance getLocalServiceInstance() {
+			return null;
+		}
+	});
+
+	@Test
+	public void testSuccess() {
+		MockServerWebExchange exchange = exchange();
+		GatewayFilterChain chain = e -> {
+			e.getResponse().setStatusCode(HttpStatus.CREATED);
+			return Mono.empty();
+		};
+
+		filter.filter(exchange, chain).block();
+		filter.filter(exchange, chain).block();
+
+		assertThat(runs).containsExactly(EnhancedPluginType.Client.PRE, EnhancedPluginType.Client.POST,
+				EnhancedPluginType.Client.FINALLY, EnhancedPluginType.Client.PRE, EnhancedPluginType.Client.POST,
+				EnhancedPluginType.Client.FINALLY);
+		EnhancedPluginContext context = contexts.get(2);
+		assertThat(context.getResponse().getHttpStatus()).isEqualTo(201);
+		assertThat(context.getRequest().getUrl()).isEqualTo(URI.create("http://10.0.0.1:8080/echo"));
+		assertThat(context.getTargetServiceInstance().getServiceId()).isEqualTo("provider");
+		assertThat(context.getTargetServiceInstance().getHost()).isEqualTo("10.0.0.1");
+		assertThat(context.getTargetServiceInstance().getPort()).isEqualTo(8080);
+		// the calls to the same instance share the target service instance.
+		assertThat(contexts.get(5).getTargetServiceInstance()).isSameAs(context.getTargetServiceInstance());
+	}
+
+	@Test
+	public void testError() {
+		RuntimeException error = new RuntimeException("mock");
+
+		assertThatThrownBy(() -> filter.filter(exchange(), e -> Mono.error(error)).block()).isSameAs(error);
+		assertThat(runs).containsExactly(EnhancedPluginType.Client.PRE, EnhancedPluginType.Client.EXCEPTION,
+				EnhancedPluginType.Client.FINALLY);
+		assertThat(contexts.get(1).getThrowable()).isSameAs(error);
+	}
+
+	@Test
+	public void testCancel() {
+		Disposable disposable = filter.filter(exchange(), e -> Mono.delay(Duration.ofMinutes(1)).then()).subscribe();
+		disposable.dispose();
+		disposable.dispose();
+
+		assertThat(runs).containsExactly(EnhancedPluginType.Client.PRE, EnhancedPluginType.Client.FINALLY);
+	}
+
+	private static MockServerWebExchange exchange() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("http://gateway/provider/echo"));
+		Route route = Route.async().id("provider").uri(URI.create("lb://provider")).predicate(e -> true).build();
+		exchange.getAttributes().put(GATEWAY_ROUTE_ATTR, route);
+		exchange.getAttributes().put(GATEWAY_REQUEST_URL_ATTR, URI.create("http://10.0.0.1:8080/echo"));
+		return exchange;
+	}
+}
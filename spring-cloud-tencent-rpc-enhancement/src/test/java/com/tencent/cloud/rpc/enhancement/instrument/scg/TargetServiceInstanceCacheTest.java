@@ -0,0 +1,99 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.scg;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link TargetServiceInstanceCache}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class TargetServiceInstanceCacheTest {
+
+	@Test
+	public void testLoadBalanced() {
+		TargetServiceInstanceCache cache = new TargetServiceInstanceCache();
+		ServiceInstance instance = cache.getLoadBalanced("provider", "10.0.0.1", 8080);
+		assertThat(instance.getServiceId()).isEqualTo("provider");
+		assertThat(instance.getHost()).isEqualTo("10.0.0.1");
+		assertThat(instance.getPort()).isEqualTo(8080);
+
+		assertThat(cache.getLoadBalanced("provider", "10.0.0.1", 8080)).isSameAs(instance);
+		ServiceInstance otherPort = cache.getLoadBalanced("provider", "10.0.0.1", 8081);
+		assertThat(otherPort.getPort()).isEqualTo(8081);
+		assertThat(cache.getLoadBalanced("consumer", "10.0.0.1", 8080).getServiceId()).isEqualTo("consumer");
+		assertThat(cache.size()).isEqualTo(1);
+
+		// the services and ports of the same host are cached side by side.
+		assertThat(cache.getLoadBalanced("provider", "10.0.0.1", 8080)).isSameAs(instance);
+		assertThat(cache.getLoadBalanced("provider", "10.0.0.1", 8081)).isSameAs(otherPort);
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	public void testService() {
+		TargetServiceInstanceCache cache = new TargetServiceInstanceCache();
+		ServiceInstance instance = cache.getService("provider");
+		assertThat(instance.getServiceId()).isEqualTo("provider");
+		assertThat(instance.getHost()).isNull();
+
+		assertThat(cache.getService("provider")).isSameAs(instance);
+		assertThat(cache.getLoadBalanced("provider", "10.0.0.1", 8080)).isNotSameAs(instance);
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void testDirect() {
+		TargetServiceInstanceCache cache = new TargetServiceInstanceCache();
+		ServiceInstance http = cache.getDirect(URI.create("http://www.qq.com:8080/a?b=c"));
+		assertThat(http.getServiceId()).isNull();
+		assertThat(http.getHost()).isEqualTo("www.qq.com");
+		assertThat(http.getPort()).isEqualTo(80);
+		assertThat(http.isSecure()).isFalse();
+		assertThat(cache.getDirect(URI.create("http://www.qq.com/d"))).isSameAs(http);
+
+		ServiceInstance https = cache.getDirect(URI.create("https://www.qq.com/"));
+		assertThat(https.getPort()).isEqualTo(443);
+		assertThat(https.isSecure()).isTrue();
+
+		ServiceInstance forward = cache.getDirect(URI.create("forward:/local"));
+		assertThat(forward.getHost()).isNull();
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	public void testBounded() {
+		TargetServiceInstanceCache cache = new TargetServiceInstanceCache();
+		for (int i = 0; i < TargetServiceInstanceCache.MAX_CACHED_HOSTS * 2; i++) {
+			cache.getLoadBalanced("provider", "host-" + i, 8080);
+			assertThat(cache.size()).isLessThanOrEqualTo(TargetServiceInstanceCache.MAX_CACHED_HOSTS);
+		}
+		for (int i = 0; i < TargetServiceInstanceCache.MAX_CACHED_SERVICES * 2; i++) {
+			cache.getService("provider-" + i);
+		}
+		assertThat(cache.size()).isEqualTo(TargetServiceInstanceCache.MAX_CACHED_HOSTS
+				+ TargetServiceInstanceCache.MAX_CACHED_SERVICES);
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.instrument.webclient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.tencent.cloud.common.metadata.MetadataContextHolder;
+import com.tencent.cloud.rpc.enhancement.config.HedgingProperties;
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.HedgingInstanceChooser;
+import com.tencent.cloud.rpc.enhancement.instrument.hedging.HedgingPolicy;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginRunner;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.ServiceInstanceChooser;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import static com.tencent.cloud.rpc.enhancement.instrument.resttemplate.PolarisLoadBalancerRequestTransformer.LOAD_BALANCER_SERVICE_INSTANCE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link HedgingWebClientExchangeFilterFunction}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class HedgingWebClientExchangeFilterFunctionTest {
+
+	private static final String SERVICE = "provider";
+
+	private static final ServiceInstance FIRST = new DefaultServiceInstance("provider-1", SERVICE, "127.0.0.1", 8081, false);
+
+	private static final ServiceInstance OTHER = new DefaultServiceInstance("provider-2", SERVICE, "127.0.0.1", 8082, false);
+
+	private final List<EnhancedPluginContext> finished = new CopyOnWriteArrayList<>();
+
+	private final EnhancedPluginRunner pluginRunner = new EnhancedPluginRunner() {
+		@Override
+		public void run(EnhancedPluginType pluginType, EnhancedPluginContext context) {
+			if (pluginType == EnhancedPluginType.Client.FINALLY) {
+				finished.add(context);
+			}
+		}
+
+		@Override
+		public ServiceInstance getLocalServiceInstance() {
+			return null;
+		}
+	};
+
+	private final AtomicInteger choices = new AtomicInteger();
+
+	private final ServiceInstanceChooser chooser = new ServiceInstanceChooser() {
+		@Override
+		public ServiceInstance choose(String serviceId) {
+			return choices.getAndIncrement() % 2 == 0 ? FIRST : OTHER;
+		}
+
+		@Override
+		public <T> ServiceInstance choose(String serviceId, Request<T> request) {
+			return choose(serviceId);
+		}
+	};
+
+	private HedgingPolicy policy;
+
+	private HedgingWebClientExchangeFilterFunction filter;
+
+	@BeforeEach
+	void setUp() {
+		HedgingProperties properties = new HedgingProperties();
+		properties.setMinDelay(Duration.ofMillis(20));
+		properties.setMinSamples(1);
+		properties.setBudgetPercent(100.0);
+		policy = new HedgingPolicy(properties);
+		policy.record(SERVICE, Duration.ofMillis(1).toNanos());
+		filter = new HedgingWebClientExchangeFilterFunction(policy, new HedgingInstanceChooser(chooser),
+				new EnhancedWebClientExchangeFilterFunction(pluginRunner));
+		MetadataContextHolder.get().setLoadbalancer(LOAD_BALANCER_SERVICE_INSTANCE, FIRST);
+	}
+
+	@AfterEach
+	void tearDown() {
+		MetadataContextHolder.remove();
+	}
+
+	@Test
+	public void testFailedResponseFallsBackToHedge() {
+		ClientResponse response = filter.filter(request(), exchange(Map.of(
+				FIRST.getPort(), respond(HttpStatus.SERVICE_UNAVAILABLE, 200),
+				OTHER.getPort(), respond(HttpStatus.OK, 10)))).block();
+
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(policy.getHedgeWonCount()).isEqualTo(1);
+		// every attempt is reported against its own instance.
+		assertThat(finished).extracting(context -> context.getTargetServiceInstance().getPort())
+				.containsExactlyInAnyOrder(FIRST.getPort(), OTHER.getPort());
+	}
+
+	@Test
+	public void testErrorDoesNotDropHedgeInFlight() {
+		ClientResponse response = filter.filter(request(), exchange(Map.of(
+				FIRST.getPort(), Mono.delay(Duration.ofMillis(100)).then(Mono.error(new IOException("reset"))),
+				OTHER.getPort(), respond(HttpStatus.OK, 150)))).block();
+
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(policy.getHedgeWonCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testFailureOfFirstReturnedIfNoneSucceeded() {
+		assertThat(filter.filter(request(), exchange(Map.of(
+				FIRST.getPort(), respond(HttpStatus.SERVICE_UNAVAILABLE, 100),
+				OTHER.getPort(), respond(HttpStatus.TOO_MANY_REQUESTS, 10)))).block().statusCode())
+				.isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThatThrownBy(() -> filter.filter(request(), exchange(Map.of(
+				FIRST.getPort(), Mono.delay(Duration.ofMillis(100)).then(Mono.error(new IOException("reset"))),
+				OTHER.getPort(), respond(HttpStatus.INTERNAL_SERVER_ERROR, 10)))).block())
+				.hasRootCauseInstanceOf(IOException.class);
+		assertThat(policy.getHedgeWonCount()).isZero();
+	}
+
+	@Test
+	public void testSuccessCancelsHedge() throws InterruptedException {
+		CountDownLatch cancelled = new CountDownLatch(1);
+		ClientResponse response = filter.filter(request(), exchange(Map.of(
+				FIRST.getPort(), respond(HttpStatus.OK, 100),
+				OTHER.getPort(), respond(HttpStatus.OK, 500).doOnCancel(cancelled::countDown)))).block();
+
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(cancelled.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(policy.getHedgeWonCount()).isZero();
+	}
+
+	@Test
+	public void testFastFailureNotHedged() {
+		ClientResponse response = filter.filter(request(), exchange(Map.of(
+				FIRST.getPort(), respond(HttpStatus.SERVICE_UNAVAILABLE, 0),
+				OTHER.getPort(), respond(HttpStatus.OK, 0)))).block();
+
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(policy.getHedgedCount()).isZero();
+	}
+
+	private static ClientRequest request() {
+		return ClientRequest.create(HttpMethod.GET, URI.create("http://127.0.0.1:" + FIRST.getPort() + "/echo")).build();
+	}
+
+	private static Mono<ClientResponse> respond(HttpStatus status, long delayMillis) {
+		return Mono.delay(Duration.ofMillis(delayMillis)).map(tick -> ClientResponse.create(status).build());
+	}
+
+	private static ExchangeFunction exchange(Map<Integer, Mono<ClientResponse>> responses) {
+		return request -> responses.get(request.url().getPort());
+	}
+}
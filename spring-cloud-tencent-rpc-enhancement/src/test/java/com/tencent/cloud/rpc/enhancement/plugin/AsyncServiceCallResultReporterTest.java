@@ -0,0 +1,254 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.tencent.cloud.rpc.enhancement.config.RpcEnhancementReporterProperties;
+import com.tencent.cloud.rpc.enhancement.plugin.reporter.AsyncServiceCallResultReporter;
+import com.tencent.cloud.rpc.enhancement.plugin.reporter.AsyncServiceCallResultReporterMetrics;
+import com.tencent.polaris.api.core.ConsumerAPI;
+import com.tencent.polaris.api.pojo.RetStatus;
+import com.tencent.polaris.api.rpc.ServiceCallResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test for {@link AsyncServiceCallResultReporter}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class AsyncServiceCallResultReporterTest {
+
+	@Test
+	public void testReportInBackground() throws InterruptedException {
+		List<String> reportedMethods = Collections.synchronizedList(new ArrayList<>());
+		List<String> reportingThreads = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch latch = new CountDownLatch(3);
+		ConsumerAPI consumerAPI = consumerAPI(result -> {
+			reportedMethods.add(result.getMethod());
+			reportingThreads.add(Thread.currentThread().getName());
+			latch.countDown();
+		});
+		AsyncServiceCallResultReporter reporter = new AsyncServiceCallResultReporter(consumerAPI, properties(16, 10L,
+				RpcEnhancementReporterProperties.OverflowPolicy.DROP_OLDEST));
+		try {
+			reporter.report(result("10.0.0.1", "/a", RetStatus.RetSuccess));
+			reporter.report(result("10.0.0.2", "/a", RetStatus.RetSuccess));
+			reporter.report(result("10.0.0.1", "/b", RetStatus.RetFail));
+
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(reportedMethods).containsExactlyInAnyOrder("/a", "/a", "/b");
+			assertThat(reportingThreads).doesNotContain(Thread.currentThread().getName());
+			assertThat(reporter.getReportedCount()).isEqualTo(3);
+			assertThat(reporter.getQueueSize()).isZero();
+		}
+		finally {
+			reporter.destroy();
+		}
+	}
+
+	@Test
+	public void testCircuitBreakerOpenedWithinBoundedDelay() throws InterruptedException {
+		long aggregationWindow = 20L;
+		ConsecutiveErrorCircuitBreaker circuitBreaker = new ConsecutiveErrorCircuitBreaker(5);
+		AsyncServiceCallResultReporter reporter = new AsyncServiceCallResultReporter(consumerAPI(circuitBreaker::update),
+				properties(1024, aggregationWindow, RpcEnhancementReporterProperties.OverflowPolicy.DROP_OLDEST));
+		try {
+			// the success of the unhealthy instance resets its consecutive errors, the results of the healthy
+			// instance are interleaved.
+			RetStatus[] unhealthy = {RetStatus.RetFail, RetStatus.RetFail, RetStatus.RetSuccess, RetStatus.RetFail,
+					RetStatus.RetFail, RetStatus.RetFail, RetStatus.RetFail};
+			for (RetStatus retStatus : unhealthy) {
+				reporter.report(result("10.0.0.1", "/a", retStatus));
+				reporter.report(result("10.0.0.2", "/a", RetStatus.RetFail));
+				reporter.report(result("10.0.0.2", "/a", RetStatus.RetSuccess));
+			}
+			Thread.sleep(aggregationWindow * 5);
+			assertThat(circuitBreaker.isOpen("10.0.0.1")).isFalse();
+
+			long reportNanos = System.nanoTime();
+			reporter.report(result("10.0.0.1", "/a", RetStatus.RetFail));
+
+			assertThat(circuitBreaker.awaitOpen("10.0.0.1", 5, TimeUnit.SECONDS)).isTrue();
+			assertThat(TimeUnit.NANOSECONDS.toMillis(circuitBreaker.getOpenNanos() - reportNanos))
+					.isLessThan(aggregationWindow + 500L);
+			assertThat(circuitBreaker.isOpen("10.0.0.2")).isFalse();
+		}
+		finally {
+			reporter.destroy();
+		}
+	}
+
+	@Test
+	public void testDropOldestWhenFull() {
+		List<String> reportedHosts = new ArrayList<>();
+		AsyncServiceCallResultReporter reporter = new AsyncServiceCallResultReporter(
+				consumerAPI(result -> reportedHosts.add(result.getHost())),
+				properties(3, TimeUnit.MINUTES.toMillis(1), RpcEnhancementReporterProperties.OverflowPolicy.DROP_OLDEST));
+		for (int i = 0; i < 5; i++) {
+			reporter.report(result("10.0.0." + i, "/a", RetStatus.RetSuccess));
+		}
+
+		assertThat(reporter.getQueueSize()).isEqualTo(3);
+		assertThat(reporter.getDroppedCount()).isEqualTo(2);
+		assertThat(reportedHosts).isEmpty();
+
+		reporter.destroy();
+		assertThat(reportedHosts).containsExactly("10.0.0.2", "10.0.0.3", "10.0.0.4");
+		assertThat(reporter.getQueueSize()).isZero();
+	}
+
+	@Test
+	public void testInlineWhenFull() {
+		List<String> reportedHosts = new ArrayList<>();
+		AsyncServiceCallResultReporter reporter = new AsyncServiceCallResultReporter(
+				consumerAPI(result -> reportedHosts.add(result.getHost())),
+				properties(2, TimeUnit.MINUTES.toMillis(1), RpcEnhancementReporterProperties.OverflowPolicy.INLINE));
+		for (int i = 0; i < 3; i++) {
+			reporter.report(result("10.0.0." + i, "/a", RetStatus.RetSuccess));
+		}
+
+		assertThat(reportedHosts).containsExactly("10.0.0.2");
+		assertThat(reporter.getInlineCount()).isEqualTo(1);
+		assertThat(reporter.getDroppedCount()).isZero();
+
+		reporter.destroy();
+		assertThat(reportedHosts).containsExactly("10.0.0.2", "10.0.0.0", "10.0.0.1");
+	}
+
+	@Test
+	public void testReportInlineWhenDestroyed() {
+		List<String> reportedHosts = new ArrayList<>();
+		AsyncServiceCallResultReporter reporter = new AsyncServiceCallResultReporter(
+				consumerAPI(result -> reportedHosts.add(result.getHost())),
+				properties(16, TimeUnit.MINUTES.toMillis(1), RpcEnhancementReporterProperties.OverflowPolicy.DROP_OLDEST));
+		reporter.report(result("10.0.0.1", "/a", RetStatus.RetSuccess));
+
+		reporter.destroy();
+		assertThat(reportedHosts).containsExactly("10.0.0.1");
+
+		reporter.report(result("10.0.0.2", "/a", RetStatus.RetSuccess));
+		assertThat(reportedHosts).containsExactly("10.0.0.1", "10.0.0.2");
+		assertThat(reporter.getQueueSize()).isZero();
+	}
+
+	@Test
+	public void testMetrics() {
+		AsyncServiceCallResultReporter reporter = new AsyncServiceCallResultReporter(mock(ConsumerAPI.class), properties(1, TimeUnit.MINUTES.toMillis(1), RpcEnhancementReporterProperties.OverflowPolicy.DROP_OLDEST));
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new AsyncServiceCallResultReporterMetrics(reporter).bindTo(registry);
+		reporter.report(result("10.0.0.1", "/a", RetStatus.RetSuccess));
+		reporter.report(result("10.0.0.1", "/a", RetStatus.RetSuccess));
+
+		assertThat(registry.get("polaris.reporter.async.queue.size").gauge().value()).isEqualTo(1);
+		assertThat(registry.get("polaris.reporter.async.queue.capacity").gauge().value()).isEqualTo(1);
+		assertThat(registry.get("polaris.reporter.async.dropped").functionCounter().count()).isEqualTo(1);
+
+		reporter.destroy();
+		assertThat(registry.get("polaris.reporter.async.queue.size").gauge().value()).isZero();
+		assertThat(registry.get("polaris.reporter.async.reported").functionCounter().count()).isEqualTo(1);
+	}
+
+	private static RpcEnhancementReporterProperties.Async properties(int queueCapacity, long aggregationWindow,
+			RpcEnhancementReporterProperties.OverflowPolicy overflowPolicy) {
+		RpcEnhancementReporterProperties.Async properties = new RpcEnhancementReporterProperties.Async();
+		properties.setEnabled(true);
+		properties.setQueueCapacity(queueCapacity);
+		properties.setAggregationWindow(aggregationWindow);
+		properties.setOverflowPolicy(overflowPolicy);
+		return properties;
+	}
+
+	private static ConsumerAPI consumerAPI(Consumer<ServiceCallResult> updater) {
+		ConsumerAPI consumerAPI = mock(ConsumerAPI.class);
+		doAnswer(invocation -> {
+			updater.accept(invocation.getArgument(0));
+			return null;
+		}).when(consumerAPI).updateServiceCallResult(any());
+		return consumerAPI;
+	}
+
+	private static ServiceCallResult result(String host, String method, RetStatus retStatus) {
+		ServiceCallResult result = new ServiceCallResult();
+		result.setNamespace("default");
+		result.setService("callee");
+		result.setHost(host);
+		result.setPort(8080);
+		result.setMethod(method);
+		result.setRetStatus(retStatus);
+		return result;
+	}
+
+	/**
+	 * Circuit breaker opening an instance after consecutive errors.
+	 */
+	private static final class ConsecutiveErrorCircuitBreaker {
+
+		private final int threshold;
+
+		private final Map<String, Integer> consecutiveErrors = new HashMap<>();
+
+		private final CountDownLatch opened = new CountDownLatch(1);
+
+		private volatile String openHost;
+
+		private volatile long openNanos;
+
+		private ConsecutiveErrorCircuitBreaker(int threshold) {
+			this.threshold = threshold;
+		}
+
+		private synchronized void update(ServiceCallResult result) {
+			if (result.getRetStatus() == RetStatus.RetSuccess) {
+				consecutiveErrors.remove(result.getHost());
+				return;
+			}
+			int errors = consecutiveErrors.merge(result.getHost(), 1, Integer::sum);
+			if (errors >= threshold && openHost == null) {
+				openNanos = System.nanoTime();
+				openHost = result.getHost();
+				opened.countDown();
+			}
+		}
+
+		private boolean isOpen(String host) {
+			return host.equals(openHost);
+		}
+
+		private boolean awaitOpen(String host, long timeout, TimeUnit unit) throws InterruptedException {
+			return opened.await(timeout, unit) && isOpen(host);
+		}
+
+		private long getOpenNanos() {
+			return openNanos;
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test for {@link DefaultEnhancedPluginRunner}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class DefaultEnhancedPluginRunnerTest {
+
+	private final List<String> ranPlugins = new ArrayList<>();
+
+	@Test
+	public void testRunSortedEnabledPlugins() {
+		TestPlugin pre2 = new TestPlugin("pre2", EnhancedPluginType.Client.PRE, 2);
+		TestPlugin pre1 = new TestPlugin("pre1", EnhancedPluginType.Client.PRE, 1);
+		TestPlugin disabled = new TestPlugin("disabled", EnhancedPluginType.Client.PRE, 0);
+		disabled.enabled = false;
+		TestPlugin failing = new TestPlugin("failing", EnhancedPluginType.Client.PRE, 3);
+		failing.failing = true;
+		TestPlugin serverPre = new TestPlugin("serverPre", EnhancedPluginType.Server.PRE, 0);
+		DefaultEnhancedPluginRunner runner = new DefaultEnhancedPluginRunner(
+				Arrays.asList(pre2, pre1, disabled, failing, serverPre), mock(Registration.class), null);
+
+		runner.run(EnhancedPluginType.Client.PRE, new EnhancedPluginContext());
+		assertThat(ranPlugins).containsExactly("pre1", "pre2", "failing", "failing-handled");
+
+		ranPlugins.clear();
+		runner.run(EnhancedPluginType.Server.PRE, new EnhancedPluginContext());
+		runner.run(EnhancedPluginType.Client.POST, new EnhancedPluginContext());
+		assertThat(ranPlugins).containsExactly("serverPre");
+		assertThat(runner.getPlugins(EnhancedPluginType.Client.POST)).isEmpty();
+	}
+
+	@Test
+	public void testRebuildWhenConfigurationRefreshed() {
+		TestPlugin plugin = new TestPlugin("plugin", EnhancedPluginType.Client.POST, 0);
+		DefaultEnhancedPluginRunner runner = new DefaultEnhancedPluginRunner(
+				Arrays.asList(plugin), mock(Registration.class), null);
+
+		plugin.enabled = false;
+		assertThat(runner.supportsEventType(ContextRefreshedEvent.class)).isFalse();
+		assertThat(runner.supportsEventType(EnvironmentChangeEvent.class)).isTrue();
+		runner.onApplicationEvent(new EnvironmentChangeEvent(new Object(), null));
+		runner.run(EnhancedPluginType.Client.POST, new EnhancedPluginContext());
+		assertThat(ranPlugins).isEmpty();
+
+		plugin.enabled = true;
+		assertThat(runner.supportsEventType(RefreshScopeRefreshedEvent.class)).isTrue();
+		runner.onApplicationEvent(new RefreshScopeRefreshedEvent());
+		runner.run(EnhancedPluginType.Client.POST, new EnhancedPluginContext());
+		assertThat(ranPlugins).containsExactly("plugin");
+	}
+
+	@Test
+	public void testRebuildAfterConfigurationRebound() {
+		TestPlugin plugin = new TestPlugin("plugin", EnhancedPluginType.Client.POST, 0);
+		DefaultEnhancedPluginRunner runner = new DefaultEnhancedPluginRunner(
+				Arrays.asList(plugin), mock(Registration.class), null);
+
+		// the properties are rebound by a listener running after the runner.
+		runner.onApplicationEvent(new EnvironmentChangeEvent(new Object(), null));
+		plugin.enabled = false;
+		runner.run(EnhancedPluginType.Client.POST, new EnhancedPluginContext());
+		assertThat(ranPlugins).isEmpty();
+	}
+
+	@Test
+	public void testCustomPluginType() {
+		EnhancedPluginType customType = new EnhancedPluginType() { };
+		DefaultEnhancedPluginRunner runner = new DefaultEnhancedPluginRunner(
+				Arrays.asList(new TestPlugin("custom", customType, 0)), mock(Registration.class), null);
+
+		runner.run(customType, new EnhancedPluginContext());
+		runner.run(new EnhancedPluginType() { }, new EnhancedPluginContext());
+		assertThat(ranPlugins).containsExactly("custom");
+	}
+
+	private final class TestPlugin implements EnhancedPlugin {
+
+		private final String name;
+
+		private final EnhancedPluginType type;
+
+		private final int order;
+
+		private boolean enabled = true;
+
+		private boolean failing;
+
+		TestPlugin(String name, EnhancedPluginType type, int order) {
+			this.name = name;
+			this.type = type;
+			this.order = order;
+		}
+
+		@Override
+		public EnhancedPluginType getType() {
+			return type;
+		}
+
+		@Override
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		@Override
+		public void run(EnhancedPluginContext context) {
+			ranPlugins.add(name);
+			if (failing) {
+				throw new IllegalStateException(name);
+			}
+		}
+
+		@Override
+		public void handlerThrowable(EnhancedPluginContext context, Throwable throwable) {
+			ranPlugins.add(throwable.getMessage() + "-handled");
+		}
+
+		@Override
+		public int getOrder() {
+			return order;
+		}
+	}
+}
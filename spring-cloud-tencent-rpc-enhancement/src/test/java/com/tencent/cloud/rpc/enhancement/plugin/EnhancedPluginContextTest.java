@@ -21,6 +21,12 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.util.ApplicationContextAwareUtils;
@@ -172,4 +178,58 @@ public class EnhancedPluginContextTest {
 		enhancedPluginContext.setTargetServiceInstance(null, null);
 		assertThat(enhancedPluginContext.getTargetServiceInstance().getPort()).isEqualTo(0);
 	}
+
+	@Test
+	public void testTiming() {
+		AtomicLong nanoTime = new AtomicLong(1_000L);
+		EnhancedPluginContext enhancedPluginContext = new EnhancedPluginContext(nanoTime::get);
+
+		enhancedPluginContext.startTiming();
+		nanoTime.addAndGet(12_345_678L);
+		enhancedPluginContext.stopTiming();
+		assertThat(enhancedPluginContext.getDelayNanos()).isEqualTo(12_345_678L);
+		assertThat(enhancedPluginContext.getDelay()).isEqualTo(12L);
+
+		enhancedPluginContext.setDelay(3L);
+		assertThat(enhancedPluginContext.getDelayNanos()).isEqualTo(3_000_000L);
+	}
+
+	@Test
+	public void testExtraDataFromConcurrentPlugins() throws InterruptedException {
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			for (int round = 0; round < 200; round++) {
+				EnhancedPluginContext enhancedPluginContext = new EnhancedPluginContext();
+				CountDownLatch start = new CountDownLatch(1);
+				CountDownLatch finished = new CountDownLatch(threads);
+				Map<?, ?>[] observed = new Map<?, ?>[threads];
+				for (int i = 0; i < threads; i++) {
+					int index = i;
+					executor.execute(() -> {
+						try {
+							start.await();
+							observed[index] = enhancedPluginContext.getExtraData();
+							enhancedPluginContext.getExtraData().put("key" + index, index);
+						}
+						catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						finally {
+							finished.countDown();
+						}
+					});
+				}
+				start.countDown();
+				assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+				assertThat(enhancedPluginContext.getExtraData()).hasSize(threads);
+				for (Map<?, ?> map : observed) {
+					assertThat(map).isSameAs(enhancedPluginContext.getExtraData());
+				}
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
 }
@@ -23,12 +23,14 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URLEncoder;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 
 import com.tencent.cloud.common.constant.HeaderConstant;
 import com.tencent.cloud.common.constant.RouterConstant;
 import com.tencent.cloud.common.metadata.MetadataContext;
 import com.tencent.cloud.common.util.ApplicationContextAwareUtils;
+import com.tencent.cloud.rpc.enhancement.config.FailureStatusTable;
 import com.tencent.cloud.rpc.enhancement.config.RpcEnhancementReporterProperties;
 import com.tencent.polaris.api.plugin.circuitbreaker.ResourceStat;
 import com.tencent.polaris.api.pojo.RetStatus;
@@ -164,6 +166,25 @@ public class PolarisEnhancedPluginUtilsTest {
 		assertThat(serviceCallResult.getPort()).isEqualTo(8080);
 	}
 
+	@Test
+	public void testGivenFailureStatusTable() throws URISyntaxException {
+		FailureStatusTable failureStatusTable = FailureStatusTable.of(Collections.singletonList(HttpStatus.NOT_FOUND));
+
+		ServiceCallResult serviceCallResult = PolarisEnhancedPluginUtils.createServiceCallResult("0.0.0.0", "test",
+				null, null, new URI("http://0.0.0.0/"), new HttpHeaders(), new HttpHeaders(), 404, 0, null,
+				failureStatusTable);
+		assertThat(serviceCallResult.getRetStatus()).isEqualTo(RetStatus.RetFail);
+
+		serviceCallResult = PolarisEnhancedPluginUtils.createServiceCallResult("0.0.0.0", "test",
+				null, null, new URI("http://0.0.0.0/"), new HttpHeaders(), new HttpHeaders(), 502, 0, null,
+				failureStatusTable);
+		assertThat(serviceCallResult.getRetStatus()).isEqualTo(RetStatus.RetSuccess);
+
+		ResourceStat resourceStat = PolarisEnhancedPluginUtils.createInstanceResourceStat("test", null, null,
+				new URI("http://0.0.0.0/"), 404, 0, null, failureStatusTable);
+		assertThat(resourceStat.getRetStatus()).isEqualTo(RetStatus.RetFail);
+	}
+
 	@Test
 	public void testResourceStat() throws URISyntaxException {
 
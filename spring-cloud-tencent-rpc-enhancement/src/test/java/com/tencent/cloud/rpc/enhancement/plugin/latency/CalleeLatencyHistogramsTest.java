@@ -0,0 +1,129 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.latency;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedRequestContext;
+import com.tencent.cloud.rpc.enhancement.plugin.metrics.PathTemplates;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+/**
+ * Test for {@link CalleeLatencyHistograms} and {@link LatencyHistogramPlugin}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class CalleeLatencyHistogramsTest {
+
+	@Test
+	public void testPercentiles() {
+		CalleeLatencyHistograms histograms = new CalleeLatencyHistograms(10, 3);
+		for (int i = 1; i <= 1000; i++) {
+			histograms.record("provider", "/echo", TimeUnit.MICROSECONDS.toNanos(i));
+		}
+		histograms.record("provider", "/ping", 1_500L);
+
+		List<Map<String, Object>> percentiles = histograms.getPercentiles();
+		assertThat(percentiles).hasSize(2);
+		Map<String, Object> echo = percentiles.get(0);
+		assertThat(echo.get("service")).isEqualTo("provider");
+		assertThat(echo.get("method")).isEqualTo("/echo");
+		assertThat(echo.get("count")).isEqualTo(1000L);
+		assertThat((Long) echo.get("p50")).isBetween(499L, 501L);
+		assertThat((Long) echo.get("p99")).isBetween(989L, 991L);
+		assertThat((Long) echo.get("max")).isBetween(999L, 1001L);
+		// sub-microsecond precision is kept until the conversion.
+		assertThat(percentiles.get(1).get("max")).isEqualTo(1L);
+	}
+
+	@Test
+	public void testMaxSizeAndReset() {
+		CalleeLatencyHistograms histograms = new CalleeLatencyHistograms(2, 2);
+		histograms.record("a", "/1", 1_000L);
+		histograms.record("a", "/2", 1_000L);
+		histograms.record("b", "/1", 1_000L);
+		histograms.record("a", "/1", 1_000L);
+
+		assertThat(histograms.size()).isEqualTo(2);
+		assertThat(histograms.getOverflowCount()).isEqualTo(1L);
+		assertThat(histograms.getPercentiles().get(0).get("count")).isEqualTo(2L);
+
+		histograms.reset();
+		assertThat(histograms.size()).isZero();
+		assertThat(histograms.getOverflowCount()).isZero();
+		assertThat(histograms.getPercentiles()).isEmpty();
+	}
+
+	@Test
+	public void testPluginRecordsContextDelay() throws Exception {
+		CalleeLatencyHistograms histograms = new CalleeLatencyHistograms(10, 2);
+		LatencyHistogramPlugin plugin = new LatencyHistogramPlugin(histograms, new PathTemplates(null));
+		assertThat(plugin.getType()).isEqualTo(EnhancedPluginType.Client.FINALLY);
+
+		AtomicLong nanoTime = new AtomicLong();
+		EnhancedPluginContext context = new EnhancedPluginContext(nanoTime::get);
+		context.setRequest(EnhancedRequestContext.builder().url(new URI("http://provider-host:8080/echo?x=1")).build());
+		context.startTiming();
+		nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(5));
+		context.stopTiming();
+		plugin.run(context);
+
+		DefaultServiceInstance instance = new DefaultServiceInstance();
+		instance.setServiceId("provider");
+		context.setTargetServiceInstance(instance, null);
+		plugin.run(context);
+
+		List<Map<String, Object>> percentiles = histograms.getPercentiles();
+		assertThat(percentiles).extracting(callee -> callee.get("service")).containsExactly("provider", "provider-host");
+		assertThat(percentiles).extracting(callee -> callee.get("method")).containsOnly("/echo");
+		assertThat((Long) percentiles.get(0).get("max")).isCloseTo(5000L, withinPercentage(1));
+	}
+
+	@Test
+	public void testPluginRecordsPathTemplate() throws Exception {
+		CalleeLatencyHistograms histograms = new CalleeLatencyHistograms(10, 2);
+		LatencyHistogramPlugin plugin = new LatencyHistogramPlugin(histograms,
+				new PathTemplates(Collections.singletonList("/orders/*/items")));
+		DefaultServiceInstance instance = new DefaultServiceInstance();
+		instance.setServiceId("provider");
+		for (String path : Arrays.asList("/users/1", "/users/2", "/orders/a/items", "/orders/b/items")) {
+			EnhancedPluginContext context = new EnhancedPluginContext();
+			context.setRequest(EnhancedRequestContext.builder().url(new URI("http://provider" + path)).build());
+			context.setTargetServiceInstance(instance, null);
+			plugin.run(context);
+		}
+
+		// the ids in the paths don't create a histogram each.
+		assertThat(histograms.getPercentiles()).extracting(callee -> callee.get("method"))
+				.containsExactly("/orders/*/items", "/users/{number}");
+		assertThat(histograms.size()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.limiter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpServer;
+import com.tencent.cloud.rpc.enhancement.config.ConcurrencyLimiterProperties;
+import com.tencent.cloud.rpc.enhancement.instrument.resttemplate.EnhancedRestTemplateInterceptor;
+import com.tencent.cloud.rpc.enhancement.plugin.DefaultEnhancedPluginRunner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test for {@link ConcurrencyLimiterPrePlugin} and {@link ConcurrencyLimiterFinallyPlugin} with a
+ * {@link RestTemplate} calling a local stub server.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class ConcurrencyLimiterPluginTest {
+
+	private static final int CLIENTS = 16;
+
+	private static final int MAX_LIMIT = 8;
+
+	private final AtomicLong latencyMillis = new AtomicLong();
+
+	private final AtomicInteger status = new AtomicInteger(200);
+
+	private HttpServer server;
+
+	private ConcurrencyLimiters limiters;
+
+	private RestTemplate restTemplate;
+
+	private String url;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newFixedThreadPool(CLIENTS * 2));
+		server.createContext("/", exchange -> {
+			try {
+				Thread.sleep(latencyMillis.get());
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(status.get(), body.length);
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(body);
+			}
+		});
+		server.start();
+		url = "http://127.0.0.1:" + server.getAddress().getPort() + "/echo";
+
+		ConcurrencyLimiterProperties properties = new ConcurrencyLimiterProperties();
+		properties.setInitialLimit(MAX_LIMIT / 2);
+		properties.setMaxLimit(MAX_LIMIT);
+		properties.setSmoothing(0.5);
+		properties.setWindowSize(4);
+		properties.setLongWindow(100);
+		limiters = new ConcurrencyLimiters(properties);
+		DefaultEnhancedPluginRunner pluginRunner = new DefaultEnhancedPluginRunner(Arrays.asList(
+				new ConcurrencyLimiterPrePlugin(limiters), new ConcurrencyLimiterFinallyPlugin()),
+				mock(Registration.class), null);
+		restTemplate = new RestTemplate();
+		restTemplate.getInterceptors().add(new EnhancedRestTemplateInterceptor(pluginRunner));
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+		((ExecutorService) server.getExecutor()).shutdownNow();
+	}
+
+	@Test
+	public void testLatencyStep() throws InterruptedException {
+		// warm up through another callee, so that the cold calls are not samples of the limiter under test.
+		for (int i = 0; i < 50; i++) {
+			restTemplate.getForObject(url.replace("127.0.0.1", "localhost"), String.class);
+		}
+		// more clients than the limit, the limit grows to the maximum while the latency holds.
+		latencyMillis.set(5);
+		callConcurrently(TimeUnit.MILLISECONDS.toNanos(1000));
+		GradientConcurrencyLimiter limiter = limiters.get("127.0.0.1");
+		assertThat(limiter.getLimit()).isEqualTo(MAX_LIMIT);
+
+		latencyMillis.set(60);
+		int rejected = callConcurrently(TimeUnit.MILLISECONDS.toNanos(800));
+		assertThat(limiter.getLimit()).isLessThan(MAX_LIMIT);
+		assertThat(rejected).isPositive();
+		assertThat(limiter.getInflight()).isZero();
+	}
+
+	@Test
+	public void testRejectAndDrop() {
+		GradientConcurrencyLimiter limiter = limiters.get("127.0.0.1");
+		while (limiter.tryAcquire()) {
+			// take all the permits.
+		}
+		assertThatThrownBy(() -> restTemplate.getForObject(url, String.class))
+				.isInstanceOf(ConcurrencyLimitExceededException.class)
+				.hasMessageContaining("127.0.0.1");
+		assertThat(limiter.getInflight()).isEqualTo(MAX_LIMIT / 2);
+		for (int i = 0; i < MAX_LIMIT / 2; i++) {
+			limiter.release(0, false);
+		}
+
+		status.set(503);
+		assertThatThrownBy(() -> restTemplate.getForObject(url, String.class))
+				.isInstanceOf(HttpServerErrorException.class);
+		assertThat(limiter.getLimit()).isLessThan(MAX_LIMIT / 2);
+		assertThat(limiter.getInflight()).isZero();
+	}
+
+	/**
+	 * Call the stub server from concurrent clients for a while.
+	 * @return number of rejected calls
+	 */
+	private int callConcurrently(long durationNanos) throws InterruptedException {
+		AtomicInteger rejected = new AtomicInteger();
+		long deadline = System.nanoTime() + durationNanos;
+		Thread[] clients = new Thread[CLIENTS];
+		for (int i = 0; i < CLIENTS; i++) {
+			clients[i] = new Thread(() -> {
+				while (System.nanoTime() < deadline) {
+					try {
+						restTemplate.getForObject(url, String.class);
+					}
+					catch (ConcurrencyLimitExceededException e) {
+						rejected.incrementAndGet();
+						try {
+							Thread.sleep(5);
+						}
+						catch (InterruptedException ie) {
+							return;
+						}
+					}
+				}
+			});
+			clients[i].start();
+		}
+		for (Thread client : clients) {
+			client.join();
+		}
+		return rejected.get();
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.limiter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link GradientConcurrencyLimiter}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class GradientConcurrencyLimiterTest {
+
+	@Test
+	public void testRejectAboveLimit() {
+		GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter("provider", 2, 1, 10, 1.5, 0.2, 10, 60);
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isFalse();
+		assertThat(limiter.getInflight()).isEqualTo(2);
+
+		limiter.release(0, false);
+		assertThat(limiter.getInflight()).isEqualTo(1);
+		assertThat(limiter.tryAcquire()).isTrue();
+	}
+
+	@Test
+	public void testLatencyStep() {
+		GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter("provider", 10, 1, 100, 1.5, 0.5, 5, 20);
+
+		// saturated at a steady RTT, the limit grows.
+		saturate(limiter, 10, 50);
+		int limitBeforeStep = limiter.getLimit();
+		assertThat(limitBeforeStep).isGreaterThan(10);
+
+		// the RTT is 5 times longer, the limit shrinks.
+		saturate(limiter, 50, 10);
+		int limitAfterStep = limiter.getLimit();
+		assertThat(limitAfterStep).isLessThan(limitBeforeStep / 2);
+
+		// the long-term RTT catches up, the limit grows again.
+		saturate(limiter, 50, 200);
+		assertThat(limiter.getLimit()).isGreaterThan(limitAfterStep);
+	}
+
+	@Test
+	public void testNotGrowingWhenUnused() {
+		GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter("provider", 10, 1, 100, 1.5, 0.5, 5, 20);
+		for (int i = 0; i < 100; i++) {
+			assertThat(limiter.tryAcquire()).isTrue();
+			limiter.release(TimeUnit.MILLISECONDS.toNanos(10), false);
+		}
+		assertThat(limiter.getLimit()).isEqualTo(10);
+	}
+
+	@Test
+	public void testDropped() {
+		GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter("provider", 10, 5, 100, 1.5, 0.5, 5, 20);
+		limiter.tryAcquire();
+		limiter.release(0, true);
+		assertThat(limiter.getLimit()).isEqualTo(9);
+		for (int i = 0; i < 20; i++) {
+			limiter.tryAcquire();
+			limiter.release(0, true);
+		}
+		assertThat(limiter.getLimit()).isEqualTo(5);
+	}
+
+	/**
+	 * Run windows of calls with the RTT, keeping the whole limit in flight.
+	 */
+	private static void saturate(GradientConcurrencyLimiter limiter, long rttMillis, int windows) {
+		for (int i = 0; i < windows * 5; i++) {
+			while (limiter.tryAcquire()) {
+				// fill the limit.
+			}
+			limiter.release(TimeUnit.MILLISECONDS.toNanos(rttMillis), false);
+		}
+		while (limiter.getInflight() > 0) {
+			limiter.release(0, false);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.metrics;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link PathTemplates}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class PathTemplatesTest {
+
+	@Test
+	public void testConfiguredTemplates() {
+		PathTemplates pathTemplates = new PathTemplates(Arrays.asList("/users/{id}/orders/**", "/users/{id}"));
+
+		assertThat(pathTemplates.template("/users/abc/orders/1/items")).isEqualTo("/users/{id}/orders/**");
+		assertThat(pathTemplates.template("/users/abc")).isEqualTo("/users/{id}");
+		assertThat(pathTemplates.template("/goods/42")).isEqualTo("/goods/{number}");
+		assertThat(pathTemplates.template(null)).isEmpty();
+	}
+
+	@Test
+	public void testIdSegmentsReplaced() {
+		PathTemplates pathTemplates = new PathTemplates(Collections.emptyList());
+		String path = "/echo/hello";
+
+		assertThat(pathTemplates.template(path)).isSameAs(path);
+		assertThat(pathTemplates.template("/")).isEqualTo("/");
+		assertThat(pathTemplates.template("")).isEmpty();
+		assertThat(pathTemplates.template("/orders/123/items/7/"))
+				.isEqualTo("/orders/{number}/items/{number}/");
+		assertThat(pathTemplates.template("/files/123e4567-e89b-12d3-a456-426614174000"))
+				.isEqualTo("/files/{uuid}");
+		assertThat(pathTemplates.template("/objects/5f2b9c3e8d1a4b6c7e9f0a1b/meta"))
+				.isEqualTo("/objects/{id}/meta");
+		// short hex words and words without digit are kept.
+		assertThat(pathTemplates.template("/cafe/deadbeefdeadbeef")).isEqualTo("/cafe/deadbeefdeadbeef");
+		assertThat(pathTemplates.template("/v1/abc12")).isEqualTo("/v1/abc12");
+	}
+}
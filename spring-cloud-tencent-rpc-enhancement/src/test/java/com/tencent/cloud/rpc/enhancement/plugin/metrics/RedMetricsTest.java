@@ -0,0 +1,108 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.plugin.metrics;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import com.tencent.cloud.common.metadata.MetadataContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedPluginType;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedRequestContext;
+import com.tencent.cloud.rpc.enhancement.plugin.EnhancedResponseContext;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link RedMetrics}, {@link RedMetricsPlugin} and {@link RedMetricsMeterBinder}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class RedMetricsTest {
+
+	@Test
+	public void testStatus() {
+		assertThat(RedMetrics.status(200, null)).isEqualTo("2xx");
+		assertThat(RedMetrics.status(503, null)).isEqualTo("5xx");
+		assertThat(RedMetrics.status(null, null)).isEqualTo(RedMetrics.UNKNOWN);
+		assertThat(RedMetrics.status(600, null)).isEqualTo(RedMetrics.UNKNOWN);
+		assertThat(RedMetrics.status(200, new RuntimeException())).isEqualTo(RedMetrics.EXCEPTION);
+	}
+
+	@Test
+	public void testMaxSeries() {
+		RedMetrics redMetrics = new RedMetrics(2);
+		redMetrics.record(RedMetrics.Side.CLIENT, "a", "b", "/1", "2xx", 1L);
+		redMetrics.record(RedMetrics.Side.CLIENT, "a", "b", "/1", "2xx", 2L);
+		redMetrics.record(RedMetrics.Side.CLIENT, "a", "b", "/2", "2xx", 1L);
+		redMetrics.record(RedMetrics.Side.CLIENT, "a", "b", "/3", "5xx", 1L);
+		redMetrics.record(RedMetrics.Side.CLIENT, "a", "b", "/4", "5xx", 1L);
+
+		assertThat(redMetrics.getSeries()).hasSize(3);
+		assertThat(redMetrics.getOverflowCount()).isEqualTo(2L);
+		RedMetrics.Series overflow = redMetrics.getSeries().stream()
+				.filter(series -> RedMetrics.OTHER.equals(series.getMethod())).findFirst().get();
+		assertThat(overflow.getCallee()).isEqualTo(RedMetrics.OTHER);
+		assertThat(overflow.getStatus()).isEqualTo("5xx");
+		assertThat(overflow.getCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void testPluginAndMeterBinder() throws Exception {
+		MetadataContext.LOCAL_SERVICE = "consumer";
+		RedMetrics redMetrics = new RedMetrics(100);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new RedMetricsMeterBinder(redMetrics).bindTo(registry);
+		RedMetricsPlugin clientPlugin = new RedMetricsPlugin(redMetrics, new PathTemplates(Collections.emptyList()),
+				RedMetrics.Side.CLIENT);
+		RedMetricsPlugin serverPlugin = new RedMetricsPlugin(redMetrics, new PathTemplates(Collections.emptyList()),
+				RedMetrics.Side.SERVER);
+		assertThat(clientPlugin.getType()).isEqualTo(EnhancedPluginType.Client.FINALLY);
+		assertThat(serverPlugin.getType()).isEqualTo(EnhancedPluginType.Server.FINALLY);
+		assertThat(clientPlugin.getName()).isNotEqualTo(serverPlugin.getName());
+
+		for (int i = 0; i < 3; i++) {
+			EnhancedPluginContext context = new EnhancedPluginContext();
+			context.setRequest(EnhancedRequestContext.builder().url(new URI("http://10.0.0.1:8080/users/" + i)).build());
+			context.setResponse(EnhancedResponseContext.builder().httpStatus(200).build());
+			DefaultServiceInstance instance = new DefaultServiceInstance();
+			instance.setServiceId("provider");
+			context.setTargetServiceInstance(instance, null);
+			context.setDelayNanos(TimeUnit.MILLISECONDS.toNanos(10));
+			clientPlugin.run(context);
+		}
+		EnhancedPluginContext failed = new EnhancedPluginContext();
+		failed.setRequest(EnhancedRequestContext.builder().url(new URI("http://localhost/echo")).build());
+		failed.setThrowable(new RuntimeException());
+		serverPlugin.run(failed);
+
+		FunctionTimer client = registry.get(RedMetricsMeterBinder.CLIENT_REQUESTS).tag("caller", "consumer")
+				.tag("callee", "provider").tag("method", "/users/{number}").tag("status", "2xx").functionTimer();
+		assertThat(client.count()).isEqualTo(3.0);
+		assertThat(client.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(30.0);
+		FunctionTimer server = registry.get(RedMetricsMeterBinder.SERVER_REQUESTS).tag("callee", "consumer")
+				.tag("status", RedMetrics.EXCEPTION).functionTimer();
+		assertThat(server.count()).isEqualTo(1.0);
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Tencent is pleased to support the open source community by making spring-cloud-tencent available.
+ *
+ * Copyright (C) 2021 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the BSD 3-Clause License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/licenses/BSD-3-Clause
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed
+ * under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR
+ * CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.tencent.cloud.rpc.enhancement.transformer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.tencent.cloud.common.pojo.PolarisServiceInstance;
+import com.tencent.polaris.api.pojo.DefaultInstance;
+import com.tencent.polaris.api.pojo.DefaultServiceInstances;
+import com.tencent.polaris.api.pojo.ServiceInstances;
+import com.tencent.polaris.api.pojo.ServiceKey;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link TransformedInstancesCache}.
+ *
+ * @author Haotian Zhang 2026-10-18
+ */
+public class TransformedInstancesCacheTest {
+
+	private static final String NAMESPACE = "ns";
+
+	private final AtomicInteger transformed = new AtomicInteger();
+
+	private final TransformedInstancesCache cache = new TransformedInstancesCache(server -> {
+		transformed.incrementAndGet();
+		return new PolarisInstanceTransformer().transform(server);
+	}, instances -> new DefaultServiceInstances(new ServiceKey(NAMESPACE, instances.get(0).getService()), instances));
+
+	@Test
+	public void testReusedForSameInstances() {
+		List<ServiceInstance> servers = polarisServers("cache-same", 3);
+
+		ServiceInstances serviceInstances = cache.get(servers);
+		assertThat(serviceInstances.getInstances()).hasSize(3);
+		assertThat(cache.get(servers)).isSameAs(serviceInstances);
+
+		// new wrappers of the same Polaris instances.
+		List<ServiceInstance> rewrapped = new ArrayList<>();
+		for (ServiceInstance server : servers) {
+			rewrapped.add(new PolarisServiceInstance(((PolarisServiceInstance) server).getPolarisInstance()));
+		}
+		assertThat(cache.get(rewrapped)).isSameAs(serviceInstances);
+
+		List<ServiceInstance> plainServers = Arrays.asList(
+				new DefaultServiceInstance("i1", "cache-plain", "127.0.0.1", 80, false),
+				new DefaultServiceInstance("i2", "cache-plain", "127.0.0.2", 80, false));
+		ServiceInstances plainInstances = cache.get(plainServers);
+		assertThat(cache.get(new ArrayList<>(plainServers))).isSameAs(plainInstances);
+		assertThat(transformed).hasValue(5);
+	}
+
+	@Test
+	public void testTransformedAgainWhenChanged() {
+		List<ServiceInstance> servers = polarisServers("cache-changed", 3);
+		ServiceInstances serviceInstances = cache.get(servers);
+
+		// equal but new Polaris instances, as the SDK creates them for a new revision.
+		assertThat(cache.get(polarisServers("cache-changed", 3))).isNotSameAs(serviceInstances);
+		assertThat(cache.get(servers.subList(0, 2)).getInstances()).hasSize(2);
+		assertThat(cache.get(Collections.singletonList(new DefaultServiceInstance("i1", "cache-changed",
+				"127.0.0.1", 81, false))).getInstances().get(0).getPort()).isEqualTo(81);
+
+		TransformedInstancesCache.invalidate(NAMESPACE, "another-service");
+		serviceInstances = cache.get(servers);
+		TransformedInstancesCache.invalidate(NAMESPACE, "another-service");
+		TransformedInstancesCache.invalidate("another-namespace", "cache-changed");
+		assertThat(cache.get(servers)).isSameAs(serviceInstances);
+		TransformedInstancesCache.invalidate(NAMESPACE, "cache-changed");
+		assertThat(cache.get(servers)).isNotSameAs(serviceInstances);
+	}
+
+	@Test
+	public void testInstancesRevision() {
+		List<ServiceInstance> servers = polarisServers("cache-instances-revision", 2);
+		ServiceInstances serviceInstances = cache.get(servers);
+		long revision = cache.getInstancesRevision(serviceInstances);
+
+		assertThat(revision).isNotEqualTo(TransformedInstancesCache.NO_REVISION);
+		assertThat(cache.getInstancesRevision(cache.get(servers))).isEqualTo(revision);
+		ServiceInstances transformedAgain = cache.get(polarisServers("cache-instances-revision", 2));
+		assertThat(cache.getInstancesRevision(transformedAgain)).isNotEqualTo(revision);
+		assertThat(cache.getInstancesRevision(serviceInstances)).isEqualTo(TransformedInstancesCache.NO_REVISION);
+	}
+
+	@Test
+	public void testRevisionsBounded() {
+		List<ServiceInstance> servers = polarisServers("cache-bounded", 1);
+		ServiceInstances serviceInstances = cache.get(servers);
+		for (int i = 0; i < TransformedInstancesCache.MAX_SERVICES * 2; i++) {
+			TransformedInstancesCache.invalidate(NAMESPACE, "bounded-" + i);
+		}
+		// the revisions were reset, which invalidates every service.
+		assertThat(cache.get(servers)).isNotSameAs(serviceInstances);
+		assertThat(TransformedInstancesCache.getRevision(NAMESPACE,
+				"bounded-" + (TransformedInstancesCache.MAX_SERVICES * 2 - 1))).isPositive();
+	}
+
+	private static List<ServiceInstance> polarisServers(String service, int count) {
+		List<ServiceInstance> servers = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			DefaultInstance instance = new DefaultInstance();
+			instance.setNamespace(NAMESPACE);
+			instance.setService(service);
+			instance.setId("instance-" + i);
+			instance.setHost("127.0.0." + i);
+			instance.setPort(8080);
+			servers.add(new PolarisServiceInstance(instance));
+		}
+		return servers;
+	}
+}